@@ -0,0 +1,118 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.benchmark;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.ProgramClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+
+/**
+ *  <p>{@summary Runs the JMH benchmarks for the JavaFX extension
+ *  library.}</p>
+ *  <p>Each benchmark reports its throughput, and the
+ *  {@link GCProfiler}
+ *  adds the allocation rate ({@code gc.alloc.rate.norm} is the number of
+ *  bytes allocated per operation). The results are written as JSON to the
+ *  file {@value #RESULT_FILE}, so that they can be compared between two
+ *  versions of the library.</p>
+ *  <p>The first command line argument, if given, is a regular expression
+ *  that selects the benchmarks to run; the default is to run all of
+ *  them.</p>
+ *  <p>When the system property {@value #HEADLESS_PROPERTY} is set to
+ *  {@code true}, the forked JVMs will start JavaFX on the <i>Monocle</i>
+ *  headless platform with software rendering; this requires Monocle on the
+ *  class path.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( "UseOfSystemOutOrSystemErr" )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = EXPERIMENTAL, since = "0.4.7" )
+@ProgramClass
+public final class BenchmarkRunner
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default selection for the benchmarks: {@value}.
+     */
+    public static final String DEFAULT_INCLUDE = "org\\.tquadrat\\.foundation\\.fx\\..*Benchmark";
+
+    /**
+     *  The name of the system property that switches on the headless mode:
+     *  {@value}.
+     */
+    public static final String HEADLESS_PROPERTY = "benchmark.headless";
+
+    /**
+     *  The name of the file that takes the results: {@value}.
+     */
+    public static final String RESULT_FILE = "jmh-result.json";
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class.
+     */
+    private BenchmarkRunner() { throw new PrivateConstructorForStaticClassCalledError( BenchmarkRunner.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  The program entry point.
+     *
+     *  @param  args    The command line arguments.
+     *  @throws RunnerException Running the benchmarks failed.
+     */
+    public static final void main( final String... args ) throws RunnerException
+    {
+        final var builder = new OptionsBuilder()
+            .include( args.length > 0 ? args [0] : DEFAULT_INCLUDE )
+            .mode( Mode.Throughput )
+            .addProfiler( GCProfiler.class )
+            .resultFormat( ResultFormatType.JSON )
+            .result( RESULT_FILE );
+        if( Boolean.getBoolean( HEADLESS_PROPERTY ) )
+        {
+            builder.jvmArgsAppend( "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true" );
+        }
+
+        new Runner( builder.build() ).run();
+    }   //  main()
+}
+//  class BenchmarkRunner
+
+/*
+ *  End of File
+ */
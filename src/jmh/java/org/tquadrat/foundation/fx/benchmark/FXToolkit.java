@@ -0,0 +1,101 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.benchmark;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apiguardian.api.API;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import javafx.application.Platform;
+
+/**
+ *  <p>{@summary The JMH state that makes sure that the JavaFX toolkit is up
+ *  and running before a benchmark creates any controls.}</p>
+ *  <p>The controls cannot be instantiated without a running toolkit, even
+ *  when they are never attached to a scene. On a machine without a display,
+ *  the benchmarks should be run with the <i>Monocle</i> headless platform;
+ *  refer to
+ *  {@link BenchmarkRunner}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = EXPERIMENTAL, since = "0.4.7" )
+@State( Scope.Benchmark )
+public class FXToolkit
+{
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The flag that indicates whether the toolkit was already started.
+     */
+    private static final AtomicBoolean m_Started = new AtomicBoolean( false );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code FXToolkit}.
+     */
+    public FXToolkit() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Starts the JavaFX toolkit, if that did not happen already.
+     *
+     *  @throws InterruptedException    The start was interrupted.
+     */
+    @Setup( Level.Trial )
+    public final void startup() throws InterruptedException
+    {
+        if( m_Started.compareAndSet( false, true ) )
+        {
+            final var latch = new CountDownLatch( 1 );
+            try
+            {
+                Platform.startup( latch::countDown );
+            }
+            catch( final IllegalStateException ignored )
+            {
+                //---* The toolkit is already running *------------------------
+                latch.countDown();
+            }
+            latch.await();
+            Platform.setImplicitExit( false );
+        }
+    }   //  startup()
+}
+//  class FXToolkit
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,427 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.fx.benchmark;
+
+import static java.lang.System.err;
+import static java.lang.System.out;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.ProgramClass;
+import org.tquadrat.foundation.fx.control.TimeSlider;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+/**
+ *  <p>{@summary A headless check that counts the notifications the
+ *  {@link TimeSlider}
+ *  fires for a single drag gesture, and fails if there are more than the
+ *  minimum.}</p>
+ *  <p>The check starts the JavaFX toolkit on the <i>Monocle</i> headless
+ *  platform, exactly like
+ *  {@link SkinPulseHarness},
+ *  and drags the low thumb of a
+ *  {@link TimeSlider}
+ *  over the track. Each value change on the thumb is converted exactly once
+ *  to an
+ *  {@link java.time.OffsetTime}
+ *  and written exactly once to the control; therefore the number of
+ *  notifications from the properties of the control is also the number of
+ *  conversions. The check asserts that</p>
+ *  <ul>
+ *    <li>no mouse event causes more than one notification from the low
+ *      value or the duration,</li>
+ *    <li>the whole gesture does not cause more notifications from the low
+ *      value than there were mouse events, plus one for the final alignment
+ *      to the tick marks,</li>
+ *    <li>the high value, the minimum and the maximum are not touched at
+ *      all,</li>
+ *    <li>and the committed low value and the selection change exactly once,
+ *      when the mouse button is released.</li>
+ *  </ul>
+ *  <p>The counts are written to {@code stdout}; a violation is reported on
+ *  {@code stderr}, and the program terminates with exit code 1. The task
+ *  {@code gestureCheck} of the build runs it as part of {@code check}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( "UseOfSystemOutOrSystemErr" )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = EXPERIMENTAL, since = "0.4.7" )
+@ProgramClass
+public final class GestureNotificationCheck
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  Counts the notifications from an observable value, in total and per
+     *  mouse event.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = EXPERIMENTAL, since = "0.4.7" )
+    private static final class Counter implements InvalidationListener
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The number of notifications for the current mouse event.
+         */
+        private int m_EventCount = 0;
+
+        /**
+         *  The maximum number of notifications for a single mouse event.
+         */
+        private int m_MaxPerEvent = 0;
+
+        /**
+         *  The name of the observed property.
+         */
+        private final String m_Name;
+
+        /**
+         *  The observed value.
+         */
+        private final ObservableValue<?> m_Observable;
+
+        /**
+         *  The total number of notifications.
+         */
+        private int m_Total = 0;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Counter} and registers it with
+         *  the given observable value.
+         *
+         *  @param  name    The name of the observed property.
+         *  @param  observable  The observed value.
+         */
+        public Counter( final String name, final ObservableValue<?> observable )
+        {
+            m_Name = requireNonNullArgument( name, "name" );
+            m_Observable = requireNonNullArgument( observable, "observable" );
+            m_Observable.addListener( this );
+        }   //  Counter()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Unregisters the counter from the observed value.
+         */
+        public final void dispose() { m_Observable.removeListener( this ); }
+
+        /**
+         *  Returns the maximum number of notifications for a single mouse
+         *  event.
+         *
+         *  @return The maximum.
+         */
+        public final int getMaxPerEvent() { return m_MaxPerEvent; }
+
+        /**
+         *  Returns the name of the observed property.
+         *
+         *  @return The name.
+         */
+        public final String getName() { return m_Name; }
+
+        /**
+         *  Returns the total number of notifications.
+         *
+         *  @return The number of notifications.
+         */
+        public final int getTotal() { return m_Total; }
+
+        /**
+         *  {@inheritDoc}
+         *  <p>The value is read immediately, so that a lazy property or
+         *  binding will notify again on the next change.</p>
+         */
+        @Override
+        public final void invalidated( final Observable observable )
+        {
+            m_Observable.getValue();
+            ++m_Total;
+            m_MaxPerEvent = Integer.max( m_MaxPerEvent, ++m_EventCount );
+        }   //  invalidated()
+
+        /**
+         *  Starts the count for the next mouse event.
+         */
+        public final void nextEvent() { m_EventCount = 0; }
+    }
+    //  class Counter
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The distance in pixels for each drag step: {@value}.
+     */
+    public static final double DRAG_DISTANCE = 2.0;
+
+    /**
+     *  The number of drag events for the gesture: {@value}.
+     */
+    public static final int DRAG_STEPS = 100;
+
+    /**
+     *  The height of the scene: {@value}.
+     */
+    public static final double SCENE_HEIGHT = 200.0;
+
+    /**
+     *  The width of the scene: {@value}.
+     */
+    public static final double SCENE_WIDTH = 800.0;
+
+    /**
+     *  The timeout for the check in seconds: {@value}.
+     */
+    public static final long TIMEOUT = 60L;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The violations that were found.
+     */
+    private final List<String> m_Violations = new ArrayList<>();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code GestureNotificationCheck}.
+     */
+    private GestureNotificationCheck() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Records a violation if the given condition is not met.
+     *
+     *  @param  condition   The condition.
+     *  @param  message The message for the violation.
+     *  @param  args    The arguments for the message.
+     */
+    private final void assertThat( final boolean condition, final String message, final Object... args )
+    {
+        if( !condition ) m_Violations.add( message.formatted( args ) );
+    }   //  assertThat()
+
+    /**
+     *  Sets the system properties for the <i>Monocle</i> headless platform,
+     *  if no other platform was configured.
+     */
+    private static final void configureHeadless()
+    {
+        if( isNull( System.getProperty( "glass.platform" ) ) )
+        {
+            System.setProperty( "glass.platform", "Monocle" );
+            System.setProperty( "monocle.platform", "Headless" );
+        }
+        if( isNull( System.getProperty( "prism.order" ) ) ) System.setProperty( "prism.order", "sw" );
+        System.setProperty( "java.awt.headless", "true" );
+    }   //  configureHeadless()
+
+    /**
+     *  Drags the low thumb of the given slider and checks the counted
+     *  notifications; this method has to be called on the JavaFX
+     *  Application Thread.
+     *
+     *  @param  slider  The slider; it is already laid out.
+     */
+    @SuppressWarnings( "OverlyLongMethod" )
+    private final void dragLowThumb( final TimeSlider slider )
+    {
+        final var lowValue = new Counter( "lowValue", slider.lowValueProperty() );
+        final var highValue = new Counter( "highValue", slider.highValueProperty() );
+        final var minValue = new Counter( "minValue", slider.minValueProperty() );
+        final var maxValue = new Counter( "maxValue", slider.maxValueProperty() );
+        final var duration = new Counter( "duration", slider.durationProperty() );
+        final var committedLowValue = new Counter( "committedLowValue", slider.committedLowValueProperty() );
+        final var committedHighValue = new Counter( "committedHighValue", slider.committedHighValueProperty() );
+        final var selection = new Counter( "selection", slider.selectionProperty() );
+        final var counters = List.of( lowValue, highValue, minValue, maxValue, duration, committedLowValue, committedHighValue, selection );
+
+        //---* Run the gesture *-----------------------------------------------
+        final var thumb = requireNonNullArgument( slider.lookup( ".low-thumb" ), "thumb" );
+        final var bounds = thumb.getLayoutBounds();
+        var point = thumb.localToScene( bounds.getCenterX(), bounds.getCenterY() );
+        counters.forEach( Counter::nextEvent );
+        fireMouseEvent( thumb, MouseEvent.MOUSE_PRESSED, point );
+        for( var i = 0; i < DRAG_STEPS; ++i )
+        {
+            point = point.add( DRAG_DISTANCE, 0.0 );
+            counters.forEach( Counter::nextEvent );
+            fireMouseEvent( thumb, MouseEvent.MOUSE_DRAGGED, point );
+        }
+        counters.forEach( Counter::nextEvent );
+        fireMouseEvent( thumb, MouseEvent.MOUSE_RELEASED, point );
+        counters.forEach( Counter::dispose );
+
+        //---* Report the counts *---------------------------------------------
+        out.printf( "%-20s %8s %10s%n", "Property", "Total", "Per event" );
+        for( final var counter : counters )
+        {
+            out.printf( "%-20s %8d %10d%n", counter.getName(), counter.getTotal(), counter.getMaxPerEvent() );
+        }
+
+        //---* Check the counts *----------------------------------------------
+        assertThat( lowValue.getTotal() > 0, "The drag did not move the low value" );
+        assertThat( lowValue.getTotal() <= DRAG_STEPS + 1, "lowValue notified %d times for %d drag events", lowValue.getTotal(), DRAG_STEPS );
+        assertThat( lowValue.getMaxPerEvent() <= 1, "lowValue notified %d times for a single mouse event", lowValue.getMaxPerEvent() );
+        assertThat( duration.getMaxPerEvent() <= 1, "duration notified %d times for a single mouse event", duration.getMaxPerEvent() );
+        assertThat( highValue.getTotal() == 0, "highValue notified %d times", highValue.getTotal() );
+        assertThat( minValue.getTotal() == 0, "minValue notified %d times", minValue.getTotal() );
+        assertThat( maxValue.getTotal() == 0, "maxValue notified %d times", maxValue.getTotal() );
+        assertThat( committedLowValue.getTotal() == 1, "committedLowValue notified %d times", committedLowValue.getTotal() );
+        assertThat( committedHighValue.getTotal() == 0, "committedHighValue notified %d times", committedHighValue.getTotal() );
+        assertThat( selection.getTotal() == 1, "selection notified %d times", selection.getTotal() );
+    }   //  dragLowThumb()
+
+    /**
+     *  Fires a mouse event with the primary button pressed to the given
+     *  target.
+     *
+     *  @param  target  The target node.
+     *  @param  type    The event type.
+     *  @param  scenePoint  The position of the mouse in scene coordinates.
+     */
+    private static final void fireMouseEvent( final Node target, final EventType<MouseEvent> type, final Point2D scenePoint )
+    {
+        final var x = scenePoint.getX();
+        final var y = scenePoint.getY();
+        final var event = new MouseEvent( type, x, y, x, y, MouseButton.PRIMARY, 1, false, false, false, false, true, false, false, false, false, false, null );
+        Event.fireEvent( target, event );
+    }   //  fireMouseEvent()
+
+    /**
+     *  The program entry point.
+     *
+     *  @param  args    The command line arguments.
+     */
+    public static final void main( final String... args )
+    {
+        configureHeadless();
+        var exitCode = 1;
+        try
+        {
+            final var check = new GestureNotificationCheck();
+            check.run();
+            if( check.m_Violations.isEmpty() )
+            {
+                out.println( "No superfluous notifications" );
+                exitCode = 0;
+            }
+            else
+            {
+                check.m_Violations.forEach( err::println );
+            }
+        }
+        catch( final Throwable t )
+        {
+            t.printStackTrace( err );
+        }
+        finally
+        {
+            Platform.exit();
+        }
+        System.exit( exitCode );
+    }   //  main()
+
+    /**
+     *  Starts the JavaFX toolkit, shows a
+     *  {@link TimeSlider}
+     *  and runs the gesture on it.
+     *
+     *  @throws Exception   The check could not be executed.
+     */
+    @SuppressWarnings( "ProhibitedExceptionDeclared" )
+    private final void run() throws Exception
+    {
+        final var latch = new CountDownLatch( 1 );
+        Platform.startup( latch::countDown );
+        latch.await();
+        Platform.setImplicitExit( false );
+
+        final var future = new CompletableFuture<Void>();
+        Platform.runLater( () ->
+        {
+            try
+            {
+                final var slider = new TimeSlider();
+                final var stage = new Stage();
+                stage.setScene( new Scene( new StackPane( slider ), SCENE_WIDTH, SCENE_HEIGHT ) );
+                stage.show();
+                slider.applyCss();
+                slider.layout();
+                dragLowThumb( slider );
+                stage.close();
+                future.complete( null );
+            }
+            catch( final RuntimeException e )
+            {
+                future.completeExceptionally( e );
+            }
+        } );
+        future.get( TIMEOUT, SECONDS );
+    }   //  run()
+}
+//  class GestureNotificationCheck
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,724 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.fx.benchmark;
+
+import static java.lang.System.err;
+import static java.lang.System.out;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntConsumer;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.ProgramClass;
+import org.tquadrat.foundation.fx.control.ErrorDisplay;
+import org.tquadrat.foundation.fx.control.RangeSlider;
+import org.tquadrat.foundation.fx.control.TimeSlider;
+import org.tquadrat.foundation.fx.control.TimeSlider.Granularity;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+/**
+ *  <p>{@summary A headless harness that measures the scene graph cost of the
+ *  custom controls.}</p>
+ *  <p>The harness starts the JavaFX toolkit on the <i>Monocle</i> headless
+ *  platform with software rendering (unless the system properties
+ *  {@code glass.platform} and {@code prism.order} are already set on the
+ *  command line), so it runs on a machine without a display; Monocle has to
+ *  be on the class path. The build declares it for the {@code jmh} source
+ *  set, and the task {@code skinPulse} runs the harness.</p>
+ *  <p>It drives scripted scenarios for
+ *  {@link RangeSlider},
+ *  {@link TimeSlider}
+ *  and
+ *  {@link ErrorDisplay}
+ *  – thumb drags, changes to the tick marks and adding and removing of 1,000
+ *  error messages. Each step of a scenario is executed on the JavaFX
+ *  Application Thread, followed by exactly one pulse. For each step, the
+ *  harness records</p>
+ *  <ul>
+ *    <li>the time for the event handling itself,</li>
+ *    <li>the time for the CSS and layout passes of the following pulse
+ *      (rendering is done asynchronously and is not included),</li>
+ *    <li>the number of layout passes of the control itself, that are the
+ *      calls to {@code layoutChildren()} of its skin, and</li>
+ *    <li>the number of nodes that were newly created and attached to the
+ *      scene graph.</li>
+ *  </ul>
+ *  <p>The results are written to {@code stdout} as a table.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( {"UseOfSystemOutOrSystemErr", "ClassWithTooManyFields"} )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = EXPERIMENTAL, since = "0.4.7" )
+@ProgramClass
+public final class SkinPulseHarness
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The accumulated results for a scenario.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = EXPERIMENTAL, since = "0.4.7" )
+    private static final class Statistics
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The accumulated time for the event handling, in nanoseconds.
+         */
+        private long m_EventNanos = 0L;
+
+        /**
+         *  The number of layout passes.
+         */
+        private long m_LayoutPasses = 0L;
+
+        /**
+         *  The maximum time for the event handling, in nanoseconds.
+         */
+        private long m_MaxEventNanos = 0L;
+
+        /**
+         *  The maximum time for a pulse, in nanoseconds.
+         */
+        private long m_MaxPulseNanos = 0L;
+
+        /**
+         *  The name of the scenario.
+         */
+        private final String m_Name;
+
+        /**
+         *  The number of nodes in the scene graph after the last step.
+         */
+        private int m_NodeCount = 0;
+
+        /**
+         *  The number of created nodes.
+         */
+        private long m_NodesCreated = 0L;
+
+        /**
+         *  The accumulated time for the pulses, in nanoseconds.
+         */
+        private long m_PulseNanos = 0L;
+
+        /**
+         *  The number of steps.
+         */
+        private int m_Steps = 0;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Statistics}.
+         *
+         *  @param  name    The name of the scenario.
+         */
+        public Statistics( final String name )
+        {
+            m_Name = requireNonNullArgument( name, "name" );
+        }   //  Statistics()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Adds the result of a step.
+         *
+         *  @param  result  The result.
+         */
+        public final void add( final StepResult result )
+        {
+            ++m_Steps;
+            m_EventNanos += result.eventNanos();
+            m_MaxEventNanos = Long.max( m_MaxEventNanos, result.eventNanos() );
+            m_PulseNanos += result.pulseNanos();
+            m_MaxPulseNanos = Long.max( m_MaxPulseNanos, result.pulseNanos() );
+            m_LayoutPasses += result.layoutPasses();
+            m_NodesCreated += result.nodesCreated();
+            m_NodeCount = result.nodeCount();
+        }   //  add()
+
+        /**
+         *  Prints the header for the results table.
+         */
+        public static final void printHeader()
+        {
+            out.printf( "%-44s %6s %10s %10s %10s %10s %8s %8s %8s%n", "Scenario", "Steps", "Event avg", "Event max", "Pulse avg", "Pulse max", "Layouts", "Created", "Nodes" );
+        }   //  printHeader()
+
+        /**
+         *  Prints the results.
+         */
+        @SuppressWarnings( "MagicNumber" )
+        public final void print()
+        {
+            final var steps = (double) Integer.max( m_Steps, 1 );
+            out.printf( "%-44s %6d %10.3f %10.3f %10.3f %10.3f %8d %8d %8d%n",
+                m_Name,
+                m_Steps,
+                m_EventNanos / steps / 1.0e6,
+                m_MaxEventNanos / 1.0e6,
+                m_PulseNanos / steps / 1.0e6,
+                m_MaxPulseNanos / 1.0e6,
+                m_LayoutPasses,
+                m_NodesCreated,
+                m_NodeCount );
+        }   //  print()
+    }
+    //  class Statistics
+
+    /**
+     *  The result for a single step of a scenario.
+     *
+     *  @param  eventNanos  The time for the event handling, in nanoseconds.
+     *  @param  pulseNanos  The time for the CSS and layout passes of the
+     *      pulse, in nanoseconds.
+     *  @param  layoutPasses    The number of layout passes of the control
+     *      itself.
+     *  @param  nodesCreated    The number of nodes that were attached to the
+     *      scene graph for the first time.
+     *  @param  nodeCount   The number of nodes in the scene graph after the
+     *      pulse.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = EXPERIMENTAL, since = "0.4.7" )
+    private static record StepResult( long eventNanos, long pulseNanos, int layoutPasses, int nodesCreated, int nodeCount ) {}
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The distance in pixels for each drag step: {@value}.
+     */
+    public static final double DRAG_DISTANCE = 2.0;
+
+    /**
+     *  The number of steps for the drag scenarios: {@value}.
+     */
+    public static final int DRAG_STEPS = 200;
+
+    /**
+     *  The number of error messages for the
+     *  {@link ErrorDisplay}
+     *  scenarios: {@value}.
+     */
+    public static final int MESSAGE_COUNT = 1_000;
+
+    /**
+     *  The number of error messages that are added or removed with each step:
+     *  {@value}.
+     */
+    public static final int MESSAGES_PER_STEP = 10;
+
+    /**
+     *  The height of the scene: {@value}.
+     */
+    public static final double SCENE_HEIGHT = 400.0;
+
+    /**
+     *  The width of the scene: {@value}.
+     */
+    public static final double SCENE_WIDTH = 800.0;
+
+    /**
+     *  The timeout for a single step in seconds: {@value}.
+     */
+    public static final long STEP_TIMEOUT = 30L;
+
+    /**
+     *  The number of steps for the scenarios that toggle the tick marks:
+     *  {@value}.
+     */
+    public static final int TOGGLE_STEPS = 50;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The listener that tracks the nodes that are added to the scene graph.
+     */
+    private final ListChangeListener<Node> m_ChildrenListener = this::childrenChanged;
+
+    /**
+     *  The control under test.
+     */
+    private Parent m_Control;
+
+    /**
+     *  The position of the mouse for the current drag gesture, in scene
+     *  coordinates.
+     */
+    private Point2D m_DragPoint;
+
+    /**
+     *  The node that is dragged by the current drag gesture.
+     */
+    private Node m_DragTarget;
+
+    /**
+     *  The time for the event handling of the current step, in nanoseconds.
+     */
+    private long m_EventNanos;
+
+    /**
+     *  The nodes that were already seen; used to determine whether a node
+     *  attached to the scene graph was newly created.
+     */
+    private final Set<Node> m_KnownNodes = Collections.newSetFromMap( new WeakHashMap<>() );
+
+    /**
+     *  The listener that counts the layout passes of the control under test.
+     */
+    private final ChangeListener<Boolean> m_LayoutListener = this::needsLayoutChanged;
+
+    /**
+     *  The number of layout passes of the control under test during the
+     *  current step.
+     */
+    private int m_LayoutPasses;
+
+    /**
+     *  The number of nodes created during the current step.
+     */
+    private int m_NodesCreated;
+
+    /**
+     *  The container for the control under test.
+     */
+    private final StackPane m_Pane = new StackPane();
+
+    /**
+     *  The step that waits for the next pulse.
+     */
+    private CompletableFuture<StepResult> m_PendingStep;
+
+    /**
+     *  The start time for the current pulse.
+     */
+    private long m_PulseStart;
+
+    /**
+     *  The stage.
+     */
+    private Stage m_Stage;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code SkinPulseHarness}.
+     */
+    private SkinPulseHarness() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  The listener for changes to the children of any node in the scene
+     *  graph.
+     *
+     *  @param  change  The change.
+     */
+    private final void childrenChanged( final ListChangeListener.Change<? extends Node> change )
+    {
+        while( change.next() )
+        {
+            if( change.wasAdded() )
+            {
+                for( final var node : change.getAddedSubList() ) m_NodesCreated += observe( node );
+            }
+        }
+    }   //  childrenChanged()
+
+    /**
+     *  Sets the system properties for the <i>Monocle</i> headless platform,
+     *  if no other platform was configured.
+     */
+    private static final void configureHeadless()
+    {
+        if( isNull( System.getProperty( "glass.platform" ) ) )
+        {
+            System.setProperty( "glass.platform", "Monocle" );
+            System.setProperty( "monocle.platform", "Headless" );
+        }
+        if( isNull( System.getProperty( "prism.order" ) ) ) System.setProperty( "prism.order", "sw" );
+        System.setProperty( "java.awt.headless", "true" );
+    }   //  configureHeadless()
+
+    /**
+     *  Counts the nodes in the given sub graph.
+     *
+     *  @param  node    The root of the sub graph.
+     *  @return The number of nodes.
+     */
+    private static final int countNodes( final Node node )
+    {
+        var retValue = 1;
+        if( node instanceof final Parent parent )
+        {
+            for( final var child : parent.getChildrenUnmodifiable() ) retValue += countNodes( child );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  countNodes()
+
+    /**
+     *  Executes a step of a drag gesture on the node with the given CSS
+     *  selector; the first step presses the mouse button, the last releases
+     *  it.
+     *
+     *  @param  selector    The CSS selector for the dragged node.
+     *  @param  index   The index of the step.
+     *  @param  steps   The number of steps for the gesture.
+     */
+    private final void dragNode( final String selector, final int index, final int steps )
+    {
+        if( index == 0 )
+        {
+            m_DragTarget = requireNonNullArgument( m_Control.lookup( selector ), "target" );
+            final var bounds = m_DragTarget.getLayoutBounds();
+            m_DragPoint = m_DragTarget.localToScene( bounds.getCenterX(), bounds.getCenterY() );
+            fireMouseEvent( m_DragTarget, MouseEvent.MOUSE_PRESSED, m_DragPoint );
+        }
+        else if( index == steps - 1 )
+        {
+            fireMouseEvent( m_DragTarget, MouseEvent.MOUSE_RELEASED, m_DragPoint );
+        }
+        else
+        {
+            m_DragPoint = m_DragPoint.add( DRAG_DISTANCE, 0.0 );
+            fireMouseEvent( m_DragTarget, MouseEvent.MOUSE_DRAGGED, m_DragPoint );
+        }
+    }   //  dragNode()
+
+    /**
+     *  Executes a single step and waits for the following pulse.
+     *
+     *  @param  action  The action for the step.
+     *  @return The result for the step.
+     *  @throws Exception   The step failed.
+     */
+    @SuppressWarnings( "ProhibitedExceptionDeclared" )
+    private final StepResult executeStep( final Runnable action ) throws Exception
+    {
+        final var future = new CompletableFuture<StepResult>();
+        Platform.runLater( () ->
+        {
+            m_LayoutPasses = 0;
+            m_NodesCreated = 0;
+            final var start = System.nanoTime();
+            try
+            {
+                action.run();
+                m_EventNanos = System.nanoTime() - start;
+                m_PendingStep = future;
+                Platform.requestNextPulse();
+            }
+            catch( final RuntimeException e )
+            {
+                future.completeExceptionally( e );
+            }
+        } );
+        final var retValue = future.get( STEP_TIMEOUT, SECONDS );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  executeStep()
+
+    /**
+     *  Fires a mouse event with the primary button pressed to the given
+     *  target.
+     *
+     *  @param  target  The target node.
+     *  @param  type    The event type.
+     *  @param  scenePoint  The position of the mouse in scene coordinates.
+     */
+    private static final void fireMouseEvent( final Node target, final EventType<MouseEvent> type, final Point2D scenePoint )
+    {
+        final var x = scenePoint.getX();
+        final var y = scenePoint.getY();
+        final var event = new MouseEvent( type, x, y, x, y, MouseButton.PRIMARY, 1, false, false, false, false, true, false, false, false, false, false, null );
+        Event.fireEvent( target, event );
+    }   //  fireMouseEvent()
+
+    /**
+     *  The program entry point.
+     *
+     *  @param  args    The command line arguments.
+     */
+    public static final void main( final String... args )
+    {
+        configureHeadless();
+        try
+        {
+            final var harness = new SkinPulseHarness();
+            harness.run();
+        }
+        catch( final Throwable t )
+        {
+            t.printStackTrace( err );
+        }
+        finally
+        {
+            Platform.exit();
+        }
+    }   //  main()
+
+    /**
+     *  Runs the given step the given number of times and accumulates the
+     *  results.
+     *
+     *  @param  name    The name of the scenario.
+     *  @param  steps   The number of steps.
+     *  @param  step    The step; it gets the index of the step as the
+     *      argument.
+     *  @return The results.
+     *  @throws Exception   The scenario failed.
+     */
+    @SuppressWarnings( "ProhibitedExceptionDeclared" )
+    private final Statistics measure( final String name, final int steps, final IntConsumer step ) throws Exception
+    {
+        final var retValue = new Statistics( name );
+        for( var i = 0; i < steps; ++i )
+        {
+            final var index = i;
+            retValue.add( executeStep( () -> step.accept( index ) ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  measure()
+
+    /**
+     *  The listener for the flag {@code needsLayout} of the control under
+     *  test.
+     *  {@link Parent#layout()}
+     *  resets that flag only after it called {@code layoutChildren()}, and
+     *  for a
+     *  {@link javafx.scene.control.Control}
+     *  that call is delegated to the skin; therefore each transition from
+     *  {@code true} to {@code false} is exactly one layout pass of the
+     *  skin.
+     *
+     *  @param  property    The property.
+     *  @param  wasNeeded   The old value.
+     *  @param  isNeeded    The new value.
+     */
+    @SuppressWarnings( "unused" )
+    private final void needsLayoutChanged( final ObservableValue<? extends Boolean> property, final Boolean wasNeeded, final Boolean isNeeded )
+    {
+        if( wasNeeded.booleanValue() && !isNeeded.booleanValue() ) ++m_LayoutPasses;
+    }   //  needsLayoutChanged()
+
+    /**
+     *  Registers the children listener with the given node and all its
+     *  descendants, and counts the nodes that were not seen before.
+     *
+     *  @param  node    The node.
+     *  @return The number of newly created nodes.
+     */
+    private final int observe( final Node node )
+    {
+        var retValue = m_KnownNodes.add( node ) ? 1 : 0;
+        if( node instanceof final Parent parent )
+        {
+            final var children = parent.getChildrenUnmodifiable();
+            children.removeListener( m_ChildrenListener );
+            children.addListener( m_ChildrenListener );
+            for( final var child : children ) retValue += observe( child );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  observe()
+
+    /**
+     *  The pulse listener that is called after the layout pass.
+     */
+    private final void postLayoutPulse()
+    {
+        if( nonNull( m_PendingStep ) )
+        {
+            final var pulseNanos = System.nanoTime() - m_PulseStart;
+            final var step = m_PendingStep;
+            m_PendingStep = null;
+            step.complete( new StepResult( m_EventNanos, pulseNanos, m_LayoutPasses, m_NodesCreated, countNodes( m_Pane ) ) );
+        }
+    }   //  postLayoutPulse()
+
+    /**
+     *  Runs all scenarios.
+     *
+     *  @throws Exception   A scenario failed.
+     */
+    @SuppressWarnings( {"ProhibitedExceptionDeclared", "OverlyLongMethod"} )
+    private final void run() throws Exception
+    {
+        startToolkit();
+
+        final List<Statistics> results = new ArrayList<>();
+
+        //---* RangeSlider *---------------------------------------------------
+        results.add( measure( "RangeSlider: create and show", 1, $ -> show( createRangeSlider() ) ) );
+        results.add( measure( "RangeSlider: drag low thumb", DRAG_STEPS, index -> dragNode( ".low-thumb", index, DRAG_STEPS ) ) );
+        results.add( measure( "RangeSlider: drag high thumb", DRAG_STEPS, index -> dragNode( ".high-thumb", index, DRAG_STEPS ) ) );
+        results.add( measure( "RangeSlider: toggle tick marks", TOGGLE_STEPS, index -> ((RangeSlider) m_Control).setShowTickMarks( (index % 2) != 0 ) ) );
+        results.add( measure( "RangeSlider: toggle tick labels", TOGGLE_STEPS, index -> ((RangeSlider) m_Control).setShowTickLabels( (index % 2) != 0 ) ) );
+
+        //---* TimeSlider *----------------------------------------------------
+        results.add( measure( "TimeSlider: create and show", 1, $ -> show( new TimeSlider() ) ) );
+        results.add( measure( "TimeSlider: drag low thumb", DRAG_STEPS, index -> dragNode( ".low-thumb", index, DRAG_STEPS ) ) );
+        results.add( measure( "TimeSlider: drag high thumb", DRAG_STEPS, index -> dragNode( ".high-thumb", index, DRAG_STEPS ) ) );
+        final var granularities = Granularity.values();
+        results.add( measure( "TimeSlider: change granularity", TOGGLE_STEPS, index -> ((TimeSlider) m_Control).setGranularity( granularities [index % granularities.length] ) ) );
+
+        //---* ErrorDisplay *--------------------------------------------------
+        final var messageSteps = MESSAGE_COUNT / MESSAGES_PER_STEP;
+        results.add( measure( "ErrorDisplay: create and show", 1, $ -> show( new ErrorDisplay() ) ) );
+        results.add( measure( "ErrorDisplay: add %,d messages".formatted( MESSAGE_COUNT ), messageSteps, index ->
+        {
+            final var errorDisplay = (ErrorDisplay) m_Control;
+            for( var i = index * MESSAGES_PER_STEP; i < (index + 1) * MESSAGES_PER_STEP; ++i )
+            {
+                errorDisplay.addMessage( "message%04d".formatted( i ), "Error message #%d".formatted( i ) );
+            }
+        } ) );
+        results.add( measure( "ErrorDisplay: remove %,d messages".formatted( MESSAGE_COUNT ), messageSteps, index ->
+        {
+            final var errorDisplay = (ErrorDisplay) m_Control;
+            for( var i = index * MESSAGES_PER_STEP; i < (index + 1) * MESSAGES_PER_STEP; ++i )
+            {
+                errorDisplay.removeMessage( "message%04d".formatted( i ) );
+            }
+        } ) );
+
+        //---* Print the results *---------------------------------------------
+        out.println( "Times in milliseconds" );
+        Statistics.printHeader();
+        results.forEach( Statistics::print );
+    }   //  run()
+
+    /**
+     *  Creates the
+     *  {@link RangeSlider}
+     *  for the scenarios.
+     *
+     *  @return The new control.
+     */
+    @SuppressWarnings( "MagicNumber" )
+    private static final RangeSlider createRangeSlider()
+    {
+        final var retValue = new RangeSlider( 0.0, 100.0, 25.0, 75.0 );
+        retValue.setMajorTickUnit( 10.0 );
+        retValue.setMinorTickCount( 9 );
+        retValue.setSnapToTicks( true );
+        retValue.setShowTickLabels( true );
+        retValue.setShowTickMarks( true );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createRangeSlider()
+
+    /**
+     *  Replaces the current control under test by the given one.
+     *
+     *  @param  control The new control.
+     */
+    private final void show( final Parent control )
+    {
+        if( nonNull( m_Control ) ) m_Control.needsLayoutProperty().removeListener( m_LayoutListener );
+        m_Control = requireNonNullArgument( control, "control" );
+        m_Control.needsLayoutProperty().addListener( m_LayoutListener );
+        m_Pane.getChildren().setAll( m_Control );
+    }   //  show()
+
+    /**
+     *  Starts the JavaFX toolkit and shows the stage that holds the control
+     *  under test.
+     *
+     *  @throws InterruptedException    The start was interrupted.
+     */
+    private final void startToolkit() throws InterruptedException
+    {
+        final var latch = new CountDownLatch( 1 );
+        Platform.startup( () ->
+        {
+            final var scene = new Scene( m_Pane, SCENE_WIDTH, SCENE_HEIGHT );
+            scene.addPreLayoutPulseListener( () -> m_PulseStart = System.nanoTime() );
+            scene.addPostLayoutPulseListener( this::postLayoutPulse );
+            observe( m_Pane );
+            m_Stage = new Stage();
+            m_Stage.setScene( scene );
+            m_Stage.show();
+            latch.countDown();
+        } );
+        latch.await();
+        Platform.setImplicitExit( false );
+    }   //  startToolkit()
+}
+//  class SkinPulseHarness
+
+/*
+ *  End of File
+ */
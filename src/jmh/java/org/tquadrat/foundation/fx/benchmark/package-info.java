@@ -0,0 +1,39 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+/**
+ *  <p>{@summary The infrastructure for the JMH benchmarks of the JavaFX
+ *  extension library.}</p>
+ *  <p>The benchmarks itself are located in the same packages as the code
+ *  they measure, so that they can reach package private helpers. They are
+ *  started through
+ *  {@link org.tquadrat.foundation.fx.benchmark.BenchmarkRunner},
+ *  that always reports the throughput together with the allocation rate as
+ *  determined by the GC profiler.</p>
+ *  <p>The package also holds the headless programs
+ *  {@link org.tquadrat.foundation.fx.benchmark.SkinPulseHarness},
+ *  that measures the pulse costs of the skins, and
+ *  {@link org.tquadrat.foundation.fx.benchmark.GestureNotificationCheck},
+ *  that asserts the minimum number of notifications for a drag gesture on
+ *  the
+ *  {@link org.tquadrat.foundation.fx.control.TimeSlider}.</p>
+ */
+package org.tquadrat.foundation.fx.benchmark;
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,169 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.fx.benchmark.FXToolkit;
+
+/**
+ *  <p>{@summary The benchmarks for the value adjustments of
+ *  {@link RangeSlider}
+ *  that are executed for each drag and key event.}</p>
+ *  <p>The slider is never attached to a scene, so the numbers show the cost
+ *  of the value arithmetic and the property notifications, but not that of
+ *  the skin.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = EXPERIMENTAL, since = "0.4.7" )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class RangeSliderBenchmark
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The step that is used to move the thumbs: {@value}. It is chosen so
+     *  that a value will not repeat soon.
+     */
+    private static final double STEP = 0.618_033_988_7;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The current position.
+     */
+    private double m_Position;
+
+    /**
+     *  The slider under test.
+     */
+    private RangeSlider m_RangeSlider;
+
+    /**
+     *  The flag that determines whether the values will be snapped to the
+     *  ticks.
+     */
+    @Param( {"false", "true"} )
+    public boolean snapToTicks;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code RangeSliderBenchmark}.
+     */
+    public RangeSliderBenchmark() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Moves the high thumb.
+     *
+     *  @return The new high value.
+     */
+    @Benchmark
+    public double adjustHighValue()
+    {
+        m_RangeSlider.adjustHighValue( nextPosition( 50.0, 100.0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return m_RangeSlider.getHighValue();
+    }   //  adjustHighValue()
+
+    /**
+     *  Moves the low thumb.
+     *
+     *  @return The new low value.
+     */
+    @Benchmark
+    public double adjustLowValue()
+    {
+        m_RangeSlider.adjustLowValue( nextPosition( 0.0, 50.0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return m_RangeSlider.getLowValue();
+    }   //  adjustLowValue()
+
+    /**
+     *  Calculates the next position inside the given range.
+     *
+     *  @param  lower   The lower border.
+     *  @param  upper   The upper border.
+     *  @return The next position.
+     */
+    private final double nextPosition( final double lower, final double upper )
+    {
+        m_Position += STEP;
+        if( m_Position >= upper - lower ) m_Position -= upper - lower;
+        final var retValue = lower + m_Position;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nextPosition()
+
+    /**
+     *  Creates the slider.
+     *
+     *  @param  ignoredToolkit  Makes sure that the JavaFX toolkit is running.
+     */
+    @SuppressWarnings( "MagicNumber" )
+    @Setup( Level.Trial )
+    public void setup( final FXToolkit ignoredToolkit )
+    {
+        m_RangeSlider = new RangeSlider( 0.0, 100.0, 25.0, 75.0 );
+        m_RangeSlider.setMajorTickUnit( 10.0 );
+        m_RangeSlider.setMinorTickCount( 9 );
+        m_RangeSlider.setSnapToTicks( snapToTicks );
+        m_Position = 0.0;
+    }   //  setup()
+}
+//  class RangeSliderBenchmark
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,211 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.skin;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.LocalDate;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.fx.control.impl.ZoneOffsetTable;
+import org.tquadrat.foundation.fx.internal.ControlUtils;
+
+/**
+ *  <p>{@summary The benchmarks for the arithmetic in the skins for
+ *  {@link org.tquadrat.foundation.fx.control.RangeSlider}
+ *  and
+ *  {@link org.tquadrat.foundation.fx.control.TimeSlider}.}</p>
+ *  <p>These are the operations that run for each drag event
+ *  ({@code RangeSliderSkin.snapValueToTicks()} and
+ *  {@link ZoneOffsetTable#toOffsetTime(long)})
+ *  and for each tick label
+ *  ({@link TimeSliderSkin.OffsetTimeConverter#toString(Number)}). None of
+ *  them needs the JavaFX toolkit.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = EXPERIMENTAL, since = "0.4.7" )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class SliderArithmeticBenchmark
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of seconds for a day: {@value}.
+     */
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    /**
+     *  The step in seconds that is used for the time based benchmarks:
+     *  {@value}.
+     */
+    private static final long TIME_STEP = 61L;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The label formatter for the time slider.
+     */
+    private TimeSliderSkin.OffsetTimeConverter m_Converter;
+
+    /**
+     *  The start of the day, in seconds since the begin of the epoch.
+     */
+    private long m_DayStart;
+
+    /**
+     *  The current offset from the start of the day, in seconds.
+     */
+    private long m_Offset;
+
+    /**
+     *  The offsets for the day and the time zone.
+     */
+    private ZoneOffsetTable m_OffsetTable;
+
+    /**
+     *  The current value for the snapping.
+     */
+    private double m_Value;
+
+    /**
+     *  The time zone.
+     */
+    private ZoneId m_TimeZone;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code SliderArithmeticBenchmark}.
+     */
+    public SliderArithmeticBenchmark() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Converts epoch seconds to an instance of
+     *  {@link OffsetTime},
+     *  as it is done for each value change of a time slider.
+     *
+     *  @return The converted value.
+     */
+    @Benchmark
+    public OffsetTime convertSecondsToOffsetTime()
+    {
+        final var retValue = m_OffsetTable.toOffsetTime( nextSeconds() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  convertSecondsToOffsetTime()
+
+    /**
+     *  Formats a tick label for a time slider.
+     *
+     *  @return The label text.
+     */
+    @Benchmark
+    public String formatTickLabel()
+    {
+        final var retValue = m_Converter.toString( nextSeconds() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  formatTickLabel()
+
+    /**
+     *  Returns the next value in seconds since the begin of the epoch.
+     *
+     *  @return The next value.
+     */
+    private final long nextSeconds()
+    {
+        m_Offset = (m_Offset + TIME_STEP) % SECONDS_PER_DAY;
+        final var retValue = m_DayStart + m_Offset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nextSeconds()
+
+    /**
+     *  Initialises the state.
+     */
+    @Setup( Level.Trial )
+    public void setup()
+    {
+        m_TimeZone = ZoneId.of( "Europe/Berlin" );
+        final var day = LocalDate.of( 2026, 3, 29 );
+        m_DayStart = day.atStartOfDay( m_TimeZone ).toEpochSecond();
+        m_Offset = 0L;
+        m_Value = 0.0;
+        m_OffsetTable = new ZoneOffsetTable( day, m_TimeZone );
+        m_Converter = new TimeSliderSkin.OffsetTimeConverter( m_OffsetTable );
+    }   //  setup()
+
+    /**
+     *  Snaps a value to the ticks, using the configuration of the
+     *  {@code TimeSlider} (one hour as the major tick unit, one minute as the
+     *  granularity).
+     *
+     *  @return The snapped value.
+     */
+    @SuppressWarnings( "MagicNumber" )
+    @Benchmark
+    public double snapValueToTicks()
+    {
+        m_Value += 17.3;
+        if( m_Value > 86_399.0 ) m_Value -= 86_399.0;
+        final var retValue = ControlUtils.snapValueToTicks( m_Value, 0.0, 86_399.0, 3_600.0, 59 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapValueToTicks()
+}
+//  class SliderArithmeticBenchmark
+
+/*
+ *  End of File
+ */
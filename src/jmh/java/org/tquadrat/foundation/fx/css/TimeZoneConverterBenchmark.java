@@ -0,0 +1,125 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.css;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import javafx.css.ParsedValue;
+import javafx.css.StyleConverter;
+
+/**
+ *  <p>{@summary The benchmark for
+ *  {@link TimeZoneConverter#convert(ParsedValue, javafx.scene.text.Font)}.}</p>
+ *  <p>The conversion runs each time the CSS for a
+ *  {@link org.tquadrat.foundation.fx.control.TimeSlider}
+ *  will be applied.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = EXPERIMENTAL, since = "0.4.7" )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class TimeZoneConverterBenchmark
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The converter.
+     */
+    private StyleConverter<String,ZoneId> m_Converter;
+
+    /**
+     *  The parsed CSS value.
+     */
+    private ParsedValue<String,ZoneId> m_ParsedValue;
+
+    /**
+     *  The time zone as it is given in the CSS.
+     */
+    @Param( {"Europe/Berlin", "UTC", "EST"} )
+    public String timeZone;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code TimeZoneConverterBenchmark}.
+     */
+    public TimeZoneConverterBenchmark() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Converts the CSS value into a
+     *  {@link ZoneId}.
+     *
+     *  @return The time zone.
+     */
+    @Benchmark
+    public ZoneId convert()
+    {
+        final var retValue = m_Converter.convert( m_ParsedValue, null );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  convert()
+
+    /**
+     *  Creates the parsed value.
+     */
+    @Setup( Level.Trial )
+    public void setup()
+    {
+        m_Converter = TimeZoneConverter.getInstance();
+        //noinspection AnonymousInnerClass
+        m_ParsedValue = new ParsedValue<>( timeZone, m_Converter ) {};
+    }   //  setup()
+}
+//  class TimeZoneConverterBenchmark
+
+/*
+ *  End of File
+ */
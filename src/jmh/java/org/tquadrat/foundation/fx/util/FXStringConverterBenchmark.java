@@ -0,0 +1,193 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.util;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.fx.benchmark.FXToolkit;
+import org.tquadrat.foundation.fx.control.ErrorDisplay;
+import org.tquadrat.foundation.lang.GenericStringConverter;
+
+/**
+ *  <p>{@summary The benchmarks for
+ *  {@link FXStringConverter#fromString(String)}.}</p>
+ *  <p>The conversion runs for each keystroke in a text field that uses the
+ *  converter; it is measured for valid and invalid input, with and without
+ *  an
+ *  {@link ErrorDisplay}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = EXPERIMENTAL, since = "0.4.7" )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class FXStringConverterBenchmark
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  An invalid input: {@value}.
+     */
+    private static final String INVALID_INPUT = "12a45";
+
+    /**
+     *  The message id for the error display: {@value}.
+     */
+    private static final String MESSAGE_ID = "benchmark";
+
+    /**
+     *  A valid input: {@value}.
+     */
+    private static final String VALID_INPUT = "12345";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The converter that throws an exception on invalid input.
+     */
+    private FXStringConverter<Integer> m_Converter;
+
+    /**
+     *  The converter that reports invalid input to an
+     *  {@link ErrorDisplay}.
+     */
+    private FXStringConverter<Integer> m_ConverterWithErrorDisplay;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code FXStringConverterBenchmark}.
+     */
+    public FXStringConverterBenchmark() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Converts an invalid input; the converter throws an exception.
+     *
+     *  @return The result of the conversion; always {@code null}.
+     */
+    @Benchmark
+    public Integer fromStringInvalid()
+    {
+        Integer retValue;
+        try
+        {
+            retValue = m_Converter.fromString( INVALID_INPUT );
+        }
+        catch( final IllegalArgumentException ignored )
+        {
+            retValue = null;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromStringInvalid()
+
+    /**
+     *  Converts an invalid input; the converter adds a message to the error
+     *  display.
+     *
+     *  @return The result of the conversion; always {@code null}.
+     */
+    @Benchmark
+    public Integer fromStringInvalidWithErrorDisplay()
+    {
+        final var retValue = m_ConverterWithErrorDisplay.fromString( INVALID_INPUT );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromStringInvalidWithErrorDisplay()
+
+    /**
+     *  Converts a valid input.
+     *
+     *  @return The result of the conversion.
+     */
+    @Benchmark
+    public Integer fromStringValid()
+    {
+        final var retValue = m_Converter.fromString( VALID_INPUT );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromStringValid()
+
+    /**
+     *  Converts a valid input; the converter removes the message from the
+     *  error display.
+     *
+     *  @return The result of the conversion.
+     */
+    @Benchmark
+    public Integer fromStringValidWithErrorDisplay()
+    {
+        final var retValue = m_ConverterWithErrorDisplay.fromString( VALID_INPUT );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromStringValidWithErrorDisplay()
+
+    /**
+     *  Creates the converters.
+     *
+     *  @param  ignoredToolkit  Makes sure that the JavaFX toolkit is running;
+     *      this is required for the
+     *      {@link ErrorDisplay}.
+     */
+    @Setup( Level.Trial )
+    public void setup( final FXToolkit ignoredToolkit )
+    {
+        final var stringConverter = new GenericStringConverter<Integer>( source -> Integer.valueOf( source.toString() ), value -> Integer.toString( value ) );
+        m_Converter = new FXStringConverter<>( stringConverter );
+        m_ConverterWithErrorDisplay = new FXStringConverter<>( stringConverter, new ErrorDisplay(), "Invalid input: %s"::formatted, MESSAGE_ID );
+    }   //  setup()
+}
+//  class FXStringConverterBenchmark
+
+/*
+ *  End of File
+ */
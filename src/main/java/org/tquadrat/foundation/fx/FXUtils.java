@@ -97,6 +97,32 @@ public final class FXUtils
         return retValue;
     }   //  clamp()
 
+    /**
+     *  <p>{@summary Clamps the given {@code long} value to be strictly
+     *  between the {@code min} and {@code max} values.}</p>
+     *  <p>Basically, this method does the same as
+     *  {@link Math#clamp(long, long, long)},
+     *  only the sequence of the arguments is different.</p>
+     *
+     *  @param  min The lower border.
+     *  @param  value   The value.
+     *  @param  max The upper border.
+     *  @return The value if it is greater than {@code min} and less than
+     *      {@code max}, {@code min}, when it is less than {@code min}, or
+     *      {@code max} when it is greater than that.
+     *  @throws IllegalArgumentException {@code min} is greater than {@code max}.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public static final long clamp( final long min, final long value, final long max ) throws IllegalArgumentException
+    {
+        final var retValue = Math.clamp( value, min, max );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  clamp()
+
     /**
      *  <p>{@summary Returns either {@code less} or {@code more} depending on
      *  which one is closer to {@code value}.} If {@code value} is perfectly
@@ -0,0 +1,881 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control;
+
+import static java.lang.Boolean.FALSE;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static javafx.beans.binding.Bindings.createObjectBinding;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
+import static org.tquadrat.foundation.fx.control.DateTimeRangeSlider.StyleableProperties.SNAP_TO_TICKS;
+import static org.tquadrat.foundation.fx.control.DateTimeRangeSlider.StyleableProperties.STEP;
+import static org.tquadrat.foundation.fx.control.DateTimeRangeSlider.StyleableProperties.TIME_ZONE;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.fx.control.TimeSlider.Granularity;
+import org.tquadrat.foundation.fx.control.TimeSlider.StepConverter;
+import org.tquadrat.foundation.fx.control.impl.ZoneOffsetTable;
+import org.tquadrat.foundation.fx.control.skin.DateTimeRangeSliderSkin;
+import org.tquadrat.foundation.fx.css.TimeZoneConverter;
+import org.tquadrat.foundation.fx.internal.FoundationFXControl;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.css.CssMetaData;
+import javafx.css.SimpleStyleableBooleanProperty;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.Styleable;
+import javafx.css.StyleableBooleanProperty;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.css.converter.BooleanConverter;
+import javafx.scene.control.Skin;
+
+/**
+ *  <p>{@summary A range slider for points in time over an arbitrary
+ *  period.}</p>
+ *  <p>Different from
+ *  {@link TimeSlider},
+ *  that is limited to a single day, the
+ *  {@linkplain #minProperty() minimum}
+ *  and the
+ *  {@linkplain #maxProperty() maximum}
+ *  of a {@code DateTimeRangeSlider} are instances of
+ *  {@link ZonedDateTime},
+ *  and the period between them can span days or weeks. The skin chooses the
+ *  units for the tick marks &ndash; minutes, hours, days or weeks &ndash;
+ *  from the available space, and it creates only the tick marks that are
+ *  visible. If the slider is
+ *  {@linkplain #zoomableProperty() zoomable},
+ *  the mouse wheel zooms into the period.</p>
+ *  <p>The
+ *  {@linkplain #stepProperty() step},
+ *  the
+ *  {@linkplain #snapToTicksProperty() snapToTicks}
+ *  flag and the
+ *  {@linkplain #timeZoneProperty() time zone}
+ *  have the same meaning as for {@code TimeSlider}: if the flag is set, the
+ *  values are aligned to the steps on the wall clock of
+ *  the time zone, and local times that do not exist because of the daylight
+ *  saving time are skipped.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( {"ClassWithTooManyFields", "ClassWithTooManyMethods"} )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.4.7" )
+public final class DateTimeRangeSlider extends FoundationFXControl
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The styleable properties for
+     *  {@link DateTimeRangeSlider}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @SuppressWarnings( {"ProtectedInnerClass", "InnerClassTooDeeplyNested", "AnonymousInnerClass"} )
+    @UtilityClass
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.4.7" )
+    protected static final class StyleableProperties
+    {
+            /*------------------------*\
+        ====** Static Initialisations **=======================================
+            \*------------------------*/
+        /**
+         *  The CSS attribute for {@code SNAP_TO_TICKS}.
+         *
+         *  @see #snapToTicksProperty()
+         */
+        public static final CssMetaData<DateTimeRangeSlider,Boolean> SNAP_TO_TICKS = new CssMetaData<>( "-fx-snap-to-ticks", BooleanConverter.getInstance(), FALSE )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Boolean> getStyleableProperty( final DateTimeRangeSlider styleable ) { return styleable.m_SnapToTicksProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final DateTimeRangeSlider styleable ) { return !styleable.m_SnapToTicksProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for {@code STEP}.
+         *
+         *  @see #stepProperty()
+         */
+        public static final CssMetaData<DateTimeRangeSlider,Duration> STEP = new CssMetaData<>( "-fx-step", new StepConverter(), Granularity.QUARTER_HOUR.getDuration() )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Duration> getStyleableProperty( final DateTimeRangeSlider styleable ) { return styleable.m_StepProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final DateTimeRangeSlider styleable ) { return !styleable.m_StepProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for the {@code TIME_ZONE}.
+         *
+         *  @see #timeZoneProperty()
+         */
+        public static final CssMetaData<DateTimeRangeSlider,ZoneId> TIME_ZONE = new CssMetaData<>( "-fx-timezone", TimeZoneConverter.getInstance(), ZoneId.systemDefault() )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<ZoneId> getStyleableProperty( final DateTimeRangeSlider styleable ) { return styleable.m_TimeZoneProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final DateTimeRangeSlider styleable ) { return !styleable.m_TimeZoneProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attributes for
+         *  {@link DateTimeRangeSlider}.
+         */
+        @SuppressWarnings( "StaticCollection" )
+        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES = List.of( SNAP_TO_TICKS, STEP, TIME_ZONE );
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  No instance allowed for this class!
+         */
+        private StyleableProperties() { throw new PrivateConstructorForStaticClassCalledError( StyleableProperties.class ); }
+    }
+    //  class StyleableProperties
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default style class for {@code DateTimeRangeSlider} instances:
+     *  {@value}.
+     */
+    public static final String DEFAULT_STYLE_CLASS = "date-time-range-slider"; //$NON-NLS-1$
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The property that holds the duration of the period between
+     *  {@linkplain #getLowValue() low}
+     *  and
+     *  {@linkplain #getHighValue() high}.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ReadOnlyObjectWrapper<Duration> m_DurationProperty = new ReadOnlyObjectWrapper<>( this, "duration" );
+
+    /**
+     *  The property for the high value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final ObjectProperty<ZonedDateTime> m_HighValueProperty = new SimpleObjectProperty<>( this, "highValue" )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated() { adjustHighValues(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void set( final ZonedDateTime newValue )
+        {
+            super.set( requireNonNullArgument( newValue, "newValue" ) );
+        }   //  set()
+    };
+
+    /**
+     *  The property for the low value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final ObjectProperty<ZonedDateTime> m_LowValueProperty = new SimpleObjectProperty<>( this, "lowValue" )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated() { adjustLowValues(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void set( final ZonedDateTime newValue )
+        {
+            super.set( requireNonNullArgument( newValue, "newValue" ) );
+        }   //  set()
+    };
+
+    /**
+     *  The property for the maximum value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final ObjectProperty<ZonedDateTime> m_MaxProperty = new SimpleObjectProperty<>( this, "max" )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            final var min = getMin();
+            if( nonNull( min ) && get().isBefore( min ) && !m_MinProperty.isBound() ) setMin( get() );
+            adjustValues();
+        }   //  invalidated()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void set( final ZonedDateTime newValue )
+        {
+            super.set( requireNonNullArgument( newValue, "newValue" ) );
+        }   //  set()
+    };
+
+    /**
+     *  The property for the minimum value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final ObjectProperty<ZonedDateTime> m_MinProperty = new SimpleObjectProperty<>( this, "min" )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            final var max = getMax();
+            if( nonNull( max ) && get().isAfter( max ) && !m_MaxProperty.isBound() ) setMax( get() );
+            adjustValues();
+        }   //  invalidated()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void set( final ZonedDateTime newValue )
+        {
+            super.set( requireNonNullArgument( newValue, "newValue" ) );
+        }   //  set()
+    };
+
+    /**
+     *  The property for the flag that controls whether the thumbs will snap to
+     *  the steps.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableBooleanProperty m_SnapToTicksProperty = new SimpleStyleableBooleanProperty( SNAP_TO_TICKS, this, "snapToTicks", true );
+
+    /**
+     *  The property that holds the step size for the selection; as it is
+     *  exposed writable through
+     *  {@link #stepProperty()},
+     *  the validation is done in
+     *  {@link javafx.beans.property.ObjectPropertyBase#set(Object) set()}
+     *  itself.
+     */
+    @SuppressWarnings( {"AnonymousInnerClass", "ThisEscapedInObjectConstruction"} )
+    private final StyleableObjectProperty<Duration> m_StepProperty = new SimpleStyleableObjectProperty<>( STEP, this, "step", Granularity.QUARTER_HOUR.getDuration() )
+    {
+        /**
+         *  {@inheritDoc}
+         *
+         *  @throws IllegalArgumentException    The step size is not positive
+         *      or it has a fraction of a second.
+         */
+        @Override
+        public final void set( final Duration step ) throws IllegalArgumentException
+        {
+            if( requireNonNullArgument( step, "step" ).isNegative() || step.isZero() || (step.getNano() != 0) )
+            {
+                throw new IllegalArgumentException( "Invalid step: %s".formatted( step ) );
+            }
+            super.set( step );
+        }   //  set()
+    };
+
+    /**
+     *  The property for the time zone that determines the wall clock for the
+     *  tick marks and the steps.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableObjectProperty<ZoneId> m_TimeZoneProperty = new SimpleStyleableObjectProperty<>( TIME_ZONE, this, "timeZone", ZoneId.systemDefault() );
+
+    /**
+     *  The property that indicates that one of the values is currently
+     *  changed by a gesture.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final BooleanProperty m_ValueChangingProperty = new SimpleBooleanProperty( this, "valueChanging", false );
+
+    /**
+     *  The property for the flag that controls whether the user can zoom
+     *  into the period.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final BooleanProperty m_ZoomableProperty = new SimpleBooleanProperty( this, "zoomable", false );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code DateTimeRangeSlider} for the week
+     *  that starts today at midnight, in the default time zone.
+     */
+    public DateTimeRangeSlider()
+    {
+        this( ZonedDateTime.now().truncatedTo( DAYS ), ZonedDateTime.now().truncatedTo( DAYS ).plusWeeks( 1 ) );
+    }   //  DateTimeRangeSlider()
+
+    /**
+     *  Creates a new instance of {@code DateTimeRangeSlider} for the given
+     *  period; the time zone is taken from the minimum.
+     *
+     *  @param  min The minimum value.
+     *  @param  max The maximum value.
+     */
+    public DateTimeRangeSlider( final ZonedDateTime min, final ZonedDateTime max )
+    {
+        this( min, max, requireNonNullArgument( min, "min" ).getZone() );
+    }   //  DateTimeRangeSlider()
+
+    /**
+     *  <p>{@summary Creates a new instance of {@code DateTimeRangeSlider} for
+     *  the given period and the given time zone.}</p>
+     *  <p>Once created, the time zone for the {@code DateTimeRangeSlider}
+     *  cannot be modified.</p>
+     *
+     *  @param  min The minimum value.
+     *  @param  max The maximum value.
+     *  @param  timeZone    The time zone.
+     */
+    public DateTimeRangeSlider( final ZonedDateTime min, final ZonedDateTime max, final ZoneId timeZone )
+    {
+        super();
+        getStyleClass().setAll( DEFAULT_STYLE_CLASS );
+
+        //---* Apply the arguments *-------------------------------------------
+        m_TimeZoneProperty.set( requireNonNullArgument( timeZone, "timeZone" ) );
+        setMax( requireNonNullArgument( max, "max" ) );
+        setMin( requireNonNullArgument( min, "min" ) );
+
+        //---* Set the defaults *----------------------------------------------
+        setLowValue( getMin() );
+        setHighValue( getMax() );
+
+        final var durationBinding = createObjectBinding( () -> Duration.between( getLowValue(), getHighValue() ), m_LowValueProperty, m_HighValueProperty );
+        m_DurationProperty.bind( durationBinding );
+    }   //  DateTimeRangeSlider()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adjusts the
+     *  {@linkplain #highValueProperty() high value}
+     *  to match the given value, or as closely as possible within the
+     *  constraints imposed by the
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}
+     *  properties. This method also takes into account the
+     *  {@link #snapToTicksProperty() snapToTicks}
+     *  flag, which is the main difference to
+     *  {@link #setHighValue(ZonedDateTime) setHighValue()}.
+     *
+     *  @param  newHigh The new value.
+     */
+    public final void adjustHighValue( final ZonedDateTime newHigh )
+    {
+        setHighValue( toZonedDateTime( snapValueToTicks( requireNonNullArgument( newHigh, "newHigh" ).toEpochSecond() ) ) );
+    }   //  adjustHighValue()
+
+    /**
+     *  Keeps the high value between the low value and the maximum.
+     */
+    private final void adjustHighValues()
+    {
+        final var highValue = getHighValue();
+        final var lowValue = getLowValue();
+        if( isNull( getMin() ) || isNull( getMax() ) || isNull( highValue ) ) return;
+        if( highValue.isBefore( getMin() ) || highValue.isAfter( getMax() ) )
+        {
+            setHighValue( clampDateTime( getMin(), highValue, getMax() ) );
+        }
+        else if( nonNull( lowValue ) && highValue.isBefore( lowValue ) && !lowValue.isBefore( getMin() ) && !lowValue.isAfter( getMax() ) )
+        {
+            setHighValue( clampDateTime( lowValue, highValue, getMax() ) );
+        }
+    }   //  adjustHighValues()
+
+    /**
+     *  Adjusts the
+     *  {@linkplain #lowValueProperty() low value}
+     *  to match the given value, or as closely as possible within the
+     *  constraints imposed by the
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}
+     *  properties. This method also takes into account the
+     *  {@link #snapToTicksProperty() snapToTicks}
+     *  flag, which is the main difference to
+     *  {@link #setLowValue(ZonedDateTime) setLowValue()}.
+     *
+     *  @param  newLow  The new value.
+     */
+    public final void adjustLowValue( final ZonedDateTime newLow )
+    {
+        setLowValue( toZonedDateTime( snapValueToTicks( requireNonNullArgument( newLow, "newLow" ).toEpochSecond() ) ) );
+    }   //  adjustLowValue()
+
+    /**
+     *  Keeps the low value between the minimum and the high value.
+     */
+    private final void adjustLowValues()
+    {
+        final var lowValue = getLowValue();
+        final var highValue = getHighValue();
+        if( isNull( getMin() ) || isNull( getMax() ) || isNull( lowValue ) ) return;
+        if( lowValue.isBefore( getMin() ) || lowValue.isAfter( getMax() ) )
+        {
+            setLowValue( clampDateTime( getMin(), lowValue, getMax() ) );
+        }
+        else if( nonNull( highValue ) && lowValue.isAfter( highValue ) && !highValue.isBefore( getMin() ) && !highValue.isAfter( getMax() ) )
+        {
+            setLowValue( clampDateTime( getMin(), lowValue, highValue ) );
+        }
+    }   //  adjustLowValues()
+
+    /**
+     *  Ensures that the values are between the minimum and the maximum.
+     */
+    private final void adjustValues()
+    {
+        adjustLowValues();
+        adjustHighValues();
+    }   //  adjustValues()
+
+    /**
+     *  Limits the given point in time to the given bounds.
+     *
+     *  @param  min The lower bound.
+     *  @param  value   The point in time.
+     *  @param  max The upper bound.
+     *  @return The limited point in time.
+     */
+    private static final ZonedDateTime clampDateTime( final ZonedDateTime min, final ZonedDateTime value, final ZonedDateTime max )
+    {
+        final var retValue = value.isBefore( min ) ? min : value.isAfter( max ) ? max : value;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  clampDateTime()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final Skin<?> createDefaultSkin()
+    {
+        final var retValue = new DateTimeRangeSliderSkin( this );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDefaultSkin()
+
+    /**
+     *  Returns a reference to the property that holds the duration of the
+     *  period between
+     *  {@linkplain #getLowValue() low}
+     *  and
+     *  {@linkplain #getHighValue() high}.
+     *
+     *  @return The property reference.
+     */
+    public final ReadOnlyObjectProperty<Duration> durationProperty() { return m_DurationProperty.getReadOnlyProperty(); }
+
+    /**
+     *  Returns the CSS metadata for this class.
+     *
+     *  @return The {@code CssMetaData} for this class.
+     */
+    @SuppressWarnings( "MethodOverridesStaticMethodOfSuperclass" )
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() { return StyleableProperties.STYLEABLES; }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final List<CssMetaData<? extends Styleable, ?>> getControlCssMetaData() { return getClassCssMetaData(); }
+
+    /**
+     *  Returns the duration of the period between the low and the high value.
+     *
+     *  @return The duration.
+     */
+    public final Duration getDuration() { return m_DurationProperty.get(); }
+
+    /**
+     *  Returns the high value.
+     *
+     *  @return The high value.
+     */
+    public final ZonedDateTime getHighValue() { return m_HighValueProperty.get(); }
+
+    /**
+     *  Returns the low value.
+     *
+     *  @return The low value.
+     */
+    public final ZonedDateTime getLowValue() { return m_LowValueProperty.get(); }
+
+    /**
+     *  Returns the maximum value.
+     *
+     *  @return The maximum value.
+     */
+    public final ZonedDateTime getMax() { return m_MaxProperty.get(); }
+
+    /**
+     *  Returns the minimum value.
+     *
+     *  @return The minimum value.
+     */
+    public final ZonedDateTime getMin() { return m_MinProperty.get(); }
+
+    /**
+     *  Returns the step size for the selection.
+     *
+     *  @return The step size.
+     */
+    public final Duration getStep() { return m_StepProperty.get(); }
+
+    /**
+     *  Returns the time zone that determines the wall clock for the tick
+     *  marks and the steps.
+     *
+     *  @return The time zone.
+     */
+    public final ZoneId getTimeZone() { return m_TimeZoneProperty.get(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String getUserAgentStylesheet()
+    {
+        final var retValue = getUserAgentStylesheet( getClass(), "DateTimeRangeSlider.css" );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getUserAgentStylesheet()
+
+    /**
+     *  Returns a reference to the property that holds the high value.
+     *
+     *  @return The property reference.
+     */
+    public final ObjectProperty<ZonedDateTime> highValueProperty() { return m_HighValueProperty; }
+
+    /**
+     *  Returns the flag that controls whether the thumbs will snap to the
+     *  steps.
+     *
+     *  @return {@code true} if the thumbs will snap, otherwise
+     *      {@code false}.
+     *
+     *  @see #snapToTicksProperty()
+     */
+    public final boolean isSnapToTicks() { return m_SnapToTicksProperty.get(); }
+
+    /**
+     *  Returns whether one of the values is currently changed by a gesture.
+     *
+     *  @return {@code true} if a value is currently changing, otherwise
+     *      {@code false}.
+     */
+    public final boolean isValueChanging() { return m_ValueChangingProperty.get(); }
+
+    /**
+     *  Returns whether the user can zoom into the period.
+     *
+     *  @return {@code true} if the slider is zoomable, otherwise
+     *      {@code false}.
+     *
+     *  @see #zoomableProperty()
+     */
+    public final boolean isZoomable() { return m_ZoomableProperty.get(); }
+
+    /**
+     *  Returns a reference to the property that holds the low value.
+     *
+     *  @return The property reference.
+     */
+    public final ObjectProperty<ZonedDateTime> lowValueProperty() { return m_LowValueProperty; }
+
+    /**
+     *  Returns a reference to the property that holds the maximum value.
+     *
+     *  @return The property reference.
+     */
+    public final ObjectProperty<ZonedDateTime> maxProperty() { return m_MaxProperty; }
+
+    /**
+     *  Returns a reference to the property that holds the minimum value.
+     *
+     *  @return The property reference.
+     */
+    public final ObjectProperty<ZonedDateTime> minProperty() { return m_MinProperty; }
+
+    /**
+     *  Sets the high value; it will be clamped to the range between the low
+     *  value and the maximum.
+     *
+     *  @param  high    The new value.
+     */
+    public final void setHighValue( final ZonedDateTime high )
+    {
+        if( !m_HighValueProperty.isBound() ) m_HighValueProperty.set( high );
+    }   //  setHighValue()
+
+    /**
+     *  Sets the low value; it will be clamped to the range between the
+     *  minimum and the high value.
+     *
+     *  @param  low The new value.
+     */
+    public final void setLowValue( final ZonedDateTime low )
+    {
+        if( !m_LowValueProperty.isBound() ) m_LowValueProperty.set( low );
+    }   //  setLowValue()
+
+    /**
+     *  Sets the maximum value.
+     *
+     *  @param  max The new value.
+     */
+    public final void setMax( final ZonedDateTime max ) { m_MaxProperty.set( max ); }
+
+    /**
+     *  Sets the minimum value.
+     *
+     *  @param  min The new value.
+     */
+    public final void setMin( final ZonedDateTime min ) { m_MinProperty.set( min ); }
+
+    /**
+     *  Sets the flag that controls whether the thumbs will snap to the steps
+     *  of the step.
+     *
+     *  @param  flag    {@code true} if the thumbs snap, {@code false} if
+     *      not.
+     *
+     *  @see #snapToTicksProperty()
+     */
+    public final void setSnapToTicks( final boolean flag ) { m_SnapToTicksProperty.set( flag ); }
+
+    /**
+     *  Sets the step size for the selection.
+     *
+     *  @param  step    The step size; it must be a positive number of full
+     *      seconds.
+     *  @throws IllegalArgumentException    The step size is not positive or
+     *      it has a fraction of a second.
+     *
+     *  @see #stepProperty()
+     */
+    public final void setStep( final Duration step ) throws IllegalArgumentException { m_StepProperty.set( step ); }
+
+    /**
+     *  Call this when one of the values is changing.
+     *
+     *  @param  flag    {@code true} if a value is currently changing,
+     *      {@code false} otherwise.
+     */
+    public final void setValueChanging( final boolean flag ) { m_ValueChangingProperty.set( flag ); }
+
+    /**
+     *  Sets the flag that controls whether the user can zoom into the
+     *  period.
+     *
+     *  @param  flag    {@code true} if the slider is zoomable,
+     *      {@code false} if not.
+     *
+     *  @see #zoomableProperty()
+     */
+    public final void setZoomable( final boolean flag ) { m_ZoomableProperty.set( flag ); }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the flag
+     *  that indicates whether the
+     *  {@linkplain #lowValueProperty() low value}/{@linkplain #highValueProperty() high value}
+     *  thumbs are always aligned with the steps of the
+     *  {@linkplain #stepProperty() steps}.} The steps are
+     *  aligned to the wall clock of the
+     *  {@linkplain #timeZoneProperty() time zone}.</p>
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty snapToTicksProperty() { return m_SnapToTicksProperty; }
+
+    /**
+     *  <p>{@summary Aligns the given point in time with the nearest step of
+     *  the
+     *  {@linkplain #stepProperty() steps},
+     *  if
+     *  {@link #snapToTicksProperty() snapToTicks}
+     *  is set; otherwise, the value is only clamped to the range between
+     *  {@link #getMin() min}
+     *  and
+     *  {@link #getMax() max}.}</p>
+     *  <p>The steps are aligned to the wall clock of the
+     *  {@linkplain #timeZoneProperty() time zone}.
+     *  If the nearest step is a local time that does not exist because of
+     *  the daylight saving time, the value is moved forward by the length of
+     *  the gap; for a local time that exists twice, the offset of the given
+     *  value is kept.</p>
+     *
+     *  @param  epochSecond The point in time, in seconds since the start of
+     *      the epoch.
+     *  @return The adjusted point in time, in seconds since the start of the
+     *      epoch.
+     */
+    public final long snapValueToTicks( final long epochSecond )
+    {
+        final var min = getMin().toEpochSecond();
+        final var max = getMax().toEpochSecond();
+        var retValue = clamp( min, epochSecond, max );
+        final var step = getStep().toSeconds();
+        if( isSnapToTicks() && (step > 0L) )
+        {
+            retValue = clamp( min, ZoneOffsetTable.snapToStep( retValue, step, getTimeZone() ), max );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapValueToTicks()
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the step
+     *  size for the selection.} Steps shorter than a day are aligned to the
+     *  local midnight on the wall clock of the
+     *  {@linkplain #timeZoneProperty() time zone}.</p>
+     *  <p>The step can be set from CSS with the attribute
+     *  {@code -fx-step}; setting an invalid value through the property
+     *  reference throws an
+     *  {@link IllegalArgumentException}.</p>
+     *
+     *  @return The property reference.
+     */
+    public final StyleableObjectProperty<Duration> stepProperty() { return m_StepProperty; }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the time
+     *  zone.} It determines the wall clock for the tick marks and for the
+     *  steps of the
+     *  {@linkplain #stepProperty() steps}.</p>
+     *
+     *  @return The property reference.
+     */
+    public final ReadOnlyObjectProperty<ZoneId> timeZoneProperty() { return m_TimeZoneProperty; }
+
+    /**
+     *  Converts the given point in time to an instance of
+     *  {@link ZonedDateTime}
+     *  in the
+     *  {@linkplain #timeZoneProperty() time zone}
+     *  of this slider.
+     *
+     *  @param  epochSecond The point in time, in seconds since the start of
+     *      the epoch.
+     *  @return The date and time.
+     */
+    public final ZonedDateTime toZonedDateTime( final long epochSecond )
+    {
+        final var retValue = Instant.ofEpochSecond( epochSecond ).atZone( getTimeZone() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toZonedDateTime()
+
+    /**
+     *  <p>{@summary Returns a reference to the property that indicates that
+     *  one of the values is currently changed by a gesture.}</p>
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty valueChangingProperty() { return m_ValueChangingProperty; }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the flag
+     *  that controls whether the user can zoom into the period.} If set, the
+     *  mouse wheel zooms in and out around the mouse pointer, and a drag with
+     *  the shortcut modifier (Ctrl, or Cmd on macOS) pans the visible part;
+     *  the units for the tick marks follow the zoom level.</p>
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty zoomableProperty() { return m_ZoomableProperty; }
+}
+//  class DateTimeRangeSlider
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,1032 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control;
+
+import static java.lang.Boolean.FALSE;
+import static javafx.geometry.Orientation.HORIZONTAL;
+import static javafx.geometry.Orientation.VERTICAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.fx.control.skin.LongRangeSliderSkin;
+import org.tquadrat.foundation.fx.internal.ControlUtils;
+import org.tquadrat.foundation.fx.internal.FoundationFXControl;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleLongProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.css.CssMetaData;
+import javafx.css.PseudoClass;
+import javafx.css.SimpleStyleableBooleanProperty;
+import javafx.css.SimpleStyleableIntegerProperty;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.StyleOrigin;
+import javafx.css.Styleable;
+import javafx.css.StyleableBooleanProperty;
+import javafx.css.StyleableIntegerProperty;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.css.converter.BooleanConverter;
+import javafx.css.converter.EnumConverter;
+import javafx.css.converter.SizeConverter;
+import javafx.geometry.Orientation;
+import javafx.scene.control.Skin;
+import javafx.util.StringConverter;
+
+/**
+ *  <p>{@summary A range slider for {@code long} values.} It works like
+ *  {@link RangeSlider},
+ *  but all values are held in instances of
+ *  {@link LongProperty},
+ *  and snapping to the tick marks uses integer arithmetic; therefore it
+ *  remains exact for large values like epoch milliseconds or row ids, where a
+ *  {@code double} would lose precision.</p>
+ *  <p>Any {@code long} values are allowed for
+ *  {@linkplain #getMin() min}
+ *  and
+ *  {@linkplain #getMax() max};
+ *  the span between them is calculated as an unsigned value, so even a
+ *  slider from
+ *  {@link Long#MIN_VALUE}
+ *  to
+ *  {@link Long#MAX_VALUE}
+ *  works. Moving a thumb with the keyboard stops at these limits and does
+ *  not wrap around.</p>
+ *  <p>The tick labels are created by the
+ *  {@linkplain #labelFormatterProperty() label formatter}
+ *  with the {@code long} value of the tick mark, wrapped into a
+ *  {@link Long}.
+ *  The values themselves are never boxed.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( {"ClassWithTooManyFields", "ClassWithTooManyMethods"} )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.4.7" )
+public final class LongRangeSlider extends FoundationFXControl
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The styleable properties for
+     *  {@link LongRangeSlider}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @SuppressWarnings( {"ProtectedInnerClass", "InnerClassTooDeeplyNested", "AnonymousInnerClass"} )
+    @UtilityClass
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.4.7" )
+    protected static final class StyleableProperties
+    {
+            /*------------------------*\
+        ====** Static Initialisations **=======================================
+            \*------------------------*/
+        /**
+         *  The CSS attribute for the {@code MINOR_TICK_COUNT}.
+         *
+         *  @see #minorTickCountProperty()
+         */
+        public static final CssMetaData<LongRangeSlider,Number> MINOR_TICK_COUNT = new CssMetaData<>( "-fx-minor-tick-count", SizeConverter.getInstance(), 3 )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Number> getStyleableProperty( final LongRangeSlider styleable ) { return styleable.m_MinorTickCountProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final LongRangeSlider styleable ) { return !styleable.m_MinorTickCountProperty.isBound(); }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @SuppressWarnings( "deprecation" )
+            @Override
+            public final void set( final LongRangeSlider styleable, final Number value, final StyleOrigin origin )
+            {
+                super.set( styleable, value.intValue(), origin );
+            }   //  set()
+        };
+
+        /**
+         *  The CSS attribute for the {@code ORIENTATION}.
+         *
+         *  @see #orientationProperty()
+         */
+        public static final CssMetaData<LongRangeSlider,Orientation> ORIENTATION = new CssMetaData<>( "-fx-orientation", new EnumConverter<>( Orientation.class ), HORIZONTAL )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final Orientation getInitialValue( final LongRangeSlider styleable )
+            {
+                //---* A vertical slider should remain vertical *--------------
+                return styleable.getOrientation();
+            }   //  getInitialValue()
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Orientation> getStyleableProperty( final LongRangeSlider styleable ) { return styleable.m_OrientationProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final LongRangeSlider styleable ) { return !styleable.m_OrientationProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for {@code SHOW_TICK_LABELS}.
+         *
+         *  @see #showTickLabelsProperty()
+         */
+        public static final CssMetaData<LongRangeSlider,Boolean> SHOW_TICK_LABELS = new CssMetaData<>( "-fx-show-tick-labels", BooleanConverter.getInstance(), FALSE )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Boolean> getStyleableProperty( final LongRangeSlider styleable ) { return styleable.m_ShowTickLabelsProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final LongRangeSlider styleable ) { return !styleable.m_ShowTickLabelsProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for {@code SHOW_TICK_MARKS}.
+         *
+         *  @see #showTickMarksProperty()
+         */
+        public static final CssMetaData<LongRangeSlider,Boolean> SHOW_TICK_MARKS = new CssMetaData<>( "-fx-show-tick-marks", BooleanConverter.getInstance(), FALSE )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Boolean> getStyleableProperty( final LongRangeSlider styleable ) { return styleable.m_ShowTickMarksProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final LongRangeSlider styleable ) { return !styleable.m_ShowTickMarksProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for {@code SNAP_TO_TICKS}.
+         *
+         *  @see #snapToTicksProperty()
+         */
+        public static final CssMetaData<LongRangeSlider,Boolean> SNAP_TO_TICKS = new CssMetaData<>( "-fx-snap-to-ticks", BooleanConverter.getInstance(), FALSE )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Boolean> getStyleableProperty( final LongRangeSlider styleable ) { return styleable.m_SnapToTicksProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final LongRangeSlider styleable ) { return !styleable.m_SnapToTicksProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attributes for
+         *  {@link LongRangeSlider}.
+         *  The block increment and the major tick unit are {@code long}
+         *  values and cannot be set through CSS, as the CSS converters would
+         *  pass them as {@code double}.
+         */
+        @SuppressWarnings( "StaticCollection" )
+        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES = List.of( MINOR_TICK_COUNT, ORIENTATION, SHOW_TICK_LABELS, SHOW_TICK_MARKS, SNAP_TO_TICKS );
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  No instance allowed for this class!
+         */
+        private StyleableProperties() { throw new PrivateConstructorForStaticClassCalledError( StyleableProperties.class ); }
+    }
+    //  class StyleableProperties
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default style class for {@code LongRangeSlider} instances:
+     *  {@value}.
+     */
+    public static final String DEFAULT_STYLE_CLASS = "long-range-slider"; //$NON-NLS-1$
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The property for the amount by which to move a thumb with the
+     *  keyboard.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final LongProperty m_BlockIncrementProperty = new SimpleLongProperty( this, "blockIncrement", 10L );
+
+    /**
+     *  The property that indicates a change to the high value.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final BooleanProperty m_HighValueChangingProperty = new SimpleBooleanProperty( this, "highValueChanging", false );
+
+    /**
+     *  The property for the high value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final LongProperty m_HighValueProperty = new SimpleLongProperty( this, "highValue", 100L )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated() { adjustHighValues(); }
+    };
+
+    /**
+     *  The property that indicates a change to the low value.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final BooleanProperty m_LowValueChangingProperty = new SimpleBooleanProperty( this, "lowValueChanging", false );
+
+    /**
+     *  The property for the low value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final LongProperty m_LowValueProperty = new SimpleLongProperty( this, "lowValue", 0L )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated() { adjustLowValues(); }
+    };
+
+    /**
+     *  The property for the unit distance between major tick marks.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final LongProperty m_MajorTickUnitProperty = new SimpleLongProperty( this, "majorTickUnit", 25L )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            if( get() <= 0L )
+            {
+                throw new IllegalArgumentException( "MajorTickUnit cannot be less than or equal to 0." );
+            }
+        }   //  invalidated()
+    };
+
+    /**
+     *  The property for the maximum value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final LongProperty m_MaxProperty = new SimpleLongProperty( this, "max", 100L )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            if( get() < getMin() && !m_MinProperty.isBound() ) setMin( get() );
+            adjustValues();
+        }   //  invalidated()
+    };
+
+    /**
+     *  The property for the number of minor ticks between two major ticks.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableIntegerProperty m_MinorTickCountProperty = new SimpleStyleableIntegerProperty( StyleableProperties.MINOR_TICK_COUNT, this, "minorTickCount", 3 );
+
+    /**
+     *  The property for the minimum value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final LongProperty m_MinProperty = new SimpleLongProperty( this, "min", 0L )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            if( get() > getMax() && !m_MaxProperty.isBound() ) setMax( get() );
+            adjustValues();
+        }   //  invalidated()
+    };
+
+    /**
+     *  The property for the orientation.
+     */
+    @SuppressWarnings( {"AnonymousInnerClass"} )
+    private final StyleableObjectProperty<Orientation> m_OrientationProperty = new SimpleStyleableObjectProperty<>( StyleableProperties.ORIENTATION, this, "orientation", HORIZONTAL )
+    {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            final var vertical = (get() == VERTICAL);
+            pseudoClassStateChanged( VERTICAL_PSEUDOCLASS_STATE, vertical );
+            pseudoClassStateChanged( HORIZONTAL_PSEUDOCLASS_STATE, !vertical );
+        }   //  invalidated()
+    };
+
+    /**
+     *  The property for the flag that indicates whether the labels for the
+     *  tick marks are shown or not.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableBooleanProperty m_ShowTickLabelsProperty = new SimpleStyleableBooleanProperty( StyleableProperties.SHOW_TICK_LABELS, this, "showTickLabels", false );
+
+    /**
+     *  The property for the flag that indicates whether the tick marks are
+     *  shown or not.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableBooleanProperty m_ShowTickMarksProperty = new SimpleStyleableBooleanProperty( StyleableProperties.SHOW_TICK_MARKS, this, "showTickMarks", false );
+
+    /**
+     *  The property for the flag that controls whether the thumbs will snap to
+     *  the tick marks.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableBooleanProperty m_SnapToTicksProperty = new SimpleStyleableBooleanProperty( StyleableProperties.SNAP_TO_TICKS, this, "snapToTicks", false );
+
+    /**
+     *  The property for the tick label formatter.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ObjectProperty<StringConverter<Number>> m_TickLabelFormatterProperty = new SimpleObjectProperty<>( this, "labelFormatter" );
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The CSS pseudo class for the horizontal orientation.
+     */
+    private static final PseudoClass HORIZONTAL_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass( "horizontal" );
+
+    /**
+     *  The CSS pseudo class for the vertical orientation.
+     */
+    private static final PseudoClass VERTICAL_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass( "vertical" );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new, horizontal {@code LongRangeSlider} instance with the
+     *  default values 0 for min and low, and 100 for max and high.
+     */
+    @SuppressWarnings( "MagicNumber" )
+    public LongRangeSlider()
+    {
+        this( 0L, 100L, 0L, 100L );
+    }   //  LongRangeSlider()
+
+    /**
+     *  Creates a new, horizontal {@code LongRangeSlider} instance with the
+     *  given values.
+     *
+     *  @param  min The minimum value.
+     *  @param  max The maximum value.
+     *  @param  lowValue    The initial low value.
+     *  @param  highValue   The initial high value.
+     */
+    public LongRangeSlider( final long min, final long max, final long lowValue, final long highValue )
+    {
+        getStyleClass().setAll( DEFAULT_STYLE_CLASS );
+
+        setMax( max );
+        setMin( min );
+
+        /*
+         * The low value is moved to the minimum first, so that the high value
+         * is only limited by the bounds.
+         */
+        setLowValue( getMin() );
+        setHighValue( highValue );
+        setLowValue( lowValue );
+    }   //  LongRangeSlider()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adds the given amount to the given value; instead of wrapping around
+     *  on an overflow, the result is the respective limit of {@code long}.
+     *
+     *  @param  value   The value.
+     *  @param  amount  The amount to add.
+     *  @return The sum.
+     */
+    private static final long addSaturated( final long value, final long amount )
+    {
+        long retValue;
+        try
+        {
+            retValue = Math.addExact( value, amount );
+        }
+        catch( final ArithmeticException ignored )
+        {
+            retValue = amount > 0L ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addSaturated()
+
+    /**
+     *  Adjusts the
+     *  {@linkplain #highValueProperty() high value}
+     *  to match the given value, or as closely as possible within the
+     *  constraints imposed by the
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}
+     *  properties. This method also takes into account the
+     *  {@link #snapToTicksProperty() snapToTicks}
+     *  flag, which is the main difference to
+     *  {@link #setHighValue(long) setHighValue()}.
+     *
+     *  @param  newHigh The new value.
+     */
+    public final void adjustHighValue( final long newHigh )
+    {
+        if( getMax() > getMin() ) setHighValue( snapValueToTicks( newHigh ) );
+    }   //  adjustHighValue()
+
+    /**
+     *  Keeps the high value between the low value and the maximum.
+     */
+    private final void adjustHighValues()
+    {
+        final var highValue = getHighValue();
+        if( (highValue < getMin()) || (highValue > getMax()) )
+        {
+            setHighValue( clamp( getMin(), highValue, getMax() ) );
+        }
+        else if( (highValue < getLowValue()) && (getLowValue() >= getMin()) && (getLowValue() <= getMax()) )
+        {
+            setHighValue( clamp( getLowValue(), highValue, getMax() ) );
+        }
+    }   //  adjustHighValues()
+
+    /**
+     *  Adjusts the
+     *  {@linkplain #lowValueProperty() low value}
+     *  to match the given value, or as closely as possible within the
+     *  constraints imposed by the
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}
+     *  properties. This method also takes into account the
+     *  {@link #snapToTicksProperty() snapToTicks}
+     *  flag, which is the main difference to
+     *  {@link #setLowValue(long) setLowValue()}.
+     *
+     *  @param  newLow  The new value.
+     */
+    public final void adjustLowValue( final long newLow )
+    {
+        if( getMax() > getMin() ) setLowValue( snapValueToTicks( newLow ) );
+    }   //  adjustLowValue()
+
+    /**
+     *  Keeps the low value between the minimum and the high value.
+     */
+    private final void adjustLowValues()
+    {
+        final var lowValue = getLowValue();
+        if( (lowValue < getMin()) || (lowValue > getMax()) )
+        {
+            setLowValue( clamp( getMin(), lowValue, getMax() ) );
+        }
+        else if( (lowValue > getHighValue()) && (getHighValue() >= getMin()) && (getHighValue() <= getMax()) )
+        {
+            setLowValue( clamp( getMin(), lowValue, getHighValue() ) );
+        }
+    }   //  adjustLowValues()
+
+    /**
+     *  Ensures that the values are between the minimum and the maximum.
+     */
+    private final void adjustValues()
+    {
+        adjustLowValues();
+        adjustHighValues();
+    }   //  adjustValues()
+
+    /**
+     *  Returns a reference to the property that holds the amount by which to
+     *  move a thumb with the keyboard.
+     *
+     *  @return The property reference.
+     */
+    public final LongProperty blockIncrementProperty() { return m_BlockIncrementProperty; }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Skin<?> createDefaultSkin()
+    {
+        final var retValue = new LongRangeSliderSkin( this );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDefaultSkin()
+
+    /**
+     *  Decrements the
+     *  {@linkplain #highValueProperty() high value}
+     *  by the
+     *  {@linkplain #blockIncrementProperty() block increment}
+     *  amount.
+     */
+    public final void decrementHighValue() { adjustHighValue( subtractSaturated( getHighValue(), getBlockIncrement() ) ); }
+
+    /**
+     *  Decrements the
+     *  {@linkplain #lowValueProperty() low value}
+     *  by the
+     *  {@linkplain #blockIncrementProperty() block increment}
+     *  amount.
+     */
+    public final void decrementLowValue() { adjustLowValue( subtractSaturated( getLowValue(), getBlockIncrement() ) ); }
+
+    /**
+     *  Returns the amount by which to move a thumb with the keyboard.
+     *
+     *  @return The block increment.
+     */
+    public final long getBlockIncrement() { return m_BlockIncrementProperty.get(); }
+
+    /**
+     *  Returns the CSS metadata for this class.
+     *
+     *  @return The {@code CssMetaData} for this class.
+     */
+    @SuppressWarnings( "MethodOverridesStaticMethodOfSuperclass" )
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() { return StyleableProperties.STYLEABLES; }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final List<CssMetaData<? extends Styleable, ?>> getControlCssMetaData() { return getClassCssMetaData(); }
+
+    /**
+     *  Returns the high value.
+     *
+     *  @return The high value.
+     */
+    public final long getHighValue() { return m_HighValueProperty.get(); }
+
+    /**
+     *  Returns the tick label formatter.
+     *
+     *  @return The formatter.
+     */
+    public final StringConverter<Number> getLabelFormatter() { return m_TickLabelFormatterProperty.get(); }
+
+    /**
+     *  Returns the low value.
+     *
+     *  @return The low value.
+     */
+    public final long getLowValue() { return m_LowValueProperty.get(); }
+
+    /**
+     *  Returns the unit distance between major tick marks.
+     *
+     *  @return The unit distance.
+     */
+    public final long getMajorTickUnit() { return m_MajorTickUnitProperty.get(); }
+
+    /**
+     *  Returns the maximum value.
+     *
+     *  @return The maximum value.
+     */
+    public final long getMax() { return m_MaxProperty.get(); }
+
+    /**
+     *  Returns the minimum value.
+     *
+     *  @return The minimum value.
+     */
+    public final long getMin() { return m_MinProperty.get(); }
+
+    /**
+     *  Returns the number of minor ticks between two major ticks.
+     *
+     *  @return The number of minor ticks.
+     */
+    public final int getMinorTickCount() { return m_MinorTickCountProperty.get(); }
+
+    /**
+     *  Returns the orientation.
+     *
+     *  @return The orientation.
+     */
+    public final Orientation getOrientation() { return m_OrientationProperty.get(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String getUserAgentStylesheet()
+    {
+        final var retValue = getUserAgentStylesheet( getClass(), "LongRangeSlider.css" );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getUserAgentStylesheet()
+
+    /**
+     *  Returns a reference to the property that indicates a change to the
+     *  high value.
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty highValueChangingProperty() { return m_HighValueChangingProperty; }
+
+    /**
+     *  Returns a reference to the property for the high value.
+     *
+     *  @return The property reference.
+     */
+    public final LongProperty highValueProperty() { return m_HighValueProperty; }
+
+    /**
+     *  Increments the
+     *  {@linkplain #highValueProperty() high value}
+     *  by the
+     *  {@linkplain #blockIncrementProperty() block increment}
+     *  amount.
+     */
+    public final void incrementHighValue() { adjustHighValue( addSaturated( getHighValue(), getBlockIncrement() ) ); }
+
+    /**
+     *  Increments the
+     *  {@linkplain #lowValueProperty() low value}
+     *  by the
+     *  {@linkplain #blockIncrementProperty() block increment}
+     *  amount.
+     */
+    public final void incrementLowValue() { adjustLowValue( addSaturated( getLowValue(), getBlockIncrement() ) ); }
+
+    /**
+     *  Returns whether the high value is currently changing.
+     *
+     *  @return {@code true} if the high value is currently changing,
+     *      otherwise {@code false}.
+     */
+    public final boolean isHighValueChanging() { return m_HighValueChangingProperty.get(); }
+
+    /**
+     *  Returns whether the low value is currently changing.
+     *
+     *  @return {@code true} if the low value is currently changing,
+     *      otherwise {@code false}.
+     */
+    public final boolean isLowValueChanging() { return m_LowValueChangingProperty.get(); }
+
+    /**
+     *  Returns the flag that indicates whether the labels for the tick marks
+     *  are shown.
+     *
+     *  @return {@code true} if the labels are shown, {@code false} otherwise.
+     */
+    public final boolean isShowTickLabels() { return m_ShowTickLabelsProperty.get(); }
+
+    /**
+     *  Returns the flag that indicates whether the tick marks are shown.
+     *
+     *  @return {@code true} if the tick marks are shown, {@code false}
+     *      otherwise.
+     */
+    public final boolean isShowTickMarks() { return m_ShowTickMarksProperty.get(); }
+
+    /**
+     *  Returns the flag that indicates whether the thumbs are always aligned
+     *  with the tick marks.
+     *
+     *  @return {@code true} if the thumbs snap to the tick marks,
+     *      {@code false} otherwise.
+     */
+    public final boolean isSnapToTicks() { return m_SnapToTicksProperty.get(); }
+
+    /**
+     *  Returns a reference to the property for the tick label formatter. The
+     *  formatter will be called with an instance of
+     *  {@link Long}
+     *  that holds the exact value of the tick mark.
+     *
+     *  @return The property reference.
+     */
+    public final ObjectProperty<StringConverter<Number>> labelFormatterProperty() { return m_TickLabelFormatterProperty; }
+
+    /**
+     *  Returns a reference to the property that indicates a change to the
+     *  low value.
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty lowValueChangingProperty() { return m_LowValueChangingProperty; }
+
+    /**
+     *  Returns a reference to the property for the low value.
+     *
+     *  @return The property reference.
+     */
+    public final LongProperty lowValueProperty() { return m_LowValueProperty; }
+
+    /**
+     *  Returns a reference to the property for the unit distance between
+     *  major tick marks.
+     *
+     *  @return The property reference.
+     */
+    public final LongProperty majorTickUnitProperty() { return m_MajorTickUnitProperty; }
+
+    /**
+     *  Returns a reference to the property for the maximum value.
+     *
+     *  @return The property reference.
+     */
+    public final LongProperty maxProperty() { return m_MaxProperty; }
+
+    /**
+     *  Returns a reference to the property for the number of minor ticks
+     *  between two major ticks.
+     *
+     *  @return The property reference.
+     */
+    public final IntegerProperty minorTickCountProperty() { return m_MinorTickCountProperty; }
+
+    /**
+     *  Returns a reference to the property for the minimum value.
+     *
+     *  @return The property reference.
+     */
+    public final LongProperty minProperty() { return m_MinProperty; }
+
+    /**
+     *  Returns a reference to the property for the orientation.
+     *
+     *  @return The property reference.
+     */
+    public final ObjectProperty<Orientation> orientationProperty() { return m_OrientationProperty; }
+
+    /**
+     *  Sets the amount by which to move a thumb with the keyboard.
+     *
+     *  @param  value   The block increment.
+     */
+    public final void setBlockIncrement( final long value ) { m_BlockIncrementProperty.set( value ); }
+
+    /**
+     *  Sets the high value; it will be clamped to the range between the low
+     *  value and the maximum.
+     *
+     *  @param  high    The new value.
+     */
+    public final void setHighValue( final long high )
+    {
+        if( !m_HighValueProperty.isBound() ) m_HighValueProperty.set( high );
+    }   //  setHighValue()
+
+    /**
+     *  Call this when the high value is changing.
+     *
+     *  @param  flag    {@code true} if the high value is currently changing,
+     *      {@code false} otherwise.
+     */
+    public final void setHighValueChanging( final boolean flag ) { m_HighValueChangingProperty.set( flag ); }
+
+    /**
+     *  Sets the tick label formatter.
+     *
+     *  @param  formatter   The formatter.
+     */
+    public final void setLabelFormatter( final StringConverter<Number> formatter ) { m_TickLabelFormatterProperty.set( formatter ); }
+
+    /**
+     *  Sets the low value; it will be clamped to the range between the
+     *  minimum and the high value.
+     *
+     *  @param  low The new value.
+     */
+    public final void setLowValue( final long low )
+    {
+        if( !m_LowValueProperty.isBound() ) m_LowValueProperty.set( low );
+    }   //  setLowValue()
+
+    /**
+     *  Call this when the low value is changing.
+     *
+     *  @param  flag    {@code true} if the low value is currently changing,
+     *      {@code false} otherwise.
+     */
+    public final void setLowValueChanging( final boolean flag ) { m_LowValueChangingProperty.set( flag ); }
+
+    /**
+     *  Sets the unit distance between major tick marks.
+     *
+     *  @param  tickUnit    The unit distance; must be greater than 0.
+     */
+    public final void setMajorTickUnit( final long tickUnit )
+    {
+        if( tickUnit <= 0L ) throw new IllegalArgumentException( "MajorTickUnit cannot be less than or equal to 0." );
+        m_MajorTickUnitProperty.set( tickUnit );
+    }   //  setMajorTickUnit()
+
+    /**
+     *  Sets the maximum value.
+     *
+     *  @param  max The new value.
+     */
+    public final void setMax( final long max ) { m_MaxProperty.set( max ); }
+
+    /**
+     *  Sets the minimum value.
+     *
+     *  @param  min The new value.
+     */
+    public final void setMin( final long min ) { m_MinProperty.set( min ); }
+
+    /**
+     *  Sets the number of minor ticks between two major ticks.
+     *
+     *  @param  numberOfTicks   The number of minor ticks.
+     */
+    public final void setMinorTickCount( final int numberOfTicks ) { m_MinorTickCountProperty.set( numberOfTicks ); }
+
+    /**
+     *  Sets the orientation.
+     *
+     *  @param  orientation The orientation.
+     */
+    public final void setOrientation( final Orientation orientation ) { m_OrientationProperty.set( requireNonNullArgument( orientation, "orientation" ) ); }
+
+    /**
+     *  Sets the flag that indicates whether the labels for the tick marks are
+     *  shown.
+     *
+     *  @param  flag    {@code true} if the labels are shown, {@code false}
+     *      otherwise.
+     */
+    public final void setShowTickLabels( final boolean flag ) { m_ShowTickLabelsProperty.set( flag ); }
+
+    /**
+     *  Sets the flag that indicates whether the tick marks are shown.
+     *
+     *  @param  flag    {@code true} if the tick marks are shown,
+     *      {@code false} otherwise.
+     */
+    public final void setShowTickMarks( final boolean flag ) { m_ShowTickMarksProperty.set( flag ); }
+
+    /**
+     *  Sets the flag that indicates whether the thumbs are always aligned with
+     *  the tick marks.
+     *
+     *  @param  flag    {@code true} if the thumbs snap to the tick marks,
+     *      {@code false} otherwise.
+     */
+    public final void setSnapToTicks( final boolean flag ) { m_SnapToTicksProperty.set( flag ); }
+
+    /**
+     *  Returns a reference to the property for the flag that indicates whether
+     *  the labels for the tick marks are shown.
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty showTickLabelsProperty() { return m_ShowTickLabelsProperty; }
+
+    /**
+     *  Returns a reference to the property for the flag that indicates whether
+     *  the tick marks are shown.
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty showTickMarksProperty() { return m_ShowTickMarksProperty; }
+
+    /**
+     *  Returns a reference to the property for the flag that indicates whether
+     *  the thumbs are always aligned with the tick marks. This is honored even
+     *  if the tick marks are not shown.
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty snapToTicksProperty() { return m_SnapToTicksProperty; }
+
+    /**
+     *  Aligns the given value with the nearest tick mark, if
+     *  {@link #snapToTicksProperty() snapToTicks}
+     *  is set; otherwise, the value is only clamped to the range between
+     *  {@link #getMin() min}
+     *  and
+     *  {@link #getMax() max}.
+     *
+     *  @param  value   The value.
+     *  @return The adjusted value.
+     */
+    public final long snapValueToTicks( final long value )
+    {
+        final var retValue = isSnapToTicks()
+            ? ControlUtils.snapValueToTicks( value, getMin(), getMax(), getMajorTickUnit(), getMinorTickCount() )
+            : clamp( getMin(), value, getMax() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapValueToTicks()
+
+    /**
+     *  Subtracts the given amount from the given value; instead of wrapping
+     *  around on an overflow, the result is the respective limit of
+     *  {@code long}.
+     *
+     *  @param  value   The value.
+     *  @param  amount  The amount to subtract.
+     *  @return The difference.
+     */
+    private static final long subtractSaturated( final long value, final long amount )
+    {
+        long retValue;
+        try
+        {
+            retValue = Math.subtractExact( value, amount );
+        }
+        catch( final ArithmeticException ignored )
+        {
+            retValue = amount > 0L ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  subtractSaturated()
+}
+//  class LongRangeSlider
+
+/*
+ *  End of File
+ */
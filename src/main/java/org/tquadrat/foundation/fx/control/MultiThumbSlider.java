@@ -0,0 +1,1108 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control;
+
+import static java.lang.Boolean.FALSE;
+import static java.util.Objects.checkIndex;
+import static javafx.geometry.Orientation.HORIZONTAL;
+import static javafx.geometry.Orientation.VERTICAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidDoubleArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.fx.control.RangeSlider.TickRenderer;
+import org.tquadrat.foundation.fx.control.skin.MultiThumbSliderSkin;
+import org.tquadrat.foundation.fx.internal.ControlUtils;
+import org.tquadrat.foundation.fx.internal.FoundationFXControl;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.css.CssMetaData;
+import javafx.css.PseudoClass;
+import javafx.css.SimpleStyleableBooleanProperty;
+import javafx.css.SimpleStyleableDoubleProperty;
+import javafx.css.SimpleStyleableIntegerProperty;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.StyleOrigin;
+import javafx.css.Styleable;
+import javafx.css.StyleableBooleanProperty;
+import javafx.css.StyleableDoubleProperty;
+import javafx.css.StyleableIntegerProperty;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.css.converter.BooleanConverter;
+import javafx.css.converter.EnumConverter;
+import javafx.css.converter.SizeConverter;
+import javafx.geometry.Orientation;
+import javafx.scene.control.Skin;
+import javafx.util.StringConverter;
+
+/**
+ *  <p>{@summary A slider with an arbitrary number of thumbs.} It can be used
+ *  to select a set of break points, for example the thresholds for a colour
+ *  scale.</p>
+ *  <p>The values for the thumbs are kept in ascending order in a single
+ *  {@code double} array; a thumb cannot be moved past its neighbours. Instead
+ *  of a property for each value, the slider notifies instances of
+ *  {@link ValuesChangeListener}
+ *  about the range of indexes that were changed.</p>
+ *  <p>Tick marks, tick labels and snapping to ticks work like for
+ *  {@link RangeSlider}.</p>
+ *  <p>The keyboard navigation is similar to that of {@code RangeSlider}: the
+ *  {@code TAB} key moves the focus to the next thumb (with {@code SHIFT}, to
+ *  the previous one); from the last (first) thumb, it moves the focus to the
+ *  next (previous) control. The arrow keys move the focused thumb, and
+ *  {@code HOME} and {@code END} move it as far as possible to the minimum or
+ *  maximum.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( {"ClassWithTooManyFields", "ClassWithTooManyMethods"} )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.4.7" )
+public final class MultiThumbSlider extends FoundationFXControl
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The styleable properties for
+     *  {@link MultiThumbSlider}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @SuppressWarnings( {"ProtectedInnerClass", "InnerClassTooDeeplyNested", "AnonymousInnerClass"} )
+    @UtilityClass
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.4.7" )
+    protected static final class StyleableProperties
+    {
+            /*------------------------*\
+        ====** Static Initialisations **=======================================
+            \*------------------------*/
+        /**
+         *  The CSS attribute for the {@code BLOCK_INCREMENT}.
+         *
+         *  @see #blockIncrementProperty()
+         */
+        public static final CssMetaData<MultiThumbSlider,Number> BLOCK_INCREMENT = new CssMetaData<>( "-fx-block-increment", SizeConverter.getInstance(), 10.0 )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Number> getStyleableProperty( final MultiThumbSlider styleable ) { return styleable.m_BlockIncrementProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final MultiThumbSlider styleable ) { return !styleable.m_BlockIncrementProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for the {@code MAJOR_TICK_UNIT}.
+         *
+         *  @see #majorTickUnitProperty()
+         */
+        public static final CssMetaData<MultiThumbSlider,Number> MAJOR_TICK_UNIT = new CssMetaData<>( "-fx-major-tick-unit", SizeConverter.getInstance(), 25.0 )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Number> getStyleableProperty( final MultiThumbSlider styleable ) { return styleable.m_MajorTickUnitProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final MultiThumbSlider styleable ) { return !styleable.m_MajorTickUnitProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for the {@code MINOR_TICK_COUNT}.
+         *
+         *  @see #minorTickCountProperty()
+         */
+        public static final CssMetaData<MultiThumbSlider,Number> MINOR_TICK_COUNT = new CssMetaData<>( "-fx-minor-tick-count", SizeConverter.getInstance(), 3 )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Number> getStyleableProperty( final MultiThumbSlider styleable ) { return styleable.m_MinorTickCountProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final MultiThumbSlider styleable ) { return !styleable.m_MinorTickCountProperty.isBound(); }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @SuppressWarnings( "deprecation" )
+            @Override
+            public final void set( final MultiThumbSlider styleable, final Number value, final StyleOrigin origin )
+            {
+                super.set( styleable, value.intValue(), origin );
+            }   //  set()
+        };
+
+        /**
+         *  The CSS attribute for the {@code ORIENTATION}.
+         *
+         *  @see #orientationProperty()
+         */
+        public static final CssMetaData<MultiThumbSlider,Orientation> ORIENTATION = new CssMetaData<>( "-fx-orientation", new EnumConverter<>( Orientation.class ), HORIZONTAL )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final Orientation getInitialValue( final MultiThumbSlider styleable )
+            {
+                //---* A vertical slider should remain vertical *--------------
+                return styleable.getOrientation();
+            }   //  getInitialValue()
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Orientation> getStyleableProperty( final MultiThumbSlider styleable ) { return styleable.m_OrientationProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final MultiThumbSlider styleable ) { return !styleable.m_OrientationProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for {@code SHOW_TICK_LABELS}.
+         *
+         *  @see #showTickLabelsProperty()
+         */
+        public static final CssMetaData<MultiThumbSlider,Boolean> SHOW_TICK_LABELS = new CssMetaData<>( "-fx-show-tick-labels", BooleanConverter.getInstance(), FALSE )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Boolean> getStyleableProperty( final MultiThumbSlider styleable ) { return styleable.m_ShowTickLabelsProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final MultiThumbSlider styleable ) { return !styleable.m_ShowTickLabelsProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for {@code SHOW_TICK_MARKS}.
+         *
+         *  @see #showTickMarksProperty()
+         */
+        public static final CssMetaData<MultiThumbSlider,Boolean> SHOW_TICK_MARKS = new CssMetaData<>( "-fx-show-tick-marks", BooleanConverter.getInstance(), FALSE )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Boolean> getStyleableProperty( final MultiThumbSlider styleable ) { return styleable.m_ShowTickMarksProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final MultiThumbSlider styleable ) { return !styleable.m_ShowTickMarksProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for {@code SNAP_TO_TICKS}.
+         *
+         *  @see #snapToTicksProperty()
+         */
+        public static final CssMetaData<MultiThumbSlider,Boolean> SNAP_TO_TICKS = new CssMetaData<>( "-fx-snap-to-ticks", BooleanConverter.getInstance(), FALSE )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Boolean> getStyleableProperty( final MultiThumbSlider styleable ) { return styleable.m_SnapToTicksProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final MultiThumbSlider styleable ) { return !styleable.m_SnapToTicksProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for {@code TICK_RENDERER}.
+         *
+         *  @see #tickRendererProperty()
+         */
+        public static final CssMetaData<MultiThumbSlider,TickRenderer> TICK_RENDERER = new CssMetaData<>( "-fx-tick-renderer", new EnumConverter<>( TickRenderer.class ), TickRenderer.AXIS )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<TickRenderer> getStyleableProperty( final MultiThumbSlider styleable ) { return styleable.m_TickRendererProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final MultiThumbSlider styleable ) { return !styleable.m_TickRendererProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attributes for
+         *  {@link MultiThumbSlider}.
+         */
+        @SuppressWarnings( "StaticCollection" )
+        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES = List.of( BLOCK_INCREMENT, MAJOR_TICK_UNIT, MINOR_TICK_COUNT, ORIENTATION, SHOW_TICK_LABELS, SHOW_TICK_MARKS, SNAP_TO_TICKS, TICK_RENDERER );
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  No instance allowed for this class!
+         */
+        private StyleableProperties() { throw new PrivateConstructorForStaticClassCalledError( StyleableProperties.class ); }
+    }
+    //  class StyleableProperties
+
+    /**
+     *  <p>{@summary The listener for changes to the values of a
+     *  {@link MultiThumbSlider}.}</p>
+     *  <p>The listener is notified with the range of indexes that were
+     *  changed; the values themselves can be retrieved through
+     *  {@link MultiThumbSlider#getValue(int)}.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.4.7" )
+    @FunctionalInterface
+    public static interface ValuesChangeListener
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Called after values of the slider were changed.
+         *
+         *  @param  slider  The slider.
+         *  @param  sizeChanged {@code true} if the number of values has
+         *      changed, {@code false} otherwise.
+         *  @param  from    The index of the first changed value.
+         *  @param  to  The index after the last changed value.
+         */
+        public void valuesChanged( final MultiThumbSlider slider, final boolean sizeChanged, final int from, final int to );
+    }
+    //  interface ValuesChangeListener
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default style class for {@code MultiThumbSlider} instances:
+     *  {@value}.
+     */
+    public static final String DEFAULT_STYLE_CLASS = "multi-thumb-slider"; //$NON-NLS-1$
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The property for the amount by which to adjust a thumb with the
+     *  keyboard.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableDoubleProperty m_BlockIncrementProperty = new SimpleStyleableDoubleProperty( StyleableProperties.BLOCK_INCREMENT, this, "blockIncrement", 10.0 );
+
+    /**
+     *  The listeners for changes to the values.
+     */
+    private final List<ValuesChangeListener> m_Listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     *  The property for the unit distance between major tick marks.
+     */
+    @SuppressWarnings( {"AnonymousInnerClass"} )
+    private final StyleableDoubleProperty m_MajorTickUnitProperty = new SimpleStyleableDoubleProperty( StyleableProperties.MAJOR_TICK_UNIT, this, "majorTickUnit", 25.0 )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void invalidated()
+        {
+            if( get() <= 0 )
+            {
+                throw new IllegalArgumentException( "MajorTickUnit cannot be less than or equal to 0." );
+            }
+        }   //  invalidated()
+    };
+
+    /**
+     *  The property for the maximum value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final DoubleProperty m_MaxProperty = new SimpleDoubleProperty( this, "max", 100.0D )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            if( get() < getMin() && !m_MinProperty.isBound() ) setMin( get() );
+            adjustValues();
+        }   //  invalidated()
+    };
+
+    /**
+     *  The property for the number of minor ticks between two major ticks.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableIntegerProperty m_MinorTickCountProperty = new SimpleStyleableIntegerProperty( StyleableProperties.MINOR_TICK_COUNT, this, "minorTickCount", 3 );
+
+    /**
+     *  The property for the minimum value.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final DoubleProperty m_MinProperty = new SimpleDoubleProperty( this, "min", 0.0D )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            if( get() > getMax() && !m_MaxProperty.isBound() ) setMax( get() );
+            adjustValues();
+        }   //  invalidated()
+    };
+
+    /**
+     *  The property for the orientation.
+     */
+    @SuppressWarnings( {"AnonymousInnerClass"} )
+    private final StyleableObjectProperty<Orientation> m_OrientationProperty = new SimpleStyleableObjectProperty<>( StyleableProperties.ORIENTATION, this, "orientation", HORIZONTAL )
+    {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            final var vertical = (get() == VERTICAL);
+            pseudoClassStateChanged( VERTICAL_PSEUDOCLASS_STATE, vertical );
+            pseudoClassStateChanged( HORIZONTAL_PSEUDOCLASS_STATE, !vertical );
+        }   //  invalidated()
+    };
+
+    /**
+     *  The property for the flag that indicates whether the labels for the
+     *  tick marks are shown or not.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableBooleanProperty m_ShowTickLabelsProperty = new SimpleStyleableBooleanProperty( StyleableProperties.SHOW_TICK_LABELS, this, "showTickLabels", false );
+
+    /**
+     *  The property for the flag that indicates whether the tick marks are
+     *  shown or not.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableBooleanProperty m_ShowTickMarksProperty = new SimpleStyleableBooleanProperty( StyleableProperties.SHOW_TICK_MARKS, this, "showTickMarks", false );
+
+    /**
+     *  The property for the flag that controls whether the thumbs will snap to
+     *  the tick marks.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableBooleanProperty m_SnapToTicksProperty = new SimpleStyleableBooleanProperty( StyleableProperties.SNAP_TO_TICKS, this, "snapToTicks", false );
+
+    /**
+     *  The property for the tick label formatter.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ObjectProperty<StringConverter<Number>> m_TickLabelFormatterProperty = new SimpleObjectProperty<>( this, "labelFormatter" );
+
+    /**
+     *  The property for the implementation of the tick line.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableObjectProperty<TickRenderer> m_TickRendererProperty = new SimpleStyleableObjectProperty<>( StyleableProperties.TICK_RENDERER, this, "tickRenderer", TickRenderer.AXIS );
+
+    /**
+     *  The property that indicates that a value is currently changed by a
+     *  gesture.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final BooleanProperty m_ValueChangingProperty = new SimpleBooleanProperty( this, "valueChanging", false );
+
+    /**
+     *  The values, in ascending order.
+     */
+    private double [] m_Values = new double [0];
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The CSS pseudo class for the horizontal orientation.
+     */
+    private static final PseudoClass HORIZONTAL_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass( "horizontal" );
+
+    /**
+     *  The CSS pseudo class for the vertical orientation.
+     */
+    private static final PseudoClass VERTICAL_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass( "vertical" );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code MultiThumbSlider} instance with a range from 0.0
+     *  to 1.0, and without any thumb.
+     */
+    public MultiThumbSlider()
+    {
+        this( 0.0, 1.0 );
+    }   //  MultiThumbSlider()
+
+    /**
+     *  Creates a new, horizontal {@code MultiThumbSlider} instance.
+     *
+     *  @param  min The minimum value.
+     *  @param  max The maximum value.
+     *  @param  values  The initial values; they will be sorted and clamped
+     *      to the range between {@code min} and {@code max}. There will be
+     *      one thumb for each value.
+     */
+    public MultiThumbSlider( final double min, final double max, final double... values )
+    {
+        getStyleClass().setAll( DEFAULT_STYLE_CLASS );
+
+        setMax( max );
+        setMin( min );
+        setValues( values );
+    }   //  MultiThumbSlider()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adds a listener for changes to the values.
+     *
+     *  @param  listener    The listener.
+     */
+    public final void addValuesChangeListener( final ValuesChangeListener listener )
+    {
+        m_Listeners.add( requireNonNullArgument( listener, "listener" ) );
+    }   //  addValuesChangeListener()
+
+    /**
+     *  <p>{@summary Adjusts the value with the given index to match the given
+     *  value, or as closely as possible within the constraints imposed by the
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}
+     *  properties and by the neighbouring values.} This method also takes into
+     *  account the
+     *  {@link #snapToTicksProperty() snapToTicks}
+     *  flag, which is the main difference to
+     *  {@link #setValue(int, double) setValue()}.</p>
+     *
+     *  @param  index   The index of the value.
+     *  @param  value   The new value.
+     */
+    public final void adjustValue( final int index, final double value )
+    {
+        if( getMax() > getMin() ) setValue( index, snapValueToTicks( value ) );
+    }   //  adjustValue()
+
+    /**
+     *  Clamps all values to the range between
+     *  {@link #getMin() min}
+     *  and
+     *  {@link #getMax() max},
+     *  and notifies the listeners about the affected range.
+     */
+    private final void adjustValues()
+    {
+        var from = -1;
+        var to = -1;
+        for( var i = 0; i < m_Values.length; ++i )
+        {
+            final var value = clamp( getMin(), m_Values [i], getMax() );
+            if( value != m_Values [i] )
+            {
+                m_Values [i] = value;
+                if( from < 0 ) from = i;
+                to = i + 1;
+            }
+        }
+        if( from >= 0 ) fireValuesChanged( false, from, to );
+    }   //  adjustValues()
+
+    /**
+     *  Returns a reference to the property that holds the amount by which to
+     *  adjust a thumb with the keyboard.
+     *
+     *  @return The property reference.
+     */
+    public final DoubleProperty blockIncrementProperty() { return m_BlockIncrementProperty; }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Skin<?> createDefaultSkin()
+    {
+        final var retValue = new MultiThumbSliderSkin( this );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDefaultSkin()
+
+    /**
+     *  Decrements the value with the given index by the
+     *  {@linkplain #blockIncrementProperty() block increment}
+     *  amount.
+     *
+     *  @param  index   The index of the value.
+     */
+    public final void decrementValue( final int index ) { adjustValue( index, getValue( index ) - getBlockIncrement() ); }
+
+    /**
+     *  <p>{@summary Returns the index of the thumb that is nearest to the
+     *  given value.} If the value is exactly between two thumbs, the lower one
+     *  is returned; if two thumbs share the same value, the thumb that can
+     *  move towards the given value is returned.</p>
+     *  <p>The search is a binary search on the sorted values.</p>
+     *
+     *  @param  value   The value.
+     *  @return The index of the nearest thumb, or -1 if the slider does not
+     *      have any thumbs.
+     */
+    public final int findNearestThumb( final double value )
+    {
+        var retValue = -1;
+        final var length = m_Values.length;
+        if( length > 0 )
+        {
+            final var position = Arrays.binarySearch( m_Values, value );
+            if( position >= 0 )
+            {
+                retValue = position;
+            }
+            else
+            {
+                /*
+                 * The insertion point is the index of the first value that is
+                 * greater than the given one; we have to look at that and at
+                 * its predecessor.
+                 */
+                final var insertionPoint = -(position + 1);
+                if( insertionPoint == 0 )
+                {
+                    retValue = 0;
+                }
+                else if( insertionPoint == length )
+                {
+                    retValue = length - 1;
+                }
+                else
+                {
+                    final var lower = insertionPoint - 1;
+                    retValue = (value - m_Values [lower]) <= (m_Values [insertionPoint] - value) ? lower : insertionPoint;
+                }
+            }
+
+            /*
+             * Thumbs with the same value are stacked; if we move towards
+             * higher values, the last of them is the one that can move.
+             */
+            final var current = m_Values [retValue];
+            if( value > current )
+            {
+                while( (retValue < length - 1) && (m_Values [retValue + 1] == current) ) ++retValue;
+            }
+            else
+            {
+                while( (retValue > 0) && (m_Values [retValue - 1] == current) ) --retValue;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findNearestThumb()
+
+    /**
+     *  Notifies the listeners about a change to the values.
+     *
+     *  @param  sizeChanged {@code true} if the number of values has changed,
+     *      {@code false} otherwise.
+     *  @param  from    The index of the first changed value.
+     *  @param  to  The index after the last changed value.
+     */
+    private final void fireValuesChanged( final boolean sizeChanged, final int from, final int to )
+    {
+        for( final var listener : m_Listeners ) listener.valuesChanged( this, sizeChanged, from, to );
+    }   //  fireValuesChanged()
+
+    /**
+     *  Returns the amount by which to adjust a thumb with the keyboard.
+     *
+     *  @return The block increment.
+     */
+    public final double getBlockIncrement() { return m_BlockIncrementProperty.get(); }
+
+    /**
+     *  Returns the CSS metadata for this class.
+     *
+     *  @return The {@code CssMetaData} for this class.
+     */
+    @SuppressWarnings( "MethodOverridesStaticMethodOfSuperclass" )
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() { return StyleableProperties.STYLEABLES; }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final List<CssMetaData<? extends Styleable, ?>> getControlCssMetaData() { return getClassCssMetaData(); }
+
+    /**
+     *  Returns the tick label formatter.
+     *
+     *  @return The formatter.
+     */
+    public final StringConverter<Number> getLabelFormatter() { return m_TickLabelFormatterProperty.get(); }
+
+    /**
+     *  Returns the unit distance between major tick marks.
+     *
+     *  @return The unit distance.
+     */
+    public final double getMajorTickUnit() { return m_MajorTickUnitProperty.get(); }
+
+    /**
+     *  Returns the maximum value.
+     *
+     *  @return The maximum value.
+     */
+    public final double getMax() { return m_MaxProperty.get(); }
+
+    /**
+     *  Returns the minimum value.
+     *
+     *  @return The minimum value.
+     */
+    public final double getMin() { return m_MinProperty.get(); }
+
+    /**
+     *  Returns the number of minor ticks between two major ticks.
+     *
+     *  @return The number of minor ticks.
+     */
+    public final int getMinorTickCount() { return m_MinorTickCountProperty.get(); }
+
+    /**
+     *  Returns the orientation.
+     *
+     *  @return The orientation.
+     */
+    public final Orientation getOrientation() { return m_OrientationProperty.get(); }
+
+    /**
+     *  Returns the implementation of the tick line.
+     *
+     *  @return The tick renderer.
+     */
+    public final TickRenderer getTickRenderer() { return m_TickRendererProperty.get(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String getUserAgentStylesheet()
+    {
+        final var retValue = getUserAgentStylesheet( getClass(), "MultiThumbSlider.css" );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getUserAgentStylesheet()
+
+    /**
+     *  Returns the value with the given index.
+     *
+     *  @param  index   The index.
+     *  @return The value.
+     *  @throws IndexOutOfBoundsException   The index is out of range.
+     */
+    public final double getValue( final int index ) { return m_Values [checkIndex( index, m_Values.length )]; }
+
+    /**
+     *  Returns the number of values, that is also the number of thumbs.
+     *
+     *  @return The number of values.
+     */
+    public final int getValueCount() { return m_Values.length; }
+
+    /**
+     *  Returns a copy of the values.
+     *
+     *  @return The values, in ascending order.
+     */
+    public final double [] getValues() { return m_Values.clone(); }
+
+    /**
+     *  Increments the value with the given index by the
+     *  {@linkplain #blockIncrementProperty() block increment}
+     *  amount.
+     *
+     *  @param  index   The index of the value.
+     */
+    public final void incrementValue( final int index ) { adjustValue( index, getValue( index ) + getBlockIncrement() ); }
+
+    /**
+     *  Returns the flag that indicates whether the labels for the tick marks
+     *  are shown.
+     *
+     *  @return {@code true} if the labels are shown, {@code false} otherwise.
+     */
+    public final boolean isShowTickLabels() { return m_ShowTickLabelsProperty.get(); }
+
+    /**
+     *  Returns the flag that indicates whether the tick marks are shown.
+     *
+     *  @return {@code true} if the tick marks are shown, {@code false}
+     *      otherwise.
+     */
+    public final boolean isShowTickMarks() { return m_ShowTickMarksProperty.get(); }
+
+    /**
+     *  Returns the flag that indicates whether the thumbs are always aligned
+     *  with the tick marks.
+     *
+     *  @return {@code true} if the thumbs snap to the tick marks,
+     *      {@code false} otherwise.
+     */
+    public final boolean isSnapToTicks() { return m_SnapToTicksProperty.get(); }
+
+    /**
+     *  Returns the flag that indicates whether a value is currently changed
+     *  by a gesture.
+     *
+     *  @return {@code true} if a value is changing, {@code false} otherwise.
+     */
+    public final boolean isValueChanging() { return m_ValueChangingProperty.get(); }
+
+    /**
+     *  Returns a reference to the property for the tick label formatter.
+     *
+     *  @return The property reference.
+     */
+    public final ObjectProperty<StringConverter<Number>> labelFormatterProperty() { return m_TickLabelFormatterProperty; }
+
+    /**
+     *  Returns a reference to the property for the unit distance between
+     *  major tick marks.
+     *
+     *  @return The property reference.
+     */
+    public final DoubleProperty majorTickUnitProperty() { return m_MajorTickUnitProperty; }
+
+    /**
+     *  Returns a reference to the property for the maximum value.
+     *
+     *  @return The property reference.
+     */
+    public final DoubleProperty maxProperty() { return m_MaxProperty; }
+
+    /**
+     *  Returns a reference to the property for the number of minor ticks
+     *  between two major ticks.
+     *
+     *  @return The property reference.
+     */
+    public final IntegerProperty minorTickCountProperty() { return m_MinorTickCountProperty; }
+
+    /**
+     *  Returns a reference to the property for the minimum value.
+     *
+     *  @return The property reference.
+     */
+    public final DoubleProperty minProperty() { return m_MinProperty; }
+
+    /**
+     *  Returns a reference to the property for the orientation.
+     *
+     *  @return The property reference.
+     */
+    public final ObjectProperty<Orientation> orientationProperty() { return m_OrientationProperty; }
+
+    /**
+     *  Removes a listener for changes to the values.
+     *
+     *  @param  listener    The listener.
+     */
+    public final void removeValuesChangeListener( final ValuesChangeListener listener )
+    {
+        m_Listeners.remove( requireNonNullArgument( listener, "listener" ) );
+    }   //  removeValuesChangeListener()
+
+    /**
+     *  Sets the amount by which to adjust a thumb with the keyboard.
+     *
+     *  @param  value   The block increment.
+     */
+    public final void setBlockIncrement( final double value ) { m_BlockIncrementProperty.set( value ); }
+
+    /**
+     *  Sets the tick label formatter.
+     *
+     *  @param  formatter   The formatter.
+     */
+    public final void setLabelFormatter( final StringConverter<Number> formatter ) { m_TickLabelFormatterProperty.set( formatter ); }
+
+    /**
+     *  Sets the unit distance between major tick marks.
+     *
+     *  @param  tickUnit    The unit distance.
+     */
+    public final void setMajorTickUnit( final double tickUnit )
+    {
+        m_MajorTickUnitProperty.set( requireValidDoubleArgument( tickUnit, "tickUnit", value -> value > 0.0, _ -> "MajorTickUnit cannot be less than or equal to 0." ) );
+    }   //  setMajorTickUnit()
+
+    /**
+     *  Sets the maximum value.
+     *
+     *  @param  max The new value.
+     */
+    public final void setMax( final double max ) { m_MaxProperty.set( max ); }
+
+    /**
+     *  Sets the minimum value.
+     *
+     *  @param  min The new value.
+     */
+    public final void setMin( final double min ) { m_MinProperty.set( min ); }
+
+    /**
+     *  Sets the number of minor ticks between two major ticks.
+     *
+     *  @param  numberOfTicks   The number of minor ticks.
+     */
+    public final void setMinorTickCount( final int numberOfTicks ) { m_MinorTickCountProperty.set( numberOfTicks ); }
+
+    /**
+     *  Sets the orientation.
+     *
+     *  @param  orientation The orientation.
+     */
+    public final void setOrientation( final Orientation orientation ) { m_OrientationProperty.set( orientation ); }
+
+    /**
+     *  Sets the flag that indicates whether the labels for the tick marks are
+     *  shown.
+     *
+     *  @param  flag    {@code true} if the labels are shown, {@code false}
+     *      otherwise.
+     */
+    public final void setShowTickLabels( final boolean flag ) { m_ShowTickLabelsProperty.set( flag ); }
+
+    /**
+     *  Sets the flag that indicates whether the tick marks are shown.
+     *
+     *  @param  flag    {@code true} if the tick marks are shown,
+     *      {@code false} otherwise.
+     */
+    public final void setShowTickMarks( final boolean flag ) { m_ShowTickMarksProperty.set( flag ); }
+
+    /**
+     *  Sets the flag that indicates whether the thumbs are always aligned with
+     *  the tick marks.
+     *
+     *  @param  flag    {@code true} if the thumbs snap to the tick marks,
+     *      {@code false} otherwise.
+     */
+    public final void setSnapToTicks( final boolean flag ) { m_SnapToTicksProperty.set( flag ); }
+
+    /**
+     *  Sets the implementation of the tick line.
+     *
+     *  @param  renderer    The tick renderer.
+     */
+    public final void setTickRenderer( final TickRenderer renderer ) { m_TickRendererProperty.set( requireNonNullArgument( renderer, "renderer" ) ); }
+
+    /**
+     *  <p>{@summary Sets the value with the given index.} The value will be
+     *  clamped to the range between the neighbouring values, so that the
+     *  values remain in ascending order, and to the range between
+     *  {@link #getMin() min}
+     *  and
+     *  {@link #getMax() max}.</p>
+     *
+     *  @param  index   The index of the value.
+     *  @param  value   The new value.
+     *  @throws IndexOutOfBoundsException   The index is out of range.
+     */
+    public final void setValue( final int index, final double value )
+    {
+        checkIndex( index, m_Values.length );
+        final var lower = index > 0 ? m_Values [index - 1] : getMin();
+        final var upper = index < m_Values.length - 1 ? m_Values [index + 1] : getMax();
+        final var newValue = clamp( lower, value, upper );
+        if( newValue != m_Values [index] )
+        {
+            m_Values [index] = newValue;
+            fireValuesChanged( false, index, index + 1 );
+        }
+    }   //  setValue()
+
+    /**
+     *  Sets the flag that indicates whether a value is currently changed by a
+     *  gesture.
+     *
+     *  @param  flag    {@code true} if a value is changing, {@code false}
+     *      otherwise.
+     */
+    public final void setValueChanging( final boolean flag ) { m_ValueChangingProperty.set( flag ); }
+
+    /**
+     *  Replaces all values; there will be one thumb for each value. The values
+     *  will be sorted and clamped to the range between
+     *  {@link #getMin() min}
+     *  and
+     *  {@link #getMax() max}.
+     *
+     *  @param  values  The new values.
+     */
+    public final void setValues( final double... values )
+    {
+        final var newValues = requireNonNullArgument( values, "values" ).clone();
+        for( var i = 0; i < newValues.length; ++i )
+        {
+            newValues [i] = clamp( getMin(), requireValidDoubleArgument( newValues [i], "values", value -> !Double.isNaN( value ), _ -> "values contains NaN" ), getMax() );
+        }
+        Arrays.sort( newValues );
+        final var sizeChanged = newValues.length != m_Values.length;
+        m_Values = newValues;
+        fireValuesChanged( sizeChanged, 0, newValues.length );
+    }   //  setValues()
+
+    /**
+     *  Returns a reference to the property for the flag that indicates whether
+     *  the labels for the tick marks are shown.
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty showTickLabelsProperty() { return m_ShowTickLabelsProperty; }
+
+    /**
+     *  Returns a reference to the property for the flag that indicates whether
+     *  the tick marks are shown.
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty showTickMarksProperty() { return m_ShowTickMarksProperty; }
+
+    /**
+     *  Returns a reference to the property for the flag that indicates whether
+     *  the thumbs are always aligned with the tick marks. This is honored even
+     *  if the tick marks are not shown.
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty snapToTicksProperty() { return m_SnapToTicksProperty; }
+
+    /**
+     *  Aligns the given value with the nearest tick mark value, if
+     *  {@link #snapToTicksProperty() snapToTicks}
+     *  is set; otherwise, the value is only clamped to the range between
+     *  {@link #getMin() min}
+     *  and
+     *  {@link #getMax() max}.
+     *
+     *  @param  value   The value.
+     *  @return The adjusted value.
+     */
+    public final double snapValueToTicks( final double value )
+    {
+        final var retValue = isSnapToTicks()
+            ? ControlUtils.snapValueToTicks( value, getMin(), getMax(), getMajorTickUnit(), getMinorTickCount() )
+            : clamp( getMin(), value, getMax() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapValueToTicks()
+
+    /**
+     *  Returns a reference to the property for the implementation of the tick
+     *  line.
+     *
+     *  @return The property reference.
+     *
+     *  @see RangeSlider#tickRendererProperty()
+     */
+    public final ObjectProperty<TickRenderer> tickRendererProperty() { return m_TickRendererProperty; }
+
+    /**
+     *  Returns a reference to the property that indicates that a value is
+     *  currently changed by a gesture, for example by dragging a thumb.
+     *
+     *  @return The property reference.
+     */
+    public final BooleanProperty valueChangingProperty() { return m_ValueChangingProperty; }
+}
+//  class MultiThumbSlider
+
+/*
+ *  End of File
+ */
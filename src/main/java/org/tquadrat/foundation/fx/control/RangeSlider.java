@@ -20,30 +20,45 @@ package org.tquadrat.foundation.fx.control;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Double.max;
 import static java.lang.Double.min;
+import static javafx.beans.binding.Bindings.createDoubleBinding;
 import static javafx.geometry.Orientation.HORIZONTAL;
 import static javafx.geometry.Orientation.VERTICAL;
+import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.fx.FXUtils.clamp;
-import static org.tquadrat.foundation.fx.FXUtils.nearest;
 import static org.tquadrat.foundation.fx.control.RangeSlider.StyleableProperties.BLOCK_INCREMENT;
 import static org.tquadrat.foundation.fx.control.RangeSlider.StyleableProperties.ORIENTATION;
 import static org.tquadrat.foundation.fx.control.RangeSlider.StyleableProperties.SHOW_TICK_LABELS;
 import static org.tquadrat.foundation.fx.control.RangeSlider.StyleableProperties.SHOW_TICK_MARKS;
 import static org.tquadrat.foundation.fx.control.RangeSlider.StyleableProperties.SNAP_TO_TICKS;
+import static org.tquadrat.foundation.fx.control.RangeSlider.StyleableProperties.TICK_RENDERER;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireValidDoubleArgument;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.UtilityClass;
 import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.fx.control.impl.HistogramLayer;
 import org.tquadrat.foundation.fx.control.skin.RangeSliderSkin;
+import org.tquadrat.foundation.fx.internal.ControlUtils;
 import org.tquadrat.foundation.fx.internal.FoundationFXControl;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoublePropertyBase;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -148,6 +163,150 @@ public final class RangeSlider extends FoundationFXControl
         /*---------------*\
     ====** Inner Classes **====================================================
         \*---------------*/
+    /**
+     *  <p>{@summary The read-only property for one of the committed
+     *  values.}</p>
+     *  <p>Different from
+     *  {@link ReadOnlyDoubleWrapper},
+     *  storing a new value and notifying the listeners are two separate
+     *  steps; this allows to store both committed values first, before the
+     *  listeners for any of them are notified. So a listener always sees a
+     *  consistent pair.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private final class CommittedValueProperty extends ReadOnlyDoublePropertyBase
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The flag that indicates whether the value was changed since the
+         *  last notification.
+         */
+        private boolean m_Changed = false;
+
+        /**
+         *  The name of the property.
+         */
+        private final String m_Name;
+
+        /**
+         *  The value.
+         */
+        private double m_Value;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code CommittedValueProperty}.
+         *
+         *  @param  name    The name of the property.
+         *  @param  initialValue    The initial value.
+         */
+        public CommittedValueProperty( final String name, final double initialValue )
+        {
+            m_Name = requireNonNullArgument( name, "name" );
+            m_Value = initialValue;
+        }   //  CommittedValueProperty()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Notifies the listeners, if the value was changed since the last
+         *  call to this method.
+         */
+        public final void fireIfChanged()
+        {
+            if( m_Changed )
+            {
+                m_Changed = false;
+                fireValueChangedEvent();
+            }
+        }   //  fireIfChanged()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final double get() { return m_Value; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Object getBean() { return RangeSlider.this; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String getName() { return m_Name; }
+
+        /**
+         *  Stores a new value without notifying the listeners; this is done
+         *  by
+         *  {@link #fireIfChanged()}.
+         *
+         *  @param  value   The new value.
+         */
+        public final void store( final double value )
+        {
+            if( Double.compare( m_Value, value ) != 0 )
+            {
+                m_Value = value;
+                m_Changed = true;
+            }
+        }   //  store()
+    }
+    //  class CommittedValueProperty
+
+    /**
+     *  <p>{@summary The implementations for the tick line of a
+     *  {@code RangeSlider}.}</p>
+     *  <p>The tick renderer can be set with the CSS property
+     *  {@code -fx-tick-renderer}, using the values {@code axis} or
+     *  {@code canvas}.</p>
+     *
+     *  @see RangeSlider#tickRendererProperty()
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.4.7" )
+    public static enum TickRenderer
+    {
+            /*------------------*\
+        ====** Enum Declaration **=============================================
+            \*------------------*/
+        /**
+         *  The tick line is a
+         *  {@link javafx.scene.chart.NumberAxis};
+         *  each tick mark and each label is a separate node. This is the
+         *  default.
+         */
+        AXIS,
+
+        /**
+         *  The tick marks and labels are drawn into a single
+         *  {@link javafx.scene.canvas.Canvas}
+         *  that is repainted only when the range, the tick unit or the size
+         *  has changed. This is recommended when there are many tick marks.
+         */
+        CANVAS
+    }
+    //  enum TickRenderer
+
     /**
      *  The styleable properties for
      *  {@link RangeSlider}.
@@ -334,12 +493,32 @@ public final class RangeSlider extends FoundationFXControl
             public final boolean isSettable( final RangeSlider styleable ) { return !styleable.m_SnapToTicksProperty.isBound(); }
         };
 
+        /**
+         *  The CSS attribute for {@code TICK_RENDERER}.
+         *
+         *  @see #tickRendererProperty()
+         */
+        public static final CssMetaData<RangeSlider,TickRenderer> TICK_RENDERER = new CssMetaData<>( "-fx-tick-renderer", new EnumConverter<>( TickRenderer.class ), TickRenderer.AXIS )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<TickRenderer> getStyleableProperty( final RangeSlider styleable ) { return styleable.m_TickRendererProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final RangeSlider styleable ) { return !styleable.m_TickRendererProperty.isBound(); }
+        };
+
         /**
          *  The CSS attributes for
          *  {@link RangeSlider}.
          */
         @SuppressWarnings( "StaticCollection" )
-        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES = List.of( BLOCK_INCREMENT, MAJOR_TICK_UNIT, MINOR_TICK_COUNT, ORIENTATION, SHOW_TICK_LABELS, SHOW_TICK_MARKS, SNAP_TO_TICKS );
+        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES = List.of( BLOCK_INCREMENT, MAJOR_TICK_UNIT, MINOR_TICK_COUNT, ORIENTATION, SHOW_TICK_LABELS, SHOW_TICK_MARKS, SNAP_TO_TICKS, TICK_RENDERER );
 
             /*--------------*\
         ====** Constructors **=================================================
@@ -351,6 +530,197 @@ public final class RangeSlider extends FoundationFXControl
     }
     //  class StyleableProperties
 
+    /**
+     *  <p>{@summary The implementation for the properties that hold the
+     *  values of a
+     *  {@link RangeSlider}.}</p>
+     *  <p>While a
+     *  {@linkplain RangeSlider#update(double, double, double, double) bulk update}
+     *  is in progress, the adjustment of the other values is suppressed, and
+     *  the notification of the listeners is postponed until all values are
+     *  set.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private final class ValueProperty extends SimpleDoubleProperty
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The adjustment that is executed when the value was changed.
+         */
+        private final Runnable m_Adjustment;
+
+        /**
+         *  The flag that indicates that a notification of the listeners was
+         *  postponed.
+         */
+        private boolean m_NotificationPending = false;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code ValueProperty}.
+         *
+         *  @param  name    The name of the property.
+         *  @param  initialValue    The initial value.
+         *  @param  adjustment  The adjustment that is executed when the value
+         *      was changed.
+         */
+        public ValueProperty( final String name, final double initialValue, final Runnable adjustment )
+        {
+            super( RangeSlider.this, name, initialValue );
+            m_Adjustment = adjustment;
+        }   //  ValueProperty()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Notifies the listeners if the notification was postponed.
+         */
+        public final void firePendingNotification()
+        {
+            if( m_NotificationPending )
+            {
+                m_NotificationPending = false;
+                super.fireValueChangedEvent();
+            }
+        }   //  firePendingNotification()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void fireValueChangedEvent()
+        {
+            if( m_NotificationsPostponed )
+            {
+                m_NotificationPending = true;
+            }
+            else
+            {
+                super.fireValueChangedEvent();
+            }
+        }   //  fireValueChangedEvent()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            if( !m_NotificationsPostponed ) m_Adjustment.run();
+        }   //  invalidated()
+    }
+    //  class ValueProperty
+
+    /**
+     *  <p>{@summary The visible window of a
+     *  {@link RangeSlider}.}</p>
+     *  <p>Instances are immutable; the slider publishes a new instance each
+     *  time the window is zoomed or panned, so both bounds always change
+     *  together.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @see RangeSlider#visibleWindowProperty()
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.4.7" )
+    public static final class VisibleWindow
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The upper bound.
+         */
+        private final double m_Max;
+
+        /**
+         *  The lower bound.
+         */
+        private final double m_Min;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code VisibleWindow}.
+         *
+         *  @param  min The lower bound.
+         *  @param  max The upper bound.
+         */
+        private VisibleWindow( final double min, final double max )
+        {
+            m_Min = min;
+            m_Max = max;
+        }   //  VisibleWindow()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean equals( final Object o )
+        {
+            var retValue = this == o;
+            if( !retValue && (o instanceof final VisibleWindow other) )
+            {
+                retValue = (Double.compare( m_Min, other.m_Min ) == 0) && (Double.compare( m_Max, other.m_Max ) == 0);
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  equals()
+
+        /**
+         *  Returns the upper bound of the visible window.
+         *
+         *  @return The upper bound.
+         */
+        public final double getMax() { return m_Max; }
+
+        /**
+         *  Returns the lower bound of the visible window.
+         *
+         *  @return The lower bound.
+         */
+        public final double getMin() { return m_Min; }
+
+        /**
+         *  Returns the size of the visible window.
+         *
+         *  @return The difference between the upper and the lower bound.
+         */
+        public final double getSpan() { return m_Max - m_Min; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings( "MagicNumber" )
+        public final int hashCode() { return (Double.hashCode( m_Min ) * 31) + Double.hashCode( m_Max ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String toString() { return "[%s, %s]".formatted( m_Min, m_Max ); }
+    }
+    //  class VisibleWindow
+
         /*-----------*\
     ====** Constants **========================================================
         \*-----------*/
@@ -359,6 +729,19 @@ public final class RangeSlider extends FoundationFXControl
      */
     public static final String DEFAULT_STYLE_CLASS = "range-slider"; //$NON-NLS-1$
 
+    /**
+     *  The smallest fraction of the range between
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}
+     *  that can be shown when the slider is
+     *  {@linkplain #zoom(double, double) zoomed}: {@value}.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public static final double MIN_VISIBLE_FRACTION = 1.0E-9;
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
@@ -369,12 +752,62 @@ public final class RangeSlider extends FoundationFXControl
     @SuppressWarnings( "ThisEscapedInObjectConstruction" )
     private final StyleableDoubleProperty m_BlockIncrementProperty = new SimpleStyleableDoubleProperty( BLOCK_INCREMENT, this, "blockIncrement", 10.0 );
 
+    /**
+     *  <p>{@summary The property for the flag that controls whether the
+     *  values set by a drag gesture are coalesced.} When set, the skin buffers
+     *  the positions from the mouse events and applies them at most once per
+     *  pulse; the final position is applied when the gesture ends.</p>
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final BooleanProperty m_CoalesceDragUpdatesProperty = new SimpleBooleanProperty( this, "coalesceDragUpdates", false );
+
+    /**
+     *  The property for the supplier of the samples for the histogram that
+     *  is shown behind the track.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ObjectProperty<Supplier<DoubleStream>> m_HistogramSamplesProperty = new SimpleObjectProperty<>( this, "histogramSamples" );
+
+    /**
+     *  The flag that indicates that the commit of the values is postponed
+     *  until both changing flags are reset.
+     *
+     *  @see #setValuesChanging(boolean)
+     */
+    private boolean m_CommitPostponed = false;
+
+    /**
+     *  The property for the committed high value.
+     *
+     *  @see #committedHighValueProperty()
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final CommittedValueProperty m_CommittedHighValueProperty = new CommittedValueProperty( "committedHighValue", 100.0D );
+
+    /**
+     *  The property for the committed low value.
+     *
+     *  @see #committedLowValueProperty()
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final CommittedValueProperty m_CommittedLowValueProperty = new CommittedValueProperty( "committedLowValue", 0.0D );
+
     /**
      *  <p>{@summary The property that indicates a change to the high value of
      *  this {@code RangeSlider}.}</p>
      */
-    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
-    private final BooleanProperty m_HighValueChangingProperty = new SimpleBooleanProperty(this, "highValueChanging", false);
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final BooleanProperty m_HighValueChangingProperty = new SimpleBooleanProperty(this, "highValueChanging", false)
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            if( !get() && !m_CommitPostponed ) commitValues();
+        }   //  invalidated()
+    };
 
     /**
      *  <p>{@summary The high value property.} It represents the current
@@ -385,23 +818,26 @@ public final class RangeSlider extends FoundationFXControl
      *  {@link #maxProperty() max}
      *  properties. By default, this value is 100.</p>
      */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ValueProperty m_HighValueProperty = new ValueProperty( "highValue", 100.0D, this::adjustHighValues );
+
+    /**
+     * <p>{@summary The property that indicates a change to the low value of
+     * this {@code RangeSlider}.}</p>
+     */
     @SuppressWarnings( "AnonymousInnerClass" )
-    private final DoubleProperty m_HighValueProperty = new SimpleDoubleProperty( this, "highValue", 100.0D )
+    private final BooleanProperty m_LowValueChangingProperty = new SimpleBooleanProperty( this, "lowValueChanging", false )
     {
         /**
          *  {@inheritDoc}
          */
         @Override
-        protected final void invalidated() { adjustHighValues(); }
+        protected final void invalidated()
+        {
+            if( !get() && !m_CommitPostponed ) commitValues();
+        }   //  invalidated()
     };
 
-    /**
-     * <p>{@summary The property that indicates a change to the low value of
-     * this {@code RangeSlider}.}</p>
-     */
-    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
-    private final BooleanProperty m_LowValueChangingProperty = new SimpleBooleanProperty( this, "lowValueChanging", false );
-
     /**
      *  <p>{@summary The low value property.} It represents the current
      *  position of the low value thumb, and is within the allowable range as
@@ -411,15 +847,8 @@ public final class RangeSlider extends FoundationFXControl
      *  {@link #maxProperty() max}
      *  properties. By default, this value is 0.</p>
      */
-    @SuppressWarnings( "AnonymousInnerClass" )
-    private final DoubleProperty m_LowValueProperty = new SimpleDoubleProperty(this, "lowValue", 0.0D)
-    {
-        /**
-         *  {@inheritDoc}
-         */
-        @Override
-        protected final void invalidated() { adjustLowValues(); }
-    };
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ValueProperty m_LowValueProperty = new ValueProperty( "lowValue", 0.0D, this::adjustLowValues );
 
     /**
      *  The property for the unit distance between major tick marks.
@@ -443,19 +872,8 @@ public final class RangeSlider extends FoundationFXControl
     /**
      *  The property for the maximum value of this {@code RangeSlider}.
      */
-    @SuppressWarnings( "AnonymousInnerClass" )
-    private final DoubleProperty m_MaxProperty = new SimpleDoubleProperty(this, "max", 100.0D )
-    {
-        /**
-         *  {@inheritDoc}
-         */
-        @Override
-        protected final void invalidated()
-        {
-            if( get() < getMin() && !m_MinProperty.isBound() ) setMin( get() );
-            adjustValues();
-        }   //  invalidated()
-    };
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ValueProperty m_MaxProperty = new ValueProperty( "max", 100.0D, this::adjustToMax );
 
     /**
      *  The property for the number of minor ticks to place between any two
@@ -467,19 +885,16 @@ public final class RangeSlider extends FoundationFXControl
     /**
      *  The property for the maximum value of this {@code RangeSlider}.
      */
-    @SuppressWarnings( "AnonymousInnerClass" )
-    private final DoubleProperty m_MinProperty = new SimpleDoubleProperty( this, "min", 0.0D )
-    {
-        /**
-         *  {@inheritDoc}
-         */
-        @Override
-        protected final void invalidated()
-        {
-            if( get() > getMax() && !m_MaxProperty.isBound() ) setMax( get() );
-            adjustValues();
-        }   //  invalidated()
-    };
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ValueProperty m_MinProperty = new ValueProperty( "min", 0.0D, this::adjustToMin );
+
+    /**
+     *  The flag that indicates that the notification of the listeners for the
+     *  values is postponed until a bulk update has set all values.
+     *
+     *  @see #update(double, double, double, double)
+     */
+    private boolean m_NotificationsPostponed = false;
 
     /**
      *  The property that holds the orientation of this {@code RangeSlider}.
@@ -514,6 +929,12 @@ public final class RangeSlider extends FoundationFXControl
     @SuppressWarnings( "ThisEscapedInObjectConstruction" )
     private final StyleableBooleanProperty m_ShowTickMarksProperty = new SimpleStyleableBooleanProperty( SHOW_TICK_MARKS, this, "showTickMarks", false );
 
+    /**
+     *  The property for the stops the thumbs will snap to.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ReadOnlyObjectWrapper<double []> m_SnapValuesProperty = new ReadOnlyObjectWrapper<>( this, "snapValues" );
+
     /**
      *  The property for the flag that controls whether the thumbs will snap to
      *  the tick marks.
@@ -527,6 +948,54 @@ public final class RangeSlider extends FoundationFXControl
     @SuppressWarnings( "ThisEscapedInObjectConstruction" )
     private final ObjectProperty<StringConverter<Number>> m_TickLabelFormatterProperty = new SimpleObjectProperty<>( this, "labelFormatter" );
 
+    /**
+     *  The property for the implementation of the tick line.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableObjectProperty<TickRenderer> m_TickRendererProperty = new SimpleStyleableObjectProperty<>( TICK_RENDERER, this, "tickRenderer", TickRenderer.AXIS );
+
+    /**
+     *  The flag that indicates that a bulk update is in progress.
+     *
+     *  @see #update(double, double, double, double)
+     */
+    private boolean m_Updating = false;
+
+    /**
+     *  The property for the upper bound of the visible window; it is bound
+     *  to the
+     *  {@linkplain #m_VisibleWindowProperty visible window}.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ReadOnlyDoubleWrapper m_VisibleMaxProperty = new ReadOnlyDoubleWrapper( this, "visibleMax" );
+
+    /**
+     *  The property for the lower bound of the visible window; it is bound
+     *  to the
+     *  {@linkplain #m_VisibleWindowProperty visible window}.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ReadOnlyDoubleWrapper m_VisibleMinProperty = new ReadOnlyDoubleWrapper( this, "visibleMin" );
+
+    /**
+     *  The property for the visible window.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ReadOnlyObjectWrapper<VisibleWindow> m_VisibleWindowProperty = new ReadOnlyObjectWrapper<>( this, "visibleWindow", new VisibleWindow( 0.0, 100.0 ) );
+
+    /**
+     *  The property for the flag that controls whether the user can zoom and
+     *  pan the visible window.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final BooleanProperty m_ZoomableProperty = new SimpleBooleanProperty( this, "zoomable", false );
+
+    /**
+     *  The flag that indicates that the visible window is smaller than the
+     *  range between min and max.
+     */
+    private boolean m_Zoomed = false;
+
         /*------------------------*\
     ====** Static Initialisations **===========================================
         \*------------------------*/
@@ -572,11 +1041,35 @@ public final class RangeSlider extends FoundationFXControl
     {
         getStyleClass().setAll( DEFAULT_STYLE_CLASS );
 
-        setMax( max );
-        setMin( min );
-        adjustValues();
-        setLowValue( lowValue );
-        setHighValue( highValue );
+        /*
+         * Outside a gesture, each new value is committed immediately; during
+         * a gesture, the value is committed when the respective changing flag
+         * is reset. A bulk update commits both values once, after all
+         * listeners for the values were notified.
+         */
+        m_LowValueProperty.addListener( $ ->
+        {
+            if( !isUpdating() ) commitValues();
+        } );
+        m_HighValueProperty.addListener( $ ->
+        {
+            if( !isUpdating() ) commitValues();
+        } );
+
+        /*
+         * The bounds of the visible window are derived from the window
+         * itself; they are evaluated lazily, so a listener for one of them
+         * always sees the other one already updated.
+         */
+        m_VisibleMinProperty.bind( createDoubleBinding( () -> getVisibleWindow().getMin(), m_VisibleWindowProperty ) );
+        m_VisibleMaxProperty.bind( createDoubleBinding( () -> getVisibleWindow().getMax(), m_VisibleWindowProperty ) );
+
+        //---* The visible window follows min and max *------------------------
+        m_MinProperty.addListener( $ -> adjustVisibleRange() );
+        m_MaxProperty.addListener( $ -> adjustVisibleRange() );
+
+        update( min, max, lowValue, highValue );
+        resetZoom();
     }   //  RangeSlider()
 
         /*---------*\
@@ -591,7 +1084,8 @@ public final class RangeSlider extends FoundationFXControl
      *  and
      *  {@link #maxProperty() max}
      *  properties.} This method also takes into account the
-     *  {@link #snapToTicksProperty() snapToTicks} flag, which is the main
+     *  {@link #snapToTicksProperty() snapToTicks} flag and the
+     *  {@linkplain #snapValuesProperty() snap values}, which is the main
      *  difference between {@code adjustHighValue()} and
      *  {@link #setHighValue(double) setHighValue()}.</p>
      *
@@ -635,7 +1129,9 @@ public final class RangeSlider extends FoundationFXControl
      *  {@link #maxProperty() max}
      *  properties.} This method also takes into account the
      *  {@link #snapToTicksProperty() snapToTicks}
-     *  flag, which is the main difference between {@code adjustLowValue()} and
+     *  flag and the
+     *  {@linkplain #snapValuesProperty() snap values}, which is the main
+     *  difference between {@code adjustLowValue()} and
      *  {@link #setLowValue(double) setLowValue()}.</p>
      *
      *  @param  newLow  The new value.
@@ -680,6 +1176,24 @@ public final class RangeSlider extends FoundationFXControl
         }
     }   //  adjustLowValues()
 
+    /**
+     *  Adjusts the minimum and the values after the maximum was changed.
+     */
+    private final void adjustToMax()
+    {
+        if( getMax() < getMin() && !m_MinProperty.isBound() ) setMin( getMax() );
+        adjustValues();
+    }   //  adjustToMax()
+
+    /**
+     *  Adjusts the maximum and the values after the minimum was changed.
+     */
+    private final void adjustToMin()
+    {
+        if( getMin() > getMax() && !m_MaxProperty.isBound() ) setMax( getMin() );
+        adjustValues();
+    }   //  adjustToMin()
+
     /**
      *  Ensures that {@code min} is always &lt;&nbsp;{@code max}, that the
      *  current {@code value} is always somewhere between the two, and that if
@@ -692,6 +1206,27 @@ public final class RangeSlider extends FoundationFXControl
         adjustHighValues();
     }   //  adjustValues()
 
+    /**
+     *  Adjusts the visible window after
+     *  {@link #minProperty() min}
+     *  or
+     *  {@link #maxProperty() max}
+     *  was changed. If the slider is not zoomed, the window covers the whole
+     *  range; otherwise it is moved into the new range, and it is reset if it
+     *  does not fit anymore.
+     */
+    private final void adjustVisibleRange()
+    {
+        if( m_Zoomed )
+        {
+            setVisibleRange( getVisibleMin(), getVisibleMax() );
+        }
+        else
+        {
+            resetZoom();
+        }
+    }   //  adjustVisibleRange()
+
     /**
      *  <p>{@summary Returns a reference to the property that holds the amount
      *  by which to adjust the slider if the track of the slider is
@@ -703,7 +1238,91 @@ public final class RangeSlider extends FoundationFXControl
      *
      *  @return The property reference.
      */
-    public final DoubleProperty blockIncrementProperty() { return m_BlockIncrementProperty; }
+    public final DoubleProperty blockIncrementProperty() { return m_BlockIncrementProperty; }
+
+    /**
+     *  <p>{@summary Returns a reference to the property for the flag that
+     *  controls whether the values set by a drag gesture are coalesced.}</p>
+     *  <p>By default, each mouse event of a drag on a thumb or the range bar
+     *  is written to the
+     *  {@linkplain #lowValueProperty() low value}
+     *  and the
+     *  {@linkplain #highValueProperty() high value}
+     *  immediately. High-rate pointing devices may deliver several events per
+     *  frame, and each of them is propagated to all listeners. If this flag is
+     *  set, the skin buffers the positions and applies only the latest of them
+     *  once per pulse; when the gesture ends, the position of the last mouse
+     *  event is applied before the
+     *  {@linkplain #lowValueChangingProperty() lowValueChanging}
+     *  and
+     *  {@linkplain #highValueChangingProperty() highValueChanging}
+     *  flags are reset, so the final values are exact.</p>
+     *  <p>The default is {@code false}.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final BooleanProperty coalesceDragUpdatesProperty() { return m_CoalesceDragUpdatesProperty; }
+
+    /**
+     *  Commits the current
+     *  {@linkplain #lowValueProperty() low value}
+     *  and
+     *  {@linkplain #highValueProperty() high value},
+     *  unless the respective value is
+     *  {@linkplain #lowValueChangingProperty() changing}.
+     *  Both values are stored before any listener is notified, so that no
+     *  listener will see a new low value together with an outdated high
+     *  value, or vice versa.
+     */
+    private final void commitValues()
+    {
+        if( !isLowValueChanging() ) m_CommittedLowValueProperty.store( getLowValue() );
+        if( !isHighValueChanging() ) m_CommittedHighValueProperty.store( getHighValue() );
+        m_CommittedLowValueProperty.fireIfChanged();
+        m_CommittedHighValueProperty.fireIfChanged();
+    }   //  commitValues()
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the
+     *  committed high value.}</p>
+     *  <p>The committed high value follows the
+     *  {@linkplain #highValueProperty() high value},
+     *  but while the high value is
+     *  {@linkplain #highValueChangingProperty() changing}
+     *  &ndash; during a drag with the mouse, or while an arrow key is held
+     *  down &ndash; it keeps the value it had when the gesture started; it is
+     *  updated once, when the gesture ends. Expensive work that depends on the
+     *  selected range should listen to this property instead of the high
+     *  value itself.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyDoubleProperty committedHighValueProperty() { return m_CommittedHighValueProperty; }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the
+     *  committed low value.}</p>
+     *  <p>The committed low value follows the
+     *  {@linkplain #lowValueProperty() low value},
+     *  but while the low value is
+     *  {@linkplain #lowValueChangingProperty() changing}
+     *  it keeps the value it had when the gesture started; it is updated once,
+     *  when the gesture ends.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @see #committedHighValueProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyDoubleProperty committedLowValueProperty() { return m_CommittedLowValueProperty; }
 
     /**
      * {@inheritDoc}
@@ -757,6 +1376,30 @@ public final class RangeSlider extends FoundationFXControl
     @SuppressWarnings( "MethodOverridesStaticMethodOfSuperclass" )
     public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() { return StyleableProperties.STYLEABLES; }
 
+    /**
+     *  Returns the committed high value.
+     *
+     *  @return The committed high value.
+     *
+     *  @see #committedHighValueProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final double getCommittedHighValue() { return m_CommittedHighValueProperty.get(); }
+
+    /**
+     *  Returns the committed low value.
+     *
+     *  @return The committed low value.
+     *
+     *  @see #committedLowValueProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final double getCommittedLowValue() { return m_CommittedLowValueProperty.get(); }
+
     /**
      * {@inheritDoc}
      */
@@ -770,6 +1413,18 @@ public final class RangeSlider extends FoundationFXControl
      */
     public final double getHighValue() { return m_HighValueProperty.get(); }
 
+    /**
+     *  Returns the supplier for the samples of the histogram.
+     *
+     *  @return The supplier; {@code null} if no histogram is shown.
+     *
+     *  @see #histogramSamplesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final Supplier<DoubleStream> getHistogramSamples() { return m_HistogramSamplesProperty.get(); }
+
     /**
      *  Returns the tick label formatter.
      *
@@ -830,6 +1485,38 @@ public final class RangeSlider extends FoundationFXControl
      */
     public final Orientation getOrientation() { return m_OrientationProperty.get(); }
 
+    /**
+     *  Returns a copy of the stops the thumbs will snap to.
+     *
+     *  @return The stops, sorted in ascending order; {@code null} if the
+     *      thumbs do not snap to arbitrary values.
+     *
+     *  @see #snapValuesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final double [] getSnapValues()
+    {
+        final var snapValues = m_SnapValuesProperty.get();
+        final var retValue = isNull( snapValues ) ? null : snapValues.clone();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getSnapValues()
+
+    /**
+     *  Returns the implementation of the tick line.
+     *
+     *  @return The tick renderer.
+     *
+     *  @see #tickRendererProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final TickRenderer getTickRenderer() { return m_TickRendererProperty.get(); }
+
     /**
      * {@inheritDoc}
      */
@@ -868,6 +1555,34 @@ public final class RangeSlider extends FoundationFXControl
      */
     public final DoubleProperty highValueProperty() { return m_HighValueProperty; }
 
+    /**
+     *  <p>{@summary The property for the supplier of the samples for the
+     *  histogram that is shown behind the track.} If the supplier is not
+     *  {@code null}, the skin shows the distribution of the samples between
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}
+     *  as a histogram with one bar per pixel; samples outside that range are
+     *  ignored.</p>
+     *  <p>The supplier is called each time the supplier is set and when a new
+     *  skin is installed; the stream that it returns is consumed as a
+     *  parallel stream on the common
+     *  {@link java.util.concurrent.ForkJoinPool},
+     *  not on the JavaFX application thread, and the samples are sorted
+     *  there. Changes to the bounds or to the size of the slider do not
+     *  require another pass over the samples, so even large data sets with
+     *  tens of millions of samples are no problem.</p>
+     *  <p>The default is {@code null}.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @see #setHistogramSamples(double...)
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ObjectProperty<Supplier<DoubleStream>> histogramSamplesProperty() { return m_HistogramSamplesProperty; }
+
     /**
      *  Increments the
      *  {@linkplain #highValueProperty() high value}
@@ -886,6 +1601,20 @@ public final class RangeSlider extends FoundationFXControl
      */
     public final void incrementLowValue() { adjustLowValue( getLowValue() + getBlockIncrement() ); }
 
+    /**
+     *  Returns the flag that controls whether the values set by a drag
+     *  gesture are coalesced.
+     *
+     *  @return {@code true} if drag updates are applied at most once per
+     *      pulse, {@code false} if each mouse event is applied immediately.
+     *
+     *  @see #coalesceDragUpdatesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final boolean isCoalesceDragUpdates() { return m_CoalesceDragUpdatesProperty.get(); }
+
     /**
      *  Returns whether the high value of this {@code RangeSlider} is currently
      *  changing.
@@ -932,6 +1661,22 @@ public final class RangeSlider extends FoundationFXControl
      */
     public final boolean isSnapToTicks() { return m_SnapToTicksProperty.get(); }
 
+    /**
+     *  <p>{@summary Indicates whether a bulk update is in progress.} This is
+     *  the case while
+     *  {@link #update(double, double, double, double) update()}
+     *  notifies the listeners for the changed values; a listener can use this
+     *  to skip work that is done anyway after the update, like a layout
+     *  request.</p>
+     *
+     *  @return {@code true} if a bulk update is in progress, {@code false}
+     *      otherwise.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final boolean isUpdating() { return m_Updating; }
+
     /**
      *  <p>{@summary Returns a reference to the property that holds the
      *  {@link StringConverter}
@@ -1036,6 +1781,58 @@ public final class RangeSlider extends FoundationFXControl
      */
     public final void setBlockIncrement( final double value) { m_BlockIncrementProperty.set( value ); }
 
+    /**
+     *  Sets the flag that controls whether the values set by a drag gesture
+     *  are coalesced.
+     *
+     *  @param  flag    {@code true} if drag updates are applied at most once
+     *      per pulse, {@code false} if each mouse event is applied
+     *      immediately.
+     *
+     *  @see #coalesceDragUpdatesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setCoalesceDragUpdates( final boolean flag ) { m_CoalesceDragUpdatesProperty.set( flag ); }
+
+    /**
+     *  Sets the samples for the histogram that is shown behind the track. The
+     *  array is copied; it can be modified after the call without affecting
+     *  the histogram.
+     *
+     *  @param  samples The samples; {@code null} removes the histogram.
+     *
+     *  @see #histogramSamplesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setHistogramSamples( final double... samples )
+    {
+        if( isNull( samples ) )
+        {
+            m_HistogramSamplesProperty.set( null );
+        }
+        else
+        {
+            m_HistogramSamplesProperty.set( HistogramLayer.sampleArray( samples ) );
+        }
+    }   //  setHistogramSamples()
+
+    /**
+     *  Sets the supplier for the samples of the histogram that is shown
+     *  behind the track.
+     *
+     *  @param  supplier    The supplier; {@code null} removes the histogram.
+     *
+     *  @see #histogramSamplesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setHistogramSamples( final Supplier<DoubleStream> supplier ) { m_HistogramSamplesProperty.set( supplier ); }
+
     /**
      *  Call this when high value is changing.
      *
@@ -1094,6 +1891,37 @@ public final class RangeSlider extends FoundationFXControl
      */
     public final void setLowValueChanging( final boolean flag ) { m_LowValueChangingProperty.set( flag ); }
 
+    /**
+     *  <p>{@summary Sets the
+     *  {@linkplain #lowValueChangingProperty() lowValueChanging}
+     *  and the
+     *  {@linkplain #highValueChangingProperty() highValueChanging}
+     *  flags at once.} This is used for gestures that move both values, like
+     *  a drag of the range bar: when both flags are reset, the
+     *  {@linkplain #committedLowValueProperty() committed values}
+     *  are published as one pair.</p>
+     *
+     *  @param  flag    {@code true} if both values are changing,
+     *      {@code false} otherwise.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setValuesChanging( final boolean flag )
+    {
+        m_CommitPostponed = true;
+        try
+        {
+            setLowValueChanging( flag );
+            setHighValueChanging( flag );
+        }
+        finally
+        {
+            m_CommitPostponed = false;
+        }
+        commitValues();
+    }   //  setValuesChanging()
+
     /**
      *  Sets the unit distance between major tick marks.
      *
@@ -1148,6 +1976,39 @@ public final class RangeSlider extends FoundationFXControl
      */
     public final void setSnapToTicks( final boolean flag ) { m_SnapToTicksProperty.set( flag ); }
 
+    /**
+     *  <p>{@summary Sets the stops the thumbs will snap to.} The values are
+     *  copied and sorted, and
+     *  {@link Double#NaN NaN}
+     *  values are dropped; the given array can be modified after the call
+     *  without affecting the slider. The stops can be replaced at any
+     *  time.</p>
+     *  <p>The current low and high values are not changed by this call.</p>
+     *
+     *  @param  values  The stops; {@code null} or an empty array switches
+     *      back to the snapping to the tick marks.
+     *
+     *  @see #snapValuesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setSnapValues( final double... values )
+    {
+        if( isNull( values ) || (values.length == 0) )
+        {
+            m_SnapValuesProperty.set( null );
+        }
+        else
+        {
+            final var stops = Arrays.stream( values )
+                .filter( value -> !Double.isNaN( value ) )
+                .sorted()
+                .toArray();
+            m_SnapValuesProperty.set( stops.length == 0 ? null : stops );
+        }
+    }   //  setSnapValues()
+
     /**
      *  Sets whether labels of tick marks should be shown or not.
      *
@@ -1164,6 +2025,18 @@ public final class RangeSlider extends FoundationFXControl
      */
     public final void setShowTickMarks( final boolean flag ) { m_ShowTickMarksProperty.set( flag ); }
 
+    /**
+     *  Sets the implementation of the tick line.
+     *
+     *  @param  renderer    The tick renderer.
+     *
+     *  @see #tickRendererProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setTickRenderer( final TickRenderer renderer ) { m_TickRendererProperty.set( requireNonNullArgument( renderer, "renderer" ) ); }
+
     /**
      *  <p>{@summary Returns a reference to the property that holds the flag
      *  that indicates that the labels for tick marks should be shown.}</p>
@@ -1199,36 +2072,448 @@ public final class RangeSlider extends FoundationFXControl
     public final BooleanProperty snapToTicksProperty() { return m_SnapToTicksProperty; }
 
     /**
-     *  Aligns the given value with the nearest tick mark value.
+     *  <p>{@summary Returns the property for the stops the thumbs will snap
+     *  to.} The stops are data driven values, like quantiles, price points or
+     *  build numbers, that need not be evenly spaced; they are kept in a
+     *  sorted array, and the nearest stop is determined with a binary search,
+     *  so even tens of thousands of stops are no problem.</p>
+     *  <p>If the stops are set, they take precedence over the tick marks:
+     *  {@link #adjustLowValue(double)},
+     *  {@link #adjustHighValue(double)}
+     *  and the keyboard navigation move the thumbs to the nearest (or the
+     *  next) stop between
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max},
+     *  and a dragged thumb jumps from stop to stop, regardless of the
+     *  {@linkplain #snapToTicksProperty() snapToTicks}
+     *  flag. A tick line that is drawn by the
+     *  {@linkplain TickRenderer#CANVAS canvas renderer}
+     *  marks the stops as far as they can be distinguished on the
+     *  screen.</p>
+     *  <p>The array that is held by the property must not be modified; use
+     *  {@link #setSnapValues(double...)}
+     *  to replace the stops.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyObjectProperty<double []> snapValuesProperty() { return m_SnapValuesProperty.getReadOnlyProperty(); }
+
+    /**
+     *  Aligns the given value with the nearest
+     *  {@linkplain #snapValuesProperty() stop},
+     *  or the nearest tick mark value.
      *
      *  @param  value   The value.
      *  @return The adjusted value.
      */
     private final double snapValueToTicks( final double value)
     {
-        var d1 = value;
-        if( isSnapToTicks() )
+        final var snapValues = m_SnapValuesProperty.get();
+        final var retValue = nonNull( snapValues )
+            ? ControlUtils.snapValueToStops( value, snapValues, getMin(), getMax() )
+            : isSnapToTicks()
+                ? ControlUtils.snapValueToTicks( value, getMin(), getMax(), getMajorTickUnit(), getMinorTickCount() )
+                : clamp( getMin(), value, getMax() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapValueToTicks()
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the
+     *  implementation of the tick line.} The default is
+     *  {@link TickRenderer#AXIS};
+     *  {@link TickRenderer#CANVAS}
+     *  is much cheaper when there are many tick marks, like for a
+     *  {@link TimeSlider}
+     *  with a fine granularity. The property can be set with the CSS
+     *  property {@code -fx-tick-renderer}.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ObjectProperty<TickRenderer> tickRendererProperty() { return m_TickRendererProperty; }
+
+    /**
+     *  <p>{@summary Sets the bounds and the selected range of this
+     *  {@code RangeSlider} at once.}</p>
+     *  <p>The new values are validated and clamped together before any of
+     *  them is published: if {@code max} is less than {@code min}, it is
+     *  raised to {@code min}, the low value is clamped to the new bounds, and
+     *  the high value is clamped to the range between the new low value and
+     *  the new maximum. Like
+     *  {@link #setLowValue(double) setLowValue()}
+     *  and
+     *  {@link #setHighValue(double) setHighValue()},
+     *  this method does not snap the values to the tick marks.</p>
+     *  <p>Bound properties keep their current values, and the other values
+     *  are fitted around them: when the high value is bound, the low value
+     *  is clamped to the range between the new minimum and the bound high
+     *  value. A bound low or high value that is outside the new bounds, or
+     *  a bound low value that is greater than a bound high value, cannot be
+     *  reconciled; then an
+     *  {@link IllegalArgumentException}
+     *  is thrown, and none of the values is changed.</p>
+     *  <p>The listeners are notified after all values are set, so they will
+     *  see a consistent state; each listener is notified at most once per
+     *  property, in the order min, max, low value, high value. While they are
+     *  notified,
+     *  {@link #isUpdating()}
+     *  returns {@code true}. Finally, at most one layout is requested.</p>
+     *
+     *  @param  min The new minimum value.
+     *  @param  max The new maximum value.
+     *  @param  low The new low value.
+     *  @param  high    The new high value.
+     *  @throws IllegalArgumentException    One of the values is
+     *      {@link Double#NaN},
+     *      or a bound value cannot be reconciled with the new bounds.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void update( final double min, final double max, final double low, final double high ) throws IllegalArgumentException
+    {
+        final var newMin = m_MinProperty.isBound() ? getMin() : requireValidDoubleArgument( min, "min", value -> !Double.isNaN( value ), _ -> "min is NaN" );
+        var newMax = m_MaxProperty.isBound() ? getMax() : requireValidDoubleArgument( max, "max", value -> !Double.isNaN( value ), _ -> "max is NaN" );
+        if( (newMax < newMin) && !m_MaxProperty.isBound() ) newMax = newMin;
+
+        //---* Bound values are fixed; they have to fit into the new bounds *--
+        final var lowBound = m_LowValueProperty.isBound();
+        final var highBound = m_HighValueProperty.isBound();
+        if( lowBound && ((getLowValue() < newMin) || (getLowValue() > newMax)) )
+        {
+            throw new IllegalArgumentException( "Bound low value %f is outside [%f, %f]".formatted( getLowValue(), newMin, newMax ) );
+        }
+        if( highBound && ((getHighValue() < newMin) || (getHighValue() > newMax)) )
         {
-            final double d2;
-            if( getMinorTickCount() != 0 )
+            throw new IllegalArgumentException( "Bound high value %f is outside [%f, %f]".formatted( getHighValue(), newMin, newMax ) );
+        }
+        if( lowBound && highBound && (getLowValue() > getHighValue()) )
+        {
+            throw new IllegalArgumentException( "Bound low value %f is greater than bound high value %f".formatted( getLowValue(), getHighValue() ) );
+        }
+
+        final var newLow = lowBound ? getLowValue() : clamp( newMin, requireValidDoubleArgument( low, "low", value -> !Double.isNaN( value ), _ -> "low is NaN" ), highBound ? min( newMax, getHighValue() ) : newMax );
+        final var newHigh = highBound ? getHighValue() : clamp( min( newLow, newMax ), requireValidDoubleArgument( high, "high", value -> !Double.isNaN( value ), _ -> "high is NaN" ), newMax );
+
+        final var values = List.of( m_MinProperty, m_MaxProperty, m_LowValueProperty, m_HighValueProperty );
+        final var oldMin = getMin();
+        final var oldMax = getMax();
+        final var oldLow = getLowValue();
+        final var oldHigh = getHighValue();
+
+        m_Updating = true;
+        try
+        {
+            //---* Publish the new state silently *----------------------------
+            m_NotificationsPostponed = true;
+            try
             {
-                d2 = getMajorTickUnit() / (double) (Integer.max( getMinorTickCount(), 0 ) + 1 );
+                if( !m_MinProperty.isBound() ) m_MinProperty.set( newMin );
+                if( !m_MaxProperty.isBound() ) m_MaxProperty.set( newMax );
+                if( !m_LowValueProperty.isBound() ) m_LowValueProperty.set( newLow );
+                if( !m_HighValueProperty.isBound() ) m_HighValueProperty.set( newHigh );
             }
-            else
+            finally
             {
-                d2 = getMajorTickUnit();
+                m_NotificationsPostponed = false;
             }
-            @SuppressWarnings( {"NumericCastThatLosesPrecision"} )
-            final var i = (int) ((d1 - getMin()) / d2);
-            final var d3 = (double) i * d2 + getMin();
-            final var d4 = (double) (i + 1) * d2 + getMin();
-            d1 = nearest( d3, d1, d4 );
+
+            //---* Notify the listeners *--------------------------------------
+            values.forEach( ValueProperty::firePendingNotification );
+        }
+        finally
+        {
+            m_Updating = false;
         }
-        final var retValue = clamp( getMin(), d1, getMax() );
+        commitValues();
 
-        //---* Done *----------------------------------------------------------
-        return retValue;
-    }   //  snapValueToTicks()
+        if( (oldMin != getMin()) || (oldMax != getMax()) || (oldLow != getLowValue()) || (oldHigh != getHighValue()) )
+        {
+            requestLayout();
+        }
+    }   //  update()
+
+    /**
+     *  <p>{@summary Returns the upper bound of the visible window.} Unless
+     *  the slider is
+     *  {@linkplain #zoom(double, double) zoomed},
+     *  this is the same as
+     *  {@link #getMax() max}.</p>
+     *
+     *  @return The upper bound of the visible window.
+     *
+     *  @see #visibleMaxProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final double getVisibleMax() { return m_VisibleMaxProperty.get(); }
+
+    /**
+     *  <p>{@summary Returns the lower bound of the visible window.} Unless
+     *  the slider is
+     *  {@linkplain #zoom(double, double) zoomed},
+     *  this is the same as
+     *  {@link #getMin() min}.</p>
+     *
+     *  @return The lower bound of the visible window.
+     *
+     *  @see #visibleMinProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final double getVisibleMin() { return m_VisibleMinProperty.get(); }
+
+    /**
+     *  Returns the visible window.
+     *
+     *  @return The visible window.
+     *
+     *  @see #visibleWindowProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final VisibleWindow getVisibleWindow() { return m_VisibleWindowProperty.get(); }
+
+    /**
+     *  Returns the flag that controls whether the user can zoom and pan the
+     *  visible window.
+     *
+     *  @return {@code true} if the visible window can be zoomed and panned
+     *      with the mouse, {@code false} otherwise.
+     *
+     *  @see #zoomableProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final boolean isZoomable() { return m_ZoomableProperty.get(); }
+
+    /**
+     *  Checks whether the visible window is smaller than the range between
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}.
+     *
+     *  @return {@code true} if the slider is zoomed, {@code false} if the
+     *      whole range is visible.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final boolean isZoomed() { return m_Zoomed; }
+
+    /**
+     *  Moves the visible window by the given distance, without changing its
+     *  size; the window will not be moved beyond
+     *  {@link #minProperty() min}
+     *  or
+     *  {@link #maxProperty() max}.
+     *
+     *  @param  delta   The distance, in the unit of the values; a positive
+     *      value moves the window towards {@code max}.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void pan( final double delta )
+    {
+        if( m_Zoomed ) setVisibleRange( getVisibleMin() + delta, getVisibleMax() + delta );
+    }   //  pan()
+
+    /**
+     *  Resets the visible window so that it covers the whole range between
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void resetZoom()
+    {
+        m_Zoomed = false;
+        m_VisibleWindowProperty.set( new VisibleWindow( getMin(), getMax() ) );
+    }   //  resetZoom()
+
+    /**
+     *  Sets the flag that controls whether the user can zoom and pan the
+     *  visible window.
+     *
+     *  @param  flag    {@code true} if the visible window can be zoomed and
+     *      panned with the mouse, {@code false} otherwise.
+     *
+     *  @see #zoomableProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setZoomable( final boolean flag ) { m_ZoomableProperty.set( flag ); }
+
+    /**
+     *  <p>{@summary Sets the visible window.} The size of the window is
+     *  preserved as far as possible: a window that extends beyond
+     *  {@link #minProperty() min}
+     *  or
+     *  {@link #maxProperty() max}
+     *  is moved back into the range, a window that is larger than the range
+     *  shows the whole range, and a window smaller than
+     *  {@value #MIN_VISIBLE_FRACTION}
+     *  of the range is enlarged around its centre.</p>
+     *  <p>The selection is not affected by the visible window.</p>
+     *
+     *  @param  from    The lower bound of the window.
+     *  @param  to  The upper bound of the window.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setVisibleRange( final double from, final double to )
+    {
+        requireValidDoubleArgument( from, "from", value -> !Double.isNaN( value ), _ -> "from is NaN" );
+        requireValidDoubleArgument( to, "to", value -> !Double.isNaN( value ), _ -> "to is NaN" );
+
+        final var min = getMin();
+        final var max = getMax();
+        final var range = max - min;
+        var span = to - from;
+        if( span >= range )
+        {
+            resetZoom();
+        }
+        else
+        {
+            var start = from;
+            final var minSpan = range * MIN_VISIBLE_FRACTION;
+            if( span < minSpan )
+            {
+                start = ((from + to) / 2.0) - (minSpan / 2.0);
+                span = minSpan;
+            }
+            start = clamp( min, start, max - span );
+            m_Zoomed = true;
+            m_VisibleWindowProperty.set( new VisibleWindow( start, start + span ) );
+        }
+    }   //  setVisibleRange()
+
+    /**
+     *  <p>{@summary Returns the property for the upper bound of the visible
+     *  window.} Unless the slider is
+     *  {@linkplain #zoom(double, double) zoomed},
+     *  this is the same as
+     *  {@link #maxProperty() max}.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyDoubleProperty visibleMaxProperty() { return m_VisibleMaxProperty.getReadOnlyProperty(); }
+
+    /**
+     *  <p>{@summary Returns the property for the lower bound of the visible
+     *  window.} Unless the slider is
+     *  {@linkplain #zoom(double, double) zoomed},
+     *  this is the same as
+     *  {@link #minProperty() min}.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyDoubleProperty visibleMinProperty() { return m_VisibleMinProperty.getReadOnlyProperty(); }
+
+    /**
+     *  <p>{@summary Returns the property for the visible window.} Unless the
+     *  slider is
+     *  {@linkplain #zoom(double, double) zoomed},
+     *  the window covers the whole range between
+     *  {@link #minProperty() min}
+     *  and
+     *  {@link #maxProperty() max}.</p>
+     *  <p>Each zoom or pan step sets a new window with both bounds at once,
+     *  so a listener for this property is notified exactly once per change,
+     *  and never sees a window where only one bound was updated. Use this
+     *  property instead of
+     *  {@link #visibleMinProperty()}
+     *  and
+     *  {@link #visibleMaxProperty()}
+     *  if both bounds are needed.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyObjectProperty<VisibleWindow> visibleWindowProperty() { return m_VisibleWindowProperty.getReadOnlyProperty(); }
+
+    /**
+     *  Zooms the visible window around the given anchor value; the anchor
+     *  keeps its position on the track.
+     *
+     *  @param  factor  The factor for the size of the window; a value less
+     *      than 1.0 zooms in, a value greater than 1.0 zooms out.
+     *  @param  anchor  The anchor value.
+     *
+     *  @see #setVisibleRange(double, double)
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void zoom( final double factor, final double anchor )
+    {
+        requireValidDoubleArgument( factor, "factor", value -> value > 0.0, _ -> "factor must be greater than 0" );
+
+        final var visibleMin = getVisibleMin();
+        final var span = getVisibleMax() - visibleMin;
+        if( span > 0.0 )
+        {
+            final var ratio = clamp( 0.0, (anchor - visibleMin) / span, 1.0 );
+            final var newSpan = span * factor;
+            final var newMin = anchor - (ratio * newSpan);
+            setVisibleRange( newMin, newMin + newSpan );
+        }
+    }   //  zoom()
+
+    /**
+     *  <p>{@summary Returns the property for the flag that controls whether
+     *  the user can zoom and pan the visible window.} When set, the mouse
+     *  wheel zooms the window around the position of the mouse pointer, and
+     *  dragging with the shortcut modifier (Ctrl, or Cmd on macOS) held down
+     *  pans it.</p>
+     *  <p>The skin maps only the visible window to the track, and the tick
+     *  marks are adapted to the zoom level, so that even on a huge range, a
+     *  precise selection is possible; the
+     *  {@linkplain #lowValueProperty() low}
+     *  and
+     *  {@linkplain #highValueProperty() high}
+     *  values remain in the coordinates of the whole range. The window can
+     *  also be changed by the program, using
+     *  {@link #zoom(double, double)},
+     *  {@link #pan(double)},
+     *  {@link #setVisibleRange(double, double)}
+     *  and
+     *  {@link #resetZoom()},
+     *  regardless of this flag.</p>
+     *  <p>The default is {@code false}.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final BooleanProperty zoomableProperty() { return m_ZoomableProperty; }
 }
 //  class RangeSlider
 
@@ -22,36 +22,52 @@ import static java.util.Locale.ROOT;
 import static javafx.beans.binding.Bindings.createObjectBinding;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
 import static org.tquadrat.foundation.fx.control.RangeSlider.StyleableProperties.SNAP_TO_TICKS;
 import static org.tquadrat.foundation.fx.control.TimeSlider.StyleableProperties.GRANULARITY;
+import static org.tquadrat.foundation.fx.control.TimeSlider.StyleableProperties.STEP;
 import static org.tquadrat.foundation.fx.control.TimeSlider.StyleableProperties.TIME_ZONE;
 import static org.tquadrat.foundation.lang.Objects.mapFromNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.OffsetTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.UtilityClass;
 import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.fx.control.impl.IntervalList;
 import org.tquadrat.foundation.fx.control.skin.TimeSliderSkin;
 import org.tquadrat.foundation.fx.css.TimeZoneConverter;
 import org.tquadrat.foundation.fx.internal.FoundationFXControl;
+import org.tquadrat.foundation.fx.internal.ZoneCache;
 import org.tquadrat.foundation.lang.Objects;
+import javafx.animation.AnimationTimer;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectPropertyBase;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.value.ChangeListener;
-import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
 import javafx.css.CssMetaData;
 import javafx.css.ParsedValue;
 import javafx.css.SimpleStyleableBooleanProperty;
@@ -69,8 +85,12 @@ import javafx.scene.text.Font;
  *  <p>{@summary A {@code TimeSlider} is basically a
  *  {@link RangeSlider}
  *  for the input of times and durations.}</p>
- *  <p>In fact, this implementation wraps a {@code RangeSlider} instance that
- *  is configured in a special way.</p>
+ *  <p>It looks like a {@code RangeSlider}, but its skin renders the track,
+ *  the thumbs and the range bar directly from the epoch seconds for the
+ *  selected times, without an inner {@code RangeSlider} control.</p>
+ *  <p>In playback mode, the window between the low and the high value
+ *  slides forward at a multiple of real time; see
+ *  {@link #play()}.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: TimeSlider.java 1121 2024-03-16 16:51:23Z tquadrat $
@@ -87,8 +107,114 @@ public final class TimeSlider extends FoundationFXControl
     ====** Inner Classes **====================================================
         \*---------------*/
     /**
-     *  The granularity for the
-     *  {@link TimeSlider}.
+     *  <p>{@summary The read-only property for one of the committed
+     *  values.}</p>
+     *  <p>Different from
+     *  {@link ReadOnlyObjectWrapper},
+     *  storing a new value and notifying the listeners are two separate
+     *  steps; this allows to store both committed values first, before the
+     *  listeners for any of them are notified. So a listener always sees a
+     *  consistent pair.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private final class CommittedValueProperty extends ReadOnlyObjectPropertyBase<OffsetTime>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The flag that indicates whether the value was changed since the
+         *  last notification.
+         */
+        private boolean m_Changed = false;
+
+        /**
+         *  The name of the property.
+         */
+        private final String m_Name;
+
+        /**
+         *  The value.
+         */
+        private OffsetTime m_Value;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code CommittedValueProperty}.
+         *
+         *  @param  name    The name of the property.
+         */
+        public CommittedValueProperty( final String name )
+        {
+            m_Name = requireNonNullArgument( name, "name" );
+        }   //  CommittedValueProperty()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Notifies the listeners, if the value was changed since the last
+         *  call to this method.
+         */
+        public final void fireIfChanged()
+        {
+            if( m_Changed )
+            {
+                m_Changed = false;
+                fireValueChangedEvent();
+            }
+        }   //  fireIfChanged()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final OffsetTime get() { return m_Value; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Object getBean() { return TimeSlider.this; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String getName() { return m_Name; }
+
+        /**
+         *  Stores a new value without notifying the listeners; this is done
+         *  by
+         *  {@link #fireIfChanged()}.
+         *
+         *  @param  value   The new value.
+         */
+        public final void store( final OffsetTime value )
+        {
+            if( !Objects.equals( m_Value, value ) )
+            {
+                m_Value = value;
+                m_Changed = true;
+            }
+        }   //  store()
+    }
+    //  class CommittedValueProperty
+
+    /**
+     *  The predefined granularities for the
+     *  {@link TimeSlider};
+     *  any other step size can be set through
+     *  {@link TimeSlider#setStep(Duration)}.
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
      *  @version $Id: TimeSlider.java 1121 2024-03-16 16:51:23Z tquadrat $
@@ -140,6 +266,11 @@ public final class TimeSlider extends FoundationFXControl
             /*------------*\
         ====** Attributes **===================================================
             \*------------*/
+        /**
+         *  The step size for this granularity.
+         */
+        private final Duration m_Duration;
+
         /**
          *  The minor tick count for this granularity.
          */
@@ -156,11 +287,24 @@ public final class TimeSlider extends FoundationFXControl
         private Granularity( final int tickCount )
         {
             m_MinorTickCount = tickCount;
+            m_Duration = Duration.ofMinutes( 60L / (Integer.max( tickCount, 0 ) + 1) );
         }   //  Granularity()
 
             /*---------*\
         ====** Methods **======================================================
             \*---------*/
+        /**
+         *  Returns the step size for this granularity, for example 15 minutes
+         *  for
+         *  {@link #QUARTER_HOUR}.
+         *
+         *  @return The step size.
+         *
+         *  @since 0.4.7
+         */
+        @API( status = STABLE, since = "0.4.7" )
+        public final Duration getDuration() { return m_Duration; }
+
         /**
          *  Returns the minor tick count for this granularity.
          *
@@ -223,7 +367,271 @@ public final class TimeSlider extends FoundationFXControl
         @Override
         public final String toString() { return "GranularityConverter";  }
     }
-    //  class TimeZoneConverter
+    //  class GranularityConverter
+
+    /**
+     *  <p>{@summary An implementation of
+     *  {@link javafx.css.StyleConverter}
+     *  for the step.} It converts the String from the CSS to the
+     *  {@link Duration}
+     *  for the
+     *  {@linkplain TimeSlider#stepProperty() step}.</p>
+     *  <p>The value is either the name of a
+     *  {@link Granularity}
+     *  (like &quot;{@code quarter_hour}&quot;), an ISO&nbsp;8601 duration
+     *  (like &quot;{@code PT90S}&quot;), or a number with one of the units
+     *  &quot;{@code s}&quot;, &quot;{@code min}&quot; or
+     *  &quot;{@code h}&quot; (like &quot;{@code 5s}&quot; or
+     *  &quot;{@code 7.5min}&quot;). The result must be a positive number of
+     *  full seconds; for an invalid value, the step for
+     *  {@link Granularity#QUARTER_HOUR}
+     *  is returned.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    static final class StepConverter extends StyleConverter<String,Duration>
+    {
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code StepConverter}.
+         */
+        public StepConverter() { /* Just exists */ }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Duration convert( final ParsedValue<String,Duration> value, final Font font )
+        {
+            Duration retValue;
+            try
+            {
+                retValue = parse( ((String) value.getValue()).strip() );
+            }
+            catch( final IllegalArgumentException | ArithmeticException | DateTimeParseException ignored )
+            {
+                retValue = Granularity.QUARTER_HOUR.getDuration();
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  convert()
+
+        /**
+         *  Parses the given text to a step size.
+         *
+         *  @param  text    The text.
+         *  @return The step size.
+         *  @throws IllegalArgumentException    The text is not a valid step
+         *      size.
+         *  @throws ArithmeticException The step size is not a whole number of
+         *      seconds.
+         *  @throws DateTimeParseException  The text is not a valid ISO 8601
+         *      duration.
+         */
+        @SuppressWarnings( "MagicNumber" )
+        static final Duration parse( final String text ) throws IllegalArgumentException, ArithmeticException, DateTimeParseException
+        {
+            final var upperCase = text.toUpperCase( ROOT );
+            Duration retValue;
+            try
+            {
+                retValue = Granularity.valueOf( upperCase ).getDuration();
+            }
+            catch( final IllegalArgumentException ignored )
+            {
+                /*
+                 * Not the name of a granularity; the text is either an ISO
+                 * 8601 duration or a number with a unit.
+                 */
+                if( upperCase.startsWith( "P" ) )
+                {
+                    retValue = Duration.parse( upperCase );
+                }
+                else if( upperCase.endsWith( "MIN" ) )
+                {
+                    retValue = Duration.ofSeconds( new BigDecimal( upperCase.substring( 0, upperCase.length() - 3 ) ).multiply( BigDecimal.valueOf( 60L ) ).longValueExact() );
+                }
+                else if( upperCase.endsWith( "H" ) )
+                {
+                    retValue = Duration.ofSeconds( new BigDecimal( upperCase.substring( 0, upperCase.length() - 1 ) ).multiply( BigDecimal.valueOf( 3_600L ) ).longValueExact() );
+                }
+                else if( upperCase.endsWith( "S" ) )
+                {
+                    retValue = Duration.ofSeconds( new BigDecimal( upperCase.substring( 0, upperCase.length() - 1 ) ).longValueExact() );
+                }
+                else
+                {
+                    throw new IllegalArgumentException( "Invalid step: %s".formatted( text ) );
+                }
+            }
+            if( retValue.isNegative() || retValue.isZero() || (retValue.getNano() != 0) )
+            {
+                throw new IllegalArgumentException( "Invalid step: %s".formatted( text ) );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  parse()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String toString() { return "StepConverter";  }
+    }
+    //  class StepConverter
+
+    /**
+     *  <p>{@summary A time interval on the day of a
+     *  {@link TimeSlider},
+     *  either a selected interval in
+     *  {@linkplain TimeSlider#multiIntervalProperty() multi-interval mode}
+     *  or a
+     *  {@linkplain TimeSlider#getBlockedPeriods() blocked period}.}
+     *  The start is inclusive, the end is exclusive.</p>
+     *  <p>Instances of this class are immutable.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.4.7" )
+    public static final class Interval
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The end of the interval, in seconds since the start of the epoch
+         *  (exclusive).
+         */
+        private final long m_End;
+
+        /**
+         *  The start of the interval, in seconds since the start of the
+         *  epoch (inclusive).
+         */
+        private final long m_Start;
+
+        /**
+         *  The time zone.
+         */
+        private final ZoneId m_TimeZone;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Interval}.
+         *
+         *  @param  start   The start of the interval, in seconds since the
+         *      start of the epoch (inclusive).
+         *  @param  end The end of the interval, in seconds since the start of
+         *      the epoch (exclusive).
+         *  @param  timeZone    The time zone.
+         */
+        private Interval( final long start, final long end, final ZoneId timeZone )
+        {
+            m_Start = start;
+            m_End = end;
+            m_TimeZone = timeZone;
+        }   //  Interval()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Checks whether this interval contains the given point in time.
+         *
+         *  @param  epochSecond The point in time, in seconds since the start
+         *      of the epoch.
+         *  @return {@code true} if the point in time is within this
+         *      interval, {@code false} otherwise.
+         */
+        public final boolean contains( final long epochSecond ) { return (m_Start <= epochSecond) && (epochSecond < m_End); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean equals( final Object o )
+        {
+            var retValue = this == o;
+            if( !retValue && (o instanceof final Interval other) )
+            {
+                retValue = (m_Start == other.m_Start) && (m_End == other.m_End) && m_TimeZone.equals( other.m_TimeZone );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  equals()
+
+        /**
+         *  Returns the duration of this interval.
+         *
+         *  @return The duration.
+         */
+        public final Duration getDuration() { return Duration.ofSeconds( m_End - m_Start ); }
+
+        /**
+         *  Returns the end of this interval (exclusive).
+         *
+         *  @return The end.
+         */
+        public final ZonedDateTime getEnd() { return Instant.ofEpochSecond( m_End ).atZone( m_TimeZone ); }
+
+        /**
+         *  Returns the end of this interval (exclusive) in seconds since the
+         *  start of the epoch.
+         *
+         *  @return The end.
+         */
+        public final long getEndEpochSecond() { return m_End; }
+
+        /**
+         *  Returns the start of this interval (inclusive).
+         *
+         *  @return The start.
+         */
+        public final ZonedDateTime getStart() { return Instant.ofEpochSecond( m_Start ).atZone( m_TimeZone ); }
+
+        /**
+         *  Returns the start of this interval (inclusive) in seconds since
+         *  the start of the epoch.
+         *
+         *  @return The start.
+         */
+        public final long getStartEpochSecond() { return m_Start; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings( "MagicNumber" )
+        public final int hashCode() { return (((Long.hashCode( m_Start ) * 31) + Long.hashCode( m_End )) * 31) + m_TimeZone.hashCode(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String toString() { return "[%s, %s)".formatted( getStart(), getEnd() ); }
+    }
+    //  class Interval
 
     /**
      *  The styleable properties for
@@ -282,6 +690,29 @@ public final class TimeSlider extends FoundationFXControl
             public final boolean isSettable( final TimeSlider styleable ) { return !styleable.m_SnapToTicksProperty.isBound(); }
         };
 
+        /**
+         *  The CSS attribute for {@code STEP}.
+         *
+         *  @see #stepProperty()
+         *
+         *  @since 0.4.7
+         */
+        @API( status = STABLE, since = "0.4.7" )
+        public static final CssMetaData<TimeSlider,Duration> STEP = new CssMetaData<>( "-fx-step", new StepConverter(), Granularity.QUARTER_HOUR.getDuration() )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Duration> getStyleableProperty( final TimeSlider styleable ) { return styleable.m_StepProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final TimeSlider styleable ) { return !styleable.m_StepProperty.isBound(); }
+        };
+
         /**
          *  The CSS attribute for the {@code TIME_ZONE}.
          *
@@ -307,7 +738,7 @@ public final class TimeSlider extends FoundationFXControl
          *  {@link TimeSlider}.
          */
         @SuppressWarnings( "StaticCollection" )
-        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES = List.of( GRANULARITY, SNAP_TO_TICKS, TIME_ZONE );
+        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES = List.of( GRANULARITY, SNAP_TO_TICKS, STEP, TIME_ZONE );
 
             /*--------------*\
         ====** Constructors **=================================================
@@ -319,13 +750,147 @@ public final class TimeSlider extends FoundationFXControl
     }
     //  class StyleableProperties
 
+    /**
+     *  <p>{@summary A time series that is shown as a sparkline behind the
+     *  track of a
+     *  {@link TimeSlider}.}
+     *  It consists of two parallel arrays, one with the timestamps in seconds
+     *  since the start of the epoch, and one with the values;
+     *  {@link Double#NaN NaN}
+     *  values are gaps that are skipped.</p>
+     *  <p>Instances of this class are immutable; the arrays are copied on
+     *  construction and by the getters.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.4.7" )
+    public static final class TimeSeries
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The timestamps, in seconds since the start of the epoch.
+         */
+        private final long [] m_Timestamps;
+
+        /**
+         *  The values.
+         */
+        private final double [] m_Values;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code TimeSeries}.
+         *
+         *  @param  timestamps  The timestamps, in seconds since the start of
+         *      the epoch and in ascending order.
+         *  @param  values  The values; the array must have the same length as
+         *      {@code timestamps}.
+         *  @throws IllegalArgumentException    The arrays have different
+         *      lengths, or the timestamps are not in ascending order.
+         */
+        public TimeSeries( final long [] timestamps, final double [] values ) throws IllegalArgumentException
+        {
+            if( requireNonNullArgument( timestamps, "timestamps" ).length != requireNonNullArgument( values, "values" ).length )
+            {
+                throw new IllegalArgumentException( "The arrays for timestamps and values have different lengths" );
+            }
+            for( var i = 1; i < timestamps.length; ++i )
+            {
+                if( timestamps [i] < timestamps [i - 1] )
+                {
+                    throw new IllegalArgumentException( "The timestamps are not in ascending order at index %d".formatted( i ) );
+                }
+            }
+            m_Timestamps = timestamps.clone();
+            m_Values = values.clone();
+        }   //  TimeSeries()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the timestamp at the given index.
+         *
+         *  @param  index   The index.
+         *  @return The timestamp, in seconds since the start of the epoch.
+         */
+        public final long getTimestamp( final int index ) { return m_Timestamps [index]; }
+
+        /**
+         *  Returns a copy of the timestamps.
+         *
+         *  @return The timestamps, in seconds since the start of the epoch.
+         */
+        public final long [] getTimestamps() { return m_Timestamps.clone(); }
+
+        /**
+         *  Returns the value at the given index.
+         *
+         *  @param  index   The index.
+         *  @return The value.
+         */
+        public final double getValue( final int index ) { return m_Values [index]; }
+
+        /**
+         *  Returns a copy of the values.
+         *
+         *  @return The values.
+         */
+        public final double [] getValues() { return m_Values.clone(); }
+
+        /**
+         *  Returns the number of points in this time series.
+         *
+         *  @return The number of points.
+         */
+        public final int size() { return m_Timestamps.length; }
+    }
+    //  class TimeSeries
+
         /*-----------*\
     ====** Constants **========================================================
         \*-----------*/
+    /**
+     *  The default style class for {@code TimeSlider} instances: {@value}.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public static final String DEFAULT_STYLE_CLASS = "time-slider"; //$NON-NLS-1$
 
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
+    /**
+     *  The blocked periods.
+     *
+     *  @see #getBlockedPeriods()
+     */
+    private final IntervalList<Interval> m_BlockedPeriods = new IntervalList<>( (start,end) -> new Interval( start, end, getTimeZone() ) );
+
+    /**
+     *  The property for the committed high value.
+     *
+     *  @see #committedHighValueProperty()
+     */
+    private final CommittedValueProperty m_CommittedHighValueProperty = new CommittedValueProperty( "committedHighValue" );
+
+    /**
+     *  The property for the committed low value.
+     *
+     *  @see #committedLowValueProperty()
+     */
+    private final CommittedValueProperty m_CommittedLowValueProperty = new CommittedValueProperty( "committedLowValue" );
+
     /**
      *  <p>{@summary The property for the day for that the times should be set.}
      *  The value for this property may not be {@code null}.</p>
@@ -354,12 +919,24 @@ public final class TimeSlider extends FoundationFXControl
     private final ObjectProperty<Duration> m_DurationProperty = new SimpleObjectProperty<>( this, "duration" );
 
     /**
-     *  <p>{@summary The property that holds the granularity for the
-     *  {@code TimeSlider}.} The granularity determines the steps size for the
-     *  time selection.
+     *  <p>{@summary The property that holds the predefined granularity for
+     *  the {@code TimeSlider}.} Setting it sets the
+     *  {@linkplain #stepProperty() step};
+     *  it is {@code null} if the step does not match any of the predefined
+     *  granularities.</p>
      */
-    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
-    private final StyleableObjectProperty<Granularity> m_GranularityProperty = new SimpleStyleableObjectProperty<>( GRANULARITY, this, "granularity", Granularity.QUARTER_HOUR );
+    @SuppressWarnings( {"AnonymousInnerClass", "ThisEscapedInObjectConstruction"} )
+    private final StyleableObjectProperty<Granularity> m_GranularityProperty = new SimpleStyleableObjectProperty<>( GRANULARITY, this, "granularity", Granularity.QUARTER_HOUR )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            if( nonNull( get() ) ) setStep( get().getDuration() );
+        }   //  invalidated()
+    };
 
     /**
      *  <p>{@summary The high value property.} It represents the current
@@ -373,6 +950,18 @@ public final class TimeSlider extends FoundationFXControl
     @SuppressWarnings( "ThisEscapedInObjectConstruction" )
     private final ObjectProperty<OffsetTime> m_HighValueProperty = new SimpleObjectProperty<>( this, "highValue" );
 
+    /**
+     *  The selected intervals in
+     *  {@linkplain #multiIntervalProperty() multi-interval mode}.
+     */
+    private final IntervalList<Interval> m_Intervals = new IntervalList<>( (start,end) -> new Interval( start, end, getTimeZone() ) );
+
+    /**
+     *  The time stamp of the last pulse in playback mode, in nanoseconds;
+     *  -1 if there was none yet.
+     */
+    private long m_LastFrame = -1L;
+
     /**
      *  <p>{@summary The low value property.} It represents the current
      *  position of the low value thumb, and is within the allowable range as
@@ -455,6 +1044,59 @@ public final class TimeSlider extends FoundationFXControl
      */
     private final ObjectBinding<ZonedDateTime> m_MinValueBinding;
 
+    /**
+     *  The flag that indicates that the low and the high value are currently
+     *  moved together; the values are committed after both were set.
+     */
+    private boolean m_MovingWindow = false;
+
+    /**
+     *  The property for the flag that switches the multi-interval mode on
+     *  and off.
+     *
+     *  @see #multiIntervalProperty()
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final BooleanProperty m_MultiIntervalProperty = new SimpleBooleanProperty( this, "multiInterval", false );
+
+    /**
+     *  The property for the speed of the playback, as a multiple of real
+     *  time.
+     *
+     *  @see #playbackRateProperty()
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final DoubleProperty m_PlaybackRateProperty = new SimpleDoubleProperty( this, "playbackRate", 1.0 );
+
+    /**
+     *  The fraction of a second that was not yet applied in playback mode.
+     */
+    private double m_PlaybackRemainder = 0.0;
+
+    /**
+     *  The timer that moves the window forward once per pulse in playback
+     *  mode.
+     */
+    private final AnimationTimer m_PlaybackTimer;
+
+    /**
+     *  The property for the flag that indicates that the playback is
+     *  running.
+     *
+     *  @see #playingProperty()
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ReadOnlyBooleanWrapper m_PlayingProperty = new ReadOnlyBooleanWrapper( this, "playing", false );
+
+    /**
+     *  The property for the committed low and high value as a single
+     *  interval.
+     *
+     *  @see #selectionProperty()
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ReadOnlyObjectWrapper<Interval> m_SelectionProperty = new ReadOnlyObjectWrapper<>( this, "selection" );
+
     /**
      *  The property for the flag that controls whether the thumbs will snap to
      *  the tick marks.
@@ -463,11 +1105,94 @@ public final class TimeSlider extends FoundationFXControl
     private final StyleableBooleanProperty m_SnapToTicksProperty = new SimpleStyleableBooleanProperty( SNAP_TO_TICKS, this, "snapToTicks", true );
 
     /**
-     *  The property for the time zone that is used to calculate the offset for
-     *  the times.
+     *  <p>{@summary The property that holds the step size for the time
+     *  selection.} It can be any positive number of full seconds; the steps
+     *  are aligned to the local wall clock, starting at midnight.</p>
+     *  <p>The validation is done in
+     *  {@link javafx.beans.property.ObjectPropertyBase#set(Object) set()}
+     *  itself, as the property is exposed writable through
+     *  {@link #stepProperty()}.</p>
+     */
+    @SuppressWarnings( {"AnonymousInnerClass", "ThisEscapedInObjectConstruction"} )
+    private final StyleableObjectProperty<Duration> m_StepProperty = new SimpleStyleableObjectProperty<>( STEP, this, "step", Granularity.QUARTER_HOUR.getDuration() )
+    {
+        /**
+         *  {@inheritDoc}
+         *
+         *  @throws IllegalArgumentException    The step size is not positive
+         *      or it has a fraction of a second.
+         */
+        @Override
+        public final void set( final Duration step ) throws IllegalArgumentException
+        {
+            if( requireNonNullArgument( step, "step" ).isNegative() || step.isZero() || (step.getNano() != 0) )
+            {
+                throw new IllegalArgumentException( "Invalid step: %s".formatted( step ) );
+            }
+            super.set( step );
+        }   //  set()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            final var step = get();
+            m_GranularityProperty.set( Arrays.stream( Granularity.values() )
+                .filter( granularity -> granularity.getDuration().equals( step ) )
+                .findFirst()
+                .orElse( null ) );
+        }   //  invalidated()
+    };
+
+    /**
+     *  The property for the time series that is shown as a sparkline behind
+     *  the track.
+     *
+     *  @see #timeSeriesProperty()
      */
     @SuppressWarnings( "ThisEscapedInObjectConstruction" )
-    private final StyleableObjectProperty<ZoneId> m_TimeZoneProperty = new SimpleStyleableObjectProperty<>( TIME_ZONE,this, "timeZone", ZoneId.systemDefault() );
+    private final ObjectProperty<TimeSeries> m_TimeSeriesProperty = new SimpleObjectProperty<>( this, "timeSeries" );
+
+    /**
+     *  <p>{@summary The property for the time zone that is used to calculate
+     *  the offset for the times.}</p>
+     *  <p>The CSS is applied again quite often; a time zone that is equal to
+     *  the current one is ignored, so that the bindings, the intervals and
+     *  the skin are not invalidated for nothing. The time zones are
+     *  interned by the
+     *  {@link ZoneCache}.</p>
+     */
+    @SuppressWarnings( {"ThisEscapedInObjectConstruction", "AnonymousInnerClass"} )
+    private final StyleableObjectProperty<ZoneId> m_TimeZoneProperty = new SimpleStyleableObjectProperty<>( TIME_ZONE,this, "timeZone", ZoneCache.intern( ZoneId.systemDefault() ) )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void set( final ZoneId newValue )
+        {
+            if( Objects.isNull( newValue ) || !newValue.equals( get() ) ) super.set( Objects.isNull( newValue ) ? null : ZoneCache.intern( newValue ) );
+        }   //  set()
+    };
+
+    /**
+     *  The property that indicates that one of the values is currently
+     *  changed by a gesture.
+     */
+    @SuppressWarnings( "AnonymousInnerClass" )
+    private final BooleanProperty m_ValueChangingProperty = new SimpleBooleanProperty( this, "valueChanging", false )
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void invalidated()
+        {
+            if( !get() ) commitValues();
+        }   //  invalidated()
+    };
 
         /*------------------------*\
     ====** Static Initialisations **===========================================
@@ -563,6 +1288,7 @@ public final class TimeSlider extends FoundationFXControl
     public TimeSlider( final LocalDate day, final ZoneId timeZone, final LocalTime min, final LocalTime max )
     {
         super();
+        getStyleClass().setAll( DEFAULT_STYLE_CLASS );
 
         //---* Apply the arguments *-------------------------------------------
         setDay( day );
@@ -576,17 +1302,74 @@ public final class TimeSlider extends FoundationFXControl
         //---* Set the defaults *----------------------------------------------
         setHighValue( m_MaxValueProperty.get().toOffsetDateTime().toOffsetTime() );
         setLowValue( m_MinValueProperty.get().toOffsetDateTime().toOffsetTime() );
+        commitValues();
+
+        /*
+         * Outside a gesture, each new value is committed immediately; during
+         * a gesture, the values are committed when the gesture ends.
+         */
+        m_LowValueProperty.addListener( $ ->
+        {
+            if( !isValueChanging() && !m_MovingWindow ) commitValues();
+        } );
+        m_HighValueProperty.addListener( $ ->
+        {
+            if( !isValueChanging() && !m_MovingWindow ) commitValues();
+        } );
 
-        //---* Create and apply the bindings *---------------------------------
-        m_MinValueBinding = createObjectBinding( () -> getDay().atTime( getMin() ).atZone( getTimeZone() ), m_MinDisplayProperty );
+        /*
+         * The intervals, the blocked periods and the playback are bound to
+         * the day.
+         */
+        m_DayProperty.addListener( $ ->
+        {
+            pause();
+            m_Intervals.clear();
+            m_BlockedPeriods.clear();
+        } );
+
+        /*
+         * The playback is driven by the pulse: each pulse moves the window by
+         * the time that has passed since the previous one, so a pulse that
+         * comes late just moves it farther, and nothing is queued. While the
+         * user drags a thumb, the playback holds.
+         */
+        //noinspection AnonymousInnerClass
+        m_PlaybackTimer = new AnimationTimer()
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @SuppressWarnings( {"NumericCastThatLosesPrecision", "MagicNumber"} )
+            @Override
+            public final void handle( final long now )
+            {
+                if( (m_LastFrame >= 0L) && !isValueChanging() )
+                {
+                    m_PlaybackRemainder += ((double) (now - m_LastFrame) / 1.0e9) * getPlaybackRate();
+                    final var seconds = (long) m_PlaybackRemainder;
+                    if( seconds > 0L )
+                    {
+                        m_PlaybackRemainder -= (double) seconds;
+                        if( !advance( seconds ) ) pause();
+                    }
+                }
+                m_LastFrame = now;
+            }   //  handle()
+        };
+
+        /*
+         * The bindings depend on all their inputs, so a change to the day or
+         * to the time zone just invalidates them; the new values are
+         * calculated only when somebody asks for them.
+         */
+        m_MinValueBinding = createObjectBinding( () -> getDay().atTime( getMin() ).atZone( getTimeZone() ), m_MinDisplayProperty, m_DayProperty, m_TimeZoneProperty );
         m_MinValueProperty.bind( m_MinValueBinding );
 
-        m_MaxValueBinding = createObjectBinding( () -> getDay().atTime( getMax() ).atZone( getTimeZone() ), m_MaxDisplayProperty );
+        m_MaxValueBinding = createObjectBinding( () -> getDay().atTime( getMax() ).atZone( getTimeZone() ), m_MaxDisplayProperty, m_DayProperty, m_TimeZoneProperty );
         m_MaxValueProperty.bind( m_MaxValueBinding );
 
-        m_DayProperty.addListener( this::dayChangeListener );
-
-        final var durationBinding = createObjectBinding( () -> Duration.between( getLowValue().atDate( getDay() ), getHighValue().atDate( getDay() ) ), m_LowValueProperty, m_HighValueProperty );
+        final var durationBinding = createObjectBinding( () -> Duration.between( getLowValue().atDate( getDay() ), getHighValue().atDate( getDay() ) ), m_LowValueProperty, m_HighValueProperty, m_DayProperty );
         m_DurationProperty.bind( durationBinding );
 
         //---* Apply the skin *------------------------------------------------
@@ -597,73 +1380,306 @@ public final class TimeSlider extends FoundationFXControl
     ====** Methods **==========================================================
         \*---------*/
     /**
-     *  {@inheritDoc}
+     *  <p>{@summary Adds the given period to the
+     *  {@linkplain #getBlockedPeriods() blocked periods}.} It will be merged
+     *  with all blocked periods that overlap or touch it.</p>
+     *
+     *  @param  start   The start of the period, in seconds since the start of
+     *      the epoch (inclusive).
+     *  @param  end The end of the period, in seconds since the start of the
+     *      epoch (exclusive).
+     *  @return The index of the new or merged blocked period.
+     *  @throws IllegalArgumentException    The period is empty.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final int addBlockedPeriod( final long start, final long end ) throws IllegalArgumentException { return m_BlockedPeriods.add( start, end ); }
+
+    /**
+     *  <p>{@summary Adds the given period to the
+     *  {@linkplain #getBlockedPeriods() blocked periods}.} It will be merged
+     *  with all blocked periods that overlap or touch it.</p>
+     *
+     *  @param  start   The start of the period (inclusive).
+     *  @param  end The end of the period (exclusive).
+     *  @return The index of the new or merged blocked period.
+     *  @throws IllegalArgumentException    The period is empty.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final int addBlockedPeriod( final ZonedDateTime start, final ZonedDateTime end ) throws IllegalArgumentException
+    {
+        final var retValue = addBlockedPeriod( requireNonNullArgument( start, "start" ).toEpochSecond(), requireNonNullArgument( end, "end" ).toEpochSecond() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addBlockedPeriod()
+
+    /**
+     *  <p>{@summary Adds the given interval to the
+     *  {@linkplain #getIntervals() selected intervals}.} The interval will be
+     *  clamped to the range between
+     *  {@linkplain #minValueProperty() minimum}
+     *  and
+     *  {@linkplain #maxValueProperty() maximum},
+     *  and it will be merged with all intervals that overlap or touch
+     *  it.</p>
+     *
+     *  @param  start   The start of the interval, in seconds since the start
+     *      of the epoch (inclusive).
+     *  @param  end The end of the interval, in seconds since the start of the
+     *      epoch (exclusive).
+     *  @return The index of the new or merged interval.
+     *  @throws IllegalArgumentException    The clamped interval is empty.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final int addInterval( final long start, final long end ) throws IllegalArgumentException
+    {
+        final var min = getMinValue();
+        final var max = getMaxValue();
+        final var retValue = m_Intervals.add( clamp( min, start, max ), clamp( min, end, max ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addInterval()
+
+    /**
+     *  <p>{@summary Adds the given interval to the
+     *  {@linkplain #getIntervals() selected intervals}.} The interval will be
+     *  clamped to the range between
+     *  {@linkplain #minValueProperty() minimum}
+     *  and
+     *  {@linkplain #maxValueProperty() maximum},
+     *  and it will be merged with all intervals that overlap or touch
+     *  it.</p>
+     *
+     *  @param  start   The start of the interval (inclusive).
+     *  @param  end The end of the interval (exclusive).
+     *  @return The index of the new or merged interval.
+     *  @throws IllegalArgumentException    The clamped interval is empty.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final int addInterval( final ZonedDateTime start, final ZonedDateTime end ) throws IllegalArgumentException
+    {
+        final var retValue = addInterval( requireNonNullArgument( start, "start" ).toEpochSecond(), requireNonNullArgument( end, "end" ).toEpochSecond() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addInterval()
+
+    /**
+     *  Moves the window between the low and the high value forward by the
+     *  given number of seconds, but not beyond the maximum.
+     *
+     *  @param  seconds The number of seconds.
+     *  @return {@code true} if the window can be moved further,
+     *      {@code false} if the high value has reached the maximum.
+     */
+    private final boolean advance( final long seconds )
+    {
+        final var day = getDay();
+        final var low = getLowValue().toEpochSecond( day );
+        final var high = getHighValue().toEpochSecond( day );
+        final var distance = Long.max( 0L, Long.min( seconds, getMaxValue() - high ) );
+        if( distance > 0L ) setWindow( low + distance, high + distance );
+        final var retValue = (high + distance) < getMaxValue();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  advance()
+
+    /**
+     *  Commits the current
+     *  {@linkplain #lowValueProperty() low value}
+     *  and
+     *  {@linkplain #highValueProperty() high value}.
+     *  Both values are stored before any listener is notified, so that no
+     *  listener will see a new low value together with an outdated high
+     *  value, or vice versa.
+     */
+    private final void commitValues()
+    {
+        m_CommittedLowValueProperty.store( getLowValue() );
+        m_CommittedHighValueProperty.store( getHighValue() );
+        final var day = getDay();
+        m_SelectionProperty.set( new Interval( getLowValue().toEpochSecond( day ), getHighValue().toEpochSecond( day ), getTimeZone() ) );
+        m_CommittedLowValueProperty.fireIfChanged();
+        m_CommittedHighValueProperty.fireIfChanged();
+    }   //  commitValues()
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the
+     *  committed high value.}</p>
+     *  <p>Together with the
+     *  {@linkplain #committedLowValueProperty() committed low value},
+     *  it forms the committed interval: it follows the
+     *  {@linkplain #highValueProperty() high value},
+     *  but while the
+     *  {@linkplain #valueChangingProperty() values are changing}
+     *  &ndash; during a drag with the mouse, or while an arrow key is held
+     *  down &ndash; it keeps the value it had when the gesture started, and
+     *  it is updated once when the gesture ends.</p>
+     *  <p>Both committed values are updated together: when a listener for
+     *  one of them is notified, the other one, and the
+     *  {@linkplain #selectionProperty() selection},
+     *  already have their new values.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyObjectProperty<OffsetTime> committedHighValueProperty() { return m_CommittedHighValueProperty; }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the
+     *  committed low value.}</p>
+     *
+     *  @return The property reference.
+     *
+     *  @see #committedHighValueProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyObjectProperty<OffsetTime> committedLowValueProperty() { return m_CommittedLowValueProperty; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final Skin<?> createDefaultSkin()
+    {
+        final var retValue = new TimeSliderSkin( this );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDefaultSkin()
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the day for
+     *  the times.}</p>
+     *
+     *  @return The property reference.
+     */
+    public final ObjectProperty<LocalDate> dayProperty() { return m_DayProperty; }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the
+     *  duration of the time period between
+     *  {@linkplain #getLowValue() low}
+     *  and
+     *  {@linkplain #getHighValue() high}.}</p>
+     *
+     *  @return The property reference.
+     */
+    public final ReadOnlyObjectProperty<Duration> durationProperty(){ return m_DurationProperty; }
+
+    /**
+     *  <p>{@summary Returns the end of the free period that contains the
+     *  given point in time:} this is the start of the first
+     *  {@linkplain #getBlockedPeriods() blocked period}
+     *  that ends after it, or the
+     *  {@linkplain #maxValueProperty() maximum},
+     *  whatever comes first. A selection that starts at the given point
+     *  in time must not end after the returned value.</p>
+     *  <p>This is a binary search over the blocked periods.</p>
+     *
+     *  @param  epochSecond The point in time, in seconds since the start of
+     *      the epoch.
+     *  @return The end of the free period (exclusive), in seconds since the
+     *      start of the epoch.
+     *
+     *  @since 0.4.7
      */
-    @Override
-    protected final Skin<?> createDefaultSkin()
+    @API( status = STABLE, since = "0.4.7" )
+    public final long freePeriodEnd( final long epochSecond )
     {
-        final var retValue = new TimeSliderSkin( this );
+        final var retValue = Long.min( m_BlockedPeriods.gapEnd( epochSecond ), getMaxValue() );
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  createDefaultSkin()
+    }   //  freePeriodEnd()
 
     /**
-     *  The implementation of
-     *  {@link ChangeListener}
-     *  that responds on changes to the
-     *  {@linkplain #dayProperty() day property}.
+     *  <p>{@summary Returns the start of the free period that contains the
+     *  given point in time:} this is the end of the last
+     *  {@linkplain #getBlockedPeriods() blocked period}
+     *  that starts before it, or the
+     *  {@linkplain #minValueProperty() minimum},
+     *  whatever comes last. A selection that ends at the given point in
+     *  time must not start before the returned value.</p>
+     *  <p>This is a binary search over the blocked periods.</p>
      *
-     *  @param  observable    The observable.
-     *  @param  oldValue    The old value.
-     *  @param  newValue    The new value.
+     *  @param  epochSecond The point in time, in seconds since the start of
+     *      the epoch.
+     *  @return The start of the free period (inclusive), in seconds since
+     *      the start of the epoch.
+     *
+     *  @since 0.4.7
      */
-    @SuppressWarnings( "TypeParameterExtendsFinalClass" )
-    private final void dayChangeListener( final ObservableValue<? extends LocalDate> observable, final LocalDate oldValue, final LocalDate newValue )
+    @API( status = STABLE, since = "0.4.7" )
+    public final long freePeriodStart( final long epochSecond )
     {
-        if( !Objects.equals( oldValue, newValue ) )
-        {
-            final var lowValue = m_LowValueProperty.get();
-            final var highValue = m_HighValueProperty.get();
+        final var retValue = Long.max( m_BlockedPeriods.gapStart( epochSecond ), getMinValue() );
 
-            if( oldValue.isBefore( newValue ) )
-            {
-                m_MaxValueBinding.invalidate();
-                m_MaxValueProperty.get();
-                m_MinValueBinding.invalidate();
-                m_MinValueProperty.get();
-            }
-            else
-            {
-                m_MinValueBinding.invalidate();
-                m_MinValueProperty.get();
-                m_MaxValueBinding.invalidate();
-                m_MaxValueProperty.get();
-            }
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  freePeriodStart()
 
-            setHighValue( highValue );
-            setLowValue( lowValue );
-        }
-    }   //  dayChangeListener()
+    /**
+     *  <p>{@summary Returns the blocked periods, for example maintenance
+     *  windows or periods that are already booked.} They are disjoint and
+     *  sorted by their start; they do not touch each other.</p>
+     *  <p>The thumbs of the default skin cannot be moved into a blocked
+     *  period, and the selected range between
+     *  {@linkplain #lowValueProperty() low value}
+     *  and
+     *  {@linkplain #highValueProperty() high value}
+     *  cannot span a blocked period; the values that are set through the
+     *  API are not checked. The list does not accept new elements; use
+     *  {@link #addBlockedPeriod(long, long)}
+     *  instead. Removing elements is possible.</p>
+     *  <p>The blocked periods are removed when the
+     *  {@linkplain #dayProperty() day}
+     *  changes.</p>
+     *
+     *  @return The blocked periods.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ObservableList<Interval> getBlockedPeriods() { return m_BlockedPeriods; }
 
     /**
-     *  <p>{@summary Returns a reference to the property that holds the day for
-     *  the times.}</p>
+     *  Returns the committed high value.
      *
-     *  @return The property reference.
+     *  @return The committed high value.
+     *
+     *  @see #committedHighValueProperty()
+     *
+     *  @since 0.4.7
      */
-    public final ObjectProperty<LocalDate> dayProperty() { return m_DayProperty; }
+    @API( status = STABLE, since = "0.4.7" )
+    public final OffsetTime getCommittedHighValue() { return m_CommittedHighValueProperty.get(); }
 
     /**
-     *  <p>{@summary Returns a reference to the property that holds the
-     *  duration of the time period between
-     *  {@linkplain #getLowValue() low}
-     *  and
-     *  {@linkplain #getHighValue() high}.}</p>
+     *  Returns the committed low value.
      *
-     *  @return The property reference.
+     *  @return The committed low value.
+     *
+     *  @see #committedLowValueProperty()
+     *
+     *  @since 0.4.7
      */
-    public final ReadOnlyObjectProperty<Duration> durationProperty(){ return m_DurationProperty; }
+    @API( status = STABLE, since = "0.4.7" )
+    public final OffsetTime getCommittedLowValue() { return m_CommittedLowValueProperty.get(); }
 
     /**
      *  Returns the day for the times.
@@ -680,9 +1696,11 @@ public final class TimeSlider extends FoundationFXControl
     public final Duration getDuration() { return m_DurationProperty.get(); }
 
     /**
-     *  Returns the granularity for the time slider.
+     *  Returns the predefined granularity for the time slider.
      *
-     *  @return The granularity.
+     *  @return The granularity; {@code null} if the
+     *      {@linkplain #getStep() step}
+     *      does not match any of the predefined granularities.
      */
     public final Granularity getGranularity() { return m_GranularityProperty.get(); }
 
@@ -693,6 +1711,30 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final OffsetTime getHighValue() { return m_HighValueProperty.get(); }
 
+    /**
+     *  <p>{@summary Returns the selected intervals in
+     *  {@linkplain #multiIntervalProperty() multi-interval mode}.} They are
+     *  disjoint and sorted by their start; they do not touch each other.</p>
+     *  <p>Each modification is reported as a single, fine-grained change to
+     *  the listeners of the list: a new interval as an addition, a modified
+     *  interval as a replacement of that element, and a merge as the
+     *  replacement of the merged intervals by the new one. The list does not
+     *  accept new elements; use
+     *  {@link #addInterval(long, long)}
+     *  and
+     *  {@link #setInterval(int, long, long)}
+     *  instead. Removing elements is possible.</p>
+     *  <p>The intervals are removed when the
+     *  {@linkplain #dayProperty() day}
+     *  changes.</p>
+     *
+     *  @return The intervals.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ObservableList<Interval> getIntervals() { return m_Intervals; }
+
     /**
      *  Returns the current low value for the range slider.
      *
@@ -700,6 +1742,20 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final OffsetTime getLowValue() { return m_LowValueProperty.get(); }
 
+    /**
+     *  Returns the maximum value in seconds since the start of the epoch.
+     *
+     *  @return The maximum value.
+     */
+    private final long getMaxValue() { return m_MaxValueProperty.get().toEpochSecond(); }
+
+    /**
+     *  Returns the minimum value in seconds since the start of the epoch.
+     *
+     *  @return The minimum value.
+     */
+    private final long getMinValue() { return m_MinValueProperty.get().toEpochSecond(); }
+
     /**
      *  <p>{@summary Returns the maximum displayed value for this
      *  {@code TimeSlider}.}</p>
@@ -720,6 +1776,53 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final LocalTime getMin() { return m_MinDisplayProperty.get(); }
 
+    /**
+     *  Returns the speed of the playback, as a multiple of real time.
+     *
+     *  @return The playback rate.
+     *
+     *  @see #playbackRateProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final double getPlaybackRate() { return m_PlaybackRateProperty.get(); }
+
+    /**
+     *  Returns the committed low and high value as a single interval.
+     *
+     *  @return The selection.
+     *
+     *  @see #selectionProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final Interval getSelection() { return m_SelectionProperty.get(); }
+
+    /**
+     *  Returns the step size for the time selection.
+     *
+     *  @return The step size.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final Duration getStep() { return m_StepProperty.get(); }
+
+    /**
+     *  Returns the time series that is shown as a sparkline behind the
+     *  track.
+     *
+     *  @return The time series; {@code null} if no sparkline is shown.
+     *
+     *  @see #timeSeriesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final TimeSeries getTimeSeries() { return m_TimeSeriesProperty.get(); }
+
     /**
      *  Returns the time zone that is used to calculate the offset for the
      *  times.
@@ -728,10 +1831,28 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final ZoneId getTimeZone() { return m_TimeZoneProperty.get(); }
 
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String getUserAgentStylesheet()
+    {
+        final var retValue = getUserAgentStylesheet( getClass(), "TimeSlider.css" );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getUserAgentStylesheet()
+
     /**
      *  <p>{@summary Returns a reference to the property that holds the
-     *  granularity for the {@code TimeSlider}.} The granularity determines the
-     *  steps size for the time selection.
+     *  predefined granularity for the {@code TimeSlider}.} Setting the
+     *  granularity sets the
+     *  {@linkplain #stepProperty() step}
+     *  for the time selection; the value is {@code null} if the step was set
+     *  to a duration that does not match any of the predefined
+     *  granularities.</p>
+     *  <p>The granularity can be set from CSS with the attribute
+     *  {@code -fx-granularity}.</p>
      *
      *  @return The property reference.
      */
@@ -751,6 +1872,63 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final ObjectProperty<OffsetTime> highValueProperty() { return m_HighValueProperty; }
 
+    /**
+     *  Returns the index of the
+     *  {@linkplain #getIntervals() selected interval}
+     *  that contains the given point in time; this is a binary search.
+     *
+     *  @param  epochSecond The point in time, in seconds since the start of
+     *      the epoch.
+     *  @return The index of the interval, or -1 if no interval contains the
+     *      given point in time.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final int intervalIndexAt( final long epochSecond ) { return m_Intervals.indexAt( epochSecond ); }
+
+    /**
+     *  Checks whether the given point in time is within one of the
+     *  {@linkplain #getBlockedPeriods() blocked periods};
+     *  this is a binary search.
+     *
+     *  @param  epochSecond The point in time, in seconds since the start of
+     *      the epoch.
+     *  @return {@code true} if the point in time is blocked, {@code false}
+     *      otherwise.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final boolean isBlocked( final long epochSecond ) { return m_BlockedPeriods.indexAt( epochSecond ) >= 0; }
+
+    /**
+     *  Returns the flag that indicates whether this {@code TimeSlider} is in
+     *  multi-interval mode.
+     *
+     *  @return {@code true} if the multi-interval mode is on, {@code false}
+     *      otherwise.
+     *
+     *  @see #multiIntervalProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final boolean isMultiInterval() { return m_MultiIntervalProperty.get(); }
+
+    /**
+     *  Checks whether the playback is running.
+     *
+     *  @return {@code true} if the playback is running, {@code false}
+     *      otherwise.
+     *
+     *  @see #playingProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final boolean isPlaying() { return m_PlayingProperty.get(); }
+
     /**
      *  Returns the flag that controls whether the thumbs will snap to the tick
      *  marks.
@@ -762,6 +1940,18 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final boolean isSnapToTicks() { return m_SnapToTicksProperty.get(); }
 
+    /**
+     *  Returns whether one of the values of this {@code TimeSlider} is
+     *  currently changed by a gesture.
+     *
+     *  @return {@code true} if a value is currently changing, otherwise
+     *      {@code false}.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final boolean isValueChanging() { return m_ValueChangingProperty.get(); }
+
     /**
      *  <p>{@summary Returns a reference to the property that holds the low
      *  value.}</p>
@@ -808,6 +1998,129 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final ReadOnlyObjectProperty<ZonedDateTime> minValueProperty() { return m_MinValueProperty; }
 
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the flag
+     *  that switches the multi-interval mode on and off.} In multi-interval
+     *  mode, several disjoint
+     *  {@linkplain #getIntervals() intervals}
+     *  can be selected on the day; the
+     *  {@linkplain #lowValueProperty() low value}
+     *  and the
+     *  {@linkplain #highValueProperty() high value}
+     *  are the bounds of the interval that is currently edited.</p>
+     *  <p>With the default skin, a click on an interval selects it for
+     *  editing, a click with the shortcut key (CTRL or META) on the free
+     *  track adds a new interval of one
+     *  {@linkplain #stepProperty() step},
+     *  and DELETE or BACK_SPACE removes the edited interval.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final BooleanProperty multiIntervalProperty() { return m_MultiIntervalProperty; }
+
+    /**
+     *  Stops the playback; the window stays where it is. Nothing happens if
+     *  the playback is not running.
+     *
+     *  @see #play()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void pause()
+    {
+        m_PlaybackTimer.stop();
+        m_LastFrame = -1L;
+        m_PlaybackRemainder = 0.0;
+        m_PlayingProperty.set( false );
+    }   //  pause()
+
+    /**
+     *  <p>{@summary Starts the playback: the window between the
+     *  {@linkplain #lowValueProperty() low value}
+     *  and the
+     *  {@linkplain #highValueProperty() high value}
+     *  slides forward with the
+     *  {@linkplain #playbackRateProperty() playback rate},
+     *  until the high value reaches the maximum, or until
+     *  {@link #pause()}
+     *  is called.} Nothing happens if the playback is running already, or if
+     *  the high value is at the maximum.</p>
+     *  <p>The window is moved once per pulse, by the time that has passed
+     *  since the previous pulse; when the UI is under load, pulses are
+     *  skipped, but no updates are queued. The values are moved in full
+     *  seconds, without
+     *  {@linkplain #snapToTicksProperty() snapping to the ticks};
+     *  blocked periods are ignored. While the user drags a thumb, the
+     *  playback holds.</p>
+     *  <p>Each move is published as one new
+     *  {@linkplain #selectionProperty() selection}.</p>
+     *
+     *  @see #step()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void play()
+    {
+        if( !isPlaying() && (getHighValue().toEpochSecond( getDay() ) < getMaxValue()) )
+        {
+            m_LastFrame = -1L;
+            m_PlaybackRemainder = 0.0;
+            m_PlayingProperty.set( true );
+            m_PlaybackTimer.start();
+        }
+    }   //  play()
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the speed
+     *  of the playback, as a multiple of real time.} A rate of 60.0 moves
+     *  the window by one minute per second.</p>
+     *  <p>The default is 1.0.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @see #play()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final DoubleProperty playbackRateProperty() { return m_PlaybackRateProperty; }
+
+    /**
+     *  Returns a reference to the property that holds the flag that
+     *  indicates that the playback is running.
+     *
+     *  @return The property reference.
+     *
+     *  @see #play()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyBooleanProperty playingProperty() { return m_PlayingProperty.getReadOnlyProperty(); }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the
+     *  committed low and high value as a single
+     *  {@link Interval}.}
+     *  It is updated together with the
+     *  {@linkplain #committedLowValueProperty() committed values},
+     *  after both of them were set; so, unlike a listener on the two
+     *  values, a listener on this property never sees a torn interval, for
+     *  example while the window is moved during the
+     *  {@linkplain #play() playback}.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ReadOnlyObjectProperty<Interval> selectionProperty() { return m_SelectionProperty.getReadOnlyProperty(); }
+
     /**
      *  Sets the day for this {@code TimeSlider}.
      *
@@ -816,7 +2129,9 @@ public final class TimeSlider extends FoundationFXControl
     public final void setDay( final LocalDate day ) { m_DayProperty.set( requireNonNullArgument( day, "day" ) ); }
 
     /**
-     *  Sets the granularity for this {@code TimeSlider}.
+     *  Sets the granularity for this {@code TimeSlider}; this sets the
+     *  {@linkplain #stepProperty() step}
+     *  to the duration of the granularity.
      *
      *  @param  granularity The granularity.
      */
@@ -857,6 +2172,38 @@ public final class TimeSlider extends FoundationFXControl
         setHighValue( offsetTime );
     }   //  setHighValue()
 
+    /**
+     *  <p>{@summary Sets new bounds for the
+     *  {@linkplain #getIntervals() selected interval}
+     *  with the given index.} The interval will be clamped to the range
+     *  between
+     *  {@linkplain #minValueProperty() minimum}
+     *  and
+     *  {@linkplain #maxValueProperty() maximum},
+     *  and it will be merged with all intervals that it now overlaps or
+     *  touches.</p>
+     *
+     *  @param  index   The index of the interval.
+     *  @param  start   The new start of the interval, in seconds since the
+     *      start of the epoch (inclusive).
+     *  @param  end The new end of the interval, in seconds since the start of
+     *      the epoch (exclusive).
+     *  @return The new index of the interval.
+     *  @throws IllegalArgumentException    The clamped interval is empty.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final int setInterval( final int index, final long start, final long end ) throws IllegalArgumentException
+    {
+        final var min = getMinValue();
+        final var max = getMaxValue();
+        final var retValue = m_Intervals.set( index, clamp( min, start, max ), clamp( min, end, max ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  setInterval()
+
     /**
      *  Sets the low value for this {@code TimeSlider}, which may or may not be
      *  clamped to be within the allowable range as specified by the
@@ -903,6 +2250,39 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final void setMin( final LocalTime min ) { m_MinDisplayProperty.set( min ); }
 
+    /**
+     *  Switches the multi-interval mode on or off.
+     *
+     *  @param  flag    {@code true} to switch the multi-interval mode on,
+     *      {@code false} to switch it off.
+     *
+     *  @see #multiIntervalProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setMultiInterval( final boolean flag ) { m_MultiIntervalProperty.set( flag ); }
+
+    /**
+     *  Sets the speed of the playback, as a multiple of real time.
+     *
+     *  @param  rate    The playback rate; it must be positive.
+     *  @throws IllegalArgumentException    The rate is not positive.
+     *
+     *  @see #playbackRateProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setPlaybackRate( final double rate ) throws IllegalArgumentException
+    {
+        if( !(rate > 0.0) || Double.isInfinite( rate ) )
+        {
+            throw new IllegalArgumentException( "Invalid playback rate: %f".formatted( rate ) );
+        }
+        m_PlaybackRateProperty.set( rate );
+    }   //  setPlaybackRate()
+
     /**
      *  Sets the flag that controls whether the thumbs will snap to the tick
      *  marks.
@@ -914,6 +2294,143 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final void setSnapToTicks( final boolean flag ) { m_SnapToTicksProperty.set( flag ); }
 
+    /**
+     *  Sets the step size for the time selection.
+     *
+     *  @param  step    The step size; it must be a positive number of full
+     *      seconds.
+     *  @throws IllegalArgumentException    The step size is not positive or
+     *      it has a fraction of a second.
+     *
+     *  @see #stepProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setStep( final Duration step ) throws IllegalArgumentException { m_StepProperty.set( step ); }
+
+    /**
+     *  Sets the time series that is shown as a sparkline behind the track.
+     *
+     *  @param  timeSeries  The time series; {@code null} removes the
+     *      sparkline.
+     *
+     *  @see #timeSeriesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setTimeSeries( final TimeSeries timeSeries ) { m_TimeSeriesProperty.set( timeSeries ); }
+
+    /**
+     *  Sets the time series that is shown as a sparkline behind the track.
+     *  The arrays are copied.
+     *
+     *  @param  timestamps  The timestamps, in seconds since the start of the
+     *      epoch and in ascending order.
+     *  @param  values  The values; the array must have the same length as
+     *      {@code timestamps}.
+     *  @throws IllegalArgumentException    The arrays have different
+     *      lengths, or the timestamps are not in ascending order.
+     *
+     *  @see #timeSeriesProperty()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setTimeSeries( final long [] timestamps, final double [] values ) throws IllegalArgumentException
+    {
+        m_TimeSeriesProperty.set( new TimeSeries( timestamps, values ) );
+    }   //  setTimeSeries()
+
+    /**
+     *  Call this when one of the values is changing.
+     *
+     *  @param  flag    {@code true} if a value is currently changing,
+     *      {@code false} otherwise.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setValueChanging( final boolean flag ) { m_ValueChangingProperty.set( flag ); }
+
+    /**
+     *  <p>{@summary Sets the low and the high value together, and commits
+     *  them once afterwards.} The value in the direction of the movement is
+     *  set first, as determined by comparing the new low value with the
+     *  current one; so the low value never exceeds the high value, not even
+     *  in between the two updates, and the duration of the selection is
+     *  kept.</p>
+     *  <p>Unless one of the values is
+     *  {@linkplain #valueChangingProperty() changing},
+     *  the
+     *  {@linkplain #committedLowValueProperty() committed values}
+     *  are updated as one pair.</p>
+     *
+     *  @param  low The new low value, in seconds since the start of the
+     *      epoch.
+     *  @param  high    The new high value, in seconds since the start of the
+     *      epoch.
+     *  @throws IllegalArgumentException    The low value is after the high
+     *      value.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void setWindow( final long low, final long high ) throws IllegalArgumentException
+    {
+        if( low > high ) throw new IllegalArgumentException( "low > high: %d > %d".formatted( low, high ) );
+
+        final var lowValue = toOffsetTime( low );
+        final var highValue = toOffsetTime( high );
+        m_MovingWindow = true;
+        try
+        {
+            if( low > getLowValue().toEpochSecond( getDay() ) )
+            {
+                setHighValue( highValue );
+                setLowValue( lowValue );
+            }
+            else
+            {
+                setLowValue( lowValue );
+                setHighValue( highValue );
+            }
+        }
+        finally
+        {
+            m_MovingWindow = false;
+        }
+        if( !isValueChanging() ) commitValues();
+    }   //  setWindow()
+
+    /**
+     *  Snaps the given point in time to the nearest start or end of one of
+     *  the
+     *  {@linkplain #getIntervals() selected intervals},
+     *  if it is not farther away than the given tolerance; this is a binary
+     *  search.
+     *
+     *  @param  epochSecond The point in time, in seconds since the start of
+     *      the epoch.
+     *  @param  tolerance   The tolerance in seconds.
+     *  @param  skip    The index of an interval that is ignored, usually the
+     *      one that is currently edited; -1 if all intervals should be
+     *      considered.
+     *  @return The nearest start or end of an interval, or the given point
+     *      in time if there is none within the tolerance.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final long snapToIntervalBoundary( final long epochSecond, final long tolerance, final int skip )
+    {
+        final var retValue = m_Intervals.snapToBoundary( epochSecond, tolerance, skip );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapToIntervalBoundary()
+
     /**
      *  <p>{@summary Returns a reference to the property that holds the flag
      *  that indicates whether the
@@ -925,6 +2442,67 @@ public final class TimeSlider extends FoundationFXControl
      */
     public final BooleanProperty snapToTicksProperty() { return m_SnapToTicksProperty; }
 
+    /**
+     *  Moves the window between the
+     *  {@linkplain #lowValueProperty() low value}
+     *  and the
+     *  {@linkplain #highValueProperty() high value}
+     *  forward by one
+     *  {@linkplain #stepProperty() step},
+     *  but not beyond the maximum; this works while the playback is running
+     *  or paused.
+     *
+     *  @see #play()
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final void step() { advance( getStep().toSeconds() ); }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the step
+     *  size for the time selection.} The steps are aligned to the local wall
+     *  clock, starting at midnight; if the step does not divide a day evenly,
+     *  the last step of a day is shorter.</p>
+     *  <p>The step can be set from CSS with the attribute
+     *  {@code -fx-step}; the value is either the name of a
+     *  {@link Granularity},
+     *  an ISO&nbsp;8601 duration, or a number with one of the units
+     *  &quot;{@code s}&quot;, &quot;{@code min}&quot; or
+     *  &quot;{@code h}&quot;. An invalid value from CSS is replaced by the
+     *  step for
+     *  {@link Granularity#QUARTER_HOUR};
+     *  setting an invalid value through the property reference throws an
+     *  {@link IllegalArgumentException}.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final StyleableObjectProperty<Duration> stepProperty() { return m_StepProperty; }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that holds the time
+     *  series that is shown as a sparkline behind the track.} The time series
+     *  may have far more points than the track has pixels, for example one
+     *  per second of the day; the default skin reduces them to at most two
+     *  points per pixel in the background, and it does so again only when
+     *  the time series, the bounds or the width of the track change.</p>
+     *  <p>Points outside the range between the
+     *  {@linkplain #minValueProperty() minimum}
+     *  and the
+     *  {@linkplain #maxValueProperty() maximum}
+     *  are not shown; the sparkline is scaled vertically to the smallest and
+     *  the largest value inside that range.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final ObjectProperty<TimeSeries> timeSeriesProperty() { return m_TimeSeriesProperty; }
+
     /**
      *  <p>{@summary Returns a reference to the property that holds the time
      *  zone that is used to determine the offset for the times.}</p>
@@ -932,6 +2510,33 @@ public final class TimeSlider extends FoundationFXControl
      *  @return The property reference.
      */
     public final ReadOnlyObjectProperty<ZoneId> timeZoneProperty() { return m_TimeZoneProperty; }
+
+    /**
+     *  Converts the given point in time to an instance of
+     *  {@link OffsetTime}
+     *  for the time zone of this {@code TimeSlider}.
+     *
+     *  @param  epochSecond The point in time, in seconds since the start of
+     *      the epoch.
+     *  @return The time.
+     */
+    private final OffsetTime toOffsetTime( final long epochSecond ) { return Instant.ofEpochSecond( epochSecond ).atZone( getTimeZone() ).toOffsetDateTime().toOffsetTime(); }
+
+    /**
+     *  <p>{@summary Returns a reference to the property that indicates that
+     *  one of the values of this {@code TimeSlider} is currently changed by a
+     *  gesture.}</p>
+     *  <p>The skin sets this flag while a thumb or the range bar is dragged,
+     *  or while an arrow key is held down. When it is reset, the
+     *  {@linkplain #committedLowValueProperty() committed values}
+     *  are updated.</p>
+     *
+     *  @return The property reference.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = STABLE, since = "0.4.7" )
+    public final BooleanProperty valueChangingProperty() { return m_ValueChangingProperty; }
 }
 //  class TimeSlider
 
@@ -0,0 +1,151 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import javafx.beans.property.ObjectProperty;
+import javafx.geometry.Side;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.layout.Region;
+import javafx.util.StringConverter;
+
+/**
+ *  The implementation of
+ *  {@link TickLine}
+ *  that uses a
+ *  {@link NumberAxis}.
+ *  Each tick mark and each label is a separate node that is styled by CSS.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class AxisTickLine implements TickLine
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The axis.
+     */
+    private final NumberAxis m_Axis;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code AxisTickLine}.
+     */
+    public AxisTickLine()
+    {
+        m_Axis = new NumberAxis();
+        m_Axis.setFocusTraversable( false );
+        m_Axis.setAnimated( false );
+        m_Axis.setAutoRanging( false );
+    }   //  AxisTickLine()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Region getNode() { return m_Axis; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void requestAxisLayout() { m_Axis.requestAxisLayout(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setLowerBound( final double value ) { m_Axis.setLowerBound( value ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setMinorTickCount( final int value ) { m_Axis.setMinorTickCount( value ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setMinorTickVisible( final boolean flag ) { m_Axis.setMinorTickVisible( flag ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setSide( final Side side ) { m_Axis.setSide( side ); }
+
+    /**
+     *  {@inheritDoc}
+     *  <p>A
+     *  {@link NumberAxis}
+     *  cannot show additional marks, so the stops are ignored.</p>
+     */
+    @Override
+    public final void setStops( final double [] stops ) { /* Does nothing */ }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setTickLabelsVisible( final boolean flag ) { m_Axis.setTickLabelsVisible( flag ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setTickMarkVisible( final boolean flag ) { m_Axis.setTickMarkVisible( flag ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setTickUnit( final double value ) { m_Axis.setTickUnit( value ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setUpperBound( final double value ) { m_Axis.setUpperBound( value ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ObjectProperty<StringConverter<Number>> tickLabelFormatterProperty() { return m_Axis.tickLabelFormatterProperty(); }
+}
+//  class AxisTickLine
+
+/*
+ *  End of File
+ */
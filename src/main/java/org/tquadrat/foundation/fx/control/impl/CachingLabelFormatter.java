@@ -0,0 +1,222 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static java.util.Locale.Category.FORMAT;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import javafx.util.StringConverter;
+
+/**
+ *  <p>{@summary A
+ *  {@link StringConverter}
+ *  for tick labels that caches the results of another converter.}</p>
+ *  <p>The labels are cached by the tick value; as an instance of this class
+ *  wraps exactly one formatter, the cache is implicitly keyed by the identity
+ *  of that formatter, too: a new formatter requires a new
+ *  {@code CachingLabelFormatter}. The cache is bounded; when it is full, the
+ *  least recently used label is dropped. It is cleared when the default
+ *  {@linkplain Locale.Category#FORMAT format locale}
+ *  changes, or explicitly by a call to
+ *  {@link #invalidate()}.</p>
+ *  <p>Conversions from {@code String} to {@code Number} are delegated to the
+ *  wrapped formatter without caching.</p>
+ *  <p>Instances of this class are not thread-safe; they are meant to be used
+ *  on the JavaFX Application Thread only.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class CachingLabelFormatter extends StringConverter<Number>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The bounded cache for the labels.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private static final class LabelCache extends LinkedHashMap<Double,String>
+    {
+            /*------------------------*\
+        ====** Static Initialisations **=======================================
+            \*------------------------*/
+        /**
+         *  The serial version UID for objects of this class: {@value}.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The maximum number of entries.
+         */
+        private final int m_Capacity;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code LabelCache}.
+         *
+         *  @param  capacity    The maximum number of entries.
+         */
+        public LabelCache( final int capacity )
+        {
+            super( 16, 0.75F, true );
+            m_Capacity = capacity;
+        }   //  LabelCache()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final boolean removeEldestEntry( final Map.Entry<Double,String> eldest ) { return size() > m_Capacity; }
+    }
+    //  class LabelCache
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default capacity of the cache: {@value}.
+     */
+    public static final int DEFAULT_CAPACITY = 512;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The cache.
+     */
+    private final LabelCache m_Cache;
+
+    /**
+     *  The wrapped formatter.
+     */
+    private final StringConverter<Number> m_Delegate;
+
+    /**
+     *  The format locale that was current when the cached labels were
+     *  created.
+     */
+    private Locale m_Locale;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code CachingLabelFormatter} with the
+     *  {@linkplain #DEFAULT_CAPACITY default capacity}.
+     *
+     *  @param  delegate    The formatter that creates the labels.
+     */
+    public CachingLabelFormatter( final StringConverter<Number> delegate )
+    {
+        this( delegate, DEFAULT_CAPACITY );
+    }   //  CachingLabelFormatter()
+
+    /**
+     *  Creates a new instance of {@code CachingLabelFormatter}.
+     *
+     *  @param  delegate    The formatter that creates the labels.
+     *  @param  capacity    The maximum number of cached labels.
+     */
+    public CachingLabelFormatter( final StringConverter<Number> delegate, final int capacity )
+    {
+        m_Delegate = requireNonNullArgument( delegate, "delegate" );
+        m_Cache = new LabelCache( Integer.max( capacity, 1 ) );
+        m_Locale = Locale.getDefault( FORMAT );
+    }   //  CachingLabelFormatter()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Number fromString( final String string ) { return m_Delegate.fromString( string ); }
+
+    /**
+     *  Returns the wrapped formatter.
+     *
+     *  @return The formatter.
+     */
+    public final StringConverter<Number> getDelegate() { return m_Delegate; }
+
+    /**
+     *  Drops all cached labels.
+     */
+    public final void invalidate() { m_Cache.clear(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString( final Number value )
+    {
+        final String retValue;
+        if( isNull( value ) )
+        {
+            retValue = m_Delegate.toString( null );
+        }
+        else
+        {
+            final var locale = Locale.getDefault( FORMAT );
+            if( !locale.equals( m_Locale ) )
+            {
+                m_Cache.clear();
+                m_Locale = locale;
+            }
+            retValue = m_Cache.computeIfAbsent( Double.valueOf( value.doubleValue() ), m_Delegate::toString );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+}
+//  class CachingLabelFormatter
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,1255 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static java.lang.Double.NEGATIVE_INFINITY;
+import static java.lang.Math.floor;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.ceilingIndex;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.css.CssMetaData;
+import javafx.css.FontCssMetaData;
+import javafx.css.SimpleStyleableDoubleProperty;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.Styleable;
+import javafx.css.StyleableDoubleProperty;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.css.converter.PaintConverter;
+import javafx.css.converter.SizeConverter;
+import javafx.geometry.Side;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import javafx.util.StringConverter;
+
+/**
+ *  <p>{@summary The implementation of
+ *  {@link TickLine}
+ *  that draws all tick marks and labels into a single
+ *  {@link Canvas}.}</p>
+ *  <p>Different from
+ *  {@link AxisTickLine},
+ *  there are no nodes for the single tick marks and labels, and the canvas is
+ *  repainted only when the bounds, the tick unit, the size, the visibility
+ *  flags, the formatter or the style have changed; a call to
+ *  {@link #requestAxisLayout()}
+ *  is ignored otherwise.</p>
+ *  <p>The density of the tick marks adapts to the available pixels: tick
+ *  marks that would be closer together than the
+ *  {@linkplain #minimumTickSpacingProperty() minimum spacing}
+ *  are not drawn at all. For the minor tick marks, the finest subdivision
+ *  of the minor tick count that still fits is used, and the major tick
+ *  marks are thinned to every second, third, fourth, sixth or twelfth one
+ *  (and so on), if necessary. The labels are thinned the same way, based on
+ *  the width of the first and the last label; so only the labels that are
+ *  drawn are formatted and measured. Labels that would still overlap their
+ *  predecessor are omitted.</p>
+ *  <p>Instead of the regular tick marks that are derived from the tick unit,
+ *  the tick line can also draw an explicit set of tick marks with their
+ *  labels; this is used for scales with irregular units, like days or weeks
+ *  in a time zone with daylight saving time.</p>
+ *  <p>The tick line has the style classes {@value #DEFAULT_STYLE_CLASS} and
+ *  {@code axis}, so that the rules for a
+ *  {@link javafx.scene.chart.NumberAxis}
+ *  regarding the tick length and the label font and fill apply to it as well.
+ *  In addition, it supports the CSS property {@code -fx-tick-mark-fill} for
+ *  the colour of the tick marks, and {@code -fx-minimum-tick-spacing} for
+ *  the minimum distance between two tick marks.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( {"ClassWithTooManyFields", "ClassWithTooManyMethods"} )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class CanvasTickLine extends Region implements TickLine
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The styleable properties for
+     *  {@link CanvasTickLine}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @SuppressWarnings( {"InnerClassTooDeeplyNested", "AnonymousInnerClass"} )
+    @UtilityClass
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private static final class StyleableProperties
+    {
+            /*------------------------*\
+        ====** Static Initialisations **=======================================
+            \*------------------------*/
+        /**
+         *  The CSS attribute for the minimum distance between two tick
+         *  marks.
+         */
+        public static final CssMetaData<CanvasTickLine,Number> MINIMUM_TICK_SPACING = new CssMetaData<>( "-fx-minimum-tick-spacing", SizeConverter.getInstance(), MIN_MINOR_TICK_DISTANCE )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Number> getStyleableProperty( final CanvasTickLine styleable ) { return styleable.m_MinimumTickSpacingProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final CanvasTickLine styleable ) { return !styleable.m_MinimumTickSpacingProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for the length of the minor tick marks.
+         */
+        public static final CssMetaData<CanvasTickLine,Number> MINOR_TICK_LENGTH = new CssMetaData<>( "-fx-minor-tick-length", SizeConverter.getInstance(), 5.0 )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Number> getStyleableProperty( final CanvasTickLine styleable ) { return styleable.m_MinorTickLengthProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final CanvasTickLine styleable ) { return !styleable.m_MinorTickLengthProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for the fill of the tick labels.
+         */
+        public static final CssMetaData<CanvasTickLine,Paint> TICK_LABEL_FILL = new CssMetaData<>( "-fx-tick-label-fill", PaintConverter.getInstance(), Color.BLACK )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Paint> getStyleableProperty( final CanvasTickLine styleable ) { return styleable.m_TickLabelFillProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final CanvasTickLine styleable ) { return !styleable.m_TickLabelFillProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for the font of the tick labels.
+         */
+        @SuppressWarnings( "MagicNumber" )
+        public static final CssMetaData<CanvasTickLine,Font> TICK_LABEL_FONT = new FontCssMetaData<>( "-fx-tick-label-font", Font.font( "system", 8.0 ) )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Font> getStyleableProperty( final CanvasTickLine styleable ) { return styleable.m_TickLabelFontProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final CanvasTickLine styleable ) { return !styleable.m_TickLabelFontProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for the gap between the tick marks and the
+         *  labels.
+         */
+        public static final CssMetaData<CanvasTickLine,Number> TICK_LABEL_GAP = new CssMetaData<>( "-fx-tick-label-gap", SizeConverter.getInstance(), 3.0 )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Number> getStyleableProperty( final CanvasTickLine styleable ) { return styleable.m_TickLabelGapProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final CanvasTickLine styleable ) { return !styleable.m_TickLabelGapProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for the length of the major tick marks.
+         */
+        public static final CssMetaData<CanvasTickLine,Number> TICK_LENGTH = new CssMetaData<>( "-fx-tick-length", SizeConverter.getInstance(), 8.0 )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Number> getStyleableProperty( final CanvasTickLine styleable ) { return styleable.m_TickLengthProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final CanvasTickLine styleable ) { return !styleable.m_TickLengthProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attribute for the fill of the tick marks.
+         */
+        public static final CssMetaData<CanvasTickLine,Paint> TICK_MARK_FILL = new CssMetaData<>( "-fx-tick-mark-fill", PaintConverter.getInstance(), Color.GRAY )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Paint> getStyleableProperty( final CanvasTickLine styleable ) { return styleable.m_TickMarkFillProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final CanvasTickLine styleable ) { return !styleable.m_TickMarkFillProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attributes for
+         *  {@link CanvasTickLine}.
+         */
+        @SuppressWarnings( "StaticCollection" )
+        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES;
+
+        static
+        {
+            final List<CssMetaData<? extends Styleable, ?>> styleables = new ArrayList<>( Region.getClassCssMetaData() );
+            styleables.addAll( List.of( MINIMUM_TICK_SPACING, MINOR_TICK_LENGTH, TICK_LABEL_FILL, TICK_LABEL_FONT, TICK_LABEL_GAP, TICK_LENGTH, TICK_MARK_FILL ) );
+            STYLEABLES = List.copyOf( styleables );
+        }
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  No instance allowed for this class!
+         */
+        private StyleableProperties() { throw new PrivateConstructorForStaticClassCalledError( StyleableProperties.class ); }
+    }
+    //  class StyleableProperties
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default style class for {@code CanvasTickLine} instances:
+     *  {@value}.
+     */
+    public static final String DEFAULT_STYLE_CLASS = "tick-line"; //$NON-NLS-1$
+
+    /**
+     *  The maximum number of major tick marks that will be drawn: {@value}.
+     *  If the tick unit would result in more tick marks, nothing is drawn.
+     */
+    public static final int MAX_TICK_COUNT = 10_000;
+
+    /**
+     *  The default for the minimum distance between two tick marks in
+     *  pixels: {@value}. If the tick marks would be closer, they are
+     *  omitted.
+     *
+     *  @see #minimumTickSpacingProperty()
+     */
+    public static final double MIN_MINOR_TICK_DISTANCE = 2.0;
+
+    /**
+     *  The strides for the thinning of the major tick marks and the labels;
+     *  beyond the last one, the stride is doubled until it fits.
+     */
+    private static final int [] STRIDES = {1, 2, 3, 4, 6, 12};
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The canvas.
+     */
+    private final Canvas m_Canvas;
+
+    /**
+     *  The format for the labels if no
+     *  {@linkplain #tickLabelFormatterProperty() formatter}
+     *  is set.
+     */
+    private final NumberFormat m_DefaultFormat = new DecimalFormat( "0.######" );
+
+    /**
+     *  The flag that indicates that the canvas has to be repainted.
+     */
+    private boolean m_Dirty = true;
+
+    /**
+     *  The lower bound.
+     */
+    private double m_LowerBound = 0.0;
+
+    /**
+     *  The labels for the explicit major tick marks.
+     *
+     *  @see #setTicks(double[],String[],double[])
+     */
+    private String [] m_MajorTickLabels = null;
+
+    /**
+     *  The explicit major tick marks; {@code null} if the tick marks are
+     *  derived from the tick unit.
+     *
+     *  @see #setTicks(double[],String[],double[])
+     */
+    private double [] m_MajorTicks = null;
+
+    /**
+     *  The helper that is used to measure the labels.
+     */
+    private final Text m_Measure = new Text();
+
+    /**
+     *  The property for the minimum distance between two tick marks in
+     *  pixels.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableDoubleProperty m_MinimumTickSpacingProperty = new SimpleStyleableDoubleProperty( StyleableProperties.MINIMUM_TICK_SPACING, this, "minimumTickSpacing", MIN_MINOR_TICK_DISTANCE );
+
+    /**
+     *  The number of divisions between two major tick marks.
+     */
+    private int m_MinorTickCount = 5;
+
+    /**
+     *  The explicit minor tick marks.
+     *
+     *  @see #setTicks(double[],String[],double[])
+     */
+    private double [] m_MinorTicks = null;
+
+    /**
+     *  The property for the length of the minor tick marks.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableDoubleProperty m_MinorTickLengthProperty = new SimpleStyleableDoubleProperty( StyleableProperties.MINOR_TICK_LENGTH, this, "minorTickLength", 5.0 );
+
+    /**
+     *  The flag that controls whether the minor tick marks are visible.
+     */
+    private boolean m_MinorTickVisible = true;
+
+    /**
+     *  The side of the track on which the tick line is placed.
+     */
+    private Side m_Side = Side.BOTTOM;
+
+    /**
+     *  The property for the fill of the tick labels.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableObjectProperty<Paint> m_TickLabelFillProperty = new SimpleStyleableObjectProperty<>( StyleableProperties.TICK_LABEL_FILL, this, "tickLabelFill", Color.BLACK );
+
+    /**
+     *  The property for the font of the tick labels.
+     */
+    @SuppressWarnings( {"ThisEscapedInObjectConstruction", "MagicNumber"} )
+    private final StyleableObjectProperty<Font> m_TickLabelFontProperty = new SimpleStyleableObjectProperty<>( StyleableProperties.TICK_LABEL_FONT, this, "tickLabelFont", Font.font( "system", 8.0 ) );
+
+    /**
+     *  The property for the tick label formatter.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ObjectProperty<StringConverter<Number>> m_TickLabelFormatterProperty = new SimpleObjectProperty<>( this, "tickLabelFormatter" );
+
+    /**
+     *  The property for the gap between the tick marks and the labels.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableDoubleProperty m_TickLabelGapProperty = new SimpleStyleableDoubleProperty( StyleableProperties.TICK_LABEL_GAP, this, "tickLabelGap", 3.0 );
+
+    /**
+     *  The stops that are marked in addition to the tick marks; {@code null}
+     *  if there are none.
+     */
+    private double [] m_Stops = null;
+
+    /**
+     *  The flag that controls whether the tick labels are visible.
+     */
+    private boolean m_TickLabelsVisible = true;
+
+    /**
+     *  The property for the length of the major tick marks.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableDoubleProperty m_TickLengthProperty = new SimpleStyleableDoubleProperty( StyleableProperties.TICK_LENGTH, this, "tickLength", 8.0 );
+
+    /**
+     *  The property for the fill of the tick marks.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableObjectProperty<Paint> m_TickMarkFillProperty = new SimpleStyleableObjectProperty<>( StyleableProperties.TICK_MARK_FILL, this, "tickMarkFill", Color.GRAY );
+
+    /**
+     *  The flag that controls whether the major tick marks are visible.
+     */
+    private boolean m_TickMarkVisible = true;
+
+    /**
+     *  The distance between two major tick marks.
+     */
+    private double m_TickUnit = 25.0;
+
+    /**
+     *  The upper bound.
+     */
+    private double m_UpperBound = 100.0;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code CanvasTickLine}.
+     */
+    public CanvasTickLine()
+    {
+        getStyleClass().setAll( "axis", DEFAULT_STYLE_CLASS );
+        setFocusTraversable( false );
+
+        m_Canvas = new Canvas();
+        m_Canvas.setManaged( false );
+        getChildren().add( m_Canvas );
+
+        final InvalidationListener repaintListener = $ -> markDirty();
+        m_MinimumTickSpacingProperty.addListener( repaintListener );
+        m_MinorTickLengthProperty.addListener( repaintListener );
+        m_TickLabelFillProperty.addListener( repaintListener );
+        m_TickLabelFontProperty.addListener( repaintListener );
+        m_TickLabelFormatterProperty.addListener( repaintListener );
+        m_TickLabelGapProperty.addListener( repaintListener );
+        m_TickLengthProperty.addListener( repaintListener );
+        m_TickMarkFillProperty.addListener( repaintListener );
+    }   //  CanvasTickLine()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adds the path for a tick mark to the given graphics context.
+     *
+     *  @param  gc  The graphics context.
+     *  @param  position    The position of the tick mark along the tick
+     *      line.
+     *  @param  length  The length of the tick mark.
+     */
+    private final void addTickMark( final GraphicsContext gc, final double position, final double length )
+    {
+        switch( m_Side )
+        {
+            case BOTTOM ->
+            {
+                gc.moveTo( position, 0.0 );
+                gc.lineTo( position, length );
+            }
+            case TOP ->
+            {
+                gc.moveTo( position, m_Canvas.getHeight() );
+                gc.lineTo( position, m_Canvas.getHeight() - length );
+            }
+            case RIGHT ->
+            {
+                gc.moveTo( 0.0, position );
+                gc.lineTo( length, position );
+            }
+            case LEFT ->
+            {
+                gc.moveTo( m_Canvas.getWidth(), position );
+                gc.lineTo( m_Canvas.getWidth() - length, position );
+            }
+        }
+    }   //  addTickMark()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computePrefHeight( final double width )
+    {
+        final var retValue = snappedTopInset() + snappedBottomInset() + (m_Side.isHorizontal() ? computeDepth() : 0.0);
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computePrefWidth( final double height )
+    {
+        final var retValue = snappedLeftInset() + snappedRightInset() + (m_Side.isVertical() ? computeDepth() : 0.0);
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefWidth()
+
+    /**
+     *  Calculates the extent of the tick line perpendicular to the track.
+     *
+     *  @return The depth.
+     */
+    private final double computeDepth()
+    {
+        var retValue = getTickLength();
+        if( m_TickLabelsVisible )
+        {
+            var labelDepth = 0.0;
+            if( m_Side.isHorizontal() )
+            {
+                labelDepth = measure( "0" ) [1];
+            }
+            else
+            {
+                final var majorCount = majorTickCount();
+                for( var i = 0L; i <= majorCount; ++i )
+                {
+                    labelDepth = Double.max( labelDepth, measure( label( i, majorCount ) ) [0] );
+                }
+            }
+            retValue += getTickLabelGap() + labelDepth;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeDepth()
+
+    /**
+     *  Formats the given value for a label.
+     *
+     *  @param  value   The value.
+     *  @return The label text.
+     */
+    private final String format( final double value )
+    {
+        final var formatter = getTickLabelFormatter();
+        final var retValue = isNull( formatter ) ? m_DefaultFormat.format( value ) : formatter.toString( value );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  format()
+
+    /**
+     *  Returns the CSS metadata for this class.
+     *
+     *  @return The CSS metadata.
+     */
+    @SuppressWarnings( "MethodOverridesStaticMethodOfSuperclass" )
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() { return StyleableProperties.STYLEABLES; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final List<CssMetaData<? extends Styleable, ?>> getCssMetaData() { return getClassCssMetaData(); }
+
+    /**
+     *  Returns the minimum distance between two tick marks.
+     *
+     *  @return The minimum distance in pixels.
+     */
+    public final double getMinimumTickSpacing() { return m_MinimumTickSpacingProperty.get(); }
+
+    /**
+     *  Returns the length of the minor tick marks.
+     *
+     *  @return The length.
+     */
+    public final double getMinorTickLength() { return m_MinorTickLengthProperty.get(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Region getNode() { return this; }
+
+    /**
+     *  Returns the fill for the tick labels.
+     *
+     *  @return The fill.
+     */
+    public final Paint getTickLabelFill() { return m_TickLabelFillProperty.get(); }
+
+    /**
+     *  Returns the font for the tick labels.
+     *
+     *  @return The font.
+     */
+    public final Font getTickLabelFont() { return m_TickLabelFontProperty.get(); }
+
+    /**
+     *  Returns the formatter for the tick labels.
+     *
+     *  @return The formatter; can be {@code null}.
+     */
+    public final StringConverter<Number> getTickLabelFormatter() { return m_TickLabelFormatterProperty.get(); }
+
+    /**
+     *  Returns the gap between the tick marks and the labels.
+     *
+     *  @return The gap.
+     */
+    public final double getTickLabelGap() { return m_TickLabelGapProperty.get(); }
+
+    /**
+     *  Returns the length of the major tick marks.
+     *
+     *  @return The length.
+     */
+    public final double getTickLength() { return m_TickLengthProperty.get(); }
+
+    /**
+     *  Returns the fill for the tick marks.
+     *
+     *  @return The fill.
+     */
+    public final Paint getTickMarkFill() { return m_TickMarkFillProperty.get(); }
+
+    /**
+     *  Returns the label for the major tick mark with the given index.
+     *
+     *  @param  index   The index of the tick mark.
+     *  @param  majorCount  The result from
+     *      {@link #majorTickCount()}.
+     *  @return The label text.
+     */
+    private final String label( final long index, final long majorCount )
+    {
+        @SuppressWarnings( "NumericCastThatLosesPrecision" )
+        final var retValue = nonNull( m_MajorTicks )
+            ? m_MajorTickLabels [(int) index]
+            : format( majorTickValue( index, majorCount ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  label()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final void layoutChildren()
+    {
+        final var width = snapSizeX( getWidth() );
+        final var height = snapSizeY( getHeight() );
+        if( (width != m_Canvas.getWidth()) || (height != m_Canvas.getHeight()) )
+        {
+            m_Canvas.setWidth( width );
+            m_Canvas.setHeight( height );
+            m_Dirty = true;
+        }
+        if( m_Dirty )
+        {
+            m_Dirty = false;
+            paint();
+        }
+    }   //  layoutChildren()
+
+    /**
+     *  Returns the number of major tick units between the lower and the upper
+     *  bound.
+     *
+     *  @return The number of major tick units; a negative value indicates
+     *      that there are no tick marks to draw. For explicit tick marks, it
+     *      is the index of the last one.
+     */
+    private final long majorTickCount()
+    {
+        final var range = m_UpperBound - m_LowerBound;
+        @SuppressWarnings( "NumericCastThatLosesPrecision" )
+        final var retValue = nonNull( m_MajorTicks )
+            ? m_MajorTicks.length - 1L
+            : (range > 0.0) && (m_TickUnit > 0.0) && ((range / m_TickUnit) <= MAX_TICK_COUNT)
+                ? (long) floor( range / m_TickUnit ) + ((range % m_TickUnit) == 0.0 ? 0 : 1)
+                : -1L;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  majorTickCount()
+
+    /**
+     *  Returns the value for the major tick mark with the given index; like
+     *  for
+     *  {@link javafx.scene.chart.NumberAxis},
+     *  the last tick mark is always placed on the upper bound, unless the
+     *  tick marks are explicit.
+     *
+     *  @param  index   The index of the tick mark.
+     *  @param  majorCount  The result from
+     *      {@link #majorTickCount()}.
+     *  @return The value.
+     */
+    @SuppressWarnings( "NumericCastThatLosesPrecision" )
+    private final double majorTickValue( final long index, final long majorCount )
+    {
+        final var retValue = nonNull( m_MajorTicks )
+            ? m_MajorTicks [(int) index]
+            : index == majorCount ? m_UpperBound : m_LowerBound + (index * m_TickUnit);
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  majorTickValue()
+
+    /**
+     *  Marks the canvas as dirty and requests a new layout.
+     */
+    private final void markDirty()
+    {
+        m_Dirty = true;
+        requestLayout();
+    }   //  markDirty()
+
+    /**
+     *  Measures the given text with the current tick label font.
+     *
+     *  @param  text    The text.
+     *  @return An array with the width and the height of the text.
+     */
+    private final double [] measure( final String text )
+    {
+        m_Measure.setFont( getTickLabelFont() );
+        m_Measure.setText( text );
+        final var bounds = m_Measure.getLayoutBounds();
+        final var retValue = new double [] {bounds.getWidth(), bounds.getHeight()};
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  measure()
+
+    /**
+     *  Returns the property for the minimum distance between two tick marks
+     *  in pixels; tick marks that would be closer are omitted, and the
+     *  labels are thinned accordingly.
+     *
+     *  @return The property.
+     */
+    public final StyleableDoubleProperty minimumTickSpacingProperty() { return m_MinimumTickSpacingProperty; }
+
+    /**
+     *  Returns the number of minor tick intervals per major tick unit that
+     *  will be drawn: the largest divisor of the minor tick count for that
+     *  the minor tick marks are not closer than the minimum spacing.
+     *
+     *  @param  majorDistance   The distance between two major tick marks in
+     *      pixels.
+     *  @return The number of minor tick intervals; 1 if no minor tick marks
+     *      will be drawn.
+     */
+    private final int minorDivisions( final double majorDistance )
+    {
+        final var spacing = getMinimumTickSpacing();
+        var retValue = Integer.max( m_MinorTickCount, 1 );
+        while( (retValue > 1) && (((m_MinorTickCount % retValue) != 0) || ((majorDistance / retValue) < spacing)) ) --retValue;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minorDivisions()
+
+    /**
+     *  Returns the property for the length of the minor tick marks.
+     *
+     *  @return The property.
+     */
+    public final StyleableDoubleProperty minorTickLengthProperty() { return m_MinorTickLengthProperty; }
+
+    /**
+     *  Returns the index of the next major tick mark for the given stride;
+     *  the last tick mark is always visited, so the tick mark on the upper
+     *  bound is not lost.
+     *
+     *  @param  index   The current index.
+     *  @param  stride  The stride.
+     *  @param  majorCount  The result from
+     *      {@link #majorTickCount()}.
+     *  @return The next index; it is greater than {@code majorCount} after
+     *      the last tick mark.
+     */
+    private static final long nextIndex( final long index, final long stride, final long majorCount )
+    {
+        final var retValue = (index < majorCount) && ((index + stride) > majorCount) ? majorCount : index + stride;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nextIndex()
+
+    /**
+     *  Paints the tick marks and labels to the canvas.
+     */
+    @SuppressWarnings( {"OverlyComplexMethod", "OverlyLongMethod"} )
+    private final void paint()
+    {
+        final var gc = m_Canvas.getGraphicsContext2D();
+        final var width = m_Canvas.getWidth();
+        final var height = m_Canvas.getHeight();
+        gc.clearRect( 0.0, 0.0, width, height );
+
+        final var majorCount = majorTickCount();
+        if( majorCount < 0 ) return;
+
+        final var horizontal = m_Side.isHorizontal();
+        final var length = horizontal ? width : height;
+        if( length < 1.0 ) return;
+        final var scale = length / (m_UpperBound - m_LowerBound);
+        final var spacing = getMinimumTickSpacing();
+
+        /*
+         * The level of detail: for regular tick marks, only every
+         * 'majorStride'th major tick mark is drawn, and each major unit is
+         * divided into 'minorDivisions' minor units, so that no two tick
+         * marks are closer than the minimum spacing. The explicit tick marks
+         * are thinned while they are drawn.
+         */
+        final var majorDistance = m_TickUnit * scale;
+        final var explicitTicks = nonNull( m_MajorTicks );
+        final var majorStride = explicitTicks || (majorDistance <= 0.0) ? 1L : stride( spacing / majorDistance );
+        final var minorDivisions = (majorStride == 1L) && m_MinorTickVisible && !explicitTicks ? minorDivisions( majorDistance ) : 1;
+
+        //---* Draw the tick marks *-------------------------------------------
+        if( m_TickMarkVisible || m_MinorTickVisible )
+        {
+            final var minorUnit = m_TickUnit / minorDivisions;
+            gc.setStroke( getTickMarkFill() );
+            gc.setLineWidth( 1.0 );
+            gc.beginPath();
+            var lastMajorPosition = NEGATIVE_INFINITY;
+            for( var i = 0L; i <= majorCount; i = nextIndex( i, majorStride, majorCount ) )
+            {
+                final var value = majorTickValue( i, majorCount );
+                final var position = pixelPosition( value, scale, length );
+                if( m_TickMarkVisible && (Math.abs( position - lastMajorPosition ) >= spacing) )
+                {
+                    addTickMark( gc, position, getTickLength() );
+                    lastMajorPosition = position;
+                }
+                if( (minorDivisions > 1) && (i < majorCount) )
+                {
+                    for( var j = 1; j < minorDivisions; ++j )
+                    {
+                        final var minorValue = value + (j * minorUnit);
+                        if( minorValue >= m_UpperBound ) break;
+                        addTickMark( gc, pixelPosition( minorValue, scale, length ), getMinorTickLength() );
+                    }
+                }
+            }
+            if( m_MinorTickVisible && nonNull( m_MinorTicks ) )
+            {
+                var lastPosition = NEGATIVE_INFINITY;
+                for( final var minorValue : m_MinorTicks )
+                {
+                    final var position = pixelPosition( minorValue, scale, length );
+                    if( Math.abs( position - lastPosition ) < spacing ) continue;
+                    lastPosition = position;
+                    addTickMark( gc, position, getMinorTickLength() );
+                }
+            }
+            gc.stroke();
+        }
+
+        //---* Draw the stops *------------------------------------------------
+        if( nonNull( m_Stops ) )
+        {
+            /*
+             * After each stop that is drawn, the search for the next one
+             * skips all stops that would be closer than the minimum distance,
+             * so only the stops that fit are visited.
+             */
+            final var minDistance = spacing / scale;
+            gc.setStroke( getTickMarkFill() );
+            gc.setLineWidth( 1.0 );
+            gc.beginPath();
+            var index = ceilingIndex( m_Stops, 0, m_LowerBound );
+            while( (index < m_Stops.length) && (m_Stops [index] <= m_UpperBound) )
+            {
+                final var value = m_Stops [index];
+                addTickMark( gc, pixelPosition( value, scale, length ), getMinorTickLength() );
+                index = ceilingIndex( m_Stops, index + 1, value + minDistance );
+            }
+            gc.stroke();
+        }
+
+        //---* Draw the labels *-----------------------------------------------
+        if( m_TickLabelsVisible )
+        {
+            gc.setFill( getTickLabelFill() );
+            gc.setFont( getTickLabelFont() );
+            final var offset = getTickLength() + getTickLabelGap();
+            switch( m_Side )
+            {
+                case BOTTOM ->
+                {
+                    gc.setTextAlign( TextAlignment.CENTER );
+                    gc.setTextBaseline( VPos.TOP );
+                }
+                case TOP ->
+                {
+                    gc.setTextAlign( TextAlignment.CENTER );
+                    gc.setTextBaseline( VPos.BOTTOM );
+                }
+                case RIGHT ->
+                {
+                    gc.setTextAlign( TextAlignment.LEFT );
+                    gc.setTextBaseline( VPos.CENTER );
+                }
+                case LEFT ->
+                {
+                    gc.setTextAlign( TextAlignment.RIGHT );
+                    gc.setTextBaseline( VPos.CENTER );
+                }
+            }
+
+            /*
+             * The labels are thinned like the major tick marks, with a
+             * multiple of their stride that is derived from the wider one of
+             * the first and the
+             * last label; so only the labels that are drawn are formatted and
+             * measured.
+             */
+            var labelStride = 1L;
+            if( !explicitTicks && (majorCount > 0) && (majorDistance > 0.0) )
+            {
+                final var labelExtent = Double.max( measure( label( 0L, majorCount ) ) [horizontal ? 0 : 1], measure( label( majorCount, majorCount ) ) [horizontal ? 0 : 1] );
+                labelStride = majorStride * stride( (labelExtent + getTickLabelGap()) / (majorDistance * majorStride) );
+            }
+
+            var lastEnd = NEGATIVE_INFINITY;
+            for( var i = 0L; i <= majorCount; i = nextIndex( i, labelStride, majorCount ) )
+            {
+                final var value = majorTickValue( i, majorCount );
+                final var label = label( i, majorCount );
+                final var extent = measure( label ) [horizontal ? 0 : 1];
+                if( extent > length ) continue;
+
+                /*
+                 * The distance is measured from the lower bound, independent
+                 * from the orientation; labels that would overlap the
+                 * previous one are omitted.
+                 */
+                final var distance = clamp( extent / 2.0, (value - m_LowerBound) * scale, length - (extent / 2.0) );
+                if( (distance - (extent / 2.0)) < lastEnd ) continue;
+                lastEnd = distance + (extent / 2.0) + getTickLabelGap();
+
+                final var position = horizontal ? distance : length - distance;
+                switch( m_Side )
+                {
+                    case BOTTOM -> gc.fillText( label, position, offset );
+                    case TOP -> gc.fillText( label, position, height - offset );
+                    case RIGHT -> gc.fillText( label, offset, position );
+                    case LEFT -> gc.fillText( label, width - offset, position );
+                }
+            }
+        }
+    }   //  paint()
+
+    /**
+     *  Calculates the pixel position on the canvas for the given value. For a
+     *  vertical tick line, the lower bound is at the bottom.
+     *
+     *  @param  value   The value.
+     *  @param  scale   The pixels per unit.
+     *  @param  length  The length of the tick line in pixels.
+     *  @return The position, aligned to the centre of a pixel.
+     */
+    private final double pixelPosition( final double value, final double scale, final double length )
+    {
+        final var distance = (value - m_LowerBound) * scale;
+        final var position = m_Side.isHorizontal() ? distance : length - distance;
+        final var retValue = clamp( 0.5, floor( position ) + 0.5, length - 0.5 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  pixelPosition()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The request is ignored if nothing has changed since the last
+     *  repaint.</p>
+     */
+    @Override
+    public final void requestAxisLayout()
+    {
+        if( m_Dirty ) requestLayout();
+    }   //  requestAxisLayout()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setLowerBound( final double value )
+    {
+        if( m_LowerBound != value )
+        {
+            m_LowerBound = value;
+            markDirty();
+        }
+    }   //  setLowerBound()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setMinorTickCount( final int value )
+    {
+        if( m_MinorTickCount != value )
+        {
+            m_MinorTickCount = value;
+            markDirty();
+        }
+    }   //  setMinorTickCount()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setMinorTickVisible( final boolean flag )
+    {
+        if( m_MinorTickVisible != flag )
+        {
+            m_MinorTickVisible = flag;
+            markDirty();
+        }
+    }   //  setMinorTickVisible()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setSide( final Side side )
+    {
+        if( m_Side != requireNonNullArgument( side, "side" ) )
+        {
+            m_Side = side;
+            markDirty();
+        }
+    }   //  setSide()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>Stops that are closer than the
+     *  {@linkplain #minimumTickSpacingProperty() minimum tick spacing}
+     *  to the previous one are omitted.</p>
+     */
+    @Override
+    public final void setStops( final double [] stops )
+    {
+        if( m_Stops != stops )
+        {
+            m_Stops = stops;
+            markDirty();
+        }
+    }   //  setStops()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setTickLabelsVisible( final boolean flag )
+    {
+        if( m_TickLabelsVisible != flag )
+        {
+            m_TickLabelsVisible = flag;
+            markDirty();
+        }
+    }   //  setTickLabelsVisible()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setTickMarkVisible( final boolean flag )
+    {
+        if( m_TickMarkVisible != flag )
+        {
+            m_TickMarkVisible = flag;
+            markDirty();
+        }
+    }   //  setTickMarkVisible()
+
+    /**
+     *  <p>{@summary Sets explicit tick marks.} As long as these are set, the
+     *  {@linkplain #setTickUnit(double) tick unit},
+     *  the
+     *  {@linkplain #setMinorTickCount(int) minor tick count}
+     *  and the
+     *  {@linkplain #tickLabelFormatterProperty() formatter}
+     *  are ignored.</p>
+     *  <p>The values are in the same unit as the bounds, and in ascending
+     *  order; the arrays are not copied. Minor tick marks that are closer
+     *  than the
+     *  {@linkplain #minimumTickSpacingProperty() minimum tick spacing}
+     *  to the previous one are omitted.</p>
+     *
+     *  @param  majorTicks  The values for the major tick marks, or
+     *      {@code null} to return to the tick marks that are derived from the
+     *      tick unit.
+     *  @param  labels  The labels for the major tick marks; the array must
+     *      have the same length as {@code majorTicks}.
+     *  @param  minorTicks  The values for the minor tick marks; can be
+     *      {@code null}.
+     */
+    public final void setTicks( final double [] majorTicks, final String [] labels, final double [] minorTicks )
+    {
+        if( nonNull( majorTicks ) && (requireNonNullArgument( labels, "labels" ).length != majorTicks.length) )
+        {
+            throw new IllegalArgumentException( "The number of labels does not match the number of tick marks" );
+        }
+        m_MajorTicks = majorTicks;
+        m_MajorTickLabels = isNull( majorTicks ) ? null : labels;
+        m_MinorTicks = isNull( majorTicks ) ? null : minorTicks;
+        markDirty();
+    }   //  setTicks()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setTickUnit( final double value )
+    {
+        if( m_TickUnit != value )
+        {
+            m_TickUnit = value;
+            markDirty();
+        }
+    }   //  setTickUnit()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setUpperBound( final double value )
+    {
+        if( m_UpperBound != value )
+        {
+            m_UpperBound = value;
+            markDirty();
+        }
+    }   //  setUpperBound()
+
+    /**
+     *  Returns the smallest stride for the thinning of tick marks or labels
+     *  that is not less than the given number.
+     *
+     *  @param  required    The required stride.
+     *  @return The stride.
+     */
+    private static final long stride( final double required )
+    {
+        var retValue = 0L;
+        for( final var stride : STRIDES )
+        {
+            if( stride >= required )
+            {
+                retValue = stride;
+                break;
+            }
+        }
+        if( retValue == 0L )
+        {
+            retValue = STRIDES [STRIDES.length - 1];
+            while( (retValue < required) && (retValue < MAX_TICK_COUNT) ) retValue *= 2L;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  stride()
+
+    /**
+     *  Returns the property for the fill of the tick labels.
+     *
+     *  @return The property.
+     */
+    public final StyleableObjectProperty<Paint> tickLabelFillProperty() { return m_TickLabelFillProperty; }
+
+    /**
+     *  Returns the property for the font of the tick labels.
+     *
+     *  @return The property.
+     */
+    public final StyleableObjectProperty<Font> tickLabelFontProperty() { return m_TickLabelFontProperty; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ObjectProperty<StringConverter<Number>> tickLabelFormatterProperty() { return m_TickLabelFormatterProperty; }
+
+    /**
+     *  Returns the property for the gap between the tick marks and the
+     *  labels.
+     *
+     *  @return The property.
+     */
+    public final StyleableDoubleProperty tickLabelGapProperty() { return m_TickLabelGapProperty; }
+
+    /**
+     *  Returns the property for the length of the major tick marks.
+     *
+     *  @return The property.
+     */
+    public final StyleableDoubleProperty tickLengthProperty() { return m_TickLengthProperty; }
+
+    /**
+     *  Returns the property for the fill of the tick marks.
+     *
+     *  @return The property.
+     */
+    public final StyleableObjectProperty<Paint> tickMarkFillProperty() { return m_TickMarkFillProperty; }
+}
+//  class CanvasTickLine
+
+/*
+ *  End of File
+ */
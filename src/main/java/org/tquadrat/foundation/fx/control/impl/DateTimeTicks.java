@@ -0,0 +1,431 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.util.Locale.Category.FORMAT;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.fx.control.impl.CanvasTickLine.MAX_TICK_COUNT;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.Locale;
+import java.util.stream.LongStream;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The tick marks and labels for a scale of points in time,
+ *  aligned to the wall clock of a time zone.}</p>
+ *  <p>The units for the major and the minor tick marks are chosen from
+ *  minutes, hours, days and weeks, so that the major tick marks are at least
+ *  {@value #MIN_MAJOR_TICK_SPACING} and the minor tick marks at least
+ *  {@value #MIN_MINOR_TICK_SPACING} pixels apart. Only the tick marks between
+ *  the given bounds are generated, so the effort depends on the available
+ *  pixels, not on the length of the covered period.</p>
+ *  <p>The tick marks are placed on local times, like full hours or
+ *  midnight; if such a local time does not exist because of a gap for the
+ *  daylight saving time, the tick mark is placed on the end of the gap, and
+ *  it is omitted if that coincides with the next one. For local times that
+ *  exist twice, only the first occurrence gets a tick mark.</p>
+ *  <p>Instances of this class are immutable.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class DateTimeTicks
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The units for the tick marks.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static enum TickUnit
+    {
+            /*------------------*\
+        ====** Enum Declaration **=============================================
+            \*------------------*/
+        /**
+         *  One minute.
+         */
+        MINUTE( MINUTES, 1 ),
+
+        /**
+         *  Five minutes.
+         */
+        FIVE_MINUTES( MINUTES, 5 ),
+
+        /**
+         *  A quarter of an hour.
+         */
+        FIFTEEN_MINUTES( MINUTES, 15 ),
+
+        /**
+         *  Half an hour.
+         */
+        THIRTY_MINUTES( MINUTES, 30 ),
+
+        /**
+         *  One hour.
+         */
+        HOUR( HOURS, 1 ),
+
+        /**
+         *  Three hours.
+         */
+        THREE_HOURS( HOURS, 3 ),
+
+        /**
+         *  Six hours.
+         */
+        SIX_HOURS( HOURS, 6 ),
+
+        /**
+         *  Twelve hours.
+         */
+        TWELVE_HOURS( HOURS, 12 ),
+
+        /**
+         *  One day.
+         */
+        DAY( DAYS, 1 ),
+
+        /**
+         *  One week.
+         */
+        WEEK( WEEKS, 1 );
+
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The number of base units.
+         */
+        private final int m_Amount;
+
+        /**
+         *  The nominal length in seconds.
+         */
+        private final long m_Seconds;
+
+        /**
+         *  The base unit.
+         */
+        private final ChronoUnit m_Unit;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code TickUnit}.
+         *
+         *  @param  unit    The base unit.
+         *  @param  amount  The number of base units.
+         */
+        private TickUnit( final ChronoUnit unit, final int amount )
+        {
+            m_Unit = unit;
+            m_Amount = amount;
+            m_Seconds = unit.getDuration().getSeconds() * amount;
+        }   //  TickUnit()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the latest local time that is aligned with this unit and
+         *  not after the given one.
+         *
+         *  @param  dateTime    The local time.
+         *  @param  firstDayOfWeek  The first day of a week.
+         *  @return The aligned local time.
+         */
+        final LocalDateTime floor( final LocalDateTime dateTime, final DayOfWeek firstDayOfWeek )
+        {
+            final var retValue = switch( m_Unit )
+            {
+                case MINUTES -> dateTime.truncatedTo( MINUTES ).withMinute( (dateTime.getMinute() / m_Amount) * m_Amount );
+                case HOURS -> dateTime.truncatedTo( HOURS ).withHour( (dateTime.getHour() / m_Amount) * m_Amount );
+                case DAYS -> dateTime.truncatedTo( DAYS );
+                default -> dateTime.truncatedTo( DAYS ).with( TemporalAdjusters.previousOrSame( firstDayOfWeek ) );
+            };
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  floor()
+
+        /**
+         *  Returns the nominal length of this unit in seconds.
+         *
+         *  @return The length.
+         */
+        public final long getSeconds() { return m_Seconds; }
+
+        /**
+         *  Returns the local time that follows the given one by this unit.
+         *
+         *  @param  dateTime    The local time.
+         *  @return The next local time.
+         */
+        final LocalDateTime next( final LocalDateTime dateTime ) { return dateTime.plus( m_Amount, m_Unit ); }
+    }
+    //  enum TickUnit
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The minimum distance between two major tick marks in pixels: {@value}.
+     */
+    public static final double MIN_MAJOR_TICK_SPACING = 72.0;
+
+    /**
+     *  The minimum distance between two minor tick marks in pixels: {@value}.
+     */
+    public static final double MIN_MINOR_TICK_SPACING = 6.0;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The labels for the major tick marks.
+     */
+    private final String [] m_Labels;
+
+    /**
+     *  The unit for the major tick marks.
+     */
+    private final TickUnit m_MajorUnit;
+
+    /**
+     *  The values for the major tick marks.
+     */
+    private final double [] m_MajorTicks;
+
+    /**
+     *  The values for the minor tick marks.
+     */
+    private final double [] m_MinorTicks;
+
+    /**
+     *  The unit for the minor tick marks; {@code null} if there are none.
+     */
+    private final TickUnit m_MinorUnit;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The formatter for the labels of tick marks at midnight.
+     */
+    private static final DateTimeFormatter m_DateFormatter;
+
+    /**
+     *  The formatter for the labels of all other tick marks.
+     */
+    private static final DateTimeFormatter m_TimeFormatter;
+
+    static
+    {
+        m_DateFormatter = DateTimeFormatter.ofPattern( "d MMM" );
+        m_TimeFormatter = new DateTimeFormatterBuilder()
+            .appendValue( HOUR_OF_DAY, 2 )
+            .appendLiteral( ':' )
+            .appendValue( MINUTE_OF_HOUR, 2 )
+            .toFormatter();
+    }
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code DateTimeTicks}.
+     *
+     *  @param  lowerBound  The lower bound, in seconds since the start of the
+     *      epoch.
+     *  @param  upperBound  The upper bound, in seconds since the start of the
+     *      epoch.
+     *  @param  origin  The point in time, in seconds since the start of the
+     *      epoch, that the values of the tick marks are relative to.
+     *  @param  timeZone    The time zone.
+     *  @param  length  The length of the scale in pixels.
+     */
+    public DateTimeTicks( final long lowerBound, final long upperBound, final long origin, final ZoneId timeZone, final double length )
+    {
+        requireNonNullArgument( timeZone, "timeZone" );
+        final var firstDayOfWeek = WeekFields.of( Locale.getDefault( FORMAT ) ).getFirstDayOfWeek();
+        final var pixelsPerSecond = upperBound > lowerBound ? length / (upperBound - lowerBound) : 0.0;
+
+        //---* Choose the units *----------------------------------------------
+        final var units = TickUnit.values();
+        var majorUnit = units [units.length - 1];
+        for( final var unit : units )
+        {
+            if( (unit.getSeconds() * pixelsPerSecond) >= MIN_MAJOR_TICK_SPACING )
+            {
+                majorUnit = unit;
+                break;
+            }
+        }
+        TickUnit minorUnit = null;
+        for( var i = 0; (i < majorUnit.ordinal()) && isNull( minorUnit ); ++i )
+        {
+            if( (units [i].getSeconds() * pixelsPerSecond) >= MIN_MINOR_TICK_SPACING ) minorUnit = units [i];
+        }
+        m_MajorUnit = majorUnit;
+        m_MinorUnit = minorUnit;
+
+        //---* Create the tick marks *-----------------------------------------
+        final var majorValues = pixelsPerSecond > 0.0
+            ? tickValues( m_MajorUnit, lowerBound, upperBound, timeZone, firstDayOfWeek )
+            : new long [0];
+        m_MajorTicks = new double [majorValues.length];
+        m_Labels = new String [majorValues.length];
+        final var rules = timeZone.getRules();
+        for( var i = 0; i < majorValues.length; ++i )
+        {
+            m_MajorTicks [i] = (double) (majorValues [i] - origin);
+            final var dateTime = LocalDateTime.ofEpochSecond( majorValues [i], 0, rules.getOffset( Instant.ofEpochSecond( majorValues [i] ) ) );
+            m_Labels [i] = (m_MajorUnit.compareTo( TickUnit.DAY ) >= 0) || dateTime.toLocalTime().equals( LocalTime.MIDNIGHT )
+                ? m_DateFormatter.format( dateTime )
+                : m_TimeFormatter.format( dateTime );
+        }
+
+        final var minorValues = isNull( m_MinorUnit ) || (pixelsPerSecond == 0.0)
+            ? new long [0]
+            : tickValues( m_MinorUnit, lowerBound, upperBound, timeZone, firstDayOfWeek );
+        m_MinorTicks = new double [minorValues.length];
+        for( var i = 0; i < minorValues.length; ++i ) m_MinorTicks [i] = (double) (minorValues [i] - origin);
+    }   //  DateTimeTicks()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the labels for the major tick marks.
+     *
+     *  @return The labels; the array is not copied.
+     */
+    public final String [] getLabels() { return m_Labels; }
+
+    /**
+     *  Returns the values for the major tick marks, relative to the origin.
+     *
+     *  @return The values; the array is not copied.
+     */
+    public final double [] getMajorTicks() { return m_MajorTicks; }
+
+    /**
+     *  Returns the unit for the major tick marks.
+     *
+     *  @return The unit.
+     */
+    public final TickUnit getMajorUnit() { return m_MajorUnit; }
+
+    /**
+     *  Returns the values for the minor tick marks, relative to the origin.
+     *
+     *  @return The values; the array is not copied.
+     */
+    public final double [] getMinorTicks() { return m_MinorTicks; }
+
+    /**
+     *  Returns the unit for the minor tick marks.
+     *
+     *  @return The unit; {@code null} if there are no minor tick marks.
+     */
+    public final TickUnit getMinorUnit() { return m_MinorUnit; }
+
+    /**
+     *  Returns the points in time for the tick marks with the given unit
+     *  between the given bounds.
+     *
+     *  @param  unit    The unit.
+     *  @param  lowerBound  The lower bound, in seconds since the start of the
+     *      epoch.
+     *  @param  upperBound  The upper bound, in seconds since the start of the
+     *      epoch.
+     *  @param  timeZone    The time zone.
+     *  @param  firstDayOfWeek  The first day of a week.
+     *  @return The tick marks, in seconds since the start of the epoch.
+     */
+    private static final long [] tickValues( final TickUnit unit, final long lowerBound, final long upperBound, final ZoneId timeZone, final DayOfWeek firstDayOfWeek )
+    {
+        final var builder = LongStream.builder();
+        var offset = timeZone.getRules().getOffset( Instant.ofEpochSecond( lowerBound ) );
+        var local = unit.floor( LocalDateTime.ofEpochSecond( lowerBound, 0, offset ), firstDayOfWeek );
+        var previous = Long.MIN_VALUE;
+        var count = 0;
+        while( count < MAX_TICK_COUNT )
+        {
+            /*
+             * Prefers the offset of the previous tick mark, so that only the
+             * first occurrence of a local time that exists twice is used.
+             */
+            final var dateTime = ZonedDateTime.ofLocal( local, timeZone, offset );
+            final var value = dateTime.toEpochSecond();
+            if( value > upperBound ) break;
+            if( (value >= lowerBound) && (value > previous) )
+            {
+                builder.add( value );
+                previous = value;
+                ++count;
+            }
+            offset = dateTime.getOffset();
+            local = unit.next( local );
+        }
+        final var retValue = builder.build().toArray();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tickValues()
+}
+//  class DateTimeTicks
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,637 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static java.lang.Double.isNaN;
+import static java.lang.Math.floor;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.ceilingIndex;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.higherIndex;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.fx.internal.ControlUtils.BackgroundComputation;
+import javafx.css.CssMetaData;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.Styleable;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.css.converter.PaintConverter;
+import javafx.geometry.Orientation;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ *  <p>{@summary A histogram of a set of sample values, drawn into a single
+ *  {@link Canvas}.}</p>
+ *  <p>The samples are copied and sorted on the common
+ *  {@link ForkJoinPool}
+ *  (using
+ *  {@link Arrays#parallelSort(double[])}),
+ *  so that even sets with tens of millions of samples do not block the FX
+ *  application thread; the sorted samples are installed on the FX application
+ *  thread when they are ready, and results for samples that were replaced in
+ *  the meantime are discarded. If the preparation fails, the histogram is
+ *  cleared.</p>
+ *  <p>With the samples sorted, the histogram for any bounds and any size can
+ *  be calculated with one binary search per bucket boundary, without another
+ *  pass over the samples; there is one bucket per pixel along the
+ *  orientation. The buckets are calculated again only when the bounds, the
+ *  size or the samples have changed, and the canvas is repainted only when
+ *  the buckets or the fill have changed. Samples outside the bounds and
+ *  {@link Double#NaN NaN}
+ *  values are ignored.</p>
+ *  <p>The bars start at the bottom edge of a horizontal histogram, and at the
+ *  right edge of a vertical one, where the lower bound is at the bottom.</p>
+ *  <p>The preferred height (or width, if vertical) is
+ *  {@value #DEFAULT_DEPTH} pixels; it can be changed with
+ *  {@code -fx-pref-height} and {@code -fx-pref-width}.</p>
+ *  <p>The histogram has the style class {@value #DEFAULT_STYLE_CLASS}, and it
+ *  supports the CSS property {@code -fx-histogram-fill} for the colour of the
+ *  bars.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class HistogramLayer extends Region
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The supplier for samples that are held in an array; it allows
+     *  {@link HistogramLayer#setSamples(Supplier)}
+     *  to copy the array directly, instead of collecting a stream.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private static final class SampleArray implements Supplier<DoubleStream>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The samples.
+         */
+        private final double [] m_Samples;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code SampleArray}.
+         *
+         *  @param  samples The samples; the array is not copied.
+         */
+        public SampleArray( final double [] samples )
+        {
+            m_Samples = samples;
+        }   //  SampleArray()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns a copy of the samples.
+         *
+         *  @return The copy.
+         */
+        public final double [] copy() { return m_Samples.clone(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final DoubleStream get() { return DoubleStream.of( m_Samples ); }
+    }
+    //  class SampleArray
+
+    /**
+     *  The styleable properties for
+     *  {@link HistogramLayer}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @SuppressWarnings( {"InnerClassTooDeeplyNested", "AnonymousInnerClass"} )
+    @UtilityClass
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private static final class StyleableProperties
+    {
+            /*------------------------*\
+        ====** Static Initialisations **=======================================
+            \*------------------------*/
+        /**
+         *  The CSS attribute for the fill of the bars.
+         */
+        public static final CssMetaData<HistogramLayer,Paint> HISTOGRAM_FILL = new CssMetaData<>( "-fx-histogram-fill", PaintConverter.getInstance(), Color.LIGHTGRAY )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Paint> getStyleableProperty( final HistogramLayer styleable ) { return styleable.m_HistogramFillProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final HistogramLayer styleable ) { return !styleable.m_HistogramFillProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attributes for
+         *  {@link HistogramLayer}.
+         */
+        @SuppressWarnings( "StaticCollection" )
+        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES;
+
+        static
+        {
+            final List<CssMetaData<? extends Styleable, ?>> styleables = new ArrayList<>( Region.getClassCssMetaData() );
+            styleables.add( HISTOGRAM_FILL );
+            STYLEABLES = List.copyOf( styleables );
+        }
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  No instance allowed for this class!
+         */
+        private StyleableProperties() { throw new PrivateConstructorForStaticClassCalledError( StyleableProperties.class ); }
+    }
+    //  class StyleableProperties
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default style class for {@code HistogramLayer} instances:
+     *  {@value}.
+     */
+    public static final String DEFAULT_STYLE_CLASS = "histogram"; //$NON-NLS-1$
+
+    /**
+     *  The default for the preferred height of a horizontal histogram and
+     *  the preferred width of a vertical one, in pixels: {@value}.
+     */
+    public static final double DEFAULT_DEPTH = 32.0;
+
+    /**
+     *  An empty array of samples.
+     */
+    private static final double [] NO_SAMPLES = new double [0];
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of samples per bucket; {@code null} if the buckets have to
+     *  be calculated again.
+     */
+    private int [] m_Buckets;
+
+    /**
+     *  The canvas.
+     */
+    private final Canvas m_Canvas;
+
+    /**
+     *  The flag that indicates that the canvas has to be repainted.
+     */
+    private boolean m_Dirty = true;
+
+    /**
+     *  The property for the fill of the bars.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableObjectProperty<Paint> m_HistogramFillProperty = new SimpleStyleableObjectProperty<>( StyleableProperties.HISTOGRAM_FILL, this, "histogramFill", Color.LIGHTGRAY );
+
+    /**
+     *  The lower bound.
+     */
+    private double m_LowerBound = 0.0;
+
+    /**
+     *  The orientation.
+     */
+    private Orientation m_Orientation = Orientation.HORIZONTAL;
+
+    /**
+     *  The preparation of the samples; the results of a preparation for
+     *  outdated samples are discarded, and a failed preparation removes the
+     *  samples.
+     */
+    private final BackgroundComputation<double []> m_Preparation = new BackgroundComputation<>( this::installSamples, $ -> installSamples( NO_SAMPLES ) );
+
+    /**
+     *  The sorted samples, without
+     *  {@link Double#NaN NaN}
+     *  values.
+     */
+    private double [] m_Samples = NO_SAMPLES;
+
+    /**
+     *  The upper bound.
+     */
+    private double m_UpperBound = 100.0;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code HistogramLayer}.
+     */
+    public HistogramLayer()
+    {
+        getStyleClass().setAll( DEFAULT_STYLE_CLASS );
+        setFocusTraversable( false );
+        setMouseTransparent( true );
+
+        m_Canvas = new Canvas();
+        m_Canvas.setManaged( false );
+        getChildren().add( m_Canvas );
+
+        m_HistogramFillProperty.addListener( $ -> markDirty() );
+    }   //  HistogramLayer()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Calculates the number of samples for each bucket.
+     *
+     *  @param  bucketCount The number of buckets.
+     *  @return The buckets.
+     */
+    private final int [] calculateBuckets( final int bucketCount )
+    {
+        final var retValue = new int [bucketCount];
+        if( (m_Samples.length > 0) && (m_UpperBound > m_LowerBound) )
+        {
+            /*
+             * The search for a boundary starts at the index of the previous
+             * one, as the boundaries are ascending; the last bucket includes
+             * the upper bound.
+             */
+            final var bucketWidth = (m_UpperBound - m_LowerBound) / bucketCount;
+            var start = ceilingIndex( m_Samples, 0, m_LowerBound );
+            for( var i = 0; i < bucketCount; ++i )
+            {
+                final var end = i == bucketCount - 1
+                    ? higherIndex( m_Samples, start, m_UpperBound )
+                    : ceilingIndex( m_Samples, start, m_LowerBound + ((i + 1) * bucketWidth) );
+                retValue [i] = end - start;
+                start = end;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  calculateBuckets()
+
+    /**
+     *  Removes all samples.
+     */
+    public final void clearSamples()
+    {
+        m_Preparation.discard();
+        installSamples( NO_SAMPLES );
+    }   //  clearSamples()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computePrefHeight( final double width )
+    {
+        final var retValue = snappedTopInset() + DEFAULT_DEPTH + snappedBottomInset();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computePrefWidth( final double height )
+    {
+        final var retValue = snappedLeftInset() + DEFAULT_DEPTH + snappedRightInset();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefWidth()
+
+    /**
+     *  Returns the CSS metadata for this class.
+     *
+     *  @return The CSS metadata.
+     */
+    @SuppressWarnings( "MethodOverridesStaticMethodOfSuperclass" )
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() { return StyleableProperties.STYLEABLES; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final List<CssMetaData<? extends Styleable, ?>> getCssMetaData() { return getClassCssMetaData(); }
+
+    /**
+     *  Returns the fill for the bars.
+     *
+     *  @return The fill.
+     */
+    public final Paint getHistogramFill() { return m_HistogramFillProperty.get(); }
+
+    /**
+     *  Returns the number of the samples that are currently shown.
+     *
+     *  @return The number of samples.
+     */
+    public final int getSampleCount() { return m_Samples.length; }
+
+    /**
+     *  Returns the property for the fill of the bars.
+     *
+     *  @return The property.
+     */
+    public final StyleableObjectProperty<Paint> histogramFillProperty() { return m_HistogramFillProperty; }
+
+    /**
+     *  Installs the given sorted samples.
+     *
+     *  @param  samples The sorted samples.
+     */
+    private final void installSamples( final double [] samples )
+    {
+        m_Samples = samples;
+        m_Buckets = null;
+        markDirty();
+    }   //  installSamples()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final void layoutChildren()
+    {
+        final var width = snapSizeX( getWidth() );
+        final var height = snapSizeY( getHeight() );
+        if( (width != m_Canvas.getWidth()) || (height != m_Canvas.getHeight()) )
+        {
+            m_Canvas.setWidth( width );
+            m_Canvas.setHeight( height );
+            m_Buckets = null;
+            m_Dirty = true;
+        }
+        if( m_Dirty )
+        {
+            m_Dirty = false;
+            paint();
+        }
+    }   //  layoutChildren()
+
+    /**
+     *  Marks the canvas as dirty and requests a new layout.
+     */
+    private final void markDirty()
+    {
+        m_Dirty = true;
+        requestLayout();
+    }   //  markDirty()
+
+    /**
+     *  Paints the histogram to the canvas.
+     */
+    private final void paint()
+    {
+        final var gc = m_Canvas.getGraphicsContext2D();
+        final var width = m_Canvas.getWidth();
+        final var height = m_Canvas.getHeight();
+        gc.clearRect( 0.0, 0.0, width, height );
+
+        final var horizontal = m_Orientation == Orientation.HORIZONTAL;
+        @SuppressWarnings( "NumericCastThatLosesPrecision" )
+        final var bucketCount = (int) floor( horizontal ? width : height );
+        if( (bucketCount < 1) || (m_Samples.length == 0) ) return;
+
+        if( isNull( m_Buckets ) || (m_Buckets.length != bucketCount) ) m_Buckets = calculateBuckets( bucketCount );
+        final var maxCount = Arrays.stream( m_Buckets ).max().orElse( 0 );
+        if( maxCount == 0 ) return;
+
+        //---* Draw the bars as a single closed path *-------------------------
+        final var depth = horizontal ? height : width;
+        gc.setFill( getHistogramFill() );
+        gc.beginPath();
+        if( horizontal )
+        {
+            gc.moveTo( 0.0, height );
+            for( var i = 0; i < bucketCount; ++i )
+            {
+                final var top = height - ((depth * m_Buckets [i]) / maxCount);
+                gc.lineTo( i, top );
+                gc.lineTo( i + 1.0, top );
+            }
+            gc.lineTo( bucketCount, height );
+        }
+        else
+        {
+            gc.moveTo( width, height );
+            for( var i = 0; i < bucketCount; ++i )
+            {
+                final var left = width - ((depth * m_Buckets [i]) / maxCount);
+                gc.lineTo( left, height - i );
+                gc.lineTo( left, height - (i + 1.0) );
+            }
+            gc.lineTo( width, height - bucketCount );
+        }
+        gc.closePath();
+        gc.fill();
+    }   //  paint()
+
+    /**
+     *  Prepares the samples from the given supplier on the common
+     *  {@link ForkJoinPool}
+     *  and installs them when they are ready.
+     *
+     *  @param  supplier    The supplier for the samples; the returned array
+     *      will be modified.
+     */
+    private final void prepareSamples( final Supplier<double []> supplier )
+    {
+        m_Preparation.start( () ->
+        {
+            /*
+             * The NaN values are sorted to the end of the array, so they can
+             * be cut off afterwards.
+             */
+            final var samples = supplier.get();
+            Arrays.parallelSort( samples );
+            var length = samples.length;
+            while( (length > 0) && isNaN( samples [length - 1] ) ) --length;
+            return length == samples.length ? samples : Arrays.copyOf( samples, length );
+        } );
+    }   //  prepareSamples()
+
+    /**
+     *  <p>{@summary Returns a supplier for the given samples that can be
+     *  passed to
+     *  {@link #setSamples(Supplier)}.}
+     *  The array is copied once; the copy is not copied again for each call
+     *  to {@code setSamples()}, apart from the working copy that is sorted
+     *  in the background.</p>
+     *
+     *  @param  samples The samples.
+     *  @return The supplier.
+     */
+    public static final Supplier<DoubleStream> sampleArray( final double... samples )
+    {
+        final Supplier<DoubleStream> retValue = new SampleArray( requireNonNullArgument( samples, "samples" ).clone() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  sampleArray()
+
+    /**
+     *  Sets the bounds for the histogram.
+     *
+     *  @param  lowerBound  The lower bound.
+     *  @param  upperBound  The upper bound.
+     */
+    public final void setBounds( final double lowerBound, final double upperBound )
+    {
+        if( (m_LowerBound != lowerBound) || (m_UpperBound != upperBound) )
+        {
+            m_LowerBound = lowerBound;
+            m_UpperBound = upperBound;
+            m_Buckets = null;
+            markDirty();
+        }
+    }   //  setBounds()
+
+    /**
+     *  Sets the fill for the bars.
+     *
+     *  @param  fill    The fill.
+     */
+    public final void setHistogramFill( final Paint fill ) { m_HistogramFillProperty.set( fill ); }
+
+    /**
+     *  Sets the orientation of the histogram.
+     *
+     *  @param  orientation The orientation.
+     */
+    public final void setOrientation( final Orientation orientation )
+    {
+        if( m_Orientation != requireNonNullArgument( orientation, "orientation" ) )
+        {
+            m_Orientation = orientation;
+            m_Buckets = null;
+            markDirty();
+        }
+    }   //  setOrientation()
+
+    /**
+     *  <p>{@summary Sets the samples for the histogram.} The samples are
+     *  copied; the array can be modified after the call without affecting
+     *  the histogram.</p>
+     *  <p>The histogram will be updated when the samples are prepared; until
+     *  then, the previous samples are shown.</p>
+     *
+     *  @param  samples The samples.
+     */
+    public final void setSamples( final double... samples )
+    {
+        final var copy = requireNonNullArgument( samples, "samples" ).clone();
+        prepareSamples( () -> copy );
+    }   //  setSamples()
+
+    /**
+     *  <p>{@summary Sets the samples for the histogram from the given
+     *  stream.} The stream is consumed as a parallel stream on the common
+     *  {@link ForkJoinPool}.</p>
+     *  <p>The histogram will be updated when the samples are prepared; until
+     *  then, the previous samples are shown.</p>
+     *
+     *  @param  samples The samples.
+     */
+    public final void setSamples( final DoubleStream samples )
+    {
+        requireNonNullArgument( samples, "samples" );
+        prepareSamples( () -> samples.parallel().toArray() );
+    }   //  setSamples()
+
+    /**
+     *  <p>{@summary Sets the samples for the histogram from the given
+     *  supplier.} The supplier is called on the common
+     *  {@link ForkJoinPool},
+     *  and the stream is consumed there as a parallel stream; for a supplier
+     *  from
+     *  {@link #sampleArray(double...)},
+     *  the array is copied directly instead.</p>
+     *  <p>The histogram will be updated when the samples are prepared; until
+     *  then, the previous samples are shown.</p>
+     *
+     *  @param  supplier    The supplier for the samples.
+     */
+    public final void setSamples( final Supplier<DoubleStream> supplier )
+    {
+        requireNonNullArgument( supplier, "supplier" );
+        if( supplier instanceof final SampleArray sampleArray )
+        {
+            prepareSamples( sampleArray::copy );
+        }
+        else
+        {
+            prepareSamples( () -> supplier.get().parallel().toArray() );
+        }
+    }   //  setSamples()
+}
+//  class HistogramLayer
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,538 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static java.lang.Math.abs;
+import static java.util.Objects.checkIndex;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import javafx.collections.ObservableListBase;
+
+/**
+ *  <p>{@summary An observable list of disjoint intervals over
+ *  {@code long} values, for example seconds since the start of the
+ *  epoch.}</p>
+ *  <p>The intervals are half-open (the start is inclusive, the end is
+ *  exclusive) and they are kept in ascending order in two parallel arrays of
+ *  primitive values. Adding an interval that overlaps or touches others
+ *  merges them into one. So the starts and the ends are both strictly
+ *  ascending, and a hit-test, the search for the nearest boundary or the
+ *  search for the gap around a value is a binary search, taking
+ *  O(log n).</p>
+ *  <p>Each modification is reported as a single, fine-grained change: a new
+ *  interval as an addition, a modified interval as a replacement of one
+ *  element, and a merge as the replacement of the merged intervals by the
+ *  new one. The elements of the list are created once per modification by
+ *  the given
+ *  {@link ElementFactory};
+ *  reading them does not allocate anything.</p>
+ *  <p>The list cannot be modified through the methods
+ *  {@link #add(Object)}
+ *  or
+ *  {@link #set(int, Object)};
+ *  use
+ *  {@link #add(long, long)}
+ *  and
+ *  {@link #set(int, long, long)}
+ *  instead. Elements can be removed as usual.</p>
+ *
+ *  @param  <T> The type of the elements.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class IntervalList<T> extends ObservableListBase<T>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The factory for the elements of an
+     *  {@link IntervalList}.
+     *
+     *  @param  <T> The type of the elements.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @FunctionalInterface
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static interface ElementFactory<T>
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Creates the element for the given interval.
+         *
+         *  @param  start   The start of the interval (inclusive).
+         *  @param  end The end of the interval (exclusive).
+         *  @return The element.
+         */
+        public T create( final long start, final long end );
+    }
+    //  interface ElementFactory
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The initial capacity of the arrays: {@value}.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The elements.
+     */
+    private Object [] m_Elements = new Object [INITIAL_CAPACITY];
+
+    /**
+     *  The ends of the intervals (exclusive), in ascending order.
+     */
+    private long [] m_Ends = new long [INITIAL_CAPACITY];
+
+    /**
+     *  The factory for the elements.
+     */
+    private final ElementFactory<T> m_Factory;
+
+    /**
+     *  The number of intervals.
+     */
+    private int m_Size = 0;
+
+    /**
+     *  The starts of the intervals (inclusive), in ascending order.
+     */
+    private long [] m_Starts = new long [INITIAL_CAPACITY];
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code IntervalList}.
+     *
+     *  @param  factory The factory for the elements.
+     */
+    public IntervalList( final ElementFactory<T> factory )
+    {
+        m_Factory = requireNonNullArgument( factory, "factory" );
+    }   //  IntervalList()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adds the given interval; it will be merged with all intervals that
+     *  overlap or touch it.
+     *
+     *  @param  start   The start of the interval (inclusive).
+     *  @param  end The end of the interval (exclusive).
+     *  @return The index of the new or merged interval.
+     *  @throws IllegalArgumentException    The start is not less than the
+     *      end.
+     */
+    public final int add( final long start, final long end ) throws IllegalArgumentException
+    {
+        checkBounds( start, end );
+        final int retValue;
+        beginChange();
+        try
+        {
+            retValue = insert( start, end );
+        }
+        finally
+        {
+            endChange();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  add()
+
+    /**
+     *  Checks the given bounds for an interval.
+     *
+     *  @param  start   The start of the interval (inclusive).
+     *  @param  end The end of the interval (exclusive).
+     *  @throws IllegalArgumentException    The start is not less than the
+     *      end.
+     */
+    private static final void checkBounds( final long start, final long end ) throws IllegalArgumentException
+    {
+        if( start >= end ) throw new IllegalArgumentException( "start (%d) must be less than end (%d)".formatted( start, end ) );
+    }   //  checkBounds()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void clear()
+    {
+        if( m_Size > 0 )
+        {
+            beginChange();
+            try
+            {
+                nextRemove( 0, List.copyOf( this ) );
+                Arrays.fill( m_Elements, 0, m_Size, null );
+                m_Size = 0;
+            }
+            finally
+            {
+                endChange();
+            }
+        }
+    }   //  clear()
+
+    /**
+     *  Returns the element with the given index.
+     *
+     *  @param  index   The index.
+     *  @return The element.
+     */
+    @SuppressWarnings( "unchecked" )
+    private final T element( final int index ) { return (T) m_Elements [index]; }
+
+    /**
+     *  Makes sure that the arrays can hold the given number of intervals.
+     *
+     *  @param  capacity    The required capacity.
+     */
+    private final void ensureCapacity( final int capacity )
+    {
+        if( capacity > m_Starts.length )
+        {
+            final var newCapacity = Integer.max( capacity, m_Starts.length * 2 );
+            m_Elements = Arrays.copyOf( m_Elements, newCapacity );
+            m_Ends = Arrays.copyOf( m_Ends, newCapacity );
+            m_Starts = Arrays.copyOf( m_Starts, newCapacity );
+        }
+    }   //  ensureCapacity()
+
+    /**
+     *  Returns the index of the first value in the given array that is
+     *  greater than or equal to the given key; the array must be strictly
+     *  ascending.
+     *
+     *  @param  array   The array.
+     *  @param  size    The number of valid entries in the array.
+     *  @param  key The key.
+     *  @param  inclusive   {@code true} if a value that is equal to the key
+     *      is a match, {@code false} if only greater values match.
+     *  @return The index; it is {@code size} if there is no such value.
+     */
+    private static final int firstIndex( final long [] array, final int size, final long key, final boolean inclusive )
+    {
+        final var index = Arrays.binarySearch( array, 0, size, key );
+        final var retValue = index >= 0 ? (inclusive ? index : index + 1) : -index - 1;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  firstIndex()
+
+    /**
+     *  Returns the end of the gap between the intervals that starts at or
+     *  before the given value: this is the start of the first interval that
+     *  ends after the value.
+     *
+     *  @param  value   The value.
+     *  @return The end of the gap (exclusive), or
+     *      {@link Long#MAX_VALUE}
+     *      if there is no interval after the value.
+     */
+    public final long gapEnd( final long value )
+    {
+        final var index = firstIndex( m_Ends, m_Size, value, false );
+        final var retValue = index < m_Size ? m_Starts [index] : Long.MAX_VALUE;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  gapEnd()
+
+    /**
+     *  Returns the start of the gap between the intervals that ends at or
+     *  after the given value: this is the end of the last interval that
+     *  starts before the value.
+     *
+     *  @param  value   The value.
+     *  @return The start of the gap (inclusive), or
+     *      {@link Long#MIN_VALUE}
+     *      if there is no interval before the value.
+     */
+    public final long gapStart( final long value )
+    {
+        final var index = firstIndex( m_Starts, m_Size, value, true ) - 1;
+        final var retValue = index >= 0 ? m_Ends [index] : Long.MIN_VALUE;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  gapStart()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final T get( final int index ) { return element( checkIndex( index, m_Size ) ); }
+
+    /**
+     *  Returns the end of the interval with the given index.
+     *
+     *  @param  index   The index.
+     *  @return The end (exclusive).
+     */
+    public final long getEnd( final int index ) { return m_Ends [checkIndex( index, m_Size )]; }
+
+    /**
+     *  Returns the start of the interval with the given index.
+     *
+     *  @param  index   The index.
+     *  @return The start (inclusive).
+     */
+    public final long getStart( final int index ) { return m_Starts [checkIndex( index, m_Size )]; }
+
+    /**
+     *  Returns the index of the interval that contains the given value.
+     *
+     *  @param  value   The value.
+     *  @return The index of the interval, or -1 if no interval contains the
+     *      value.
+     */
+    public final int indexAt( final long value )
+    {
+        final var index = firstIndex( m_Starts, m_Size, value, false ) - 1;
+        final var retValue = (index >= 0) && (value < m_Ends [index]) ? index : -1;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  indexAt()
+
+    /**
+     *  Inserts the given interval and merges it with the intervals that
+     *  overlap or touch it; the change is reported to the current change
+     *  builder.
+     *
+     *  @param  start   The start of the interval (inclusive).
+     *  @param  end The end of the interval (exclusive).
+     *  @return The index of the new or merged interval.
+     */
+    private final int insert( final long start, final long end )
+    {
+        /*
+         * The intervals from 'first' (inclusive) to 'last' (exclusive)
+         * overlap or touch the new one.
+         */
+        final var first = firstIndex( m_Ends, m_Size, start, true );
+        final var last = firstIndex( m_Starts, m_Size, end, false );
+        var newStart = start;
+        var newEnd = end;
+        final List<T> removed = new ArrayList<>( last - first );
+        if( first < last )
+        {
+            newStart = Long.min( newStart, m_Starts [first] );
+            newEnd = Long.max( newEnd, m_Ends [last - 1] );
+            for( var i = first; i < last; ++i ) removed.add( element( i ) );
+        }
+
+        final var newSize = m_Size + 1 - (last - first);
+        ensureCapacity( newSize );
+        System.arraycopy( m_Elements, last, m_Elements, first + 1, m_Size - last );
+        System.arraycopy( m_Ends, last, m_Ends, first + 1, m_Size - last );
+        System.arraycopy( m_Starts, last, m_Starts, first + 1, m_Size - last );
+        if( newSize < m_Size ) Arrays.fill( m_Elements, newSize, m_Size, null );
+        m_Starts [first] = newStart;
+        m_Ends [first] = newEnd;
+        m_Elements [first] = m_Factory.create( newStart, newEnd );
+        m_Size = newSize;
+
+        if( removed.isEmpty() )
+        {
+            nextAdd( first, first + 1 );
+        }
+        else
+        {
+            nextReplace( first, first + 1, removed );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return first;
+    }   //  insert()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final T remove( final int index )
+    {
+        checkIndex( index, m_Size );
+        final T retValue;
+        beginChange();
+        try
+        {
+            retValue = removeAt( index );
+        }
+        finally
+        {
+            endChange();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  remove()
+
+    /**
+     *  Removes the interval with the given index; the change is reported to
+     *  the current change builder.
+     *
+     *  @param  index   The index.
+     *  @return The removed element.
+     */
+    private final T removeAt( final int index )
+    {
+        final var retValue = element( index );
+        final var tail = m_Size - index - 1;
+        System.arraycopy( m_Elements, index + 1, m_Elements, index, tail );
+        System.arraycopy( m_Ends, index + 1, m_Ends, index, tail );
+        System.arraycopy( m_Starts, index + 1, m_Starts, index, tail );
+        m_Elements [--m_Size] = null;
+        nextRemove( index, retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  removeAt()
+
+    /**
+     *  <p>{@summary Sets new bounds for the interval with the given index.}
+     *  If the modified interval does not overlap or touch any other interval
+     *  and keeps its position, this is reported as the replacement of that
+     *  single element; otherwise, the interval is removed and added again,
+     *  and the intervals it overlaps are merged with it.</p>
+     *
+     *  @param  index   The index of the interval.
+     *  @param  start   The new start of the interval (inclusive).
+     *  @param  end The new end of the interval (exclusive).
+     *  @return The new index of the interval.
+     *  @throws IllegalArgumentException    The start is not less than the
+     *      end.
+     */
+    public final int set( final int index, final long start, final long end ) throws IllegalArgumentException
+    {
+        checkIndex( index, m_Size );
+        checkBounds( start, end );
+        var retValue = index;
+        if( (m_Starts [index] != start) || (m_Ends [index] != end) )
+        {
+            beginChange();
+            try
+            {
+                if( ((index == 0) || (m_Ends [index - 1] < start)) && ((index == m_Size - 1) || (end < m_Starts [index + 1])) )
+                {
+                    final var oldElement = element( index );
+                    m_Starts [index] = start;
+                    m_Ends [index] = end;
+                    m_Elements [index] = m_Factory.create( start, end );
+                    nextSet( index, oldElement );
+                }
+                else
+                {
+                    removeAt( index );
+                    retValue = insert( start, end );
+                }
+            }
+            finally
+            {
+                endChange();
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  set()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int size() { return m_Size; }
+
+    /**
+     *  Returns the boundary of an interval that is nearest to the given
+     *  value, if its distance is not greater than the given tolerance.
+     *
+     *  @param  value   The value.
+     *  @param  tolerance   The maximum distance.
+     *  @param  skip    The index of an interval whose boundaries will be
+     *      ignored, usually the one that is currently modified; -1 if all
+     *      intervals should be considered.
+     *  @return The nearest boundary, or the given value if there is no
+     *      boundary within the tolerance.
+     */
+    public final long snapToBoundary( final long value, final long tolerance, final int skip )
+    {
+        /*
+         * The boundaries are strictly ascending when taken alternately from
+         * the starts and the ends, so the nearest ones belong to the
+         * intervals just around the insertion point; the neighbours of a
+         * skipped interval are included as well.
+         */
+        final var index = firstIndex( m_Starts, m_Size, value, false );
+        var retValue = value;
+        var distance = tolerance;
+        for( var i = Integer.max( 0, index - 2 ); i < Integer.min( m_Size, index + 2 ); ++i )
+        {
+            if( i == skip ) continue;
+            if( abs( m_Starts [i] - value ) <= distance )
+            {
+                distance = abs( m_Starts [i] - value );
+                retValue = m_Starts [i];
+            }
+            if( abs( m_Ends [i] - value ) <= distance )
+            {
+                distance = abs( m_Ends [i] - value );
+                retValue = m_Ends [i];
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapToBoundary()
+}
+//  class IntervalList
+
+/*
+ *  End of File
+ */
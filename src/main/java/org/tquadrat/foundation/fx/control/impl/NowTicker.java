@@ -0,0 +1,251 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static java.lang.Math.floorDiv;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import javafx.application.Platform;
+
+/**
+ *  <p>{@summary The single clock for all markers that show the current
+ *  time.}</p>
+ *  <p>Each
+ *  {@linkplain Subscriber subscriber}
+ *  tells when it needs to be called next, usually at the next boundary of
+ *  the time that one of its pixels stands for; the ticker wakes up only at
+ *  the earliest of these points in time, and it calls only the subscribers
+ *  that are due. When no subscriber needs to be called anymore, no wakeup is
+ *  scheduled at all.</p>
+ *  <p>The wakeups are scheduled on a single daemon thread, but the
+ *  subscribers are called on the JavaFX Application Thread; the methods of
+ *  this class must be called on that thread, too.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@UtilityClass
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class NowTicker
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A subscriber for the
+     *  {@link NowTicker}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @FunctionalInterface
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static interface Subscriber
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Called with the current time when the subscriber is due.
+         *
+         *  @param  now The current time, in seconds since the start of the
+         *      epoch.
+         *  @return The point in time when the subscriber has to be called
+         *      next, in seconds since the start of the epoch;
+         *      {@link Long#MAX_VALUE}
+         *      if it does not need to be called anymore.
+         */
+        public long tick( final long now );
+    }
+    //  interface Subscriber
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The scheduled wakeup; {@code null} if there is none.
+     */
+    private static ScheduledFuture<?> m_Wakeup = null;
+
+    /**
+     *  The sequence number of the scheduled wakeup; it identifies the
+     *  wakeup when it fires, as a wakeup that was replaced by a newer one
+     *  may already be queued for the JavaFX Application Thread when it is
+     *  cancelled.
+     */
+    private static long m_WakeupId = 0L;
+
+    /**
+     *  The point in time of the scheduled wakeup, in seconds since the start
+     *  of the epoch;
+     *  {@link Long#MAX_VALUE}
+     *  if there is none.
+     */
+    private static long m_WakeupTime = Long.MAX_VALUE;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The scheduler for the wakeups; it has a single daemon thread that
+     *  sleeps while no wakeup is scheduled.
+     */
+    private static final ScheduledThreadPoolExecutor m_Scheduler;
+
+    /**
+     *  The subscribers, with the point in time when they have to be called
+     *  next.
+     */
+    @SuppressWarnings( "StaticCollection" )
+    private static final Map<Subscriber,Long> m_Subscribers = new LinkedHashMap<>();
+
+    static
+    {
+        m_Scheduler = new ScheduledThreadPoolExecutor( 1, runnable ->
+        {
+            final var retValue = new Thread( runnable, "NowTicker" );
+            retValue.setDaemon( true );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        } );
+        m_Scheduler.setRemoveOnCancelPolicy( true );
+    }
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private NowTicker() { throw new PrivateConstructorForStaticClassCalledError( NowTicker.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the current time.
+     *
+     *  @return The current time, in seconds since the start of the epoch.
+     */
+    @SuppressWarnings( "MagicNumber" )
+    private static final long currentEpochSecond() { return floorDiv( System.currentTimeMillis(), 1_000L ); }
+
+    /**
+     *  Calls the subscribers that are due, and schedules the next wakeup.
+     *  The scheduled wakeup is reset only when it is the one that fires; a
+     *  stale wakeup leaves the current one alone.
+     *  {@link Subscriber#tick(long)}
+     *  may subscribe or unsubscribe any subscriber, therefore the
+     *  subscribers are called from a snapshot, and a subscriber that was
+     *  removed in the meantime is neither called nor added again.
+     *
+     *  @param  wakeupId    The sequence number of the wakeup that fires.
+     */
+    private static final void fire( final long wakeupId )
+    {
+        if( wakeupId == m_WakeupId )
+        {
+            m_Wakeup = null;
+            m_WakeupTime = Long.MAX_VALUE;
+        }
+        final var now = currentEpochSecond();
+        for( final var subscriber : List.copyOf( m_Subscribers.keySet() ) )
+        {
+            final var due = m_Subscribers.get( subscriber );
+            if( nonNull( due ) && (due.longValue() <= now) )
+            {
+                m_Subscribers.replace( subscriber, Long.valueOf( subscriber.tick( now ) ) );
+            }
+        }
+        schedule();
+    }   //  fire()
+
+    /**
+     *  Schedules the wakeup for the subscriber that is due first; an
+     *  existing wakeup for a different point in time is cancelled. A wakeup
+     *  that comes too early just schedules the next one.
+     */
+    @SuppressWarnings( "MagicNumber" )
+    private static final void schedule()
+    {
+        final var next = m_Subscribers.values().stream().mapToLong( Long::longValue ).min().orElse( Long.MAX_VALUE );
+        if( next != m_WakeupTime )
+        {
+            if( nonNull( m_Wakeup ) ) m_Wakeup.cancel( false );
+            m_Wakeup = null;
+            m_WakeupTime = next;
+            if( next != Long.MAX_VALUE )
+            {
+                final var delay = Long.max( 0L, (next * 1_000L) - System.currentTimeMillis() );
+                final var wakeupId = ++m_WakeupId;
+                m_Wakeup = m_Scheduler.schedule( () -> Platform.runLater( () -> fire( wakeupId ) ), delay, TimeUnit.MILLISECONDS );
+            }
+        }
+    }   //  schedule()
+
+    /**
+     *  Adds the given subscriber and calls it immediately; the next wakeup
+     *  is scheduled according to its answer. Calling this method again for a
+     *  subscriber that was already added calls it again, for example after
+     *  its size or its day has changed.
+     *
+     *  @param  subscriber  The subscriber.
+     */
+    public static final void subscribe( final Subscriber subscriber )
+    {
+        requireNonNullArgument( subscriber, "subscriber" );
+        m_Subscribers.put( subscriber, Long.valueOf( subscriber.tick( currentEpochSecond() ) ) );
+        schedule();
+    }   //  subscribe()
+
+    /**
+     *  Removes the given subscriber; if it was the last one that needed to
+     *  be called, the scheduled wakeup is cancelled.
+     *
+     *  @param  subscriber  The subscriber.
+     */
+    public static final void unsubscribe( final Subscriber subscriber )
+    {
+        if( nonNull( m_Subscribers.remove( requireNonNullArgument( subscriber, "subscriber" ) ) ) ) schedule();
+    }   //  unsubscribe()
+}
+//  class NowTicker
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,422 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static javafx.geometry.Orientation.HORIZONTAL;
+import static javafx.scene.layout.Region.USE_COMPUTED_SIZE;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import javafx.beans.binding.Bindings;
+import javafx.geometry.Orientation;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.layout.StackPane;
+
+/**
+ *  <p>{@summary The track, the two thumbs and the range bar of a slider with
+ *  a low and a high value.}</p>
+ *  <p>This class is not a node itself; it creates the nodes, and the skin
+ *  that uses it adds them to its children, does the mouse and keyboard
+ *  handling, and provides the values as positions relative to the track,
+ *  with 0.0 at its start and 1.0 at its end. So a skin can render the slider
+ *  directly from its own values, without the need to create a complete
+ *  {@link org.tquadrat.foundation.fx.control.RangeSlider}
+ *  control.</p>
+ *  <p>The nodes have the style classes {@code track}, {@code low-thumb},
+ *  {@code high-thumb} and {@code range-bar}.</p>
+ *  <p>The geometry is determined in two steps:
+ *  {@link #layoutTrack(double, double, double, double, double)}
+ *  places the track when the size of the slider has changed, and
+ *  {@link #positionThumbs(double, double)}
+ *  places the thumbs and the range bar for new values; the second step
+ *  reuses the geometry from the first one.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( "ClassWithTooManyFields" )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class RangeTrack
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The implementation of
+     *  {@link StackPane}
+     *  that is used for the thumbs.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final class Thumb extends StackPane
+    {
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Thumb}.
+         *
+         *  @param  styleClass  The style class for the thumb.
+         */
+        public Thumb( final String styleClass )
+        {
+            super();
+            getStyleClass().setAll( requireNonNullArgument( styleClass, "styleClass" ) );
+        }   //  Thumb()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Sets the focus.
+         *
+         *  @param  flag    {@code true} if this instance has the focus,
+         *      {@code false} if not.
+         */
+        public final void setFocus( final boolean flag ) { setFocused( flag ); }
+    }
+    //  class Thumb
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The high thumb.
+     */
+    private final Thumb m_HighThumb;
+
+    /**
+     *  The flag that indicates whether the track is horizontal.
+     */
+    private boolean m_Horizontal = true;
+
+    /**
+     *  The low thumb.
+     */
+    private final Thumb m_LowThumb;
+
+    /**
+     *  The range bar.
+     */
+    private final StackPane m_RangeBar;
+
+    /**
+     *  The height of the thumbs.
+     */
+    private double m_ThumbHeight;
+
+    /**
+     *  The position of the thumbs across the track: the y position for a
+     *  horizontal track, the x position for a vertical one.
+     */
+    private double m_ThumbOffset;
+
+    /**
+     *  The width of the thumbs.
+     */
+    private double m_ThumbWidth;
+
+    /**
+     *  The track.
+     */
+    private final StackPane m_Track;
+
+    /**
+     *  The usable length of the track.
+     */
+    private double m_TrackLength;
+
+    /**
+     *  The position of the track across its length: the y position for a
+     *  horizontal track, the x position for a vertical one.
+     */
+    private double m_TrackOffset;
+
+    /**
+     *  The corner radius of the track; it is determined again only when the
+     *  background of the track was changed, for example by CSS.
+     */
+    private double m_TrackRadius;
+
+    /**
+     *  The start of the usable part of the track: the x position for a
+     *  horizontal track, the y position for a vertical one.
+     */
+    private double m_TrackStart;
+
+    /**
+     *  The thickness of the track.
+     */
+    private double m_TrackThickness;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code RangeTrack}.
+     */
+    public RangeTrack()
+    {
+        m_Track = new StackPane();
+        m_Track.setFocusTraversable( false );
+        m_Track.getStyleClass().setAll( "track" );
+        m_Track.backgroundProperty().addListener( $ -> m_TrackRadius = trackRadius() );
+        m_TrackRadius = trackRadius();
+
+        m_LowThumb = new Thumb( "low-thumb" );
+        m_LowThumb.setFocusTraversable( true );
+        m_HighThumb = new Thumb( "high-thumb" );
+
+        m_RangeBar = new StackPane();
+        m_RangeBar.setFocusTraversable( false );
+        m_RangeBar.getStyleClass().setAll( "range-bar" );
+        m_RangeBar.cursorProperty().bind( Bindings.when( m_RangeBar.hoverProperty() ).then( Cursor.HAND ).otherwise( Cursor.DEFAULT ) );
+    }   //  RangeTrack()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the high thumb.
+     *
+     *  @return The high thumb.
+     */
+    public final Thumb getHighThumb() { return m_HighThumb; }
+
+    /**
+     *  Returns the low thumb.
+     *
+     *  @return The low thumb.
+     */
+    public final Thumb getLowThumb() { return m_LowThumb; }
+
+    /**
+     *  Returns the nodes in the order in that they have to be added to the
+     *  children of the skin: the track, the low thumb, the high thumb and the
+     *  range bar.
+     *
+     *  @return The nodes.
+     */
+    public final List<Node> getNodes() { return List.of( m_Track, m_LowThumb, m_HighThumb, m_RangeBar ); }
+
+    /**
+     *  Returns the range bar.
+     *
+     *  @return The range bar.
+     */
+    public final StackPane getRangeBar() { return m_RangeBar; }
+
+    /**
+     *  Returns the height of the thumbs, as determined by the last call to
+     *  {@link #resizeThumbs()}.
+     *
+     *  @return The height.
+     */
+    public final double getThumbHeight() { return m_ThumbHeight; }
+
+    /**
+     *  Returns the width of the thumbs, as determined by the last call to
+     *  {@link #resizeThumbs()}.
+     *
+     *  @return The width.
+     */
+    public final double getThumbWidth() { return m_ThumbWidth; }
+
+    /**
+     *  Returns the track.
+     *
+     *  @return The track.
+     */
+    public final StackPane getTrack() { return m_Track; }
+
+    /**
+     *  Returns the usable length of the track, as set by the last call to
+     *  {@link #layoutTrack(double, double, double, double, double)}.
+     *
+     *  @return The length.
+     */
+    public final double getTrackLength() { return m_TrackLength; }
+
+    /**
+     *  Returns the start of the usable part of the track, as set by the last
+     *  call to
+     *  {@link #layoutTrack(double, double, double, double, double)}.
+     *
+     *  @return The x position for a horizontal track, the y position for a
+     *      vertical one.
+     */
+    public final double getTrackStart() { return m_TrackStart; }
+
+    /**
+     *  Checks whether the track is horizontal.
+     *
+     *  @return {@code true} if the track is horizontal, {@code false} if it
+     *      is vertical.
+     */
+    public final boolean isHorizontal() { return m_Horizontal; }
+
+    /**
+     *  <p>{@summary Places the track.} The track is extended by its corner
+     *  radius on both ends, so that the rounded corners do not shorten the
+     *  usable part.</p>
+     *  <p>Call
+     *  {@link #resizeThumbs()}
+     *  first, as the usable length of the track usually depends on the size
+     *  of the thumbs.</p>
+     *
+     *  @param  trackStart  The start of the usable part of the track: the x
+     *      position for a horizontal track, the y position for a vertical
+     *      one.
+     *  @param  trackLength The usable length of the track.
+     *  @param  trackOffset The position of the track across its length.
+     *  @param  trackThickness  The thickness of the track.
+     *  @param  thumbOffset The position of the thumbs across the track.
+     */
+    public final void layoutTrack( final double trackStart, final double trackLength, final double trackOffset, final double trackThickness, final double thumbOffset )
+    {
+        m_TrackStart = trackStart;
+        m_TrackLength = trackLength;
+        m_TrackOffset = trackOffset;
+        m_TrackThickness = trackThickness;
+        m_ThumbOffset = thumbOffset;
+
+        final var trackRadius = m_TrackRadius;
+        if( m_Horizontal )
+        {
+            m_Track.resizeRelocate( trackStart - trackRadius, trackOffset, trackLength + trackRadius + trackRadius, trackThickness );
+        }
+        else
+        {
+            m_Track.resizeRelocate( trackOffset, trackStart - trackRadius, trackThickness, trackLength + trackRadius + trackRadius );
+        }
+    }   //  layoutTrack()
+
+    /**
+     *  Places the thumbs and the range bar for the given positions; the
+     *  geometry of the track from the last call to
+     *  {@link #layoutTrack(double, double, double, double, double)}
+     *  is reused.
+     *
+     *  @param  lowRatio    The position of the low thumb, with 0.0 being the
+     *      start of the track and 1.0 being the end.
+     *  @param  highRatio   The position of the high thumb, with 0.0 being the
+     *      start of the track and 1.0 being the end.
+     */
+    public final void positionThumbs( final double lowRatio, final double highRatio )
+    {
+        if( m_Horizontal )
+        {
+            final var lowX = m_TrackStart + (m_TrackLength * lowRatio) - (m_ThumbWidth / 2.0);
+            final var highX = m_TrackStart + (m_TrackLength * highRatio) - (m_ThumbWidth / 2.0);
+            m_LowThumb.relocate( lowX, m_ThumbOffset );
+            m_HighThumb.relocate( highX, m_ThumbOffset );
+            m_RangeBar.resizeRelocate( lowX + m_ThumbWidth, m_TrackOffset, Double.max( 0.0, highX - lowX - m_ThumbWidth ), m_TrackThickness );
+        }
+        else
+        {
+            //---* The start of a vertical track is at its bottom *------------
+            final var lowY = m_TrackStart + (m_TrackLength * (1.0 - lowRatio)) - (m_ThumbHeight / 2.0);
+            final var highY = m_TrackStart + (m_TrackLength * (1.0 - highRatio)) - (m_ThumbHeight / 2.0);
+            m_LowThumb.relocate( m_ThumbOffset, lowY );
+            m_HighThumb.relocate( m_ThumbOffset, highY );
+            m_RangeBar.resizeRelocate( m_TrackOffset, highY + m_ThumbHeight, m_TrackThickness, Double.max( 0.0, lowY - highY - m_ThumbHeight ) );
+        }
+    }   //  positionThumbs()
+
+    /**
+     *  Returns the position on the track for the given point in the
+     *  coordinates of the parent; points beyond the ends of the track are
+     *  mapped to the ends.
+     *
+     *  @param  x   The x coordinate.
+     *  @param  y   The y coordinate.
+     *  @return The position, with 0.0 being the start of the track and 1.0
+     *      being the end.
+     */
+    public final double ratioAt( final double x, final double y )
+    {
+        final var position = m_TrackLength > 0.0
+            ? m_Horizontal ? (x - m_TrackStart) / m_TrackLength : (m_TrackStart + m_TrackLength - y) / m_TrackLength
+            : 0.0;
+        final var retValue = clamp( 0.0, position, 1.0 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  ratioAt()
+
+    /**
+     *  Resizes the thumbs to their preferred size.
+     */
+    public final void resizeThumbs()
+    {
+        m_ThumbWidth = m_LowThumb.prefWidth( USE_COMPUTED_SIZE );
+        m_ThumbHeight = m_LowThumb.prefHeight( USE_COMPUTED_SIZE );
+        m_LowThumb.resize( m_ThumbWidth, m_ThumbHeight );
+        m_HighThumb.resize( m_ThumbWidth, m_ThumbHeight );
+    }   //  resizeThumbs()
+
+    /**
+     *  Sets the orientation of the track.
+     *
+     *  @param  orientation The orientation; {@code null} is taken as
+     *      {@link Orientation#HORIZONTAL}.
+     */
+    public final void setOrientation( final Orientation orientation )
+    {
+        m_Horizontal = isNull( orientation ) || (orientation == HORIZONTAL);
+    }   //  setOrientation()
+
+    /**
+     *  Determines the corner radius of the track from its background; we
+     *  assume there is a common radius for all corners on the track.
+     *
+     *  @return The radius.
+     */
+    private final double trackRadius()
+    {
+        final var background = m_Track.getBackground();
+        final var retValue = isNull( background ) || background.getFills().isEmpty()
+            ? 0.0
+            : background.getFills().getFirst().getRadii().getTopLeftHorizontalRadius();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  trackRadius()
+}
+//  class RangeTrack
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,538 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static java.lang.Double.isNaN;
+import static java.lang.Math.floor;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.ceilingIndex;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.fx.internal.ControlUtils.BackgroundComputation;
+import javafx.css.CssMetaData;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.Styleable;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.css.converter.PaintConverter;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ *  <p>{@summary A sparkline for a time series, drawn as a single line into a
+ *  single {@link Canvas}.}</p>
+ *  <p>The time series is given as two parallel arrays, one with the
+ *  timestamps in seconds since the start of the epoch, in ascending order,
+ *  and one with the values; it may have far more points than there are
+ *  pixels. Therefore the points between the bounds are reduced with min/max
+ *  bucketing to at most two points per horizontal pixel: for each pixel
+ *  column, only the point with the smallest and the point with the largest
+ *  value are kept, in the order of their timestamps, so that peaks are never
+ *  lost. This is done on the common
+ *  {@link ForkJoinPool},
+ *  and the result is installed on the FX application thread when it is
+ *  ready; results for data, bounds or a width that were changed in the
+ *  meantime are discarded. If the reduction fails, the sparkline is
+ *  cleared.</p>
+ *  <p>The reduction is done again only when the data, the bounds or the
+ *  width have changed; until the new result is available, the previous one
+ *  is drawn, scaled to the current size. The canvas is repainted only when
+ *  the points, the size or the stroke have changed.
+ *  {@link Double#NaN NaN}
+ *  values are ignored; the line is scaled vertically to the smallest and the
+ *  largest value between the bounds.</p>
+ *  <p>The preferred height is {@value #DEFAULT_DEPTH} pixels; it can be
+ *  changed with {@code -fx-pref-height}.</p>
+ *  <p>The sparkline has the style class {@value #DEFAULT_STYLE_CLASS}, and
+ *  it supports the CSS property {@code -fx-sparkline-stroke} for the colour
+ *  of the line.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class SparklineLayer extends Region
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The reduced points of the time series.
+     *
+     *  @param  timestamps  The timestamps of the points, in seconds since the
+     *      start of the epoch.
+     *  @param  values  The values of the points.
+     *  @param  size    The number of points.
+     *  @param  minValue    The smallest value.
+     *  @param  maxValue    The largest value.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private static record Points( double [] timestamps, double [] values, int size, double minValue, double maxValue ) {}
+
+    /**
+     *  The styleable properties for
+     *  {@link SparklineLayer}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @SuppressWarnings( {"InnerClassTooDeeplyNested", "AnonymousInnerClass"} )
+    @UtilityClass
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private static final class StyleableProperties
+    {
+            /*------------------------*\
+        ====** Static Initialisations **=======================================
+            \*------------------------*/
+        /**
+         *  The CSS attribute for the stroke of the line.
+         */
+        public static final CssMetaData<SparklineLayer,Paint> SPARKLINE_STROKE = new CssMetaData<>( "-fx-sparkline-stroke", PaintConverter.getInstance(), Color.GRAY )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final StyleableProperty<Paint> getStyleableProperty( final SparklineLayer styleable ) { return styleable.m_SparklineStrokeProperty; }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean isSettable( final SparklineLayer styleable ) { return !styleable.m_SparklineStrokeProperty.isBound(); }
+        };
+
+        /**
+         *  The CSS attributes for
+         *  {@link SparklineLayer}.
+         */
+        @SuppressWarnings( "StaticCollection" )
+        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES;
+
+        static
+        {
+            final List<CssMetaData<? extends Styleable, ?>> styleables = new ArrayList<>( Region.getClassCssMetaData() );
+            styleables.add( SPARKLINE_STROKE );
+            STYLEABLES = List.copyOf( styleables );
+        }
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  No instance allowed for this class!
+         */
+        private StyleableProperties() { throw new PrivateConstructorForStaticClassCalledError( StyleableProperties.class ); }
+    }
+    //  class StyleableProperties
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default style class for {@code SparklineLayer} instances:
+     *  {@value}.
+     */
+    public static final String DEFAULT_STYLE_CLASS = "sparkline"; //$NON-NLS-1$
+
+    /**
+     *  The default for the preferred height, in pixels: {@value}.
+     */
+    public static final double DEFAULT_DEPTH = 32.0;
+
+    /**
+     *  An empty array of timestamps.
+     */
+    private static final long [] NO_TIMESTAMPS = new long [0];
+
+    /**
+     *  An empty array of values.
+     */
+    private static final double [] NO_VALUES = new double [0];
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of buckets that the current points were requested for;
+     *  -1 if the points have to be calculated again.
+     */
+    private int m_BucketCount = -1;
+
+    /**
+     *  The canvas.
+     */
+    private final Canvas m_Canvas;
+
+    /**
+     *  The flag that indicates that the canvas has to be repainted.
+     */
+    private boolean m_Dirty = true;
+
+    /**
+     *  The lower bound, in seconds since the start of the epoch.
+     */
+    private long m_LowerBound = 0L;
+
+    /**
+     *  The reduced points; {@code null} if there are none yet.
+     */
+    private Points m_Points;
+
+    /**
+     *  The reduction of the time series to the points; the results of an
+     *  outdated reduction are discarded, and a failed reduction clears the
+     *  sparkline.
+     */
+    private final BackgroundComputation<Points> m_Reduction = new BackgroundComputation<>( this::installPoints, $ -> installPoints( null ) );
+
+    /**
+     *  The property for the stroke of the line.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final StyleableObjectProperty<Paint> m_SparklineStrokeProperty = new SimpleStyleableObjectProperty<>( StyleableProperties.SPARKLINE_STROKE, this, "sparklineStroke", Color.GRAY );
+
+    /**
+     *  The timestamps of the time series.
+     */
+    private long [] m_Timestamps = NO_TIMESTAMPS;
+
+    /**
+     *  The upper bound, in seconds since the start of the epoch.
+     */
+    private long m_UpperBound = 86_400L;
+
+    /**
+     *  The values of the time series.
+     */
+    private double [] m_Values = NO_VALUES;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code SparklineLayer}.
+     */
+    public SparklineLayer()
+    {
+        getStyleClass().setAll( DEFAULT_STYLE_CLASS );
+        setFocusTraversable( false );
+        setMouseTransparent( true );
+
+        m_Canvas = new Canvas();
+        m_Canvas.setManaged( false );
+        getChildren().add( m_Canvas );
+
+        m_SparklineStrokeProperty.addListener( $ -> markDirty() );
+    }   //  SparklineLayer()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Removes the time series.
+     */
+    public final void clearData() { setData( NO_TIMESTAMPS, NO_VALUES ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computePrefHeight( final double width )
+    {
+        final var retValue = snappedTopInset() + DEFAULT_DEPTH + snappedBottomInset();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefHeight()
+
+    /**
+     *  Reduces the points of the given time series between the given bounds
+     *  to the point with the smallest and the point with the largest value
+     *  per bucket. This is a single pass over the points between the bounds.
+     *
+     *  @param  timestamps  The timestamps, in ascending order.
+     *  @param  values  The values.
+     *  @param  lowerBound  The lower bound.
+     *  @param  upperBound  The upper bound.
+     *  @param  bucketCount The number of buckets.
+     *  @return The reduced points.
+     */
+    @SuppressWarnings( "NumericCastThatLosesPrecision" )
+    private static final Points downsample( final long [] timestamps, final double [] values, final long lowerBound, final long upperBound, final int bucketCount )
+    {
+        final var reducedTimestamps = new double [2 * bucketCount];
+        final var reducedValues = new double [2 * bucketCount];
+        var size = 0;
+        var minValue = Double.POSITIVE_INFINITY;
+        var maxValue = Double.NEGATIVE_INFINITY;
+
+        final var bucketsPerSecond = (double) bucketCount / (double) (upperBound - lowerBound);
+        var bucket = -1;
+        var minIndex = -1;
+        var maxIndex = -1;
+        for( var i = ceilingIndex( timestamps, 0, lowerBound ); i <= timestamps.length; ++i )
+        {
+            final var isEnd = (i == timestamps.length) || (timestamps [i] > upperBound);
+            if( !isEnd && isNaN( values [i] ) ) continue;
+            final var currentBucket = isEnd ? bucketCount : Integer.min( (int) ((timestamps [i] - lowerBound) * bucketsPerSecond), bucketCount - 1 );
+            if( currentBucket != bucket )
+            {
+                //---* Flush the previous bucket *-----------------------------
+                if( minIndex >= 0 )
+                {
+                    final var first = Integer.min( minIndex, maxIndex );
+                    final var last = Integer.max( minIndex, maxIndex );
+                    reducedTimestamps [size] = timestamps [first];
+                    reducedValues [size++] = values [first];
+                    if( last != first )
+                    {
+                        reducedTimestamps [size] = timestamps [last];
+                        reducedValues [size++] = values [last];
+                    }
+                    minValue = Double.min( minValue, values [minIndex] );
+                    maxValue = Double.max( maxValue, values [maxIndex] );
+                }
+                if( isEnd ) break;
+                bucket = currentBucket;
+                minIndex = i;
+                maxIndex = i;
+            }
+            else
+            {
+                if( values [i] < values [minIndex] ) minIndex = i;
+                if( values [i] > values [maxIndex] ) maxIndex = i;
+            }
+        }
+        final var retValue = new Points( reducedTimestamps, reducedValues, size, minValue, maxValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  downsample()
+
+    /**
+     *  Returns the CSS metadata for this class.
+     *
+     *  @return The CSS metadata.
+     */
+    @SuppressWarnings( "MethodOverridesStaticMethodOfSuperclass" )
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() { return StyleableProperties.STYLEABLES; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final List<CssMetaData<? extends Styleable, ?>> getCssMetaData() { return getClassCssMetaData(); }
+
+    /**
+     *  Returns the stroke for the line.
+     *
+     *  @return The stroke.
+     */
+    public final Paint getSparklineStroke() { return m_SparklineStrokeProperty.get(); }
+
+    /**
+     *  Installs the given reduced points.
+     *
+     *  @param  points  The reduced points; {@code null} if there are none.
+     */
+    private final void installPoints( final Points points )
+    {
+        m_Points = points;
+        markDirty();
+    }   //  installPoints()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final void layoutChildren()
+    {
+        final var width = snapSizeX( getWidth() );
+        final var height = snapSizeY( getHeight() );
+        if( (width != m_Canvas.getWidth()) || (height != m_Canvas.getHeight()) )
+        {
+            m_Canvas.setWidth( width );
+            m_Canvas.setHeight( height );
+            m_Dirty = true;
+        }
+
+        @SuppressWarnings( "NumericCastThatLosesPrecision" )
+        final var bucketCount = (int) floor( width );
+        if( (bucketCount != m_BucketCount) && (bucketCount > 0) ) requestPoints( bucketCount );
+
+        if( m_Dirty )
+        {
+            m_Dirty = false;
+            paint();
+        }
+    }   //  layoutChildren()
+
+    /**
+     *  Marks the canvas as dirty and requests a new layout.
+     */
+    private final void markDirty()
+    {
+        m_Dirty = true;
+        requestLayout();
+    }   //  markDirty()
+
+    /**
+     *  Paints the sparkline to the canvas.
+     */
+    private final void paint()
+    {
+        final var gc = m_Canvas.getGraphicsContext2D();
+        final var width = m_Canvas.getWidth();
+        final var height = m_Canvas.getHeight();
+        gc.clearRect( 0.0, 0.0, width, height );
+        if( isNull( m_Points ) || (m_Points.size() == 0) || (m_UpperBound <= m_LowerBound) || (width < 1.0) ) return;
+
+        /*
+         * The line keeps half a pixel distance to the top and the bottom
+         * edge; a constant series is drawn in the middle.
+         */
+        final var scaleX = width / (double) (m_UpperBound - m_LowerBound);
+        final var range = m_Points.maxValue() - m_Points.minValue();
+        final var scaleY = range > 0.0 ? (height - 1.0) / range : 0.0;
+        final var baseline = range > 0.0 ? height - 0.5 : height / 2.0;
+        final var timestamps = m_Points.timestamps();
+        final var values = m_Points.values();
+
+        //---* Draw the line as a single path *--------------------------------
+        gc.setStroke( getSparklineStroke() );
+        gc.setLineWidth( 1.0 );
+        gc.beginPath();
+        for( var i = 0; i < m_Points.size(); ++i )
+        {
+            final var x = (timestamps [i] - m_LowerBound) * scaleX;
+            final var y = baseline - ((values [i] - m_Points.minValue()) * scaleY);
+            if( i == 0 ) gc.moveTo( x, y ); else gc.lineTo( x, y );
+        }
+        gc.stroke();
+    }   //  paint()
+
+    /**
+     *  Starts the reduction of the time series to the given number of
+     *  buckets on the common
+     *  {@link ForkJoinPool};
+     *  the result is installed when it is ready.
+     *
+     *  @param  bucketCount The number of buckets.
+     */
+    private final void requestPoints( final int bucketCount )
+    {
+        m_BucketCount = bucketCount;
+        if( (m_Timestamps.length == 0) || (m_UpperBound <= m_LowerBound) )
+        {
+            m_Reduction.discard();
+            installPoints( null );
+        }
+        else
+        {
+            final var timestamps = m_Timestamps;
+            final var values = m_Values;
+            final var lowerBound = m_LowerBound;
+            final var upperBound = m_UpperBound;
+            m_Reduction.start( () -> downsample( timestamps, values, lowerBound, upperBound, bucketCount ) );
+        }
+    }   //  requestPoints()
+
+    /**
+     *  Sets the bounds for the sparkline.
+     *
+     *  @param  lowerBound  The lower bound, in seconds since the start of the
+     *      epoch.
+     *  @param  upperBound  The upper bound, in seconds since the start of the
+     *      epoch.
+     */
+    public final void setBounds( final long lowerBound, final long upperBound )
+    {
+        if( (m_LowerBound != lowerBound) || (m_UpperBound != upperBound) )
+        {
+            m_LowerBound = lowerBound;
+            m_UpperBound = upperBound;
+            m_BucketCount = -1;
+            markDirty();
+        }
+    }   //  setBounds()
+
+    /**
+     *  <p>{@summary Sets the time series for the sparkline.} The arrays are
+     *  not copied, and they must not be modified afterwards.</p>
+     *  <p>The sparkline will be updated when the points are reduced; until
+     *  then, the previous points are shown.</p>
+     *
+     *  @param  timestamps  The timestamps, in seconds since the start of the
+     *      epoch and in ascending order.
+     *  @param  values  The values; the array must have the same length as
+     *      {@code timestamps}.
+     */
+    public final void setData( final long [] timestamps, final double [] values )
+    {
+        if( requireNonNullArgument( timestamps, "timestamps" ).length != requireNonNullArgument( values, "values" ).length )
+        {
+            throw new IllegalArgumentException( "The arrays for timestamps and values have different lengths" );
+        }
+        m_Timestamps = timestamps;
+        m_Values = values;
+        m_BucketCount = -1;
+        requestLayout();
+    }   //  setData()
+
+    /**
+     *  Sets the stroke for the line.
+     *
+     *  @param  stroke  The stroke.
+     */
+    public final void setSparklineStroke( final Paint stroke ) { m_SparklineStrokeProperty.set( stroke ); }
+
+    /**
+     *  Returns the property for the stroke of the line.
+     *
+     *  @return The property.
+     */
+    public final StyleableObjectProperty<Paint> sparklineStrokeProperty() { return m_SparklineStrokeProperty; }
+}
+//  class SparklineLayer
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,146 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import javafx.beans.property.ObjectProperty;
+import javafx.geometry.Side;
+import javafx.scene.layout.Region;
+import javafx.util.StringConverter;
+
+/**
+ *  <p>{@summary The definition of the tick line for a slider.} A tick line
+ *  shows the major and minor tick marks and the labels for the major tick
+ *  marks along the track of a slider.</p>
+ *  <p>The methods are modelled after those of
+ *  {@link javafx.scene.chart.NumberAxis},
+ *  so that an implementation can either adapt a {@code NumberAxis} or draw the
+ *  tick marks itself.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public interface TickLine
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the node that represents this tick line in the scene graph.
+     *
+     *  @return The node.
+     */
+    public Region getNode();
+
+    /**
+     *  Requests a new layout for the tick marks and labels. Implementations
+     *  may ignore the request if nothing has changed since the last layout.
+     */
+    public void requestAxisLayout();
+
+    /**
+     *  Sets the value for the lower bound of the tick line.
+     *
+     *  @param  value   The lower bound.
+     */
+    public void setLowerBound( final double value );
+
+    /**
+     *  Sets the number of minor tick divisions between two major tick marks;
+     *  this is one more than the number of minor tick marks.
+     *
+     *  @param  value   The number of divisions.
+     */
+    public void setMinorTickCount( final int value );
+
+    /**
+     *  Sets the flag that controls whether the minor tick marks are visible.
+     *
+     *  @param  flag    {@code true} if the minor tick marks are visible,
+     *      {@code false} otherwise.
+     */
+    public void setMinorTickVisible( final boolean flag );
+
+    /**
+     *  Sets the side of the track on which the tick line is placed.
+     *
+     *  @param  side    The side.
+     */
+    public void setSide( final Side side );
+
+    /**
+     *  Sets the stops that are marked in addition to the tick marks.
+     *  Implementations may omit stops that are too close together to be
+     *  distinguished, or may not show stops at all.
+     *
+     *  @param  stops   The stops, sorted in ascending order; {@code null} if
+     *      there are none.
+     */
+    public void setStops( final double [] stops );
+
+    /**
+     *  Sets the flag that controls whether the labels for the major tick marks
+     *  are visible.
+     *
+     *  @param  flag    {@code true} if the tick labels are visible,
+     *      {@code false} otherwise.
+     */
+    public void setTickLabelsVisible( final boolean flag );
+
+    /**
+     *  Sets the flag that controls whether the major tick marks are visible.
+     *
+     *  @param  flag    {@code true} if the tick marks are visible,
+     *      {@code false} otherwise.
+     */
+    public void setTickMarkVisible( final boolean flag );
+
+    /**
+     *  Sets the distance between two major tick marks.
+     *
+     *  @param  value   The tick unit.
+     */
+    public void setTickUnit( final double value );
+
+    /**
+     *  Sets the value for the upper bound of the tick line.
+     *
+     *  @param  value   The upper bound.
+     */
+    public void setUpperBound( final double value );
+
+    /**
+     *  Returns the property for the formatter for the tick labels.
+     *
+     *  @return The property.
+     */
+    public ObjectProperty<StringConverter<Number>> tickLabelFormatterProperty();
+}
+//  interface TickLine
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,355 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.impl;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.fx.internal.ZoneCache;
+
+/**
+ *  <p>{@summary The offsets of a time zone around a single day, for the
+ *  conversion of seconds since the start of the epoch to instances of
+ *  {@link OffsetTime}
+ *  without going through
+ *  {@link Instant}
+ *  and
+ *  {@link java.time.ZonedDateTime}.}</p>
+ *  <p>For a given day, the offset of a time zone changes at most a few times
+ *  (usually for the daylight saving time). The transitions from a few days
+ *  before until a few days after the given day are taken from the
+ *  {@link ZoneRules}
+ *  once, when the table is created; after that, a conversion is a binary
+ *  search over the few transitions plus some integer arithmetic, and the
+ *  instances of
+ *  {@link ZoneOffset}
+ *  are reused. So a conversion allocates nothing beyond the resulting
+ *  value.</p>
+ *  <p>Values outside the covered period are still converted correctly, but
+ *  through the {@code ZoneRules}.</p>
+ *  <p>Instances of this class are immutable.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+public final class ZoneOffsetTable
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of days before and after the given day that are covered
+     *  by the table: {@value}.
+     */
+    private static final int MARGIN_DAYS = 2;
+
+    /**
+     *  The number of seconds per day: {@value}.
+     */
+    public static final int SECONDS_PER_DAY = 86_400;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The day.
+     */
+    private final LocalDate m_Day;
+
+    /**
+     *  The end of the covered period, in seconds since the start of the
+     *  epoch (exclusive).
+     */
+    private final long m_End;
+
+    /**
+     *  The offsets; the offset with the index {@code n} is valid from the
+     *  transition with the index {@code n - 1} (inclusive) until the
+     *  transition with the index {@code n} (exclusive).
+     */
+    private final ZoneOffset [] m_Offsets;
+
+    /**
+     *  The rules for the time zone.
+     */
+    private final ZoneRules m_Rules;
+
+    /**
+     *  The start of the covered period, in seconds since the start of the
+     *  epoch (inclusive).
+     */
+    private final long m_Start;
+
+    /**
+     *  The time zone.
+     */
+    private final ZoneId m_TimeZone;
+
+    /**
+     *  The transitions in the covered period, in seconds since the start of
+     *  the epoch, in ascending order.
+     */
+    private final long [] m_Transitions;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code ZoneOffsetTable}.
+     *
+     *  @param  day The day.
+     *  @param  timeZone    The time zone.
+     */
+    public ZoneOffsetTable( final LocalDate day, final ZoneId timeZone )
+    {
+        m_Day = requireNonNullArgument( day, "day" );
+        m_TimeZone = requireNonNullArgument( timeZone, "timeZone" );
+        m_Rules = ZoneCache.rules( m_TimeZone );
+
+        m_Start = (m_Day.toEpochDay() - MARGIN_DAYS) * SECONDS_PER_DAY;
+        m_End = (m_Day.toEpochDay() + 1 + MARGIN_DAYS) * SECONDS_PER_DAY;
+
+        final List<ZoneOffsetTransition> transitions = new ArrayList<>();
+        if( !m_Rules.isFixedOffset() )
+        {
+            var transition = m_Rules.nextTransition( Instant.ofEpochSecond( m_Start ) );
+            while( nonNull( transition ) && (transition.toEpochSecond() < m_End) )
+            {
+                transitions.add( transition );
+                transition = m_Rules.nextTransition( transition.getInstant() );
+            }
+        }
+        m_Transitions = new long [transitions.size()];
+        m_Offsets = new ZoneOffset [transitions.size() + 1];
+        m_Offsets [0] = m_Rules.getOffset( Instant.ofEpochSecond( m_Start ) );
+        for( var i = 0; i < m_Transitions.length; ++i )
+        {
+            m_Transitions [i] = transitions.get( i ).toEpochSecond();
+            m_Offsets [i + 1] = transitions.get( i ).getOffsetAfter();
+        }
+    }   //  ZoneOffsetTable()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the day.
+     *
+     *  @return The day.
+     */
+    public final LocalDate getDay() { return m_Day; }
+
+    /**
+     *  Returns the offset that is valid at the given point in time.
+     *
+     *  @param  epochSecond The seconds since the start of the epoch.
+     *  @return The offset.
+     */
+    public final ZoneOffset getOffset( final long epochSecond )
+    {
+        final ZoneOffset retValue;
+        if( (epochSecond < m_Start) || (epochSecond >= m_End) )
+        {
+            retValue = m_Rules.getOffset( Instant.ofEpochSecond( epochSecond ) );
+        }
+        else
+        {
+            /*
+             * On an exact match, the value is the first second with the new
+             * offset.
+             */
+            final var index = Arrays.binarySearch( m_Transitions, epochSecond );
+            retValue = m_Offsets [index >= 0 ? index + 1 : -index - 1];
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getOffset()
+
+    /**
+     *  Returns the time zone.
+     *
+     *  @return The time zone.
+     */
+    public final ZoneId getTimeZone() { return m_TimeZone; }
+
+    /**
+     *  Checks whether this table was created for the given day and time
+     *  zone.
+     *
+     *  @param  day The day.
+     *  @param  timeZone    The time zone.
+     *  @return {@code true} if the table is valid for the given arguments,
+     *      {@code false} if a new one is required.
+     */
+    public final boolean isFor( final LocalDate day, final ZoneId timeZone )
+    {
+        final var retValue = m_Day.equals( day ) && m_TimeZone.equals( timeZone );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isFor()
+
+    /**
+     *  <p>{@summary Snaps the given point in time to the nearest multiple of
+     *  the given step, counted from the local midnight.} The calculation is
+     *  done completely with integer arithmetic on the seconds; if the step
+     *  does not divide a day evenly, the last step of the day is shorter, and
+     *  the value is snapped to the next midnight instead. Steps of a day or
+     *  longer are counted from the local start of the epoch.</p>
+     *  <p>If the snapped local time does not exist because of a gap in the
+     *  time line (usually the begin of the daylight saving time), the result
+     *  is moved forward by the length of the gap, like
+     *  {@link java.time.ZonedDateTime#ofLocal(java.time.LocalDateTime, ZoneId, ZoneOffset) ZonedDateTime.ofLocal()}
+     *  does it. For an overlap, the earlier offset of the value is kept.</p>
+     *
+     *  @param  epochSecond The seconds since the start of the epoch.
+     *  @param  step    The step size in seconds; it must be greater than 0.
+     *  @return The snapped value in seconds since the start of the epoch.
+     */
+    public final long snapToStep( final long epochSecond, final long step )
+    {
+        final var retValue = snapToStep( epochSecond, step, this::getOffset );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapToStep()
+
+    /**
+     *  <p>{@summary Snaps the given point in time to the nearest multiple of
+     *  the given step, aligned to the wall clock of the given time zone.}
+     *  This is the same as
+     *  {@link #snapToStep(long, long)},
+     *  but without a table; it is meant for values that are not restricted
+     *  to a single day.</p>
+     *
+     *  @param  epochSecond The seconds since the start of the epoch.
+     *  @param  step    The step size in seconds; it must be greater than 0.
+     *  @param  timeZone    The time zone.
+     *  @return The snapped value in seconds since the start of the epoch.
+     */
+    public static final long snapToStep( final long epochSecond, final long step, final ZoneId timeZone )
+    {
+        final var rules = ZoneCache.rules( requireNonNullArgument( timeZone, "timeZone" ) );
+        final var retValue = snapToStep( epochSecond, step, $ -> rules.getOffset( Instant.ofEpochSecond( $ ) ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapToStep()
+
+    /**
+     *  Snaps the given point in time to the nearest multiple of the given
+     *  step, using the given function to determine the offset.
+     *
+     *  @param  epochSecond The seconds since the start of the epoch.
+     *  @param  step    The step size in seconds; it must be greater than 0.
+     *  @param  offsetProvider  Returns the offset that is valid at a given
+     *      point in time.
+     *  @return The snapped value in seconds since the start of the epoch.
+     */
+    private static final long snapToStep( final long epochSecond, final long step, final LongFunction<ZoneOffset> offsetProvider )
+    {
+        final long offset = offsetProvider.apply( epochSecond ).getTotalSeconds();
+        final var local = epochSecond + offset;
+        final long snapped;
+        if( step < SECONDS_PER_DAY )
+        {
+            final var dayStart = floorDiv( local, SECONDS_PER_DAY ) * SECONDS_PER_DAY;
+            snapped = Long.min( dayStart + floorDiv( local - dayStart + step / 2, step ) * step, dayStart + SECONDS_PER_DAY );
+        }
+        else
+        {
+            snapped = floorDiv( local + step / 2, step ) * step;
+        }
+
+        var retValue = snapped - offset;
+        final long otherOffset = offsetProvider.apply( retValue ).getTotalSeconds();
+        if( otherOffset != offset )
+        {
+            /*
+             * The snapped value crossed a transition; the local time is
+             * valid with the other offset, unless it falls into a gap.
+             */
+            final var candidate = snapped - otherOffset;
+            if( offsetProvider.apply( candidate ).getTotalSeconds() == otherOffset ) retValue = candidate;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapToStep()
+
+    /**
+     *  Converts the given point in time to an instance of
+     *  {@link OffsetTime}.
+     *
+     *  @param  epochSecond The seconds since the start of the epoch.
+     *  @return The offset time.
+     */
+    public final OffsetTime toOffsetTime( final long epochSecond )
+    {
+        final var offset = getOffset( epochSecond );
+        final var secondOfDay = floorMod( epochSecond + offset.getTotalSeconds(), SECONDS_PER_DAY );
+        final var retValue = OffsetTime.of( LocalTime.ofSecondOfDay( secondOfDay ), offset );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toOffsetTime()
+
+    /**
+     *  Returns the local time of day at the given point in time, in seconds
+     *  since midnight.
+     *
+     *  @param  epochSecond The seconds since the start of the epoch.
+     *  @return The second of the day.
+     */
+    public final int toSecondOfDay( final long epochSecond )
+    {
+        final var retValue = floorMod( epochSecond + getOffset( epochSecond ).getTotalSeconds(), SECONDS_PER_DAY );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toSecondOfDay()
+}
+//  class ZoneOffsetTable
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,904 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.skin;
+
+import static java.lang.Double.max;
+import static javafx.scene.layout.Region.USE_COMPUTED_SIZE;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.focusNextSibling;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.focusPreviousSibling;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.fx.control.DateTimeRangeSlider;
+import org.tquadrat.foundation.fx.control.RangeSlider;
+import org.tquadrat.foundation.fx.control.impl.CanvasTickLine;
+import org.tquadrat.foundation.fx.control.impl.DateTimeTicks;
+import org.tquadrat.foundation.fx.control.impl.RangeTrack;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.NodeOrientation;
+import javafx.geometry.Point2D;
+import javafx.geometry.Side;
+import javafx.scene.control.SkinBase;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+
+/**
+ *  <p>{@summary The default skin for instances of
+ *  {@link DateTimeRangeSlider}.}</p>
+ *  <p>Like
+ *  {@link TimeSliderSkin},
+ *  this skin renders the track, the thumbs and the range bar with a
+ *  {@link RangeTrack},
+ *  driven directly from the seconds since the start of the epoch that
+ *  correspond to the values of the control; there is no inner
+ *  {@link RangeSlider}.
+ *  The exact values are kept by the control, and they are aligned to the
+ *  steps by the control when a gesture ends.</p>
+ *  <p>A
+ *  {@link CanvasTickLine}
+ *  below the track shows the tick marks from
+ *  {@link DateTimeTicks},
+ *  that are placed on the wall clock of the time zone. They are calculated
+ *  again only when the visible part of the period, the time zone or the
+ *  length of the track has changed.</p>
+ *  <p>If the control is
+ *  {@linkplain DateTimeRangeSlider#zoomableProperty() zoomable},
+ *  the track shows only a part of the period between the minimum and the
+ *  maximum; that visible window is kept by the skin, and each zoom or pan
+ *  step sets both of its bounds at once.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( {"ClassWithTooManyFields", "ClassWithTooManyMethods"} )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.4.7" )
+public class DateTimeRangeSliderSkin extends SkinBase<DateTimeRangeSlider>
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The smallest visible window in seconds: {@value}.
+     */
+    private static final long MIN_VISIBLE_SPAN = 60L;
+
+    /**
+     *  The scroll distance in pixels for one notch of the mouse wheel:
+     *  {@value}.
+     */
+    private static final double SCROLL_NOTCH = 40.0;
+
+    /**
+     *  The gap between the track and the tick line: {@value}.
+     */
+    private static final double TRACK_TO_TICK_GAP = 2.0;
+
+    /**
+     *  The factor for the size of the visible window for one notch of the
+     *  mouse wheel: {@value}.
+     */
+    private static final double ZOOM_STEP = 0.8;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The content area from the last layout pass: x, y, width and height.
+     */
+    private final double [] m_ContentArea = {Double.NaN, Double.NaN, Double.NaN, Double.NaN};
+
+    /**
+     *  The high value of the control when a drag of the range bar started,
+     *  in seconds since the start of the epoch.
+     */
+    private long m_DragHighValue;
+
+    /**
+     *  The low value of the control when a drag of the range bar started,
+     *  in seconds since the start of the epoch.
+     */
+    private long m_DragLowValue;
+
+    /**
+     *  The flag that indicates that the complete geometry has to be
+     *  calculated again on the next layout pass.
+     */
+    private boolean m_GeometryDirty = true;
+
+    /**
+     *  The position of the mouse when the visible window was panned last, or
+     *  {@link Double#NaN}
+     *  if no pan gesture is in progress.
+     */
+    private double m_PanPosition = Double.NaN;
+
+    /**
+     *  The relative position of the thumb when a drag started.
+     */
+    private double m_PreDragPos;
+
+    /**
+     *  The position of the mouse when a drag started.
+     */
+    private Point2D m_PreDragPoint;
+
+    /**
+     *  The track, the thumbs and the range bar.
+     */
+    private final RangeTrack m_RangeTrack = new RangeTrack();
+
+    /**
+     *  The flag that indicates that the thumbs have to be positioned again
+     *  on the next layout pass.
+     */
+    private boolean m_ThumbsDirty = false;
+
+    /**
+     *  The tick line.
+     */
+    private final CanvasTickLine m_TickLine;
+
+    /**
+     *  The flag that indicates that the tick marks have to be calculated
+     *  again.
+     */
+    private boolean m_TicksDirty = true;
+
+    /**
+     *  The length of the track for that the tick marks were calculated last.
+     */
+    private double m_TrackLength = Double.NaN;
+
+    /**
+     *  The end of the visible window, in seconds since the start of the
+     *  epoch; only valid if
+     *  {@link #m_Zoomed}
+     *  is set.
+     */
+    private long m_VisibleEnd;
+
+    /**
+     *  The start of the visible window, in seconds since the start of the
+     *  epoch; only valid if
+     *  {@link #m_Zoomed}
+     *  is set.
+     */
+    private long m_VisibleStart;
+
+    /**
+     *  The flag that indicates whether the visible window is smaller than
+     *  the period between the minimum and the maximum.
+     */
+    private boolean m_Zoomed = false;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code DateTimeRangeSliderSkin}.
+     *
+     *  @param  control The reference for the control.
+     */
+    @SuppressWarnings( "OverlyLongMethod" )
+    public DateTimeRangeSliderSkin( final DateTimeRangeSlider control )
+    {
+        super( requireNonNullArgument( control, "control" ) );
+
+        //---* Create the children and add them *------------------------------
+        m_TickLine = new CanvasTickLine();
+        m_TickLine.setSide( Side.BOTTOM );
+        m_TickLine.setTickMarkVisible( true );
+        m_TickLine.setMinorTickVisible( true );
+        m_TickLine.setTickLabelsVisible( true );
+
+        getChildren().add( m_TickLine );
+        getChildren().addAll( m_RangeTrack.getNodes() );
+
+        /*
+         * A change to the size of the track or the thumbs, for example by
+         * CSS, requires a new calculation of the geometry.
+         */
+        m_RangeTrack.getTrack().backgroundProperty().addListener( $ -> invalidateGeometry() );
+        //noinspection LambdaParameterNamingConvention
+        final ChangeListener<Boolean> needsLayoutListener = ($1,$2,needsLayout) ->
+        {
+            if( needsLayout ) m_GeometryDirty = true;
+        };
+        m_RangeTrack.getTrack().needsLayoutProperty().addListener( needsLayoutListener );
+        m_RangeTrack.getLowThumb().needsLayoutProperty().addListener( needsLayoutListener );
+
+        /*
+         * A change of a value only marks the thumbs as dirty; a change of
+         * the bounds moves the visible window into the new period.
+         */
+        final InvalidationListener valueListener = $ -> invalidateThumbs();
+        control.lowValueProperty().addListener( valueListener );
+        control.highValueProperty().addListener( valueListener );
+        final InvalidationListener boundsListener = $ ->
+        {
+            if( m_Zoomed ) setVisibleWindow( (double) m_VisibleStart, (double) m_VisibleEnd );
+            invalidateTicks();
+        };
+        control.minProperty().addListener( boundsListener );
+        control.maxProperty().addListener( boundsListener );
+
+        registerChangeListener( control.timeZoneProperty(), $ -> invalidateTicks() );
+        registerChangeListener( control.zoomableProperty(), $ ->
+        {
+            if( !getSkinnable().isZoomable() ) resetZoom();
+        } );
+
+        //---* The mouse handling *--------------------------------------------
+        initMouseHandling();
+        initZoomHandling();
+
+        //---* The keyboard handling *-----------------------------------------
+        //noinspection LambdaParameterNamingConvention
+        control.focusedProperty().addListener( ($1,$2,hasFocus) ->
+        {
+            if( hasFocus )
+            {
+                if( !m_RangeTrack.getHighThumb().isFocused() ) m_RangeTrack.getLowThumb().setFocus( true );
+            }
+            else
+            {
+                m_RangeTrack.getLowThumb().setFocus( false );
+                m_RangeTrack.getHighThumb().setFocus( false );
+
+                //---* A key release will not reach us anymore *--------------
+                if( getSkinnable().isValueChanging() ) finishGesture();
+            }
+        } );
+        control.addEventHandler( KeyEvent.KEY_PRESSED, this::keyPressed );
+        control.addEventHandler( KeyEvent.KEY_RELEASED, this::keyReleased );
+    }   //  DateTimeRangeSliderSkin()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMaxHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = getSkinnable().prefHeight( width );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMaxHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMinHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = topInset + m_RangeTrack.getLowThumb().prefHeight( USE_COMPUTED_SIZE ) + m_TickLine.prefHeight( USE_COMPUTED_SIZE ) + bottomInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMinHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMinWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = leftInset + (3.0 * m_RangeTrack.getLowThumb().prefWidth( USE_COMPUTED_SIZE )) + rightInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMinWidth()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computePrefHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var trackAreaHeight = max( m_RangeTrack.getLowThumb().prefHeight( USE_COMPUTED_SIZE ), m_RangeTrack.getTrack().prefHeight( USE_COMPUTED_SIZE ) );
+        final var retValue = topInset + trackAreaHeight + TRACK_TO_TICK_GAP + m_TickLine.prefHeight( USE_COMPUTED_SIZE ) + bottomInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "MagicNumber" )
+    @Override
+    protected double computePrefWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = max( 140.0, m_TickLine.prefWidth( USE_COMPUTED_SIZE ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefWidth()
+
+    /**
+     *  Returns the distance of the given point from the point where the
+     *  current drag gesture started, relative to the length of the track.
+     *
+     *  @param  point   The current position of the mouse, in the coordinates
+     *      of the control.
+     *  @return The relative distance.
+     */
+    private final double dragDistance( final Point2D point )
+    {
+        if( isNull( m_PreDragPoint ) ) m_PreDragPoint = point;
+        final var trackLength = m_RangeTrack.getTrackLength();
+        final var retValue = trackLength > 0.0 ? (point.getX() - m_PreDragPoint.getX()) / trackLength : 0.0;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  dragDistance()
+
+    /**
+     *  Finishes a gesture: the values are aligned to the steps, and the
+     *  control is notified that its values are no longer changing.
+     */
+    private final void finishGesture()
+    {
+        final var control = getSkinnable();
+        control.adjustLowValue( control.getLowValue() );
+        control.adjustHighValue( control.getHighValue() );
+        control.setValueChanging( false );
+    }   //  finishGesture()
+
+    /**
+     *  Returns the high value of the control in seconds since the start of
+     *  the epoch.
+     *
+     *  @return The high value.
+     */
+    private final long highSeconds() { return getSkinnable().getHighValue().toEpochSecond(); }
+
+    /**
+     *  Installs the mouse handlers on the track, the thumbs and the range
+     *  bar.
+     */
+    @SuppressWarnings( "OverlyLongMethod" )
+    private final void initMouseHandling()
+    {
+        final var lowThumb = m_RangeTrack.getLowThumb();
+        final var highThumb = m_RangeTrack.getHighThumb();
+        final var rangeBar = m_RangeTrack.getRangeBar();
+        final var track = m_RangeTrack.getTrack();
+
+        track.setOnMousePressed( event ->
+        {
+            if( !lowThumb.isPressed() && !highThumb.isPressed() )
+            {
+                requestFocus();
+                final var control = getSkinnable();
+                final var point = track.localToParent( event.getX(), event.getY() );
+                final var value = control.toZonedDateTime( valueAt( m_RangeTrack.ratioAt( point.getX(), point.getY() ) ) );
+                if( value.isBefore( control.getLowValue() ) )
+                {
+                    control.adjustLowValue( value );
+                }
+                else
+                {
+                    control.adjustHighValue( value );
+                }
+            }
+        } );
+
+        lowThumb.setOnMousePressed( event ->
+        {
+            requestFocus();
+            highThumb.setFocus( false );
+            lowThumb.setFocus( true );
+            getSkinnable().setValueChanging( true );
+            m_PreDragPoint = lowThumb.localToParent( event.getX(), event.getY() );
+            m_PreDragPos = ratio( lowSeconds() );
+        } );
+        lowThumb.setOnMouseDragged( event ->
+        {
+            final var control = getSkinnable();
+            control.setLowValue( control.toZonedDateTime( valueAt( m_PreDragPos + dragDistance( lowThumb.localToParent( event.getX(), event.getY() ) ) ) ) );
+        } );
+        lowThumb.setOnMouseReleased( $ -> finishGesture() );
+
+        highThumb.setOnMousePressed( event ->
+        {
+            requestFocus();
+            lowThumb.setFocus( false );
+            highThumb.setFocus( true );
+            getSkinnable().setValueChanging( true );
+            m_PreDragPoint = highThumb.localToParent( event.getX(), event.getY() );
+            m_PreDragPos = ratio( highSeconds() );
+        } );
+        highThumb.setOnMouseDragged( event ->
+        {
+            final var control = getSkinnable();
+            control.setHighValue( control.toZonedDateTime( valueAt( m_PreDragPos + dragDistance( highThumb.localToParent( event.getX(), event.getY() ) ) ) ) );
+        } );
+        highThumb.setOnMouseReleased( $ -> finishGesture() );
+
+        /*
+         * Dragging the range bar moves both values by the same amount; the
+         * movement stops at the bounds, so the duration is kept.
+         */
+        rangeBar.setOnMousePressed( event ->
+        {
+            requestFocus();
+            getSkinnable().setValueChanging( true );
+            m_PreDragPoint = rangeBar.localToParent( event.getX(), event.getY() );
+            m_DragLowValue = lowSeconds();
+            m_DragHighValue = highSeconds();
+        } );
+        rangeBar.setOnMouseDragged( event ->
+        {
+            final var control = getSkinnable();
+            @SuppressWarnings( "NumericCastThatLosesPrecision" )
+            final var distance = clamp
+                (
+                    Long.min( 0L, minSeconds() - m_DragLowValue ),
+                    (long) Math.rint( dragDistance( rangeBar.localToParent( event.getX(), event.getY() ) ) * (double) (visibleEnd() - visibleStart()) ),
+                    Long.max( 0L, maxSeconds() - m_DragHighValue )
+                );
+
+            /*
+             * When moving to the maximum, the high value is set first, and
+             * the low value is set first when moving to the minimum; so the
+             * value that is set first is never clamped to the old position
+             * of the other one.
+             */
+            if( distance > 0L )
+            {
+                control.setHighValue( control.toZonedDateTime( m_DragHighValue + distance ) );
+                control.setLowValue( control.toZonedDateTime( m_DragLowValue + distance ) );
+            }
+            else
+            {
+                control.setLowValue( control.toZonedDateTime( m_DragLowValue + distance ) );
+                control.setHighValue( control.toZonedDateTime( m_DragHighValue + distance ) );
+            }
+        } );
+        rangeBar.setOnMouseReleased( $ -> finishGesture() );
+    }   //  initMouseHandling()
+
+    /**
+     *  Installs the handlers for zooming and panning the visible window: if
+     *  the control is zoomable, the mouse wheel zooms the window around the
+     *  mouse pointer, and a drag with the shortcut modifier pans it; the
+     *  filters keep the pan gesture away from the thumbs and the range bar.
+     */
+    private final void initZoomHandling()
+    {
+        final var control = getSkinnable();
+        control.addEventHandler( ScrollEvent.SCROLL, event ->
+        {
+            if( getSkinnable().isZoomable() && (event.getDeltaY() != 0.0) )
+            {
+                zoom( Math.pow( ZOOM_STEP, event.getDeltaY() / SCROLL_NOTCH ), event.getX(), event.getY() );
+                event.consume();
+            }
+        } );
+        control.addEventFilter( MouseEvent.MOUSE_PRESSED, event ->
+        {
+            if( getSkinnable().isZoomable() && event.isShortcutDown() )
+            {
+                m_PanPosition = event.getX();
+                event.consume();
+            }
+        } );
+        control.addEventFilter( MouseEvent.MOUSE_DRAGGED, event ->
+        {
+            if( !Double.isNaN( m_PanPosition ) )
+            {
+                final var distance = event.getX() - m_PanPosition;
+                m_PanPosition = event.getX();
+                final var trackLength = m_RangeTrack.getTrackLength();
+                if( m_Zoomed && (trackLength > 0.0) )
+                {
+                    //---* The content follows the mouse *---------------------
+                    final var delta = -distance * (double) (m_VisibleEnd - m_VisibleStart) / trackLength;
+                    setVisibleWindow( (double) m_VisibleStart + delta, (double) m_VisibleEnd + delta );
+                }
+                event.consume();
+            }
+        } );
+        control.addEventFilter( MouseEvent.MOUSE_RELEASED, event ->
+        {
+            if( !Double.isNaN( m_PanPosition ) )
+            {
+                m_PanPosition = Double.NaN;
+                event.consume();
+            }
+        } );
+    }   //  initZoomHandling()
+
+    /**
+     *  Marks the complete geometry as dirty and requests a layout.
+     */
+    private final void invalidateGeometry()
+    {
+        m_GeometryDirty = true;
+        getSkinnable().requestLayout();
+    }   //  invalidateGeometry()
+
+    /**
+     *  Marks the thumbs as dirty and requests a layout.
+     */
+    private final void invalidateThumbs()
+    {
+        m_ThumbsDirty = true;
+        getSkinnable().requestLayout();
+    }   //  invalidateThumbs()
+
+    /**
+     *  Marks the tick marks and the thumbs for calculation on the next
+     *  layout pass.
+     */
+    private final void invalidateTicks()
+    {
+        m_TicksDirty = true;
+        invalidateThumbs();
+    }   //  invalidateTicks()
+
+    /**
+     *  Handles a key press: the arrow keys move the thumb that has the focus
+     *  by one
+     *  {@linkplain DateTimeRangeSlider#stepProperty() step},
+     *  and TAB moves the focus from the low to the high thumb, and then to
+     *  the next control.
+     *
+     *  @param  event   The key event.
+     */
+    private final void keyPressed( final KeyEvent event )
+    {
+        final var lowThumb = m_RangeTrack.getLowThumb();
+        final var highThumb = m_RangeTrack.getHighThumb();
+        final var control = getSkinnable();
+        final var direction = control.getEffectiveNodeOrientation() == NodeOrientation.RIGHT_TO_LEFT ? -1L : 1L;
+        switch( event.getCode() )
+        {
+            case TAB ->
+            {
+                if( lowThumb.isFocused() )
+                {
+                    if( event.isShiftDown() )
+                    {
+                        focusPreviousSibling( control );
+                    }
+                    else
+                    {
+                        lowThumb.setFocus( false );
+                        highThumb.setFocus( true );
+                    }
+                }
+                else if( highThumb.isFocused() )
+                {
+                    if( event.isShiftDown() )
+                    {
+                        highThumb.setFocus( false );
+                        lowThumb.setFocus( true );
+                    }
+                    else
+                    {
+                        focusNextSibling( control );
+                    }
+                }
+            }
+            case LEFT, KP_LEFT, DOWN, KP_DOWN -> moveSelectedValue( -direction );
+            case RIGHT, KP_RIGHT, UP, KP_UP -> moveSelectedValue( direction );
+            default -> {}
+        }
+        event.consume();
+    }   //  keyPressed()
+
+    /**
+     *  Handles a key release: HOME and END move the thumb that has the focus
+     *  to the respective bound, and the release of an arrow key finishes the
+     *  gesture.
+     *
+     *  @param  event   The key event.
+     */
+    private final void keyReleased( final KeyEvent event )
+    {
+        final var control = getSkinnable();
+        final var highSelected = m_RangeTrack.getHighThumb().isFocused();
+        switch( event.getCode() )
+        {
+            case HOME ->
+            {
+                if( highSelected ) control.adjustHighValue( control.getMin() ); else control.adjustLowValue( control.getMin() );
+            }
+            case END ->
+            {
+                if( highSelected ) control.adjustHighValue( control.getMax() ); else control.adjustLowValue( control.getMax() );
+            }
+
+            /*
+             * Holding down an arrow key generates a series of KEY_PRESSED
+             * events, but only one KEY_RELEASED event at the end; that one
+             * finishes the gesture.
+             */
+            case LEFT, KP_LEFT, RIGHT, KP_RIGHT, DOWN, KP_DOWN, UP, KP_UP ->
+            {
+                if( control.isValueChanging() ) finishGesture();
+            }
+            default -> {}
+        }
+        event.consume();
+    }   //  keyReleased()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "NumericCastThatLosesPrecision" )
+    @Override
+    protected void layoutChildren( final double contentX, final double contentY, final double contentWidth, final double contentHeight )
+    {
+        if( (m_ContentArea [0] != contentX) || (m_ContentArea [1] != contentY) || (m_ContentArea [2] != contentWidth) || (m_ContentArea [3] != contentHeight) )
+        {
+            m_ContentArea [0] = contentX;
+            m_ContentArea [1] = contentY;
+            m_ContentArea [2] = contentWidth;
+            m_ContentArea [3] = contentHeight;
+            m_GeometryDirty = true;
+        }
+
+        if( m_GeometryDirty )
+        {
+            m_RangeTrack.resizeThumbs();
+            final var thumbWidth = m_RangeTrack.getThumbWidth();
+            final var thumbHeight = m_RangeTrack.getThumbHeight();
+            final var tickLineHeight = m_TickLine.prefHeight( USE_COMPUTED_SIZE );
+            final var trackHeight = m_RangeTrack.getTrack().prefHeight( USE_COMPUTED_SIZE );
+            final var trackAreaHeight = max( trackHeight, thumbHeight );
+
+            //---* Vertically center slider in available height *--------------
+            final var startY = contentY + ((contentHeight - (trackAreaHeight + TRACK_TO_TICK_GAP + tickLineHeight)) / 2.0);
+            final var trackLength = contentWidth - thumbWidth;
+            final var trackStart = contentX + (thumbWidth / 2.0);
+            final var trackTop = (double) ((int) (startY + ((trackAreaHeight - trackHeight) / 2.0)));
+            final var thumbTop = (double) ((int) (startY + ((trackAreaHeight - thumbHeight) / 2.0)));
+
+            m_RangeTrack.layoutTrack( trackStart, trackLength, trackTop, trackHeight, thumbTop );
+            m_TickLine.resizeRelocate( trackStart, trackTop + trackHeight + TRACK_TO_TICK_GAP, trackLength, tickLineHeight );
+
+            /*
+             * Resizing the track and the thumbs may have set the flag again.
+             */
+            m_GeometryDirty = false;
+            m_ThumbsDirty = true;
+        }
+
+        final var trackLength = m_RangeTrack.getTrackLength();
+        if( m_TicksDirty || (trackLength != m_TrackLength) ) updateTicks( trackLength );
+
+        if( m_ThumbsDirty )
+        {
+            m_RangeTrack.positionThumbs( ratio( lowSeconds() ), ratio( highSeconds() ) );
+            m_ThumbsDirty = false;
+        }
+    }   //  layoutChildren()
+
+    /**
+     *  Returns the low value of the control in seconds since the start of
+     *  the epoch.
+     *
+     *  @return The low value.
+     */
+    private final long lowSeconds() { return getSkinnable().getLowValue().toEpochSecond(); }
+
+    /**
+     *  Returns the maximum of the control in seconds since the start of the
+     *  epoch.
+     *
+     *  @return The maximum.
+     */
+    private final long maxSeconds() { return getSkinnable().getMax().toEpochSecond(); }
+
+    /**
+     *  Returns the minimum of the control in seconds since the start of the
+     *  epoch.
+     *
+     *  @return The minimum.
+     */
+    private final long minSeconds() { return getSkinnable().getMin().toEpochSecond(); }
+
+    /**
+     *  Moves the thumb that has the focus by the given number of
+     *  {@linkplain DateTimeRangeSlider#stepProperty() steps}.
+     *
+     *  @param  steps   The number of steps; negative values move the thumb
+     *      to the minimum.
+     */
+    private final void moveSelectedValue( final long steps )
+    {
+        final var control = getSkinnable();
+        if( !control.isValueChanging() ) control.setValueChanging( true );
+        final var step = steps * control.getStep().toSeconds();
+        if( m_RangeTrack.getHighThumb().isFocused() )
+        {
+            control.setHighValue( control.toZonedDateTime( clamp( minSeconds(), highSeconds() + step, maxSeconds() ) ) );
+        }
+        else
+        {
+            control.setLowValue( control.toZonedDateTime( clamp( minSeconds(), lowSeconds() + step, maxSeconds() ) ) );
+        }
+    }   //  moveSelectedValue()
+
+    /**
+     *  Returns the relative position of the given value in the visible
+     *  window.
+     *
+     *  @param  value   The value in seconds since the start of the epoch.
+     *  @return The relative position, between 0.0 and 1.0.
+     */
+    private final double ratio( final long value )
+    {
+        final var start = visibleStart();
+        final var span = visibleEnd() - start;
+        final var retValue = span > 0L ? clamp( 0.0, (double) (value - start) / (double) span, 1.0 ) : 0.0;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  ratio()
+
+    /**
+     *  Requests the focus for the control, if it does not have it already.
+     */
+    private final void requestFocus()
+    {
+        final var control = getSkinnable();
+        if( !control.isFocused() ) control.requestFocus();
+    }   //  requestFocus()
+
+    /**
+     *  Resets the visible window so that it covers the whole period between
+     *  the minimum and the maximum.
+     */
+    private final void resetZoom()
+    {
+        if( m_Zoomed )
+        {
+            m_Zoomed = false;
+            invalidateTicks();
+        }
+    }   //  resetZoom()
+
+    /**
+     *  Sets the visible window. A window that extends beyond the minimum or
+     *  the maximum is moved back into the period, a window that is larger
+     *  than the period shows the whole period, and a window smaller than
+     *  {@value #MIN_VISIBLE_SPAN}
+     *  seconds is enlarged around its centre.
+     *
+     *  @param  from    The start of the window, in seconds since the start of
+     *      the epoch.
+     *  @param  to  The end of the window, in seconds since the start of the
+     *      epoch.
+     */
+    @SuppressWarnings( "NumericCastThatLosesPrecision" )
+    private final void setVisibleWindow( final double from, final double to )
+    {
+        final var min = minSeconds();
+        final var max = maxSeconds();
+        final var span = Math.max( Math.round( to - from ), MIN_VISIBLE_SPAN );
+        if( span >= max - min )
+        {
+            resetZoom();
+        }
+        else
+        {
+            final var start = clamp( min, Math.round( ((from + to) / 2.0) - ((double) span / 2.0) ), max - span );
+            m_VisibleStart = start;
+            m_VisibleEnd = start + span;
+            m_Zoomed = true;
+            invalidateTicks();
+        }
+    }   //  setVisibleWindow()
+
+    /**
+     *  Calculates the tick marks for the visible window.
+     *
+     *  @param  trackLength The length of the track in pixels.
+     */
+    private final void updateTicks( final double trackLength )
+    {
+        final var control = getSkinnable();
+        final var origin = minSeconds();
+        final var start = visibleStart();
+        final var end = visibleEnd();
+        final var ticks = new DateTimeTicks( start, end, origin, control.getTimeZone(), trackLength );
+        m_TickLine.setLowerBound( (double) (start - origin) );
+        m_TickLine.setUpperBound( (double) (end - origin) );
+        m_TickLine.setTicks( ticks.getMajorTicks(), ticks.getLabels(), ticks.getMinorTicks() );
+
+        m_TrackLength = trackLength;
+        m_TicksDirty = false;
+    }   //  updateTicks()
+
+    /**
+     *  Returns the value at the given relative position in the visible
+     *  window.
+     *
+     *  @param  ratio   The relative position; it will be limited to the
+     *      range between 0.0 and 1.0.
+     *  @return The value in seconds since the start of the epoch.
+     */
+    private final long valueAt( final double ratio )
+    {
+        final var start = visibleStart();
+        final var retValue = start + Math.round( clamp( 0.0, ratio, 1.0 ) * (double) (visibleEnd() - start) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  valueAt()
+
+    /**
+     *  Returns the end of the visible window.
+     *
+     *  @return The end of the window, in seconds since the start of the
+     *      epoch.
+     */
+    private final long visibleEnd() { return m_Zoomed ? m_VisibleEnd : maxSeconds(); }
+
+    /**
+     *  Returns the start of the visible window.
+     *
+     *  @return The start of the window, in seconds since the start of the
+     *      epoch.
+     */
+    private final long visibleStart() { return m_Zoomed ? m_VisibleStart : minSeconds(); }
+
+    /**
+     *  Zooms the visible window around the given position; the value at
+     *  that position keeps its place on the track.
+     *
+     *  @param  factor  The factor for the size of the window; a value less
+     *      than 1.0 zooms in, a value greater than 1.0 zooms out.
+     *  @param  x   The x coordinate of the position, relative to the
+     *      control.
+     *  @param  y   The y coordinate of the position, relative to the
+     *      control.
+     */
+    private final void zoom( final double factor, final double x, final double y )
+    {
+        final var ratio = m_RangeTrack.ratioAt( x, y );
+        final var start = (double) visibleStart();
+        final var span = (double) visibleEnd() - start;
+        final var anchor = start + (ratio * span);
+        final var newSpan = span * factor;
+        final var newStart = anchor - (ratio * newSpan);
+        setVisibleWindow( newStart, newStart + newSpan );
+    }   //  zoom()
+}
+//  class DateTimeRangeSliderSkin
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,886 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.skin;
+
+import static java.lang.Double.max;
+import static javafx.geometry.Orientation.VERTICAL;
+import static javafx.scene.layout.Region.USE_COMPUTED_SIZE;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.doubleToUnsigned;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.focusNextSibling;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.focusPreviousSibling;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.unsignedToDouble;
+import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.fx.control.LongRangeSlider;
+import org.tquadrat.foundation.fx.control.RangeSlider;
+import org.tquadrat.foundation.fx.control.impl.CachingLabelFormatter;
+import org.tquadrat.foundation.fx.control.impl.CanvasTickLine;
+import org.tquadrat.foundation.fx.control.impl.RangeTrack;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.NodeOrientation;
+import javafx.geometry.Point2D;
+import javafx.geometry.Side;
+import javafx.scene.control.SkinBase;
+import javafx.scene.input.KeyEvent;
+import javafx.util.StringConverter;
+
+/**
+ *  <p>{@summary The default skin for instances of
+ *  {@link LongRangeSlider}.}</p>
+ *  <p>Like
+ *  {@link TimeSliderSkin},
+ *  this skin renders the track, the thumbs and the range bar with a
+ *  {@link RangeTrack},
+ *  and the tick marks with a
+ *  {@link CanvasTickLine},
+ *  both driven directly from the {@code long} values of the control; there
+ *  is no inner
+ *  {@link RangeSlider}.
+ *  A position on the screen is the unsigned offset of a value from the
+ *  {@linkplain LongRangeSlider#getMin() minimum},
+ *  converted to a {@code double}; that is precise enough for a pixel, and
+ *  the exact {@code long} values are kept by the control. Snapping to the
+ *  tick marks is done by the control with integer arithmetic, when a
+ *  gesture ends.</p>
+ *  <p>All listeners on the values are
+ *  {@link InvalidationListener}
+ *  instances that just mark the thumbs as dirty, so no value is boxed on
+ *  the path between the control and the skin.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( "ClassWithTooManyMethods" )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.4.7" )
+public class LongRangeSliderSkin extends SkinBase<LongRangeSlider>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The formatter for the tick labels; it converts the relative value of
+     *  a tick mark back to the absolute value and passes that to the
+     *  {@linkplain LongRangeSlider#labelFormatterProperty() formatter}
+     *  of the control.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private final class RelativeValueConverter extends StringConverter<Number>
+    {
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code RelativeValueConverter}.
+         */
+        public RelativeValueConverter() { /* Just exists */ }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Number fromString( final String s ) { return null; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String toString( final Number number )
+        {
+            var retValue = EMPTY_STRING;
+            if( nonNull( number ) )
+            {
+                final var value = toAbsolute( number.doubleValue() );
+                final var formatter = getSkinnable().getLabelFormatter();
+                retValue = isNull( formatter ) ? Long.toString( value ) : formatter.toString( value );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  toString()
+    }
+    //  class RelativeValueConverter
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The gap between the track and the tick line: {@value}.
+     */
+    private static final double TRACK_TO_TICK_GAP = 2.0;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The content area from the last layout pass: x, y, width and height.
+     */
+    private final double [] m_ContentArea = {Double.NaN, Double.NaN, Double.NaN, Double.NaN};
+
+    /**
+     *  The high value of the control when a drag of the range bar started.
+     */
+    private long m_DragHighValue;
+
+    /**
+     *  The low value of the control when a drag of the range bar started.
+     */
+    private long m_DragLowValue;
+
+    /**
+     *  The flag that indicates that the complete geometry has to be
+     *  calculated again on the next layout pass.
+     */
+    private boolean m_GeometryDirty = true;
+
+    /**
+     *  The formatter for the tick labels; it caches the labels for the
+     *  current minimum and formatter of the control.
+     */
+    private CachingLabelFormatter m_LabelFormatter;
+
+    /**
+     *  The relative position of the thumb when a drag started.
+     */
+    private double m_PreDragPos;
+
+    /**
+     *  The position of the mouse when a drag started.
+     */
+    private Point2D m_PreDragPoint;
+
+    /**
+     *  The track, the thumbs and the range bar.
+     */
+    private final RangeTrack m_RangeTrack = new RangeTrack();
+
+    /**
+     *  The flag that indicates that the thumbs have to be positioned again
+     *  on the next layout pass.
+     */
+    private boolean m_ThumbsDirty = false;
+
+    /**
+     *  The tick line.
+     */
+    private final CanvasTickLine m_TickLine;
+
+    /**
+     *  The flag that indicates that the bounds of the tick line have to be
+     *  set again on the next layout pass.
+     */
+    private boolean m_TickLineDirty = true;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code LongRangeSliderSkin}.
+     *
+     *  @param  control The reference for the control.
+     */
+    @SuppressWarnings( "OverlyLongMethod" )
+    public LongRangeSliderSkin( final LongRangeSlider control )
+    {
+        super( requireNonNullArgument( control, "control" ) );
+
+        //---* Create the children and add them *------------------------------
+        m_RangeTrack.setOrientation( control.getOrientation() );
+        m_LabelFormatter = new CachingLabelFormatter( new RelativeValueConverter() );
+        m_TickLine = new CanvasTickLine();
+        m_TickLine.setSide( control.getOrientation() == VERTICAL ? Side.RIGHT : Side.BOTTOM );
+        m_TickLine.setTickUnit( unsignedToDouble( control.getMajorTickUnit() ) );
+        m_TickLine.setMinorTickCount( minorTickCount() );
+        m_TickLine.tickLabelFormatterProperty().set( m_LabelFormatter );
+        updateTickVisibility();
+
+        getChildren().add( m_TickLine );
+        getChildren().addAll( m_RangeTrack.getNodes() );
+
+        /*
+         * A change to the size of the track or the thumbs, for example by
+         * CSS, requires a new calculation of the geometry.
+         */
+        m_RangeTrack.getTrack().backgroundProperty().addListener( $ -> invalidateGeometry() );
+        //noinspection LambdaParameterNamingConvention
+        final ChangeListener<Boolean> needsLayoutListener = ($1,$2,needsLayout) ->
+        {
+            if( needsLayout ) m_GeometryDirty = true;
+        };
+        m_RangeTrack.getTrack().needsLayoutProperty().addListener( needsLayoutListener );
+        m_RangeTrack.getLowThumb().needsLayoutProperty().addListener( needsLayoutListener );
+
+        /*
+         * A change of a value only marks the thumbs as dirty; the values are
+         * read only on the next layout pass.
+         */
+        final InvalidationListener valueListener = $ -> invalidateThumbs();
+        control.lowValueProperty().addListener( valueListener );
+        control.highValueProperty().addListener( valueListener );
+        final InvalidationListener boundsListener = $ ->
+        {
+            m_TickLineDirty = true;
+            invalidateThumbs();
+        };
+        control.minProperty().addListener( boundsListener );
+        control.maxProperty().addListener( boundsListener );
+
+        registerChangeListener( control.majorTickUnitProperty(), $ -> m_TickLine.setTickUnit( unsignedToDouble( getSkinnable().getMajorTickUnit() ) ) );
+        registerChangeListener( control.minorTickCountProperty(), $ -> m_TickLine.setMinorTickCount( minorTickCount() ) );
+        registerChangeListener( control.showTickLabelsProperty(), $ -> updateTickVisibility() );
+        registerChangeListener( control.showTickMarksProperty(), $ -> updateTickVisibility() );
+        registerChangeListener( control.orientationProperty(), $ ->
+        {
+            final var orientation = getSkinnable().getOrientation();
+            m_RangeTrack.setOrientation( orientation );
+            m_TickLine.setSide( orientation == VERTICAL ? Side.RIGHT : Side.BOTTOM );
+            invalidateGeometry();
+        } );
+
+        /*
+         * A new formatter invalidates the labels that were cached for the
+         * old one.
+         */
+        registerChangeListener( control.labelFormatterProperty(), $ ->
+        {
+            m_LabelFormatter = new CachingLabelFormatter( new RelativeValueConverter() );
+            m_TickLine.tickLabelFormatterProperty().set( m_LabelFormatter );
+        } );
+
+        //---* The mouse handling *--------------------------------------------
+        initMouseHandling();
+
+        //---* The keyboard handling *-----------------------------------------
+        //noinspection LambdaParameterNamingConvention
+        control.focusedProperty().addListener( ($1,$2,hasFocus) ->
+        {
+            if( hasFocus )
+            {
+                if( !m_RangeTrack.getHighThumb().isFocused() ) m_RangeTrack.getLowThumb().setFocus( true );
+            }
+            else
+            {
+                m_RangeTrack.getLowThumb().setFocus( false );
+                m_RangeTrack.getHighThumb().setFocus( false );
+
+                //---* A key release will not reach us anymore *--------------
+                finishGesture();
+            }
+        } );
+        control.addEventHandler( KeyEvent.KEY_PRESSED, this::keyPressed );
+        control.addEventHandler( KeyEvent.KEY_RELEASED, this::keyReleased );
+    }   //  LongRangeSliderSkin()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMaxHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = isHorizontal() ? getSkinnable().prefHeight( width ) : Double.MAX_VALUE;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMaxHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMaxWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = isHorizontal() ? Double.MAX_VALUE : getSkinnable().prefWidth( height );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMaxWidth()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMinHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var thumbHeight = m_RangeTrack.getLowThumb().prefHeight( USE_COMPUTED_SIZE );
+        final var retValue = topInset + (isHorizontal() ? thumbHeight : 3.0 * thumbHeight) + bottomInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMinHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMinWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var thumbWidth = m_RangeTrack.getLowThumb().prefWidth( USE_COMPUTED_SIZE );
+        final var retValue = leftInset + (isHorizontal() ? 3.0 * thumbWidth : thumbWidth) + rightInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMinWidth()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "MagicNumber" )
+    @Override
+    protected double computePrefHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final double retValue;
+        if( isHorizontal() )
+        {
+            final var trackAreaHeight = max( m_RangeTrack.getLowThumb().prefHeight( USE_COMPUTED_SIZE ), m_RangeTrack.getTrack().prefHeight( USE_COMPUTED_SIZE ) );
+            retValue = topInset + trackAreaHeight + (m_TickLine.isVisible() ? TRACK_TO_TICK_GAP + m_TickLine.prefHeight( USE_COMPUTED_SIZE ) : 0.0) + bottomInset;
+        }
+        else
+        {
+            retValue = m_TickLine.isVisible() ? max( 140.0, m_TickLine.prefHeight( USE_COMPUTED_SIZE ) ) : 140.0;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "MagicNumber" )
+    @Override
+    protected double computePrefWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final double retValue;
+        if( isHorizontal() )
+        {
+            retValue = m_TickLine.isVisible() ? max( 140.0, m_TickLine.prefWidth( USE_COMPUTED_SIZE ) ) : 140.0;
+        }
+        else
+        {
+            final var trackAreaWidth = max( m_RangeTrack.getLowThumb().prefWidth( USE_COMPUTED_SIZE ), m_RangeTrack.getTrack().prefWidth( USE_COMPUTED_SIZE ) );
+            retValue = leftInset + trackAreaWidth + (m_TickLine.isVisible() ? TRACK_TO_TICK_GAP + m_TickLine.prefWidth( USE_COMPUTED_SIZE ) : 0.0) + rightInset;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefWidth()
+
+    /**
+     *  Returns the distance of the given point from the point where the
+     *  current drag gesture started, relative to the length of the track;
+     *  on a vertical track, a movement upwards is positive.
+     *
+     *  @param  point   The current position of the mouse, in the coordinates
+     *      of the control.
+     *  @return The relative distance.
+     */
+    private final double dragDistance( final Point2D point )
+    {
+        if( isNull( m_PreDragPoint ) ) m_PreDragPoint = point;
+        final var trackLength = m_RangeTrack.getTrackLength();
+        final var distance = isHorizontal() ? point.getX() - m_PreDragPoint.getX() : m_PreDragPoint.getY() - point.getY();
+        final var retValue = trackLength > 0.0 ? distance / trackLength : 0.0;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  dragDistance()
+
+    /**
+     *  Finishes a gesture: each value that is currently changing is aligned
+     *  to the tick marks, and the control is notified that it is no longer
+     *  changing.
+     */
+    private final void finishGesture()
+    {
+        final var control = getSkinnable();
+        if( control.isLowValueChanging() )
+        {
+            control.setLowValue( control.snapValueToTicks( control.getLowValue() ) );
+            control.setLowValueChanging( false );
+        }
+        if( control.isHighValueChanging() )
+        {
+            control.setHighValue( control.snapValueToTicks( control.getHighValue() ) );
+            control.setHighValueChanging( false );
+        }
+    }   //  finishGesture()
+
+    /**
+     *  Installs the mouse handlers on the track, the thumbs and the range
+     *  bar.
+     */
+    @SuppressWarnings( "OverlyLongMethod" )
+    private final void initMouseHandling()
+    {
+        final var lowThumb = m_RangeTrack.getLowThumb();
+        final var highThumb = m_RangeTrack.getHighThumb();
+        final var rangeBar = m_RangeTrack.getRangeBar();
+        final var track = m_RangeTrack.getTrack();
+
+        track.setOnMousePressed( event ->
+        {
+            if( !lowThumb.isPressed() && !highThumb.isPressed() )
+            {
+                requestFocus();
+                final var control = getSkinnable();
+                final var point = track.localToParent( event.getX(), event.getY() );
+                final var value = valueAt( m_RangeTrack.ratioAt( point.getX(), point.getY() ) );
+                if( value < control.getLowValue() )
+                {
+                    control.adjustLowValue( value );
+                }
+                else
+                {
+                    control.adjustHighValue( value );
+                }
+            }
+        } );
+
+        lowThumb.setOnMousePressed( event ->
+        {
+            requestFocus();
+            highThumb.setFocus( false );
+            lowThumb.setFocus( true );
+            getSkinnable().setLowValueChanging( true );
+            m_PreDragPoint = lowThumb.localToParent( event.getX(), event.getY() );
+            m_PreDragPos = ratio( getSkinnable().getLowValue() );
+        } );
+        lowThumb.setOnMouseDragged( event -> getSkinnable().setLowValue( valueAt( m_PreDragPos + dragDistance( lowThumb.localToParent( event.getX(), event.getY() ) ) ) ) );
+        lowThumb.setOnMouseReleased( $ -> finishGesture() );
+
+        highThumb.setOnMousePressed( event ->
+        {
+            requestFocus();
+            lowThumb.setFocus( false );
+            highThumb.setFocus( true );
+            getSkinnable().setHighValueChanging( true );
+            m_PreDragPoint = highThumb.localToParent( event.getX(), event.getY() );
+            m_PreDragPos = ratio( getSkinnable().getHighValue() );
+        } );
+        highThumb.setOnMouseDragged( event -> getSkinnable().setHighValue( valueAt( m_PreDragPos + dragDistance( highThumb.localToParent( event.getX(), event.getY() ) ) ) ) );
+        highThumb.setOnMouseReleased( $ -> finishGesture() );
+
+        /*
+         * Dragging the range bar moves both values by the same amount; the
+         * movement stops at the bounds, so the distance between the values
+         * is kept. The distance is calculated as an unsigned offset, so it
+         * does not overflow even for the full range of long.
+         */
+        rangeBar.setOnMousePressed( event ->
+        {
+            requestFocus();
+            final var control = getSkinnable();
+            control.setLowValueChanging( true );
+            control.setHighValueChanging( true );
+            m_PreDragPoint = rangeBar.localToParent( event.getX(), event.getY() );
+            m_DragLowValue = control.getLowValue();
+            m_DragHighValue = control.getHighValue();
+        } );
+        rangeBar.setOnMouseDragged( event ->
+        {
+            final var control = getSkinnable();
+            final var distance = dragDistance( rangeBar.localToParent( event.getX(), event.getY() ) ) * unsignedToDouble( control.getMax() - control.getMin() );
+
+            /*
+             * When moving to the maximum, the high value is set first, and
+             * the low value is set first when moving to the minimum; so the
+             * value that is set first is never clamped to the old position
+             * of the other one.
+             */
+            if( distance > 0.0 )
+            {
+                final var limit = control.getMax() - m_DragHighValue;
+                final var offset = doubleToUnsigned( distance );
+                final var delta = Long.compareUnsigned( offset, limit ) > 0 ? limit : offset;
+                control.setHighValue( m_DragHighValue + delta );
+                control.setLowValue( m_DragLowValue + delta );
+            }
+            else
+            {
+                final var limit = m_DragLowValue - control.getMin();
+                final var offset = doubleToUnsigned( -distance );
+                final var delta = Long.compareUnsigned( offset, limit ) > 0 ? limit : offset;
+                control.setLowValue( m_DragLowValue - delta );
+                control.setHighValue( m_DragHighValue - delta );
+            }
+        } );
+        rangeBar.setOnMouseReleased( $ -> finishGesture() );
+    }   //  initMouseHandling()
+
+    /**
+     *  Marks the complete geometry as dirty and requests a layout.
+     */
+    private final void invalidateGeometry()
+    {
+        m_GeometryDirty = true;
+        getSkinnable().requestLayout();
+    }   //  invalidateGeometry()
+
+    /**
+     *  Marks the thumbs as dirty and requests a layout.
+     */
+    private final void invalidateThumbs()
+    {
+        m_ThumbsDirty = true;
+        getSkinnable().requestLayout();
+    }   //  invalidateThumbs()
+
+    /**
+     *  Checks whether the orientation of the control is horizontal.
+     *
+     *  @return {@code true} if the slider is horizontal, {@code false} if it
+     *      is vertical.
+     */
+    private final boolean isHorizontal() { return m_RangeTrack.isHorizontal(); }
+
+    /**
+     *  Handles a key press: the arrow keys along the track move the thumb
+     *  that has the focus by the
+     *  {@linkplain LongRangeSlider#blockIncrementProperty() block increment},
+     *  and TAB moves the focus from the low to the high thumb, and then to
+     *  the next control.
+     *
+     *  @param  event   The key event.
+     */
+    private final void keyPressed( final KeyEvent event )
+    {
+        final var lowThumb = m_RangeTrack.getLowThumb();
+        final var highThumb = m_RangeTrack.getHighThumb();
+        final var control = getSkinnable();
+        final var direction = control.getEffectiveNodeOrientation() == NodeOrientation.RIGHT_TO_LEFT ? -1 : 1;
+        switch( event.getCode() )
+        {
+            case TAB ->
+            {
+                if( lowThumb.isFocused() )
+                {
+                    if( event.isShiftDown() )
+                    {
+                        focusPreviousSibling( control );
+                    }
+                    else
+                    {
+                        lowThumb.setFocus( false );
+                        highThumb.setFocus( true );
+                    }
+                }
+                else if( highThumb.isFocused() )
+                {
+                    if( event.isShiftDown() )
+                    {
+                        highThumb.setFocus( false );
+                        lowThumb.setFocus( true );
+                    }
+                    else
+                    {
+                        focusNextSibling( control );
+                    }
+                }
+            }
+            case LEFT, KP_LEFT ->
+            {
+                if( isHorizontal() ) moveSelectedValue( -direction );
+            }
+            case RIGHT, KP_RIGHT ->
+            {
+                if( isHorizontal() ) moveSelectedValue( direction );
+            }
+            case DOWN, KP_DOWN ->
+            {
+                if( !isHorizontal() ) moveSelectedValue( -1 );
+            }
+            case UP, KP_UP ->
+            {
+                if( !isHorizontal() ) moveSelectedValue( 1 );
+            }
+            default -> {}
+        }
+        event.consume();
+    }   //  keyPressed()
+
+    /**
+     *  Handles a key release: HOME and END move the thumb that has the focus
+     *  to the respective bound, and the release of an arrow key finishes the
+     *  gesture.
+     *
+     *  @param  event   The key event.
+     */
+    private final void keyReleased( final KeyEvent event )
+    {
+        final var control = getSkinnable();
+        final var highSelected = m_RangeTrack.getHighThumb().isFocused();
+        switch( event.getCode() )
+        {
+            case HOME ->
+            {
+                if( highSelected ) control.adjustHighValue( control.getMin() ); else control.adjustLowValue( control.getMin() );
+            }
+            case END ->
+            {
+                if( highSelected ) control.adjustHighValue( control.getMax() ); else control.adjustLowValue( control.getMax() );
+            }
+
+            /*
+             * Holding down an arrow key generates a series of KEY_PRESSED
+             * events, but only one KEY_RELEASED event at the end; that one
+             * finishes the gesture.
+             */
+            case LEFT, KP_LEFT, RIGHT, KP_RIGHT, DOWN, KP_DOWN, UP, KP_UP -> finishGesture();
+            default -> {}
+        }
+        event.consume();
+    }   //  keyReleased()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "NumericCastThatLosesPrecision" )
+    @Override
+    protected void layoutChildren( final double contentX, final double contentY, final double contentWidth, final double contentHeight )
+    {
+        if( (m_ContentArea [0] != contentX) || (m_ContentArea [1] != contentY) || (m_ContentArea [2] != contentWidth) || (m_ContentArea [3] != contentHeight) )
+        {
+            m_ContentArea [0] = contentX;
+            m_ContentArea [1] = contentY;
+            m_ContentArea [2] = contentWidth;
+            m_ContentArea [3] = contentHeight;
+            m_GeometryDirty = true;
+        }
+
+        if( m_TickLineDirty )
+        {
+            final var control = getSkinnable();
+            m_LabelFormatter.invalidate();
+            m_TickLine.setLowerBound( 0.0 );
+            m_TickLine.setUpperBound( unsignedToDouble( control.getMax() - control.getMin() ) );
+            m_TickLine.requestAxisLayout();
+            m_TickLineDirty = false;
+        }
+
+        if( m_GeometryDirty )
+        {
+            m_RangeTrack.resizeThumbs();
+            final var thumbWidth = m_RangeTrack.getThumbWidth();
+            final var thumbHeight = m_RangeTrack.getThumbHeight();
+            final var track = m_RangeTrack.getTrack();
+            final var showTickLine = m_TickLine.isVisible();
+
+            if( isHorizontal() )
+            {
+                final var tickLineHeight = showTickLine ? m_TickLine.prefHeight( USE_COMPUTED_SIZE ) : 0.0;
+                final var trackHeight = track.prefHeight( USE_COMPUTED_SIZE );
+                final var trackAreaHeight = max( trackHeight, thumbHeight );
+
+                //---* Vertically center slider in available height *----------
+                final var startY = contentY + ((contentHeight - (trackAreaHeight + (showTickLine ? TRACK_TO_TICK_GAP + tickLineHeight : 0.0))) / 2.0);
+                final var trackLength = contentWidth - thumbWidth;
+                final var trackStart = contentX + (thumbWidth / 2.0);
+                final var trackTop = (double) ((int) (startY + ((trackAreaHeight - trackHeight) / 2.0)));
+                final var thumbTop = (double) ((int) (startY + ((trackAreaHeight - thumbHeight) / 2.0)));
+
+                m_RangeTrack.layoutTrack( trackStart, trackLength, trackTop, trackHeight, thumbTop );
+                m_TickLine.resizeRelocate( trackStart, trackTop + trackHeight + TRACK_TO_TICK_GAP, trackLength, tickLineHeight );
+            }
+            else
+            {
+                final var tickLineWidth = showTickLine ? m_TickLine.prefWidth( USE_COMPUTED_SIZE ) : 0.0;
+                final var trackWidth = track.prefWidth( USE_COMPUTED_SIZE );
+                final var trackAreaWidth = max( trackWidth, thumbWidth );
+
+                //---* Horizontally center the slider in available width *-----
+                final var startX = contentX + ((contentWidth - (trackAreaWidth + (showTickLine ? TRACK_TO_TICK_GAP + tickLineWidth : 0.0))) / 2.0);
+                final var trackLength = contentHeight - thumbHeight;
+                final var trackStart = contentY + (thumbHeight / 2.0);
+                final var trackLeft = (double) ((int) (startX + ((trackAreaWidth - trackWidth) / 2.0)));
+                final var thumbLeft = (double) ((int) (startX + ((trackAreaWidth - thumbWidth) / 2.0)));
+
+                m_RangeTrack.layoutTrack( trackStart, trackLength, trackLeft, trackWidth, thumbLeft );
+                m_TickLine.resizeRelocate( trackLeft + trackWidth + TRACK_TO_TICK_GAP, trackStart, tickLineWidth, trackLength );
+            }
+            m_TickLine.requestAxisLayout();
+
+            /*
+             * Resizing the track and the thumbs may have set the flag again.
+             */
+            m_GeometryDirty = false;
+            m_ThumbsDirty = true;
+        }
+
+        if( m_ThumbsDirty )
+        {
+            final var control = getSkinnable();
+            m_RangeTrack.positionThumbs( ratio( control.getLowValue() ), ratio( control.getHighValue() ) );
+            m_ThumbsDirty = false;
+        }
+    }   //  layoutChildren()
+
+    /**
+     *  Returns the number of minor tick intervals for the tick line; the
+     *  tick line draws one minor tick mark less than the number given.
+     *
+     *  @return The number of minor tick intervals.
+     */
+    private final int minorTickCount() { return Integer.max( getSkinnable().getMinorTickCount(), 0 ) + 1; }
+
+    /**
+     *  Moves the thumb that has the focus by one
+     *  {@linkplain LongRangeSlider#blockIncrementProperty() block increment}.
+     *
+     *  @param  direction   A positive value moves the thumb to the maximum,
+     *      a negative value to the minimum.
+     */
+    private final void moveSelectedValue( final int direction )
+    {
+        final var control = getSkinnable();
+        if( m_RangeTrack.getHighThumb().isFocused() )
+        {
+            control.setHighValueChanging( true );
+            if( direction > 0 ) control.incrementHighValue(); else control.decrementHighValue();
+        }
+        else
+        {
+            control.setLowValueChanging( true );
+            if( direction > 0 ) control.incrementLowValue(); else control.decrementLowValue();
+        }
+    }   //  moveSelectedValue()
+
+    /**
+     *  Returns the relative position of the given value between the minimum
+     *  and the maximum of the control.
+     *
+     *  @param  value   The value.
+     *  @return The relative position, between 0.0 and 1.0.
+     */
+    private final double ratio( final long value )
+    {
+        final var control = getSkinnable();
+        final var min = control.getMin();
+        final var range = unsignedToDouble( control.getMax() - min );
+        final var retValue = range > 0.0 ? clamp( 0.0, toRelative( value ) / range, 1.0 ) : 0.0;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  ratio()
+
+    /**
+     *  Requests the focus for the control, if it does not have it already.
+     */
+    private final void requestFocus()
+    {
+        final var control = getSkinnable();
+        if( !control.isFocused() ) control.requestFocus();
+    }   //  requestFocus()
+
+    /**
+     *  Converts the given offset from the minimum to the absolute value.
+     *
+     *  @param  relative    The value relative to the minimum; it is the
+     *      unsigned offset from the minimum, as a {@code double}.
+     *  @return The absolute value.
+     */
+    private final long toAbsolute( final double relative )
+    {
+        final var control = getSkinnable();
+        final var min = control.getMin();
+        final var span = control.getMax() - min;
+        final var offset = doubleToUnsigned( relative );
+        final var retValue = min + (Long.compareUnsigned( offset, span ) > 0 ? span : offset);
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toAbsolute()
+
+    /**
+     *  Converts the given value to the offset from the minimum.
+     *
+     *  @param  value   The absolute value.
+     *  @return The value relative to the minimum; the difference is taken as
+     *      an unsigned value, as it may exceed {@link Long#MAX_VALUE}.
+     */
+    private final double toRelative( final long value )
+    {
+        final var retValue = unsignedToDouble( value - getSkinnable().getMin() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toRelative()
+
+    /**
+     *  Shows or hides the tick marks and the tick labels according to the
+     *  flags of the control; the tick line is hidden completely when
+     *  neither is shown.
+     */
+    private final void updateTickVisibility()
+    {
+        final var control = getSkinnable();
+        final var showTickMarks = control.isShowTickMarks();
+        final var showTickLabels = control.isShowTickLabels();
+        m_TickLine.setTickMarkVisible( showTickMarks );
+        m_TickLine.setMinorTickVisible( showTickMarks );
+        m_TickLine.setTickLabelsVisible( showTickLabels );
+        m_TickLine.setVisible( showTickMarks || showTickLabels );
+        invalidateGeometry();
+    }   //  updateTickVisibility()
+
+    /**
+     *  Returns the value at the given relative position between the minimum
+     *  and the maximum of the control.
+     *
+     *  @param  ratio   The relative position; it will be limited to the
+     *      range between 0.0 and 1.0.
+     *  @return The value.
+     */
+    private final long valueAt( final double ratio )
+    {
+        final var control = getSkinnable();
+        final var retValue = toAbsolute( clamp( 0.0, ratio, 1.0 ) * unsignedToDouble( control.getMax() - control.getMin() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  valueAt()
+}
+//  class LongRangeSliderSkin
+
+/*
+ *  End of File
+ */
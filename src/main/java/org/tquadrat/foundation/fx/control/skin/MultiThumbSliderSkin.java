@@ -0,0 +1,906 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.control.skin;
+
+import static java.lang.Double.max;
+import static javafx.beans.binding.Bindings.createObjectBinding;
+import static javafx.geometry.Orientation.HORIZONTAL;
+import static javafx.scene.layout.Region.USE_COMPUTED_SIZE;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.focusNextSibling;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.focusPreviousSibling;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.fx.control.MultiThumbSlider;
+import org.tquadrat.foundation.fx.control.MultiThumbSlider.ValuesChangeListener;
+import org.tquadrat.foundation.fx.control.impl.AxisTickLine;
+import org.tquadrat.foundation.fx.control.impl.CachingLabelFormatter;
+import org.tquadrat.foundation.fx.control.impl.CanvasTickLine;
+import org.tquadrat.foundation.fx.control.impl.TickLine;
+import javafx.beans.binding.ObjectBinding;
+import javafx.event.EventHandler;
+import javafx.geometry.Orientation;
+import javafx.geometry.Point2D;
+import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.control.SkinBase;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.util.StringConverter;
+
+/**
+ *  <p>{@summary The skin for instances of
+ *  {@link MultiThumbSlider}.}</p>
+ *  <p>The thumbs are pooled: when the number of values changes, surplus
+ *  thumbs are removed and missing ones are added; on any other change, only
+ *  the thumbs in the reported index range are repositioned.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( {"ClassWithTooManyFields", "ClassWithTooManyMethods"} )
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.4.7" )
+public class MultiThumbSliderSkin extends SkinBase<MultiThumbSlider>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The implementation of
+     *  {@link StackPane}
+     *  that is used for the thumbs of a
+     *  {@link MultiThumbSlider}
+     *  instance.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private static final class ThumbPane extends StackPane
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The index of the value that is represented by this thumb.
+         */
+        private final int m_Index;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code ThumbPane}.
+         *
+         *  @param  index   The index of the value that is represented by this
+         *      thumb.
+         */
+        public ThumbPane( final int index )
+        {
+            super();
+            m_Index = index;
+            getStyleClass().setAll( "thumb" );
+        }   //  ThumbPane()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the index of the value that is represented by this thumb.
+         *
+         *  @return The index.
+         */
+        public final int getIndex() { return m_Index; }
+
+        /**
+         *  Sets the focus.
+         *
+         *  @param  flag    {@code true} if this instance has the focus,
+         *      {@code false} if not.
+         */
+        public final void setFocus( final boolean flag ) { setFocused( flag ); }
+    }
+    //  class ThumbPane
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The index of the thumb that has currently the focus; -1 if none of the
+     *  thumbs has the focus.
+     */
+    private int m_FocusedIndex = -1;
+
+    /**
+     *  The orientation for the {@code MultiThumbSlider}.
+     */
+    private Orientation m_Orientation;
+
+    /**
+     *  The value of the dragged thumb when the drag started, as fraction of
+     *  the track length.
+     */
+    private double m_PreDragPos;
+
+    /**
+     *  The position of the mouse when the drag started, in skin coordinates.
+     */
+    private Point2D m_PreDragThumbPoint;
+
+    /**
+     *  The flag that indicates whether the tick marks are shown or not.
+     */
+    private boolean m_ShowTickMarks;
+
+    /**
+     *  The height of the thumbs.
+     */
+    private double m_ThumbHeight;
+
+    /**
+     *  The position of the thumbs orthogonal to the track.
+     */
+    private double m_ThumbPos;
+
+    /**
+     *  The thumbs.
+     */
+    private final List<ThumbPane> m_Thumbs = new ArrayList<>();
+
+    /**
+     *  The width of the thumbs.
+     */
+    private double m_ThumbWidth;
+
+    /**
+     *  The formatter for the tick labels.
+     */
+    private final ObjectBinding<StringConverter<Number>> m_TickLabelFormatter;
+
+    /**
+     *  The tick line.
+     */
+    private TickLine m_TickLine = null;
+
+    /**
+     *  The container that represents the slider track.
+     */
+    private final StackPane m_Track;
+
+    /**
+     *  The length of the track.
+     */
+    private double m_TrackLength;
+
+    /**
+     *  The start of the track.
+     */
+    private double m_TrackStart;
+
+    /**
+     *  The width of the gap between the slider track and the tick line.
+     */
+    @SuppressWarnings( {"MagicNumber", "FieldMayBeFinal"} )
+    private double m_TrackToTickGap = 2.0;
+
+    /**
+     *  The listener for changes to the values of the control.
+     */
+    private final ValuesChangeListener m_ValuesChangeListener;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code MultiThumbSliderSkin}.
+     *
+     *  @param  control The control for which this Skin should attach to.
+     */
+    @SuppressWarnings( {"OverlyLongMethod"} )
+    public MultiThumbSliderSkin( final MultiThumbSlider control )
+    {
+        super( requireNonNullArgument( control, "control" ) );
+
+        m_Orientation = control.getOrientation();
+
+        m_TickLabelFormatter = createObjectBinding( () ->
+        {
+            final var formatter = getSkinnable().getLabelFormatter();
+            return isNull( formatter ) ? null : new CachingLabelFormatter( formatter );
+        }, control.labelFormatterProperty() );
+
+        m_Track = new StackPane();
+        m_Track.setFocusTraversable( false );
+        m_Track.getStyleClass().setAll( "track" );
+        m_Track.setOnMousePressed( me ->
+        {
+            final var position = isHorizontal() ? me.getX() / m_TrackLength : me.getY() / m_TrackLength;
+            trackPress( me, position );
+        } );
+
+        setShowTickMarks( control.isShowTickMarks(), control.isShowTickLabels() );
+        synchronizeThumbs();
+
+        m_ValuesChangeListener = ( _, sizeChanged, from, to ) ->
+        {
+            if( sizeChanged )
+            {
+                synchronizeThumbs();
+                getSkinnable().requestLayout();
+            }
+            else
+            {
+                for( var i = from; i < to; ++i ) positionThumb( i );
+            }
+        };
+        control.addValuesChangeListener( m_ValuesChangeListener );
+
+        registerChangeListener( control.minProperty(), $ ->
+        {
+            if( m_ShowTickMarks && nonNull( m_TickLine ) ) m_TickLine.setLowerBound( getSkinnable().getMin() );
+            getSkinnable().requestLayout();
+        } );
+        registerChangeListener( control.maxProperty(), $ ->
+        {
+            if( m_ShowTickMarks && nonNull( m_TickLine ) ) m_TickLine.setUpperBound( getSkinnable().getMax() );
+            getSkinnable().requestLayout();
+        } );
+        registerChangeListener( control.orientationProperty(), $ ->
+        {
+            m_Orientation = getSkinnable().getOrientation();
+            if( m_ShowTickMarks && nonNull( m_TickLine ) ) m_TickLine.setSide( isHorizontal() ? Side.BOTTOM : Side.RIGHT );
+            getSkinnable().requestLayout();
+        } );
+        registerChangeListener( control.showTickMarksProperty(),
+            $ -> setShowTickMarks( getSkinnable().isShowTickMarks(), getSkinnable().isShowTickLabels() ) );
+        registerChangeListener( control.showTickLabelsProperty(),
+            $ -> setShowTickMarks( getSkinnable().isShowTickMarks(), getSkinnable().isShowTickLabels() ) );
+        registerChangeListener( control.majorTickUnitProperty(), $ ->
+        {
+            if( nonNull( m_TickLine ) )
+            {
+                m_TickLine.setTickUnit( getSkinnable().getMajorTickUnit() );
+                getSkinnable().requestLayout();
+            }
+        } );
+        registerChangeListener( control.minorTickCountProperty(), $ ->
+        {
+            if( nonNull( m_TickLine ) )
+            {
+                m_TickLine.setMinorTickCount( Integer.max( getSkinnable().getMinorTickCount(), 0 ) + 1 );
+                getSkinnable().requestLayout();
+            }
+        } );
+        registerChangeListener( control.tickRendererProperty(), $ ->
+        {
+            if( nonNull( m_TickLine ) )
+            {
+                final var oldNode = m_TickLine.getNode();
+                m_TickLine.tickLabelFormatterProperty().unbind();
+                m_TickLine = createTickLine( getSkinnable().isShowTickMarks(), getSkinnable().isShowTickLabels() );
+                final var index = getChildren().indexOf( oldNode );
+                if( index >= 0 ) getChildren().set( index, m_TickLine.getNode() );
+                getSkinnable().requestLayout();
+            }
+        } );
+
+        //noinspection LambdaParameterNamingConvention
+        control.focusedProperty().addListener( ($1,$2,hasFocus) ->
+        {
+            if( hasFocus )
+            {
+                if( !m_Thumbs.isEmpty() ) focusThumb( m_FocusedIndex < 0 ? 0 : m_FocusedIndex );
+            }
+            else
+            {
+                for( final var thumb : m_Thumbs ) thumb.setFocus( false );
+            }
+        } );
+
+        @SuppressWarnings( "OverlyLongLambda" )
+        final EventHandler<KeyEvent> keyPressEventHandler = event ->
+        {
+            switch( event.getCode() )
+            {
+                case TAB ->
+                {
+                    if( event.isShiftDown() )
+                    {
+                        if( m_FocusedIndex > 0 )
+                        {
+                            focusThumb( m_FocusedIndex - 1 );
+                        }
+                        else
+                        {
+                            focusPreviousSibling( getSkinnable() );
+                        }
+                    }
+                    else
+                    {
+                        if( m_FocusedIndex < m_Thumbs.size() - 1 )
+                        {
+                            focusThumb( m_FocusedIndex + 1 );
+                        }
+                        else
+                        {
+                            focusNextSibling( getSkinnable() );
+                        }
+                    }
+                }   //  case TAB
+
+                case LEFT, KP_LEFT ->
+                {
+                    if( isHorizontal() ) rtl( this::incrementValue, this::decrementValue );
+                }
+
+                case RIGHT, KP_RIGHT ->
+                {
+                    if( isHorizontal() ) rtl( this::decrementValue, this::incrementValue );
+                }
+
+                case DOWN, KP_DOWN ->
+                {
+                    if( !isHorizontal() ) decrementValue();
+                }
+
+                case UP, KP_UP ->
+                {
+                    if( !isHorizontal() ) incrementValue();
+                }
+
+                case HOME ->
+                {
+                    if( m_FocusedIndex >= 0 ) getSkinnable().adjustValue( m_FocusedIndex, getSkinnable().getMin() );
+                }
+
+                case END ->
+                {
+                    if( m_FocusedIndex >= 0 ) getSkinnable().adjustValue( m_FocusedIndex, getSkinnable().getMax() );
+                }
+
+                default -> {}
+            }
+            event.consume();
+        };
+        getSkinnable().addEventHandler( KeyEvent.KEY_PRESSED, keyPressEventHandler );
+    }   //  MultiThumbSliderSkin()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Calculates the amount by which the keyboard moves a thumb.
+     *
+     *  @return The increment value.
+     */
+    private final double computeIncrement()
+    {
+        final var slider = getSkinnable();
+        final double increment;
+        if( slider.getMinorTickCount() != 0 )
+        {
+            increment = slider.getMajorTickUnit() / (max( (double) slider.getMinorTickCount(), 0.0 ) + 1);
+        }
+        else
+        {
+            increment = slider.getMajorTickUnit();
+        }
+        final var retValue = (slider.getBlockIncrement() > 0.0D) && (slider.getBlockIncrement() < increment)
+            ? increment
+            : slider.getBlockIncrement();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeIncrement()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computeMaxHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset)
+    {
+        final var retValue = isHorizontal() ? getSkinnable().prefHeight( width ) : Double.MAX_VALUE;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMaxHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computeMaxWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = isHorizontal() ? Double.MAX_VALUE : getSkinnable().prefWidth( USE_COMPUTED_SIZE );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMaxWidth()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computeMinHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = isHorizontal()
+                             ? topInset + thumbHeight() + bottomInset
+                             : topInset + minTrackLength() + thumbHeight() + bottomInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMinHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computeMinWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = isHorizontal()
+                             ? leftInset + minTrackLength() + thumbWidth() + rightInset
+                             : leftInset + thumbWidth() + rightInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMinWidth()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computePrefHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final double retValue;
+        if( isHorizontal() )
+        {
+            retValue = topInset
+                + max( thumbHeight(), m_Track.prefHeight( USE_COMPUTED_SIZE ) )
+                + (m_ShowTickMarks ? m_TrackToTickGap + m_TickLine.getNode().prefHeight( USE_COMPUTED_SIZE ) : 0.0)
+                + bottomInset;
+        }
+        else
+        {
+            retValue = m_ShowTickMarks ? max(140.0, m_TickLine.getNode().prefHeight( USE_COMPUTED_SIZE ) ) : 140.0;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final double computePrefWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final double retValue;
+        if( isHorizontal() )
+        {
+            retValue = m_ShowTickMarks ? max( 140.0, m_TickLine.getNode().prefWidth( USE_COMPUTED_SIZE ) ) : 140.0;
+        }
+        else
+        {
+            retValue = leftInset
+                + max( thumbWidth(), m_Track.prefWidth( USE_COMPUTED_SIZE ) )
+                + (m_ShowTickMarks ? m_TrackToTickGap + m_TickLine.getNode().prefWidth( USE_COMPUTED_SIZE ) : 0.0)
+                + rightInset;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefWidth()
+
+    /**
+     *  Creates a new thumb for the value with the given index.
+     *
+     *  @param  index   The index of the value.
+     *  @return The new thumb.
+     */
+    private final ThumbPane createThumb( final int index )
+    {
+        final var retValue = new ThumbPane( index );
+
+        retValue.setOnMousePressed( e ->
+        {
+            focusThumb( index );
+            final var slider = getSkinnable();
+            if( !slider.isFocused() ) slider.requestFocus();
+            slider.setValueChanging( true );
+            m_PreDragThumbPoint = retValue.localToParent( e.getX(), e.getY() );
+            m_PreDragPos = (slider.getValue( index ) - slider.getMin()) / getMaxMinusMinNoZero();
+        } );
+        retValue.setOnMouseDragged( e ->
+        {
+            final var current = retValue.localToParent( e.getX(), e.getY() );
+            if( isNull( m_PreDragThumbPoint ) ) m_PreDragThumbPoint = current;
+            final var dragPos = isHorizontal() ? current.getX() - m_PreDragThumbPoint.getX() : -(current.getY() - m_PreDragThumbPoint.getY());
+            final var slider = getSkinnable();
+            final var position = m_PreDragPos + dragPos / m_TrackLength;
+            slider.setValue( index, position * (slider.getMax() - slider.getMin()) + slider.getMin() );
+        } );
+        retValue.setOnMouseReleased( $ ->
+        {
+            final var slider = getSkinnable();
+            if( slider.isSnapToTicks() ) slider.adjustValue( index, slider.getValue( index ) );
+            slider.setValueChanging( false );
+        } );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createThumb()
+
+    /**
+     *  Creates the tick line according to the
+     *  {@linkplain MultiThumbSlider#tickRendererProperty() tick renderer}
+     *  of the control, and configures it from the control's properties.
+     *
+     *  @param  ticksVisible    {@code true} if the tick marks are visible,
+     *      {@code false} if not.
+     *  @param  labelsVisible   {@code true} if the tick labels are visible,
+     *      {@code false} if not.
+     *  @return The new tick line.
+     */
+    private final TickLine createTickLine( final boolean ticksVisible, final boolean labelsVisible )
+    {
+        final var slider = getSkinnable();
+        final TickLine retValue = switch( slider.getTickRenderer() )
+        {
+            case AXIS -> new AxisTickLine();
+            case CANVAS -> new CanvasTickLine();
+        };
+        retValue.tickLabelFormatterProperty().bind( m_TickLabelFormatter );
+        retValue.setSide( isHorizontal() ? Side.BOTTOM : Side.RIGHT );
+        retValue.setUpperBound( slider.getMax() );
+        retValue.setLowerBound( slider.getMin() );
+        retValue.setTickUnit( slider.getMajorTickUnit() );
+        retValue.setTickMarkVisible( ticksVisible );
+        retValue.setTickLabelsVisible( labelsVisible );
+        retValue.setMinorTickVisible( ticksVisible );
+        retValue.setMinorTickCount( Integer.max( slider.getMinorTickCount(), 0 ) + 1 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createTickLine()
+
+    /**
+     *  Moves the focused thumb in the direction to the
+     *  {@link MultiThumbSlider#getMin() min}
+     *  value.
+     */
+    private final void decrementValue()
+    {
+        if( m_FocusedIndex >= 0 )
+        {
+            final var slider = getSkinnable();
+            slider.adjustValue( m_FocusedIndex, slider.getValue( m_FocusedIndex ) - computeIncrement() );
+        }
+    }   //  decrementValue()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public void dispose()
+    {
+        if( nonNull( getSkinnable() ) ) getSkinnable().removeValuesChangeListener( m_ValuesChangeListener );
+        if( nonNull( m_TickLine ) ) m_TickLine.tickLabelFormatterProperty().unbind();
+        m_TickLabelFormatter.dispose();
+        super.dispose();
+    }   //  dispose()
+
+    /**
+     *  Moves the focus to the thumb with the given index.
+     *
+     *  @param  index   The index of the thumb.
+     */
+    private final void focusThumb( final int index )
+    {
+        for( final var thumb : m_Thumbs ) thumb.setFocus( thumb.getIndex() == index );
+        m_FocusedIndex = index;
+    }   //  focusThumb()
+
+    /**
+     *  Returns the difference between
+     *  {@link MultiThumbSlider#getMax()}
+     *  and
+     *  {@link MultiThumbSlider#getMin()},
+     *  but if they have the same value, 1.0 is returned instead of 0.0.
+     *
+     *  @return The difference.
+     */
+    private final double getMaxMinusMinNoZero()
+    {
+        final var slider = getSkinnable();
+        final var retValue = Double.compare( slider.getMin(), slider.getMax() ) == 0 ? 1.0 : slider.getMax() - slider.getMin();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getMaxMinusMinNoZero()
+
+    /**
+     *  Moves the focused thumb in the direction to the
+     *  {@link MultiThumbSlider#getMax() max}
+     *  value.
+     */
+    private final void incrementValue()
+    {
+        if( m_FocusedIndex >= 0 )
+        {
+            final var slider = getSkinnable();
+            slider.adjustValue( m_FocusedIndex, slider.getValue( m_FocusedIndex ) + computeIncrement() );
+        }
+    }   //  incrementValue()
+
+    /**
+     *  Checks whether the orientation of the
+     *  {@link MultiThumbSlider}
+     *  is
+     *  {@linkplain Orientation#HORIZONTAL horizontal}.
+     *
+     *  @return {@code true} if the orientation is
+     *      {@link Orientation#HORIZONTAL},
+     *      {@code false} when it is
+     *      {@link Orientation#VERTICAL}.
+     */
+    private final boolean isHorizontal() { return isNull( m_Orientation ) || m_Orientation == HORIZONTAL; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( {"OverlyComplexMethod", "MagicNumber"} )
+    @Override
+    protected final void layoutChildren( final double contentX, final double contentY, final double contentWidth, final double contentHeight )
+    {
+        m_ThumbWidth = thumbWidth();
+        m_ThumbHeight = thumbHeight();
+        for( final var thumb : m_Thumbs ) thumb.resize( m_ThumbWidth, m_ThumbHeight );
+
+        final var trackRadius = isNull( m_Track.getBackground() )
+            ? 0.0
+            : m_Track.getBackground().getFills().isEmpty()
+                ? 0.0
+                : m_Track.getBackground().getFills().getFirst().getRadii().getTopLeftHorizontalRadius();
+
+        if( isHorizontal() )
+        {
+            final var tickLineHeight = m_ShowTickMarks ? m_TickLine.getNode().prefHeight( USE_COMPUTED_SIZE ) : 0.0;
+            final var trackHeight = m_Track.prefHeight( USE_COMPUTED_SIZE );
+            final var trackAreaHeight = max( trackHeight, m_ThumbHeight );
+            final var totalHeightNeeded = trackAreaHeight  + (m_ShowTickMarks ? m_TrackToTickGap + tickLineHeight : 0.0);
+            final var startY = contentY + ((contentHeight - totalHeightNeeded) / 2.0);
+
+            m_TrackLength = contentWidth - m_ThumbWidth;
+            m_TrackStart = contentX + (m_ThumbWidth / 2.0);
+            @SuppressWarnings( "NumericCastThatLosesPrecision" )
+            final var trackTop = (double) ((int) (startY + ((trackAreaHeight - trackHeight) / 2.0)));
+            //noinspection NumericCastThatLosesPrecision
+            m_ThumbPos = (double) ((int) (startY + ((trackAreaHeight - m_ThumbHeight) / 2.0)));
+
+            m_Track.resizeRelocate( m_TrackStart - trackRadius, trackTop, m_TrackLength + trackRadius + trackRadius, trackHeight );
+
+            if( m_ShowTickMarks )
+            {
+                m_TickLine.getNode().setLayoutX( m_TrackStart );
+                m_TickLine.getNode().setLayoutY( trackTop + trackHeight + m_TrackToTickGap );
+                m_TickLine.getNode().resize( m_TrackLength, tickLineHeight );
+                m_TickLine.requestAxisLayout();
+            }
+        }
+        else
+        {
+            final var tickLineWidth = m_ShowTickMarks ? m_TickLine.getNode().prefWidth( USE_COMPUTED_SIZE ) : 0.0;
+            final var trackWidth = m_Track.prefWidth( USE_COMPUTED_SIZE );
+            final var trackAreaWidth = max( trackWidth, m_ThumbWidth );
+            final var totalWidthNeeded = trackAreaWidth  + (m_ShowTickMarks ? m_TrackToTickGap + tickLineWidth : 0.0);
+            final var startX = contentX + ((contentWidth - totalWidthNeeded) / 2.0);
+
+            m_TrackLength = contentHeight - m_ThumbHeight;
+            m_TrackStart = contentY + (m_ThumbHeight / 2.0);
+            @SuppressWarnings( "NumericCastThatLosesPrecision" )
+            final var trackLeft = (double) ((int) (startX + ((trackAreaWidth - trackWidth) / 2.0)));
+            //noinspection NumericCastThatLosesPrecision
+            m_ThumbPos = (double) ((int) (startX + ((trackAreaWidth - m_ThumbWidth) / 2.0)));
+
+            m_Track.resizeRelocate( trackLeft, m_TrackStart - trackRadius, trackWidth, m_TrackLength + trackRadius + trackRadius );
+
+            if( m_ShowTickMarks )
+            {
+                m_TickLine.getNode().setLayoutX( trackLeft + trackWidth + m_TrackToTickGap );
+                m_TickLine.getNode().setLayoutY( m_TrackStart );
+                m_TickLine.getNode().resize( tickLineWidth, m_TrackLength );
+                m_TickLine.requestAxisLayout();
+            }
+        }
+
+        for( var i = 0; i < m_Thumbs.size(); ++i ) positionThumb( i );
+    }   //  layoutChildren()
+
+    /**
+     *  Calculates the minimum length for the track.
+     *
+     *  @return The minimum track length.
+     */
+    private final double minTrackLength()
+    {
+        final var retValue = 2.0 * thumbWidth();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minTrackLength()
+
+    /**
+     *  Positions the thumb with the given index according to its value.
+     *
+     *  @param  index   The index of the thumb.
+     */
+    private final void positionThumb( final int index )
+    {
+        if( index < m_Thumbs.size() )
+        {
+            final var slider = getSkinnable();
+            final var fraction = (slider.getValue( index ) - slider.getMin()) / getMaxMinusMinNoZero();
+            final var thumb = m_Thumbs.get( index );
+            if( isHorizontal() )
+            {
+                thumb.relocate( m_TrackStart + (m_TrackLength * fraction) - m_ThumbWidth / 2.0, m_ThumbPos );
+            }
+            else
+            {
+                thumb.relocate( m_ThumbPos, m_TrackStart + m_TrackLength - (m_TrackLength * fraction) - m_ThumbHeight / 2.0 );
+            }
+        }
+    }   //  positionThumb()
+
+    /**
+     *  Implements the inverted orientation.
+     *
+     *  @param  rtlMethod   The function that has to be used for an orientation
+     *      from right to left.
+     *  @param  nonRtlMethod    The function that has to be used for an
+     *      orientation from left to right.
+     */
+    private final void rtl( final Runnable rtlMethod, final Runnable nonRtlMethod )
+    {
+        switch( getSkinnable().getEffectiveNodeOrientation() )
+        {
+            case null -> throw new IllegalStateException( "Effective node orientation is null" );
+            case RIGHT_TO_LEFT -> rtlMethod.run();
+            case LEFT_TO_RIGHT -> nonRtlMethod.run();
+            default -> throw new IllegalArgumentException( "Unexpected node orientation: %s".formatted( getSkinnable().getEffectiveNodeOrientation().name() ) );
+        }
+    }   //  rtl()
+
+    /**
+     *  Shows or hides the tick marks and their labels.
+     *
+     *  @param  ticksVisible    {@code true} if the tick marks are visible,
+     *      {@code false} if not.
+     *  @param  labelsVisible   {@code true} if the tick labels are visible,
+     *      {@code false} if not.
+     */
+    private void setShowTickMarks( final boolean ticksVisible, final boolean labelsVisible )
+    {
+        m_ShowTickMarks = (ticksVisible || labelsVisible);
+        if( m_ShowTickMarks )
+        {
+            if( isNull( m_TickLine ) )
+            {
+                m_TickLine = createTickLine( ticksVisible, labelsVisible );
+            }
+            else
+            {
+                m_TickLine.setTickLabelsVisible( labelsVisible );
+                m_TickLine.setTickMarkVisible( ticksVisible );
+                m_TickLine.setMinorTickVisible( ticksVisible );
+            }
+        }
+        else if( nonNull( m_TickLine ) )
+        {
+            m_TickLine.tickLabelFormatterProperty().unbind();
+            m_TickLine = null;
+        }
+        updateChildren();
+
+        getSkinnable().requestLayout();
+    }   //  setShowTickMarks()
+
+    /**
+     *  Adds or removes thumbs so that there is exactly one thumb for each
+     *  value of the control. Existing thumbs are reused.
+     */
+    private final void synchronizeThumbs()
+    {
+        final var count = getSkinnable().getValueCount();
+        while( m_Thumbs.size() > count ) m_Thumbs.removeLast();
+        while( m_Thumbs.size() < count ) m_Thumbs.add( createThumb( m_Thumbs.size() ) );
+        if( m_FocusedIndex >= count ) m_FocusedIndex = count - 1;
+        updateChildren();
+    }   //  synchronizeThumbs()
+
+    /**
+     *  Returns the preferred height of a thumb.
+     *
+     *  @return The height.
+     */
+    private final double thumbHeight() { return m_Thumbs.isEmpty() ? 0.0 : m_Thumbs.getFirst().prefHeight( USE_COMPUTED_SIZE ); }
+
+    /**
+     *  Returns the preferred width of a thumb.
+     *
+     *  @return The width.
+     */
+    private final double thumbWidth() { return m_Thumbs.isEmpty() ? 0.0 : m_Thumbs.getFirst().prefWidth( USE_COMPUTED_SIZE ); }
+
+    /**
+     *  Invoked when a mouse press occurs on the track of the slider; the
+     *  nearest thumb is moved to the position of the mouse.
+     *
+     *  @param  ignoredMouseEvent   The mouse event.
+     *  @param  position    The relative mouse position on the track, with 0.0
+     *      being the start of the track and 1.0 being the end.
+     */
+    private final void trackPress( final MouseEvent ignoredMouseEvent, final double position )
+    {
+        final var slider = getSkinnable();
+        if( !slider.isFocused() ) slider.requestFocus();
+
+        final var newValue = (isHorizontal() ? position : 1 - position) * (slider.getMax() - slider.getMin()) + slider.getMin();
+        final var index = slider.findNearestThumb( newValue );
+        if( index >= 0 )
+        {
+            focusThumb( index );
+            slider.adjustValue( index, newValue );
+        }
+    }   //  trackPress()
+
+    /**
+     *  Sets the children of the skin: the tick line (if any), the track, and
+     *  the thumbs.
+     */
+    private final void updateChildren()
+    {
+        final var children = new ArrayList<Node>( m_Thumbs.size() + 2 );
+        if( nonNull( m_TickLine ) ) children.add( m_TickLine.getNode() );
+        children.add( m_Track );
+        children.addAll( m_Thumbs );
+        getChildren().setAll( children );
+    }   //  updateChildren()
+}
+//  class MultiThumbSliderSkin
+
+/*
+ *  End of File
+ */
@@ -17,18 +17,21 @@
 package org.tquadrat.foundation.fx.control.skin;
 
 import static java.lang.Double.max;
+import static java.lang.Double.min;
+import static javafx.beans.binding.Bindings.createObjectBinding;
 import static javafx.geometry.Orientation.HORIZONTAL;
 import static javafx.scene.layout.Region.USE_COMPUTED_SIZE;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.fx.FXUtils.clamp;
-import static org.tquadrat.foundation.fx.FXUtils.nearest;
 import static org.tquadrat.foundation.fx.control.skin.RangeSliderSkin.FocusedChild.HIGH_THUMB;
 import static org.tquadrat.foundation.fx.control.skin.RangeSliderSkin.FocusedChild.LOW_THUMB;
 import static org.tquadrat.foundation.fx.control.skin.RangeSliderSkin.FocusedChild.NONE;
 import static org.tquadrat.foundation.fx.control.skin.RangeSliderSkin.FocusedChild.RANGE_BAR;
 import static org.tquadrat.foundation.fx.internal.ControlUtils.focusNextSibling;
 import static org.tquadrat.foundation.fx.internal.ControlUtils.focusPreviousSibling;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.nextStop;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.previousStop;
 import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
@@ -36,19 +39,28 @@ import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.fx.control.RangeSlider;
+import org.tquadrat.foundation.fx.control.impl.AxisTickLine;
+import org.tquadrat.foundation.fx.control.impl.CachingLabelFormatter;
+import org.tquadrat.foundation.fx.control.impl.CanvasTickLine;
+import org.tquadrat.foundation.fx.control.impl.HistogramLayer;
+import org.tquadrat.foundation.fx.control.impl.RangeTrack;
+import org.tquadrat.foundation.fx.control.impl.TickLine;
+import org.tquadrat.foundation.fx.internal.ControlUtils;
+import javafx.animation.AnimationTimer;
 import javafx.beans.binding.ObjectBinding;
+import javafx.beans.value.ChangeListener;
 import javafx.event.EventHandler;
 import javafx.geometry.Orientation;
 import javafx.geometry.Point2D;
 import javafx.geometry.Side;
-import javafx.scene.Cursor;
-import javafx.scene.chart.NumberAxis;
 import javafx.scene.control.Skin;
 import javafx.scene.control.SkinBase;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.StackPane;
 import javafx.util.Callback;
+import javafx.util.StringConverter;
 
 /**
  *  The skin for instances of
@@ -111,73 +123,101 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     }
     //  enum FocusedChild
 
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
     /**
-     *  The implementation of
-     *  {@link StackPane}
-     *  that is used for the thumbs of a
-     *  {@link RangeSlider}
-     *  instance.
-     *
-     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @inspired  {@href https://controlsfx.github.io/ ControlsFX Project}
-     *  @version $Id: RangeSliderSkin.java 1121 2024-03-16 16:51:23Z tquadrat $
-     *  @since 0.4.6
-     *
-     *  @UMLGraph.link
+     *  The scroll distance in pixels for one notch of the mouse wheel:
+     *  {@value}.
      */
-    @ClassVersion( sourceVersion = "$Id: RangeSliderSkin.java 1121 2024-03-16 16:51:23Z tquadrat $" )
-    @API( status = INTERNAL, since = "0.4.6" )
-    private static final class ThumbPane extends StackPane
-    {
-            /*--------------*\
-        ====** Constructors **=================================================
-            \*--------------*/
-        /**
-         *  Creates a new instance of {@code ThumbPane}.
-         */
-        public ThumbPane() { super(); }
+    private static final double SCROLL_NOTCH = 40.0;
 
-            /*---------*\
-        ====** Methods **======================================================
-            \*---------*/
-        /**
-         *  Sets the focus.
-         *
-         *  @param  flag    {@code true} if this instance has the focus,
-         *      {@code false} if not.
-         */
-        public final void setFocus( final boolean flag ) { setFocused( flag ); }
-    }
-    //  class ThumbPane
+    /**
+     *  The factor for the size of the visible window for one notch of the
+     *  mouse wheel: {@value}.
+     */
+    private static final double ZOOM_STEP = 0.8;
 
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
+    /**
+     *  The content area from the last layout pass: x, y, width and height.
+     */
+    private final double [] m_ContentArea = {Double.NaN, Double.NaN, Double.NaN, Double.NaN};
+
     /**
      *  The current focus owner.
      */
     private FocusedChild m_CurrentFocus = LOW_THUMB;
 
+    /**
+     *  The timer that applies the buffered drag positions once per pulse when
+     *  {@link RangeSlider#coalesceDragUpdatesProperty()}
+     *  is set.
+     */
+    private final AnimationTimer m_DragCoalescer;
+
+    /**
+     *  The high value at the start of a drag gesture on the range bar.
+     */
+    private double m_DragHighValue;
+
+    /**
+     *  The low value at the start of a drag gesture on the range bar.
+     */
+    private double m_DragLowValue;
+
+    /**
+     *  The flag that indicates that the geometry of the track, the thumbs and
+     *  the tick line has to be calculated again on the next layout pass.
+     */
+    private boolean m_GeometryDirty = true;
+
     /**
      *  The high thumb itself.
      */
-    private ThumbPane m_HighThumb;
+    private RangeTrack.Thumb m_HighThumb;
 
     /**
-     *  The low thumb itself.
+     *  The histogram behind the track; {@code null} if no
+     *  {@linkplain RangeSlider#histogramSamplesProperty() samples}
+     *  are set.
      */
-    private ThumbPane m_LowThumb;
+    private HistogramLayer m_Histogram = null;
 
     /**
-     *  The position for the low thumb.
+     *  The low thumb itself.
      */
-    private double m_LowThumbPos;
+    private RangeTrack.Thumb m_LowThumb;
 
     /**
      *  The orientation for the {@code RangeSlider}.
      */
     private Orientation m_Orientation;
 
+    /**
+     *  The last mouse position along the track while the visible window is
+     *  panned;
+     *  {@link Double#NaN}
+     *  if no pan gesture is in progress.
+     */
+    private double m_PanPosition = Double.NaN;
+
+    /**
+     *  The buffered new value for the high thumb, or
+     *  {@link Double#NaN}
+     *  if there is none.
+     */
+    private double m_PendingHighValue = Double.NaN;
+
+    /**
+     *  The buffered new value for the low thumb, or
+     *  {@link Double#NaN}
+     *  if there is none.
+     */
+    private double m_PendingLowValue = Double.NaN;
+
     /**
      *  Used as a temp value for low and high thumbs.
      */
@@ -186,7 +226,8 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     /**
      *  The
      *  {@link #m_PreDragPos}
-     *  in skin coordinates.
+     *  in skin coordinates; for a drag gesture on the range bar, the point
+     *  where the mouse button was pressed.
      */
     private Point2D m_PreDragThumbPoint;
 
@@ -196,14 +237,9 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     private StackPane m_RangeBar;
 
     /**
-     *  The end of the range.
-     */
-    private double m_RangeEnd;
-
-    /**
-     *  The start of the range.
+     *  The track, the thumbs and the range bar.
      */
-    private double m_RangeStart;
+    private final RangeTrack m_RangeTrack = new RangeTrack();
 
     /**
      *  The callback for the value selection.
@@ -216,35 +252,34 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     private boolean m_ShowTickMarks;
 
     /**
-     *  The height of the thumbs.
-     */
-    @SuppressWarnings( "FieldCanBeLocal" )
-    private double m_ThumbHeight;
-
-    /**
-     *  The width of the thumbs.
+     *  The flag that indicates that the thumbs and the range bar have to be
+     *  repositioned on the next layout pass.
      */
-    private double m_ThumbWidth;
+    private boolean m_ThumbsDirty = false;
 
     /**
      *  The tick line.
      */
-    private NumberAxis m_TickLine = null;
+    private TickLine m_TickLine = null;
 
     /**
-     *  The container that represents the slider track.
+     *  The formatter for the tick labels; it caches the labels created by the
+     *  {@linkplain RangeSlider#labelFormatterProperty() formatter}
+     *  of the control, so that a layout of the tick line will not format the
+     *  same label again.
      */
-    private StackPane m_Track;
+    private final ObjectBinding<StringConverter<Number>> m_TickLabelFormatter;
 
     /**
-     *  The length of the track.
+     *  The flag that indicates that the tick line has to be updated on the
+     *  next layout pass.
      */
-    private double m_TrackLength;
+    private boolean m_TickLineDirty = false;
 
     /**
-     *  The start of the track.
+     *  The container that represents the slider track.
      */
-    private double m_TrackStart;
+    private StackPane m_Track;
 
     /**
      *  The width of the gap between the slider track and the tick line.
@@ -266,60 +301,79 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         super( requireNonNullArgument( control, "control" ) );
 
         m_Orientation = getSkinnable().getOrientation();
+        m_RangeTrack.setOrientation( m_Orientation );
+
+        /*
+         * A new formatter gets a new cache; the old labels are discarded
+         * together with the old instance of CachingLabelFormatter.
+         */
+        m_TickLabelFormatter = createObjectBinding( () ->
+        {
+            final var formatter = getSkinnable().getLabelFormatter();
+            return isNull( formatter ) ? null : new CachingLabelFormatter( formatter );
+        }, control.labelFormatterProperty() );
+
+        //noinspection AnonymousInnerClass
+        m_DragCoalescer = new AnimationTimer()
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final void handle( final long now )
+            {
+                stop();
+                applyPendingValues();
+            }   //  handle()
+        };
 
         initLowThumb();
         initHighThumb();
         initRangeBar();
+        updateHistogram();
 
-        registerChangeListener( control.lowValueProperty(), $ ->
-        {
-            positionLowThumb();
-            if( isHorizontal() )
-            {
-                m_RangeBar.resizeRelocate( m_RangeStart, m_RangeBar.getLayoutY(), m_RangeEnd - m_RangeStart, m_RangeBar.getHeight() );
-            }
-            else
-            {
-                m_RangeBar.resize( m_RangeBar.getWidth(), m_RangeEnd - m_RangeStart );
-            }
-        } );
-        registerChangeListener( control.highValueProperty(), $ ->
-        {
-            positionHighThumb();
-            if( isHorizontal() )
-            {
-                m_RangeBar.resize( m_RangeEnd - m_RangeStart, m_RangeBar.getHeight() );
-            }
-            else
-            {
-                m_RangeBar.resizeRelocate( m_RangeBar.getLayoutX(), m_RangeStart, m_RangeBar.getWidth(), m_RangeEnd - m_RangeStart );
-            }
-        } );
-        registerChangeListener( control.minProperty(), $ ->
-        {
-            if( m_ShowTickMarks && nonNull( m_TickLine ) )
-            {
-                m_TickLine.setLowerBound( getSkinnable().getMin() );
-            }
-            getSkinnable().requestLayout();
-        } );
-        registerChangeListener( control.maxProperty(), $ ->
+        /*
+         * The corner radius of the track and the preferred size of the thumbs
+         * are cached; they are determined again only when the track or a
+         * thumb was changed, for example by CSS.
+         */
+        m_Track.backgroundProperty().addListener( $ -> invalidateGeometry() );
+        //noinspection LambdaParameterNamingConvention
+        final ChangeListener<Boolean> needsLayoutListener = ($1,$2,needsLayout) ->
         {
-            if( m_ShowTickMarks && nonNull( m_TickLine ) )
-            {
-                m_TickLine.setUpperBound( getSkinnable().getMax() );
-            }
-            getSkinnable().requestLayout();
-        } );
+            if( needsLayout ) m_GeometryDirty = true;
+        };
+        m_Track.needsLayoutProperty().addListener( needsLayoutListener );
+        m_LowThumb.needsLayoutProperty().addListener( needsLayoutListener );
+
+        /*
+         * A value change only marks the thumbs as dirty; all changes up to
+         * the next pulse are then handled by a single layout pass that
+         * repositions just the thumbs and the range bar. During a bulk update,
+         * the control requests that layout after all values were set.
+         */
+        registerChangeListener( control.lowValueProperty(), $ -> invalidateThumbs() );
+        registerChangeListener( control.highValueProperty(), $ -> invalidateThumbs() );
+        registerChangeListener( control.minProperty(), $ -> invalidateThumbs() );
+        registerChangeListener( control.maxProperty(), $ -> invalidateThumbs() );
+
+        /*
+         * Only the visible window is mapped to the track; it follows min and
+         * max unless the slider is zoomed.
+         */
+        registerChangeListener( control.visibleWindowProperty(), $ -> updateVisibleWindow() );
         registerChangeListener( control.orientationProperty(), $ ->
         {
             m_Orientation = getSkinnable().getOrientation();
+            m_RangeTrack.setOrientation( m_Orientation );
             if( m_ShowTickMarks && nonNull( m_TickLine ) )
             {
                 m_TickLine.setSide( isHorizontal() ? Side.BOTTOM : Side.RIGHT );
             }
-            getSkinnable().requestLayout();
+            if( nonNull( m_Histogram ) ) m_Histogram.setOrientation( isHorizontal() ? HORIZONTAL : Orientation.VERTICAL );
+            invalidateGeometry();
         } );
+        registerChangeListener( control.histogramSamplesProperty(), $ -> updateHistogram() );
         registerChangeListener( control.showTickMarksProperty(),
             $ -> setShowTickMarks( getSkinnable().isShowTickMarks(), getSkinnable().isShowTickLabels() ) );
         registerChangeListener( control.showTickLabelsProperty(),
@@ -328,8 +382,8 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         {
             if( nonNull( m_TickLine ) )
             {
-                m_TickLine.setTickUnit( getSkinnable().getMajorTickUnit() );
-                getSkinnable().requestLayout();
+                m_TickLine.setTickUnit( effectiveTickUnit() );
+                invalidateTickLine();
             }
         } );
         registerChangeListener( control.minorTickCountProperty(), $ ->
@@ -337,7 +391,27 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             if( nonNull( m_TickLine ) )
             {
                 m_TickLine.setMinorTickCount( Integer.max( getSkinnable().getMinorTickCount(),0 ) + 1 );
-                getSkinnable().requestLayout();
+                invalidateTickLine();
+            }
+        } );
+        registerChangeListener( control.snapValuesProperty(), $ ->
+        {
+            if( nonNull( m_TickLine ) )
+            {
+                m_TickLine.setStops( getSkinnable().snapValuesProperty().get() );
+                invalidateTickLine();
+            }
+        } );
+        registerChangeListener( control.tickRendererProperty(), $ ->
+        {
+            if( nonNull( m_TickLine ) )
+            {
+                final var oldNode = m_TickLine.getNode();
+                m_TickLine.tickLabelFormatterProperty().unbind();
+                m_TickLine = createTickLine( getSkinnable().isShowTickMarks(), getSkinnable().isShowTickLabels() );
+                final var index = getChildren().indexOf( oldNode );
+                if( index >= 0 ) getChildren().set( index, m_TickLine.getNode() );
+                invalidateGeometry();
             }
         } );
 
@@ -368,6 +442,10 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
                 m_LowThumb.setFocus( false );
                 m_HighThumb.setFocus( false );
                 m_CurrentFocus = NONE;
+
+                //---* A key release will not reach us anymore *--------------
+                if( getSkinnable().isLowValueChanging() ) getSkinnable().setLowValueChanging( false );
+                if( getSkinnable().isHighValueChanging() ) getSkinnable().setHighValueChanging( false );
             }
         } );
 
@@ -410,6 +488,7 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
                 {
                     if( getSkinnable().getOrientation() == HORIZONTAL )
                     {
+                        setSelectedValueChanging( true );
                         rtl( getSkinnable(), this::incrementValue, this::decrementValue );
                     }
                 }
@@ -418,6 +497,7 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
                 {
                     if( getSkinnable().getOrientation() == HORIZONTAL )
                     {
+                        setSelectedValueChanging( true );
                         rtl( getSkinnable(), this::decrementValue, this::incrementValue );
                     }
                 }
@@ -426,6 +506,7 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
                 {
                     if( getSkinnable().getOrientation() == Orientation.VERTICAL )
                     {
+                        setSelectedValueChanging( true );
                         decrementValue();
                     }
                 }
@@ -434,6 +515,7 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
                 {
                     if( getSkinnable().getOrientation() == Orientation.VERTICAL )
                     {
+                        setSelectedValueChanging( true );
                         incrementValue();
                     }
                 }
@@ -450,6 +532,13 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             {
                 case HOME -> home();
                 case END -> end();
+
+                /*
+                 * Holding down an arrow key generates a series of KEY_PRESSED
+                 * events, but only one KEY_RELEASED event at the end; that
+                 * one finishes the gesture.
+                 */
+                case LEFT, KP_LEFT, RIGHT, KP_RIGHT, DOWN, KP_DOWN, UP, KP_UP -> setSelectedValueChanging( false );
                 default -> {}
             }
             event.consume();
@@ -458,6 +547,53 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         getSkinnable().addEventHandler( KeyEvent.KEY_PRESSED, keyPressEventHandler );
         getSkinnable().addEventHandler( KeyEvent.KEY_RELEASED, keyReleaseEventHandler );
 
+        /*
+         * If the slider is zoomable, the mouse wheel zooms the visible window
+         * around the mouse pointer, and a drag with the shortcut modifier
+         * pans it; the filters keep the pan gesture away from the thumbs and
+         * the range bar.
+         */
+        getSkinnable().addEventHandler( ScrollEvent.SCROLL, event ->
+        {
+            if( getSkinnable().isZoomable() && (event.getDeltaY() != 0.0) )
+            {
+                getSkinnable().zoom( Math.pow( ZOOM_STEP, event.getDeltaY() / SCROLL_NOTCH ), valueAt( event.getX(), event.getY() ) );
+                event.consume();
+            }
+        } );
+        getSkinnable().addEventFilter( MouseEvent.MOUSE_PRESSED, event ->
+        {
+            if( getSkinnable().isZoomable() && event.isShortcutDown() )
+            {
+                m_PanPosition = isHorizontal() ? event.getX() : event.getY();
+                event.consume();
+            }
+        } );
+        getSkinnable().addEventFilter( MouseEvent.MOUSE_DRAGGED, event ->
+        {
+            if( !Double.isNaN( m_PanPosition ) )
+            {
+                final var position = isHorizontal() ? event.getX() : event.getY();
+                final var distance = position - m_PanPosition;
+                m_PanPosition = position;
+                final var trackLength = m_RangeTrack.getTrackLength();
+                if( trackLength > 0.0 )
+                {
+                    //---* The content follows the mouse *---------------------
+                    getSkinnable().pan( (isHorizontal() ? -distance : distance) * getMaxMinusMinNoZero() / trackLength );
+                }
+                event.consume();
+            }
+        } );
+        getSkinnable().addEventFilter( MouseEvent.MOUSE_RELEASED, event ->
+        {
+            if( !Double.isNaN( m_PanPosition ) )
+            {
+                m_PanPosition = Double.NaN;
+                event.consume();
+            }
+        } );
+
         /*
          * Set up a callback to indicate which thumb is currently selected
          * (via enum).
@@ -468,6 +604,34 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Applies the drag positions that were buffered while
+     *  {@link RangeSlider#coalesceDragUpdatesProperty()}
+     *  is set. If both values are pending, they are applied together through
+     *  {@link RangeSlider#update(double, double, double, double)},
+     *  so that the range never appears inverted.
+     */
+    private final void applyPendingValues()
+    {
+        final var rangeSlider = getSkinnable();
+        final var low = m_PendingLowValue;
+        final var high = m_PendingHighValue;
+        m_PendingLowValue = Double.NaN;
+        m_PendingHighValue = Double.NaN;
+        if( !Double.isNaN( low ) && !Double.isNaN( high ) )
+        {
+            rangeSlider.update( rangeSlider.getMin(), rangeSlider.getMax(), low, high );
+        }
+        else if( !Double.isNaN( low ) )
+        {
+            rangeSlider.setLowValue( low );
+        }
+        else if( !Double.isNaN( high ) )
+        {
+            rangeSlider.setHighValue( high );
+        }
+    }   //  applyPendingValues()
+
     /**
      *  Calculates the increment/decrement value that is used by
      *  {@link #incrementValue()}
@@ -559,14 +723,17 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         final double retValue;
         if( isHorizontal() )
         {
+            final var trackHeight = m_Track.prefHeight( USE_COMPUTED_SIZE );
+            final var trackAreaHeight = max( m_LowThumb.prefHeight( USE_COMPUTED_SIZE ), trackHeight );
             retValue = getSkinnable().getInsets().getTop()
-                + max( m_LowThumb.prefHeight( USE_COMPUTED_SIZE ), m_Track.prefHeight( USE_COMPUTED_SIZE ) )
-                + (m_ShowTickMarks ? m_TrackToTickGap + m_TickLine.prefHeight( USE_COMPUTED_SIZE ) : 0.0)
+                + histogramOverhang( trackHeight, trackAreaHeight )
+                + trackAreaHeight
+                + (m_ShowTickMarks ? m_TrackToTickGap + m_TickLine.getNode().prefHeight( USE_COMPUTED_SIZE ) : 0.0)
                 + bottomInset;
         }
         else
         {
-            retValue = m_ShowTickMarks ? max(140.0, m_TickLine.prefHeight(USE_COMPUTED_SIZE) ) : 140.0;
+            retValue = m_ShowTickMarks ? max(140.0, m_TickLine.getNode().prefHeight( USE_COMPUTED_SIZE ) ) : 140.0;
         }
 
         //---* Done *----------------------------------------------------------
@@ -582,13 +749,16 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         final double retValue;
         if( isHorizontal() )
         {
-            retValue = m_ShowTickMarks ? max( 140.0, m_TickLine.prefWidth( USE_COMPUTED_SIZE ) ) : 140.0;
+            retValue = m_ShowTickMarks ? max( 140.0, m_TickLine.getNode().prefWidth( USE_COMPUTED_SIZE ) ) : 140.0;
         }
         else
         {
+            final var trackWidth = m_Track.prefWidth( USE_COMPUTED_SIZE );
+            final var trackAreaWidth = max( m_LowThumb.prefWidth( USE_COMPUTED_SIZE ), trackWidth );
             retValue = leftInset
-                + max( m_LowThumb.prefWidth( USE_COMPUTED_SIZE ), m_Track.prefWidth( USE_COMPUTED_SIZE ) )
-                + (m_ShowTickMarks ? m_TrackToTickGap + m_TickLine.prefWidth( USE_COMPUTED_SIZE ) : 0.0)
+                + histogramOverhang( trackWidth, trackAreaWidth )
+                + trackAreaWidth
+                + (m_ShowTickMarks ? m_TrackToTickGap + m_TickLine.getNode().prefWidth( USE_COMPUTED_SIZE ) : 0.0)
                 + rightInset;
         }
 
@@ -597,24 +767,61 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     }   //  computePrefWidth()
 
     /**
-     *  Adjusts the range bar's position after it was released.
+     *  Adjusts the range bar's position after it was released. Both values
+     *  are snapped together, before the changing flags are reset; so the
+     *  committed values are published once, as a consistent pair.
      */
     private void confirmRange()
     {
+        flushPendingValues();
         final var rangeSlider = getSkinnable();
 
-        if( rangeSlider.isSnapToTicks() )
+        if( isSnapping() )
         {
-            rangeSlider.setLowValue( snapValueToTicks( rangeSlider.getLowValue() ) );
+            rangeSlider.update( rangeSlider.getMin(), rangeSlider.getMax(), snapValueToTicks( rangeSlider.getLowValue() ), snapValueToTicks( rangeSlider.getHighValue() ) );
         }
-        rangeSlider.setLowValueChanging( false );
-        if( rangeSlider.isSnapToTicks() )
-        {
-            rangeSlider.setHighValue( snapValueToTicks( rangeSlider.getHighValue() ) );
-        }
-        rangeSlider.setHighValueChanging( false );
+        rangeSlider.setValuesChanging( false );
     }   //  confirmRange()
 
+    /**
+     *  Creates the tick line according to the
+     *  {@linkplain RangeSlider#tickRendererProperty() tick renderer}
+     *  of the control, and configures it from the control's properties.
+     *
+     *  @param  ticksVisible    {@code true} if the tick marks are visible,
+     *      {@code false} if not.
+     *  @param  labelsVisible   {@code true} if the tick labels are visible,
+     *      {@code false} if not.
+     *  @return The new tick line.
+     */
+    private final TickLine createTickLine( final boolean ticksVisible, final boolean labelsVisible )
+    {
+        final var rangeSlider = getSkinnable();
+        final TickLine retValue = switch( rangeSlider.getTickRenderer() )
+        {
+            case AXIS -> new AxisTickLine();
+            case CANVAS -> new CanvasTickLine();
+        };
+        retValue.tickLabelFormatterProperty().bind( m_TickLabelFormatter );
+        retValue.setSide( isHorizontal() ? Side.BOTTOM : Side.RIGHT );
+        retValue.setUpperBound( rangeSlider.getVisibleMax() );
+        retValue.setLowerBound( rangeSlider.getVisibleMin() );
+        retValue.setTickUnit( effectiveTickUnit() );
+        retValue.setTickMarkVisible( ticksVisible );
+        retValue.setTickLabelsVisible( labelsVisible );
+        retValue.setMinorTickVisible( ticksVisible );
+        retValue.setStops( rangeSlider.snapValuesProperty().get() );
+
+        /*
+         * We add 1 to the slider minor tick count since the axis draws one
+         * less minor ticks than the number given.
+         */
+        retValue.setMinorTickCount( Integer.max( rangeSlider.getMinorTickCount(), 0 ) + 1 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createTickLine()
+
     /**
      *  Moves the selected thumb in the direction to the
      *  {@link RangeSlider#getMin() min}
@@ -625,9 +832,14 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         final var rangeSlider = getSkinnable();
         if( nonNull( m_SelectedValue ) )
         {
+            final var snapValues = rangeSlider.snapValuesProperty().get();
             if ( m_SelectedValue.call(null) == HIGH_THUMB)
             {
-                if( rangeSlider.isSnapToTicks() )
+                if( nonNull( snapValues ) )
+                {
+                    rangeSlider.adjustHighValue( previousStop( rangeSlider.getHighValue(), snapValues, rangeSlider.getMin() ) );
+                }
+                else if( rangeSlider.isSnapToTicks() )
                 {
                     rangeSlider.adjustHighValue( rangeSlider.getHighValue() - computeIncrement() );
                 }
@@ -638,7 +850,11 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             }
             else
             {
-                if( rangeSlider.isSnapToTicks() )
+                if( nonNull( snapValues ) )
+                {
+                    rangeSlider.adjustLowValue( previousStop( rangeSlider.getLowValue(), snapValues, rangeSlider.getMin() ) );
+                }
+                else if( rangeSlider.isSnapToTicks() )
                 {
                     rangeSlider.adjustLowValue( rangeSlider.getLowValue() - computeIncrement() );
                 }
@@ -650,6 +866,45 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         }
     }   //  decrementValue()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public void dispose()
+    {
+        m_DragCoalescer.stop();
+        super.dispose();
+    }   //  dispose()
+
+    /**
+     *  <p>{@summary Returns the tick unit for the tick line.} If the slider is
+     *  {@linkplain RangeSlider#isZoomed() zoomed},
+     *  the
+     *  {@linkplain RangeSlider#majorTickUnitProperty() major tick unit}
+     *  is scaled with the zoom level and rounded up to a value of 1, 2 or 5
+     *  times a power of ten, so the distance between the tick marks on the
+     *  screen remains about the same at all zoom levels.</p>
+     *
+     *  @return The tick unit.
+     */
+    private final double effectiveTickUnit()
+    {
+        final var rangeSlider = getSkinnable();
+        final var tickUnit = rangeSlider.getMajorTickUnit();
+        final var range = rangeSlider.getMax() - rangeSlider.getMin();
+        var retValue = tickUnit;
+        if( rangeSlider.isZoomed() && (range > 0.0) && (tickUnit > 0.0) )
+        {
+            final var scaled = tickUnit * (rangeSlider.getVisibleMax() - rangeSlider.getVisibleMin()) / range;
+            final var magnitude = Math.pow( 10.0, Math.floor( Math.log10( scaled ) ) );
+            final var fraction = scaled / magnitude;
+            retValue = magnitude * (fraction <= 1.0 ? 1.0 : fraction <= 2.0 ? 2.0 : fraction <= 5.0 ? 5.0 : 10.0);
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  effectiveTickUnit()
+
     /**
      *  Responds to the END key.
      */
@@ -659,13 +914,24 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         rangeSlider.adjustHighValue( rangeSlider.getMax() );
     }   //  end()
 
+    /**
+     *  Applies any buffered drag positions immediately; called when a drag
+     *  gesture ends, so that the final values are exact.
+     */
+    private final void flushPendingValues()
+    {
+        m_DragCoalescer.stop();
+        applyPendingValues();
+    }   //  flushPendingValues()
+
     /**
      *  Returns the difference between
-     *  {@link RangeSlider#getMax()}
+     *  {@link RangeSlider#getVisibleMax()}
      *  and
-     *  {@link RangeSlider#getMin()},
-     *  but if they have the same value, 1.0 is returned instead of 0.0 because
-     *  otherwise the division where the result value can be used will return
+     *  {@link RangeSlider#getVisibleMin()},
+     *  the size of the part of the range that is mapped to the track; if they
+     *  have the same value, 1.0 is returned instead of 0.0 because otherwise
+     *  the division where the result value can be used will return
      *  {@link Double#NaN}.
      *
      *  @return The difference.
@@ -673,7 +939,7 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     private final double getMaxMinusMinNoZero()
     {
         final var rangeSlider = getSkinnable();
-        final var retValue = Double.compare( rangeSlider.getMin(), rangeSlider.getMax() ) == 0 ? 1.0 : rangeSlider.getMax() - rangeSlider.getMin();
+        final var retValue = Double.compare( rangeSlider.getVisibleMin(), rangeSlider.getVisibleMax() ) == 0 ? 1.0 : rangeSlider.getVisibleMax() - rangeSlider.getVisibleMin();
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -692,7 +958,16 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     private final void highThumbDragged( final MouseEvent ignoredMouseEvent, final double position )
     {
         final var rangeSliderlider = getSkinnable();
-        rangeSliderlider.setHighValue( clamp( rangeSliderlider.getMin(), position * (rangeSliderlider.getMax() - rangeSliderlider.getMin()) + rangeSliderlider.getMin(), rangeSliderlider.getMax() ) );
+        final var newValue = snapValueToStops( clamp( rangeSliderlider.getVisibleMin(), position * getMaxMinusMinNoZero() + rangeSliderlider.getVisibleMin(), rangeSliderlider.getVisibleMax() ) );
+        if( rangeSliderlider.isCoalesceDragUpdates() )
+        {
+            m_PendingHighValue = newValue;
+            m_DragCoalescer.start();
+        }
+        else
+        {
+            rangeSliderlider.setHighValue( newValue );
+        }
     }   //  highThumbDragged()
 
     /**
@@ -721,14 +996,37 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
      */
     private final void highThumbReleased( final MouseEvent mouseEvent )
     {
+        flushPendingValues();
         final var rangeSlider = getSkinnable();
-        if( rangeSlider.isSnapToTicks() )
+        if( isSnapping() )
         {
             rangeSlider.setHighValue( snapValueToTicks( rangeSlider.getHighValue() ) );
         }
         rangeSlider.setHighValueChanging( false );
     }   //  highThumbReleased()
 
+    /**
+     *  Calculates how far the histogram extends beyond the track area; the
+     *  histogram ends at the bottom of a horizontal track, or at the right
+     *  side of a vertical one, and it may be higher (or wider) than the
+     *  thumbs.
+     *
+     *  @param  trackSize   The height of a horizontal track, or the width of
+     *      a vertical track.
+     *  @param  trackAreaSize   The height (or width) of the area for track
+     *      and thumbs.
+     *  @return The overhang; 0.0 if there is no histogram.
+     */
+    private final double histogramOverhang( final double trackSize, final double trackAreaSize )
+    {
+        final var retValue = isNull( m_Histogram )
+            ? 0.0
+            : max( 0.0, (isHorizontal() ? m_Histogram.prefHeight( USE_COMPUTED_SIZE ) : m_Histogram.prefWidth( USE_COMPUTED_SIZE )) - ((trackAreaSize - trackSize) / 2.0) - trackSize );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  histogramOverhang()
+
     /**
      *  Responds to the HOME key.
      */
@@ -748,9 +1046,14 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         final var rangeSlider = getSkinnable();
         if( nonNull( m_SelectedValue ) )
         {
+            final var snapValues = rangeSlider.snapValuesProperty().get();
             if( m_SelectedValue.call(null) == HIGH_THUMB )
             {
-                if( rangeSlider.isSnapToTicks() )
+                if( nonNull( snapValues ) )
+                {
+                    rangeSlider.adjustHighValue( nextStop( rangeSlider.getHighValue(), snapValues, rangeSlider.getMax() ) );
+                }
+                else if( rangeSlider.isSnapToTicks() )
                 {
                     rangeSlider.adjustHighValue( rangeSlider.getHighValue() + computeIncrement() );
                 }
@@ -761,7 +1064,11 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             }
             else
             {
-                if( rangeSlider.isSnapToTicks() )
+                if( nonNull( snapValues ) )
+                {
+                    rangeSlider.adjustLowValue( nextStop( rangeSlider.getLowValue(), snapValues, rangeSlider.getMax() ) );
+                }
+                else if( rangeSlider.isSnapToTicks() )
                 {
                     rangeSlider.adjustLowValue( rangeSlider.getLowValue() + computeIncrement() );
                 }
@@ -782,9 +1089,7 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
      */
     private final void initHighThumb()
     {
-        m_HighThumb = new ThumbPane();
-        m_HighThumb.getStyleClass().setAll( "high-thumb" );
-        if( !getChildren().contains( m_HighThumb ) ) getChildren().add( m_HighThumb );
+        m_HighThumb = m_RangeTrack.getHighThumb();
 
         m_HighThumb.setOnMousePressed( e ->
         {
@@ -792,14 +1097,13 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             m_HighThumb.setFocus( true );
             highThumbPressed( e, 0.0D );
             m_PreDragThumbPoint = m_HighThumb.localToParent( e.getX(), e.getY() );
-            m_PreDragPos = (getSkinnable().getHighValue() - getSkinnable().getMin()) / (getMaxMinusMinNoZero());
+            m_PreDragPos = visibleRatio( getSkinnable().getHighValue() );
         } );
         m_HighThumb.setOnMouseReleased( this::highThumbReleased );
         //noinspection OverlyLongLambda
         m_HighThumb.setOnMouseDragged( mouseEvent ->
         {
-            final var orientation = getSkinnable().getOrientation() == HORIZONTAL;
-            final var trackLength = orientation ? m_Track.getWidth() : m_Track.getHeight();
+            final var trackLength = m_RangeTrack.getTrackLength();
 
             final var point2d = m_HighThumb.localToParent( mouseEvent.getX(), mouseEvent.getY() );
             if( isNull( m_PreDragThumbPoint ) )  m_PreDragThumbPoint = point2d;
@@ -817,15 +1121,8 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
      */
     private final void initLowThumb()
     {
-        m_LowThumb = new ThumbPane();
-        m_LowThumb.getStyleClass().setAll( "low-thumb" );
-        m_LowThumb.setFocusTraversable( true );
-        m_Track = new StackPane();
-        m_Track.setFocusTraversable( false );
-        m_Track.getStyleClass().setAll( "track" );
-
-        getChildren().clear();
-        getChildren().addAll( m_Track, m_LowThumb );
+        m_LowThumb = m_RangeTrack.getLowThumb();
+        m_Track = m_RangeTrack.getTrack();
         setShowTickMarks( getSkinnable().isShowTickMarks(), getSkinnable().isShowTickLabels() );
 
         m_Track.setOnMousePressed( me ->
@@ -834,11 +1131,11 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             {
                 if( isHorizontal() )
                 {
-                    trackPress( me, (me.getX() / m_TrackLength) );
+                    trackPress( me, (me.getX() / m_RangeTrack.getTrackLength()) );
                 }
                 else
                 {
-                    trackPress( me, (me.getY() / m_TrackLength) );
+                    trackPress( me, (me.getY() / m_RangeTrack.getTrackLength()) );
                 }
             }
         } );
@@ -849,7 +1146,7 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             m_LowThumb.setFocus( true );
             lowThumbPressed( me, 0.0f );
             m_PreDragThumbPoint = m_LowThumb.localToParent( me.getX(), me.getY() );
-            m_PreDragPos = (getSkinnable().getLowValue() - getSkinnable().getMin()) / getMaxMinusMinNoZero();
+            m_PreDragPos = visibleRatio( getSkinnable().getLowValue() );
         } );
 
         m_LowThumb.setOnMouseReleased( this::lowThumbReleased );
@@ -859,7 +1156,7 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             final var cur = m_LowThumb.localToParent( mouseEvent.getX(), mouseEvent.getY() );
             if( isNull( m_PreDragThumbPoint ) )  m_PreDragThumbPoint = cur;
             final var dragPos = isHorizontal() ? cur.getX() - m_PreDragThumbPoint.getX() : -(cur.getY() - m_PreDragThumbPoint.getY());
-            lowThumbDragged( mouseEvent, m_PreDragPos + dragPos / m_TrackLength );
+            lowThumbDragged( mouseEvent, m_PreDragPos + dragPos / m_RangeTrack.getTrackLength() );
         } );
     }   //  initLowThumb()
 
@@ -870,42 +1167,63 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
      */
     private final void initRangeBar()
     {
-        m_RangeBar = new StackPane();
-        m_RangeBar.setFocusTraversable( false );
-        //noinspection AnonymousInnerClass
-        m_RangeBar.cursorProperty().bind( new ObjectBinding<>()
-        {
-            {
-                bind( m_RangeBar.hoverProperty() );
-            }
-
-            /**
-             *  {@inheritDoc}
-             */
-            @Override
-            protected final Cursor computeValue()
-            {
-                return m_RangeBar.isHover() ? Cursor.HAND : Cursor.DEFAULT;
-            }
-        } );
-        m_RangeBar.getStyleClass().setAll( "range-bar" );
+        m_RangeBar = m_RangeTrack.getRangeBar();
 
+        /*
+         * The range bar is relocated only on the next layout pass, so its
+         * local coordinates do not change between the mouse events of a
+         * pulse; therefore the distance is measured in the coordinates of
+         * the parent, and the new values are always calculated from the
+         * values at the start of the gesture.
+         */
         m_RangeBar.setOnMousePressed( e ->
         {
             m_RangeBar.requestFocus();
-            m_PreDragPos = isHorizontal() ? e.getX() : -e.getY();
+            final var rangeSlider = getSkinnable();
+            m_PreDragThumbPoint = m_RangeBar.localToParent( e.getX(), e.getY() );
+            m_DragLowValue = rangeSlider.getLowValue();
+            m_DragHighValue = rangeSlider.getHighValue();
         } );
 
         m_RangeBar.setOnMouseDragged( e ->
         {
-            final var delta = (isHorizontal() ? e.getX() : -e.getY()) - m_PreDragPos;
-            moveRange( delta );
+            final var point = m_RangeBar.localToParent( e.getX(), e.getY() );
+            final var distance = isHorizontal() ? point.getX() - m_PreDragThumbPoint.getX() : -(point.getY() - m_PreDragThumbPoint.getY());
+            moveRange( distance );
         } );
 
         m_RangeBar.setOnMouseReleased( $ -> confirmRange() );
-        getChildren().add( m_RangeBar );
     }   //  initRangeBar()
 
+    /**
+     *  Marks the complete geometry as dirty and requests a layout.
+     */
+    private final void invalidateGeometry()
+    {
+        m_GeometryDirty = true;
+        getSkinnable().requestLayout();
+    }   //  invalidateGeometry()
+
+    /**
+     *  Marks the thumbs as dirty and requests a layout, unless a bulk update
+     *  is in progress; the control will request the layout when that is
+     *  finished.
+     */
+    private final void invalidateThumbs()
+    {
+        m_ThumbsDirty = true;
+        if( !getSkinnable().isUpdating() ) getSkinnable().requestLayout();
+    }   //  invalidateThumbs()
+
+    /**
+     *  Marks the tick line as dirty and requests a layout.
+     */
+    private final void invalidateTickLine()
+    {
+        m_TickLineDirty = true;
+        getSkinnable().requestLayout();
+    }   //  invalidateTickLine()
+
     /**
      *  Checks whether the orientation of the
      *  {@link RangeSlider}
@@ -919,67 +1237,113 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
      */
     private final boolean isHorizontal() { return isNull( m_Orientation ) || m_Orientation == HORIZONTAL; }
 
+    /**
+     *  Checks whether the thumbs snap to the tick marks or to the
+     *  {@linkplain RangeSlider#snapValuesProperty() stops}.
+     *
+     *  @return {@code true} if the thumbs snap, {@code false} if not.
+     */
+    private final boolean isSnapping()
+    {
+        final var rangeSlider = getSkinnable();
+        final var retValue = rangeSlider.isSnapToTicks() || nonNull( rangeSlider.snapValuesProperty().get() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isSnapping()
+
     /**
      *  {@inheritDoc}
      */
-    @SuppressWarnings( {"OverlyComplexMethod", "MagicNumber"} )
     @Override
     protected final void layoutChildren( final double contentX, final double contentY, final double contentWidth, final double contentHeight )
     {
-        //---* Resize thumb to preferred size *--------------------------------
-        m_ThumbWidth = m_LowThumb.prefWidth( USE_COMPUTED_SIZE );
-        m_ThumbHeight = m_LowThumb.prefHeight( USE_COMPUTED_SIZE );
-        m_LowThumb.resize( m_ThumbWidth, m_ThumbHeight );
+        if( (m_ContentArea [0] != contentX) || (m_ContentArea [1] != contentY) || (m_ContentArea [2] != contentWidth) || (m_ContentArea [3] != contentHeight) )
+        {
+            m_ContentArea [0] = contentX;
+            m_ContentArea [1] = contentY;
+            m_ContentArea [2] = contentWidth;
+            m_ContentArea [3] = contentHeight;
+            m_GeometryDirty = true;
+        }
 
-        /*
-         * We assume there is a common radius for all corners on the track.
-         */
-        final var trackRadius = isNull( m_Track.getBackground() )
-            ? 0.0
-            : m_Track.getBackground().getFills().isEmpty()
-                ? 0.0
-                : m_Track.getBackground().getFills().getFirst().getRadii().getTopLeftHorizontalRadius();
+        if( m_GeometryDirty )
+        {
+            layoutGeometry( contentX, contentY, contentWidth, contentHeight );
+
+            /*
+             * Resizing the track and the thumbs may have set the flag again.
+             */
+            m_GeometryDirty = false;
+        }
+        else
+        {
+            if( m_ThumbsDirty ) layoutThumbs();
+            if( m_TickLineDirty && m_ShowTickMarks && nonNull( m_TickLine ) ) m_TickLine.requestAxisLayout();
+        }
+        m_ThumbsDirty = false;
+        m_TickLineDirty = false;
+    }   //  layoutChildren()
+
+    /**
+     *  Calculates the complete geometry of the slider and lays out all
+     *  children.
+     *
+     *  @param  contentX    The x position of the content area.
+     *  @param  contentY    The y position of the content area.
+     *  @param  contentWidth    The width of the content area.
+     *  @param  contentHeight   The height of the content area.
+     */
+    @SuppressWarnings( {"OverlyComplexMethod", "MagicNumber", "OverlyLongMethod"} )
+    private final void layoutGeometry( final double contentX, final double contentY, final double contentWidth, final double contentHeight )
+    {
+        //---* Resize thumb to preferred size *--------------------------------
+        m_RangeTrack.resizeThumbs();
+        final var thumbWidth = m_RangeTrack.getThumbWidth();
+        final var thumbHeight = m_RangeTrack.getThumbHeight();
 
         if( isHorizontal() )
         {
-            final var tickLineHeight = m_ShowTickMarks ? m_TickLine.prefHeight( USE_COMPUTED_SIZE ) : 0.0;
+            final var tickLineHeight = m_ShowTickMarks ? m_TickLine.getNode().prefHeight( USE_COMPUTED_SIZE ) : 0.0;
             final var trackHeight = m_Track.prefHeight( USE_COMPUTED_SIZE );
-            final var trackAreaHeight = max( trackHeight, m_ThumbHeight );
-            final var totalHeightNeeded = trackAreaHeight  + ((m_ShowTickMarks) ? m_TrackToTickGap + tickLineHeight : 0.0);
+            final var trackAreaHeight = max( trackHeight, thumbHeight );
+            final var histogramOverhang = histogramOverhang( trackHeight, trackAreaHeight );
+            final var totalHeightNeeded = histogramOverhang + trackAreaHeight  + ((m_ShowTickMarks) ? m_TrackToTickGap + tickLineHeight : 0.0);
 
             //---* Vertically center slider in available height *--------------
-            final var startY = contentY + ((contentHeight - totalHeightNeeded) / 2.0);
+            final var startY = contentY + ((contentHeight - totalHeightNeeded) / 2.0) + histogramOverhang;
 
-            m_TrackLength = contentWidth - m_ThumbWidth;
-            m_TrackStart = contentX + (m_ThumbWidth / 2.0);
+            final var trackLength = contentWidth - thumbWidth;
+            final var trackStart = contentX + (thumbWidth / 2.0);
             @SuppressWarnings( "NumericCastThatLosesPrecision" )
             final var trackTop = (double) ((int) (startY + ((trackAreaHeight - trackHeight) / 2.0)));
-            //noinspection NumericCastThatLosesPrecision
-            m_LowThumbPos = (double) ((int) (startY + ((trackAreaHeight - m_ThumbHeight) / 2.0)));
-
-            positionLowThumb();
-
-            //---* Now do the layout for the track *---------------------------
-            m_Track.resizeRelocate( m_TrackStart - trackRadius, trackTop , m_TrackLength + trackRadius + trackRadius, trackHeight );
+            @SuppressWarnings( "NumericCastThatLosesPrecision" )
+            final var thumbTop = (double) ((int) (startY + ((trackAreaHeight - thumbHeight) / 2.0)));
 
-            positionHighThumb();
+            //---* The histogram ends at the bottom of the track *-------------
+            if( nonNull( m_Histogram ) )
+            {
+                final var histogramHeight = m_Histogram.prefHeight( USE_COMPUTED_SIZE );
+                m_Histogram.resizeRelocate( trackStart, trackTop + trackHeight - histogramHeight, trackLength, histogramHeight );
+            }
 
-            //---* Do the range bar layout *-----------------------------------
-            m_RangeBar.resizeRelocate( m_RangeStart, trackTop, m_RangeEnd - m_RangeStart, trackHeight );
+            //---* Now do the layout for the track, the thumbs and the range bar *
+            m_RangeTrack.layoutTrack( trackStart, trackLength, trackTop, trackHeight, thumbTop );
+            layoutThumbs();
 
             //---* Do the layout for the tick line *---------------------------
             if( m_ShowTickMarks )
             {
-                m_TickLine.setLayoutX( m_TrackStart );
-                m_TickLine.setLayoutY( trackTop + trackHeight + m_TrackToTickGap );
-                m_TickLine.resize( m_TrackLength, tickLineHeight );
+                m_TickLine.getNode().setLayoutX( trackStart );
+                m_TickLine.getNode().setLayoutY( trackTop + trackHeight + m_TrackToTickGap );
+                m_TickLine.getNode().resize( trackLength, tickLineHeight );
                 m_TickLine.requestAxisLayout();
             }
             else
             {
                 if( nonNull( m_TickLine ) )
                 {
-                    m_TickLine.resize(0,0 );
+                    m_TickLine.getNode().resize(0,0 );
                     m_TickLine.requestAxisLayout();
                 }
                 m_TickLine = null;
@@ -987,49 +1351,61 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         }
         else
         {
-            final var tickLineWidth = m_ShowTickMarks ? m_TickLine.prefWidth( USE_COMPUTED_SIZE ) : 0.0;
+            final var tickLineWidth = m_ShowTickMarks ? m_TickLine.getNode().prefWidth( USE_COMPUTED_SIZE ) : 0.0;
             final var trackWidth = m_Track.prefWidth( USE_COMPUTED_SIZE );
-            final var trackAreaWidth = max( trackWidth, m_ThumbWidth );
-            final var totalWidthNeeded = trackAreaWidth  + (m_ShowTickMarks ? m_TrackToTickGap + tickLineWidth : 0.0) ;
+            final var trackAreaWidth = max( trackWidth, thumbWidth );
+            final var histogramOverhang = histogramOverhang( trackWidth, trackAreaWidth );
+            final var totalWidthNeeded = histogramOverhang + trackAreaWidth  + (m_ShowTickMarks ? m_TrackToTickGap + tickLineWidth : 0.0) ;
 
             //---* Horizontally center the slider in available width *---------
-            final var startX = contentX + ((contentWidth - totalWidthNeeded) / 2.0);
-            m_TrackLength = contentHeight - m_ThumbHeight;
-            m_TrackStart = contentY + (m_ThumbHeight / 2.0);
+            final var startX = contentX + ((contentWidth - totalWidthNeeded) / 2.0) + histogramOverhang;
+            final var trackLength = contentHeight - thumbHeight;
+            final var trackStart = contentY + (thumbHeight / 2.0);
             @SuppressWarnings( "NumericCastThatLosesPrecision" )
             final var trackLeft = (double) ((int) (startX + ((trackAreaWidth - trackWidth) / 2.0)));
-            //noinspection NumericCastThatLosesPrecision
-            m_LowThumbPos = (double) ((int) (startX + ((trackAreaWidth - m_ThumbWidth) / 2.0)));
-
-            positionLowThumb();
-
-            //---* Now do the layout for the track *---------------------------
-            m_Track.resizeRelocate( trackLeft, m_TrackStart - trackRadius, trackWidth, m_TrackLength + trackRadius + trackRadius );
+            @SuppressWarnings( "NumericCastThatLosesPrecision" )
+            final var thumbLeft = (double) ((int) (startX + ((trackAreaWidth - thumbWidth) / 2.0)));
 
-            positionHighThumb();
+            //---* The histogram ends at the right side of the track *--------
+            if( nonNull( m_Histogram ) )
+            {
+                final var histogramWidth = m_Histogram.prefWidth( USE_COMPUTED_SIZE );
+                m_Histogram.resizeRelocate( trackLeft + trackWidth - histogramWidth, trackStart, histogramWidth, trackLength );
+            }
 
-            //---* Do the range bar layout *-----------------------------------
-            m_RangeBar.resizeRelocate( trackLeft, m_RangeStart, trackWidth, m_RangeEnd - m_RangeStart );
+            //---* Now do the layout for the track, the thumbs and the range bar *
+            m_RangeTrack.layoutTrack( trackStart, trackLength, trackLeft, trackWidth, thumbLeft );
+            layoutThumbs();
 
             //---* Do the layout for the tick line *---------------------------
             if( m_ShowTickMarks )
             {
-                m_TickLine.setLayoutX( trackLeft + trackWidth + m_TrackToTickGap );
-                m_TickLine.setLayoutY( m_TrackStart );
-                m_TickLine.resize( tickLineWidth, m_TrackLength );
+                m_TickLine.getNode().setLayoutX( trackLeft + trackWidth + m_TrackToTickGap );
+                m_TickLine.getNode().setLayoutY( trackStart );
+                m_TickLine.getNode().resize( tickLineWidth, trackLength );
                 m_TickLine.requestAxisLayout();
             }
             else
             {
                 if( nonNull( m_TickLine ) )
                 {
-                    m_TickLine.resize( 0,0 );
+                    m_TickLine.getNode().resize( 0,0 );
                     m_TickLine.requestAxisLayout();
                 }
                 m_TickLine = null;
             }
         }
-    }   //  layoutChildren()
+    }   //  layoutGeometry()
+
+    /**
+     *  Repositions the thumbs and the range bar after a value has changed;
+     *  the geometry of the track from the last full layout pass is reused.
+     */
+    private final void layoutThumbs()
+    {
+        final var rangeSlider = getSkinnable();
+        m_RangeTrack.positionThumbs( visibleRatio( rangeSlider.getLowValue() ), visibleRatio( rangeSlider.getHighValue() ) );
+    }   //  layoutThumbs()
 
     /**
      *  Updates the
@@ -1044,13 +1420,21 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     public final void lowThumbDragged( final MouseEvent ignoredMouseEvent, final double position )
     {
         final var rangeSlider = getSkinnable();
-        final var newValue = clamp
+        final var newValue = snapValueToStops( clamp
             (
-                rangeSlider.getMin(),
-                (position * (rangeSlider.getMax() - rangeSlider.getMin())) + rangeSlider.getMin(),
-                rangeSlider.getMax()
-            );
-        rangeSlider.setLowValue( newValue );
+                rangeSlider.getVisibleMin(),
+                (position * getMaxMinusMinNoZero()) + rangeSlider.getVisibleMin(),
+                rangeSlider.getVisibleMax()
+            ) );
+        if( rangeSlider.isCoalesceDragUpdates() )
+        {
+            m_PendingLowValue = newValue;
+            m_DragCoalescer.start();
+        }
+        else
+        {
+            rangeSlider.setLowValue( newValue );
+        }
     }   //  lowThumbDragged()
 
     /**
@@ -1080,8 +1464,9 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
      */
     public final void lowThumbReleased( final MouseEvent mouseEvent )
     {
+        flushPendingValues();
         final var rangeSlider = getSkinnable();
-        if( rangeSlider.isSnapToTicks() )
+        if( isSnapping() )
         {
             rangeSlider.setLowValue( snapValueToTicks( rangeSlider.getLowValue() ) );
         }
@@ -1102,119 +1487,39 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     }   //  minTrackLength()
 
     /**
-     *  Sets the new positions after a move of the range bar.
+     *  Sets the new positions after a move of the range bar. The new values
+     *  are calculated from the values at the start of the drag gesture; the
+     *  movement stops at the bounds, so the width of the range is kept.
      *
-     *  @param  position    The new position.
+     *  @param  distance    The distance in pixels from the point where the
+     *      drag gesture started.
      */
-    private final void moveRange( final double position )
+    private final void moveRange( final double distance )
     {
         final var rangeSlider = getSkinnable();
         final var min = rangeSlider.getMin();
         final var max = rangeSlider.getMax();
-        final var lowValue = rangeSlider.getLowValue();
-        final var newLowValue = clamp
+        final var delta = clamp
             (
-                min,
-                lowValue + position * (max-min) / (isHorizontal() ? rangeSlider.getWidth(): rangeSlider.getHeight()),
-                max
-            );
-        final var highValue = rangeSlider.getHighValue();
-        final var newHighValue = clamp
-            (
-                min,
-                highValue + position * (max-min) / (isHorizontal() ? rangeSlider.getWidth(): rangeSlider.getHeight() ),
-                max
+                min( 0.0, min - m_DragLowValue ),
+                distance * getMaxMinusMinNoZero() / m_RangeTrack.getTrackLength(),
+                max( 0.0, max - m_DragHighValue )
             );
+        final var newLowValue = m_DragLowValue + delta;
+        final var newHighValue = m_DragHighValue + delta;
 
-        if( (newLowValue > min) && (newHighValue < max) )
+        rangeSlider.setValuesChanging( true );
+        if( rangeSlider.isCoalesceDragUpdates() )
         {
-            rangeSlider.setLowValueChanging( true );
-            rangeSlider.setHighValueChanging( true );
-            rangeSlider.setLowValue( newLowValue);
-            rangeSlider.setHighValue( newHighValue);
-        }
-    }   //  moveRange()
-
-    /**
-     *  Called whenever either
-     *  {@link RangeSlider#getMin() min},
-     *  {@link RangeSlider#getMax() max}
-     *  or
-     *  {@link RangeSlider#getHighValue() highValue}
-     *  has changed, so that high thumb's
-     *  {@link ThumbPane#setLayoutX(double)}
-     *  and
-     *  {@link ThumbPane#setLayoutY(double)}
-     *  is recomputed.
-     */
-    private final void positionHighThumb()
-    {
-        final var rangeSlider = getSkinnable();
-        final var horizontal = getSkinnable().getOrientation() == HORIZONTAL;
-
-        final var thumbWidth = m_LowThumb.getWidth();
-        final var thumbHeight = m_LowThumb.getHeight();
-        m_HighThumb.resize( thumbWidth, thumbHeight );
-
-        final var pad = 0.0d;
-        var trackStart = horizontal ? m_Track.getLayoutX() : m_Track.getLayoutY();
-        trackStart += pad;
-        var trackLength = horizontal ? m_Track.getWidth() : m_Track.getHeight();
-        trackLength -= 2 * pad;
-
-        @SuppressWarnings( "OverlyComplexArithmeticExpression" )
-        final var lx = horizontal
-            ? trackStart + (trackLength * ((rangeSlider.getHighValue() - rangeSlider.getMin()) / (getMaxMinusMinNoZero())) - thumbWidth / 2.0 )
-            : m_LowThumb.getLayoutX();
-        final var ly = horizontal
-            ? m_LowThumb.getLayoutY()
-            : (getSkinnable().getInsets().getTop() + trackLength) - trackLength * ((rangeSlider.getHighValue() - rangeSlider.getMin()) / (getMaxMinusMinNoZero()));
-        m_HighThumb.setLayoutX( lx );
-        m_HighThumb.setLayoutY( ly );
-        if( horizontal )
-        {
-            m_RangeEnd = lx;
+            m_PendingLowValue = newLowValue;
+            m_PendingHighValue = newHighValue;
+            m_DragCoalescer.start();
         }
         else
         {
-            m_RangeStart = ly + thumbHeight;
-        }
-    }   //  positionHighThumb()
-
-    /**
-     *  Called whenever either
-     *  {@link RangeSlider#getMin() min},
-     *  {@link RangeSlider#getMax() max}
-     *  or
-     *  {@link RangeSlider#getLowValue() lowValue}
-     *  has changed, so that low thumb's
-     *  {@link ThumbPane#setLayoutX(double)}
-     *  and
-     *  {@link ThumbPane#setLayoutY(double)}
-     *  is recomputed.
-     */
-    private final void positionLowThumb()
-    {
-        final var rangeSlider = getSkinnable();
-        final var horizontal = isHorizontal();
-        @SuppressWarnings( "OverlyComplexArithmeticExpression" )
-        final var lx = horizontal
-            ? m_TrackStart + (((m_TrackLength * ((rangeSlider.getLowValue() - rangeSlider.getMin()) / (getMaxMinusMinNoZero()))) - m_ThumbWidth / 2.0))
-            : m_LowThumbPos;
-        final var ly = horizontal
-            ? m_LowThumbPos
-            : getSkinnable().getInsets().getTop() + m_TrackLength - (m_TrackLength * ((rangeSlider.getLowValue() - rangeSlider.getMin()) / getMaxMinusMinNoZero()));
-        m_LowThumb.setLayoutX( lx );
-        m_LowThumb.setLayoutY( ly );
-        if( horizontal )
-        {
-            m_RangeStart = lx + m_ThumbWidth;
+            rangeSlider.update( min, max, newLowValue, newHighValue );
         }
-        else
-        {
-            m_RangeEnd = ly;
-        }
-    }   //  positionLowThumb()
+    }   //  moveRange()
 
     /**
      *  Implements the inverted orientation.
@@ -1244,11 +1549,37 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
      */
     private void setSelectedValue( final Callback<Void,FocusedChild> callback ) { m_SelectedValue = callback; }
 
+    /**
+     *  Sets the
+     *  {@linkplain RangeSlider#lowValueChangingProperty() lowValueChanging}
+     *  or the
+     *  {@linkplain RangeSlider#highValueChangingProperty() highValueChanging}
+     *  flag, depending on the currently selected thumb.
+     *
+     *  @param  flag    {@code true} if the value of the selected thumb is
+     *      changing, {@code false} otherwise.
+     */
+    private final void setSelectedValueChanging( final boolean flag )
+    {
+        final var rangeSlider = getSkinnable();
+        if( nonNull( m_SelectedValue ) )
+        {
+            if( m_SelectedValue.call( null ) == HIGH_THUMB )
+            {
+                if( rangeSlider.isHighValueChanging() != flag ) rangeSlider.setHighValueChanging( flag );
+            }
+            else
+            {
+                if( rangeSlider.isLowValueChanging() != flag ) rangeSlider.setLowValueChanging( flag );
+            }
+        }
+    }   //  setSelectedValueChanging()
+
     /**
      *  <p>{@summary Shows tick marks and their labels.}</p>
      *  <p>When ticks or labels change their visibility, we have to compute the
-     *  new visibility and to add the necessary objects. After this method
-     *  returns, we must be sure to add the high thumb and the range bar.</p>
+     *  new visibility and to add the necessary objects; the histogram, if
+     *  any, is kept behind all other children.</p>
      *
      *  @param  ticksVisible    {@code true} if the tick marks are visible,
      *      {@code false} if not.
@@ -1258,31 +1589,15 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     private void setShowTickMarks( final boolean ticksVisible, final boolean labelsVisible)
     {
         m_ShowTickMarks = (ticksVisible || labelsVisible);
-        final var rangeSlider = getSkinnable();
         if( m_ShowTickMarks )
         {
             if( isNull( m_TickLine ) )
             {
-                m_TickLine = new NumberAxis();
-                m_TickLine.setFocusTraversable( false );
-                m_TickLine.tickLabelFormatterProperty().bind( getSkinnable().labelFormatterProperty() );
-                m_TickLine.setAnimated( false );
-                m_TickLine.setAutoRanging( false );
-                m_TickLine.setSide( isHorizontal() ? Side.BOTTOM : Side.RIGHT );
-                m_TickLine.setUpperBound( rangeSlider.getMax() );
-                m_TickLine.setLowerBound( rangeSlider.getMin() );
-                m_TickLine.setTickUnit( rangeSlider.getMajorTickUnit() );
-                m_TickLine.setTickMarkVisible( ticksVisible );
-                m_TickLine.setTickLabelsVisible( labelsVisible );
-                m_TickLine.setMinorTickVisible( ticksVisible );
-
-                /*
-                 * We add 1 to the slider minor tick count since the axis draws
-                 * one less minor ticks than the number given.
-                 */
-                m_TickLine.setMinorTickCount( Integer.max( rangeSlider.getMinorTickCount(), 0 ) + 1) ;
+                m_TickLine = createTickLine( ticksVisible, labelsVisible );
                 getChildren().clear();
-                getChildren().addAll( m_TickLine, m_Track, m_LowThumb );
+                if( nonNull( m_Histogram ) ) getChildren().add( m_Histogram );
+                getChildren().add( m_TickLine.getNode() );
+                getChildren().addAll( m_RangeTrack.getNodes() );
             }
             else
             {
@@ -1294,15 +1609,37 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
         else
         {
             getChildren().clear();
-            getChildren().addAll( m_Track, m_LowThumb );
-            // m_TickLine = null;
+            if( nonNull( m_Histogram ) ) getChildren().add( m_Histogram );
+            getChildren().addAll( m_RangeTrack.getNodes() );
         }
 
-        getSkinnable().requestLayout();
+        invalidateGeometry();
     }   //  setShowTickMarks()
 
     /**
-     *  Adjusts the position of a thumb to the nearest tick mark.
+     *  Adjusts the position of a dragged thumb to the nearest
+     *  {@linkplain RangeSlider#snapValuesProperty() stop},
+     *  if stops are set; the thumb then jumps from stop to stop while it is
+     *  dragged.
+     *
+     *  @param  calculatedPosition  The calculated raw position.
+     *  @return The adjusted position.
+     */
+    private final double snapValueToStops( final double calculatedPosition )
+    {
+        final var rangeSlider = getSkinnable();
+        final var snapValues = rangeSlider.snapValuesProperty().get();
+        final var retValue = nonNull( snapValues )
+            ? ControlUtils.snapValueToStops( calculatedPosition, snapValues, rangeSlider.getMin(), rangeSlider.getMax() )
+            : calculatedPosition;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapValueToStops()
+
+    /**
+     *  Adjusts the position of a thumb to the nearest stop, if stops are set,
+     *  or to the nearest tick mark.
      *
      *  @param  calculatedPosition  The calculated raw position.
      *  @return The adjusted position.
@@ -1310,20 +1647,14 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
     private final double snapValueToTicks( final double calculatedPosition )
     {
         final var rangeSlider = getSkinnable();
-        var input = calculatedPosition;
-        final var d2 = (rangeSlider.getMinorTickCount() != 0)
-            ? rangeSlider.getMajorTickUnit() / (max( (double) rangeSlider.getMinorTickCount(), 0.0 ) + 1)
-            : rangeSlider.getMajorTickUnit();
-        @SuppressWarnings( "NumericCastThatLosesPrecision" )
-        final var leftTicks = (int) ((input - rangeSlider.getMin()) / d2);
-        final var d3 = (double) leftTicks * d2 + rangeSlider.getMin();
-        final var d4 = (double) (leftTicks + 1) * d2 + rangeSlider.getMin();
-        input = nearest( d3, input, d4) ;
-        final var retValue = clamp( rangeSlider.getMin(), input, rangeSlider.getMax() );
+        final var snapValues = rangeSlider.snapValuesProperty().get();
+        final var retValue = nonNull( snapValues )
+            ? ControlUtils.snapValueToStops( calculatedPosition, snapValues, rangeSlider.getMin(), rangeSlider.getMax() )
+            : ControlUtils.snapValueToTicks( calculatedPosition, rangeSlider.getMin(), rangeSlider.getMax(), rangeSlider.getMajorTickUnit(), rangeSlider.getMinorTickCount() );
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  snapValueToTicks(
+    }   //  snapValueToTicks()
 
     /**
      *  Invoked by the
@@ -1352,11 +1683,11 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             final double newPosition;
             if( isHorizontal() )
             {
-                newPosition = position * (rangeSlider.getMax() - rangeSlider.getMin()) + rangeSlider.getMin();
+                newPosition = position * getMaxMinusMinNoZero() + rangeSlider.getVisibleMin();
             }
             else
             {
-                newPosition = (1 - position) * (rangeSlider.getMax() - rangeSlider.getMin()) + rangeSlider.getMin();
+                newPosition = (1 - position) * getMaxMinusMinNoZero() + rangeSlider.getVisibleMin();
             }
 
             /*
@@ -1374,6 +1705,91 @@ public class RangeSliderSkin extends SkinBase<RangeSlider>
             }
         }
     }   //  trackPress()
+
+    /**
+     *  Creates, updates or removes the histogram according to the
+     *  {@linkplain RangeSlider#histogramSamplesProperty() samples}
+     *  that are currently set for the slider. The histogram is always the
+     *  first child, so that it is drawn behind the track and the range bar.
+     */
+    private final void updateHistogram()
+    {
+        final var rangeSlider = getSkinnable();
+        final var supplier = rangeSlider.getHistogramSamples();
+        if( isNull( supplier ) )
+        {
+            if( nonNull( m_Histogram ) )
+            {
+                getChildren().remove( m_Histogram );
+                m_Histogram = null;
+                invalidateGeometry();
+            }
+        }
+        else
+        {
+            if( isNull( m_Histogram ) )
+            {
+                m_Histogram = new HistogramLayer();
+                m_Histogram.setOrientation( isHorizontal() ? HORIZONTAL : Orientation.VERTICAL );
+                m_Histogram.setBounds( rangeSlider.getVisibleMin(), rangeSlider.getVisibleMax() );
+                getChildren().add( 0, m_Histogram );
+                invalidateGeometry();
+            }
+            m_Histogram.setSamples( supplier );
+        }
+    }   //  updateHistogram()
+
+    /**
+     *  Updates the tick line, the histogram and the thumbs after the
+     *  {@linkplain RangeSlider#visibleWindowProperty() visible window}
+     *  has changed.
+     */
+    private final void updateVisibleWindow()
+    {
+        final var window = getSkinnable().getVisibleWindow();
+        if( nonNull( m_TickLine ) )
+        {
+            m_TickLine.setLowerBound( window.getMin() );
+            m_TickLine.setUpperBound( window.getMax() );
+            m_TickLine.setTickUnit( effectiveTickUnit() );
+            m_TickLineDirty = true;
+        }
+        if( nonNull( m_Histogram ) ) m_Histogram.setBounds( window.getMin(), window.getMax() );
+        invalidateThumbs();
+    }   //  updateVisibleWindow()
+
+    /**
+     *  Returns the value that belongs to the given position in the
+     *  coordinates of the slider; positions beyond the ends of the track are
+     *  mapped to the bounds of the visible window.
+     *
+     *  @param  x   The x coordinate.
+     *  @param  y   The y coordinate.
+     *  @return The value.
+     */
+    private final double valueAt( final double x, final double y )
+    {
+        final var retValue = getSkinnable().getVisibleMin() + (m_RangeTrack.ratioAt( x, y ) * getMaxMinusMinNoZero());
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  valueAt()
+
+    /**
+     *  Returns the relative position of the given value in the visible
+     *  window; values outside the window are mapped to its bounds, so that
+     *  the thumb for such a value stays at the end of the track.
+     *
+     *  @param  value   The value.
+     *  @return The relative position, between 0.0 and 1.0.
+     */
+    private final double visibleRatio( final double value )
+    {
+        final var retValue = clamp( 0.0, (value - getSkinnable().getVisibleMin()) / getMaxMinusMinNoZero(), 1.0 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  visibleRatio()
 }
 //  class RangeSliderSkin
 
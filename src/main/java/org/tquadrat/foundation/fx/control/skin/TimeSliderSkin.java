@@ -17,37 +17,98 @@
 
 package org.tquadrat.foundation.fx.control.skin;
 
+import static java.lang.Double.max;
+import static java.lang.Math.floorDiv;
 import static java.time.temporal.ChronoField.HOUR_OF_DAY;
 import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
-import static javafx.beans.binding.Bindings.createDoubleBinding;
-import static javafx.beans.binding.Bindings.createIntegerBinding;
+import static javafx.scene.layout.Region.USE_COMPUTED_SIZE;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.focusNextSibling;
+import static org.tquadrat.foundation.fx.internal.ControlUtils.focusPreviousSibling;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.OffsetDateTime;
+import java.time.Duration;
+import java.time.LocalTime;
 import java.time.OffsetTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.fx.control.RangeSlider;
 import org.tquadrat.foundation.fx.control.TimeSlider;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.ReadOnlyObjectProperty;
+import org.tquadrat.foundation.fx.control.impl.CachingLabelFormatter;
+import org.tquadrat.foundation.fx.control.impl.CanvasTickLine;
+import org.tquadrat.foundation.fx.control.impl.NowTicker;
+import org.tquadrat.foundation.fx.control.impl.RangeTrack;
+import org.tquadrat.foundation.fx.control.impl.SparklineLayer;
+import org.tquadrat.foundation.fx.control.impl.ZoneOffsetTable;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.NodeOrientation;
+import javafx.geometry.Point2D;
+import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.control.SkinBase;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.VLineTo;
+import javafx.stage.Window;
 import javafx.util.StringConverter;
 
 /**
- *  The default skin for instances of
- *  {@link TimeSlider}.
+ *  <p>{@summary The default skin for instances of
+ *  {@link TimeSlider}.}</p>
+ *  <p>The skin renders the track, the thumbs and the range bar with a
+ *  {@link RangeTrack},
+ *  and the tick marks with a
+ *  {@link CanvasTickLine};
+ *  both are driven directly from the seconds since the start of the epoch
+ *  that correspond to the values of the control. So a {@code TimeSlider}
+ *  does not need an inner
+ *  {@link RangeSlider}
+ *  control with its own skin, CSS pass and layout pass.</p>
+ *  <p>The control is the single source of truth: a change to its values
+ *  just marks the thumbs as dirty, and a gesture on the skin writes the new
+ *  value to the control.</p>
+ *  <p>In
+ *  {@linkplain TimeSlider#multiIntervalProperty() multi-interval mode},
+ *  the selected intervals are drawn as bars on the track; the thumbs edit
+ *  the interval whose bounds are equal to the low and the high value of
+ *  the control. That interval is determined by a binary search when a
+ *  gesture starts, so the skin does not need to track it.</p>
+ *  <p>The
+ *  {@linkplain TimeSlider#getBlockedPeriods() blocked periods}
+ *  are drawn as a single
+ *  {@link Path}
+ *  on the track, regardless of their number. On each drag event, the new
+ *  value is clamped to the free period around the other value, using a
+ *  binary search over the blocked periods.</p>
+ *  <p>A
+ *  {@linkplain TimeSlider#timeSeriesProperty() time series}
+ *  is drawn as a sparkline behind the track, with a
+ *  {@link SparklineLayer}.</p>
+ *  <p>While the control is showing and its range contains the current
+ *  time, a marker shows that time. All markers are moved by the shared
+ *  {@link NowTicker},
+ *  only when the current time has moved by the time that one pixel stands
+ *  for, rounded down to a full second, minute or hour; just the marker
+ *  node is moved.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: TimeSliderSkin.java 1121 2024-03-16 16:51:23Z tquadrat $
@@ -55,6 +116,7 @@ import javafx.util.StringConverter;
  *
  *  @UMLGraph.link
  */
+@SuppressWarnings( {"ClassWithTooManyFields", "ClassWithTooManyMethods"} )
 @ClassVersion( sourceVersion = "$Id: TimeSliderSkin.java 1121 2024-03-16 16:51:23Z tquadrat $" )
 @API( status = STABLE, since = "0.4.6" )
 public class TimeSliderSkin extends SkinBase<TimeSlider>
@@ -68,11 +130,11 @@ public class TimeSliderSkin extends SkinBase<TimeSlider>
      *  method of this implementation of
      *  {@link StringConverter}
      *  takes a number representing the number of seconds  since the beginning
-     *  of the epoch, converts it to an instance of
-     *  {@link OffsetDateTime},
-     *  takes the
-     *  {@linkplain OffsetTime time}
-     *  portion of it and converts that to a
+     *  of the epoch, determines the local
+     *  {@linkplain LocalTime time}
+     *  for it from a
+     *  {@link ZoneOffsetTable}
+     *  and converts that to a
      *  {@link String}.}</p>
      *  <p>The method
      *  {@link #fromString(String)}
@@ -87,7 +149,7 @@ public class TimeSliderSkin extends SkinBase<TimeSlider>
      */
     @ClassVersion( sourceVersion = "$Id: TimeSliderSkin.java 1121 2024-03-16 16:51:23Z tquadrat $" )
     @API( status = INTERNAL, since = "0.4.6" )
-    private final class OffsetTimeConverter extends StringConverter<Number>
+    static final class OffsetTimeConverter extends StringConverter<Number>
     {
             /*------------------------*\
         ====** Static Initialisations **===========================================
@@ -96,7 +158,7 @@ public class TimeSliderSkin extends SkinBase<TimeSlider>
          *  The
          *  {@link java.time.format.DateTimeFormatter}
          *  that is used to convert the
-         *  {@link OffsetTime}
+         *  {@link LocalTime}
          *  instances to Strings.
          */
         private static final DateTimeFormatter m_TimeFormatter;
@@ -110,13 +172,27 @@ public class TimeSliderSkin extends SkinBase<TimeSlider>
                 .toFormatter();
         }
 
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The offsets for the day and the time zone.
+         */
+        private final ZoneOffsetTable m_OffsetTable;
+
             /*--------------*\
         ====** Constructors **=================================================
             \*--------------*/
         /**
          *  Creates a new instance of {@code OffsetTimeConverter}.
+         *
+         *  @param  offsetTable The offsets for the day and the time zone that
+         *      are used for the conversion.
          */
-        public OffsetTimeConverter() { /* Just exists */ }
+        public OffsetTimeConverter( final ZoneOffsetTable offsetTable )
+        {
+            m_OffsetTable = requireNonNullArgument( offsetTable, "offsetTable" );
+        }   //  OffsetTimeConverter()
 
             /*---------*\
         ====** Methods **======================================================
@@ -136,12 +212,8 @@ public class TimeSliderSkin extends SkinBase<TimeSlider>
             var retValue = EMPTY_STRING;
             if( nonNull( number ) )
             {
-                final var timeSlider = getSkinnable();
-                final var offsetTime = Instant.ofEpochSecond( number.longValue() )
-                    .atZone( timeSlider.getTimeZone() )
-                    .toOffsetDateTime()
-                    .toOffsetTime();
-                retValue = m_TimeFormatter.format( offsetTime );
+                final var time = LocalTime.ofSecondOfDay( m_OffsetTable.toSecondOfDay( number.longValue() ) );
+                retValue = m_TimeFormatter.format( time );
             }
 
             //---* Done *----------------------------------------------------------
@@ -153,6 +225,24 @@ public class TimeSliderSkin extends SkinBase<TimeSlider>
         /*-----------*\
     ====** Constants **========================================================
         \*-----------*/
+    /**
+     *  The distance between two major tick marks in seconds: {@value}.
+     */
+    private static final long MAJOR_TICK_UNIT = 3_600L;
+
+    /**
+     *  The intervals for the updates of the marker for the current time, in
+     *  seconds; the largest one that does not exceed the time for one pixel
+     *  is used.
+     */
+    @SuppressWarnings( "MagicNumber" )
+    private static final long [] NOW_RESOLUTIONS = {1L, 2L, 5L, 10L, 15L, 30L, 60L, 120L, 300L, 600L, 900L, 1_800L, 3_600L};
+
+    /**
+     *  The width of the gap between the track and the tick line: {@value}.
+     */
+    private static final double TRACK_TO_TICK_GAP = 2.0;
+
     /**
      *  Nearly 24h in seconds: {@value}.
      */
@@ -162,13 +252,157 @@ public class TimeSliderSkin extends SkinBase<TimeSlider>
     ====** Attributes **=======================================================
         \*------------*/
     /**
-     *  The
-     *  {@link RangeSlider}
-     *  instance that does the work for the {@code TimeSlider}.
+     *  The listener for the parents of the control; a change anywhere in
+     *  the parent chain hooks the listeners to the new ancestors.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final InvalidationListener m_AncestorListener = $ ->
+    {
+        hookAncestors();
+        updateNowSubscription();
+    };
+
+    /**
+     *  The ancestors of the control whose visibility is observed.
+     */
+    private final List<Node> m_Ancestors = new ArrayList<>();
+
+    /**
+     *  The flag that indicates that the shape for the blocked periods has to
+     *  be updated on the next layout pass.
+     */
+    private boolean m_BlockedDirty = true;
+
+    /**
+     *  The shape for all blocked periods.
+     */
+    private final Path m_BlockedLayer = new Path();
+
+    /**
+     *  The content area from the last layout pass: x, y, width and height.
+     */
+    private final double [] m_ContentArea = {Double.NaN, Double.NaN, Double.NaN, Double.NaN};
+
+    /**
+     *  The high value at the start of a drag gesture on the range bar.
+     */
+    private long m_DragHighValue;
+
+    /**
+     *  The low value at the start of a drag gesture on the range bar.
+     */
+    private long m_DragLowValue;
+
+    /**
+     *  The flag that indicates that the geometry of the track, the thumbs and
+     *  the tick line has to be calculated again on the next layout pass.
+     */
+    private boolean m_GeometryDirty = true;
+
+    /**
+     *  The bars for the intervals in multi-interval mode; bars that are not
+     *  needed for the current intervals are kept invisible for later use.
+     */
+    private final List<StackPane> m_IntervalBars = new ArrayList<>();
+
+    /**
+     *  The flag that indicates that the bars for the intervals have to be
+     *  updated on the next layout pass.
+     */
+    private boolean m_IntervalsDirty = true;
+
+    /**
+     *  The marker for the current time.
+     */
+    private final StackPane m_NowMarker = new StackPane();
+
+    /**
+     *  The flag that indicates that the marker for the current time is
+     *  subscribed to the
+     *  {@link NowTicker}.
+     */
+    private boolean m_NowSubscribed = false;
+
+    /**
+     *  The subscriber that moves the marker for the current time.
+     */
+    private final NowTicker.Subscriber m_NowSubscriber = this::tickNow;
+
+    /**
+     *  The offsets for the current day and time zone; they are used to
+     *  convert the seconds since the start of the epoch to instances of
+     *  {@link OffsetTime}.
+     */
+    private ZoneOffsetTable m_OffsetTable;
+
+    /**
+     *  The relative position of the dragged thumb when the drag gesture
+     *  started.
      */
-    private final RangeSlider m_Content;
+    private double m_PreDragPos;
 
-    /*--------------*\
+    /**
+     *  The position of the mouse when a drag gesture started.
+     */
+    private Point2D m_PreDragPoint;
+
+    /**
+     *  The track, the thumbs and the range bar.
+     */
+    private final RangeTrack m_RangeTrack = new RangeTrack();
+
+    /**
+     *  The sparkline behind the track; {@code null} if no
+     *  {@linkplain TimeSlider#timeSeriesProperty() time series}
+     *  is set.
+     */
+    private SparklineLayer m_Sparkline = null;
+
+    /**
+     *  The listener for the scene of the control.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ChangeListener<Scene> m_SceneListener = (property,oldScene,newScene) ->
+    {
+        hookScene( oldScene, newScene );
+        updateNowSubscription();
+    };
+
+    /**
+     *  The listener for the visibility of the control, its ancestors and the
+     *  window.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final InvalidationListener m_ShowingListener = $ -> updateNowSubscription();
+
+    /**
+     *  The flag that indicates that the thumbs and the range bar have to be
+     *  repositioned on the next layout pass.
+     */
+    private boolean m_ThumbsDirty = false;
+
+    /**
+     *  The tick line.
+     */
+    private final CanvasTickLine m_TickLine;
+
+    /**
+     *  The flag that indicates that the bounds or the labels of the tick line
+     *  have to be updated on the next layout pass.
+     */
+    private boolean m_TickLineDirty = true;
+
+    /**
+     *  The listener for the window of the control's scene.
+     */
+    @SuppressWarnings( "ThisEscapedInObjectConstruction" )
+    private final ChangeListener<Window> m_WindowListener = (property,oldWindow,newWindow) ->
+    {
+        hookWindow( oldWindow, newWindow );
+        updateNowSubscription();
+    };
+
+        /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
     /**
@@ -176,148 +410,1159 @@ public class TimeSliderSkin extends SkinBase<TimeSlider>
      *
      *  @param  control The reference for the control.
      */
+    @SuppressWarnings( "OverlyLongMethod" )
     public TimeSliderSkin( final TimeSlider control )
     {
         super( requireNonNullArgument( control, "control" ) );
 
+        m_OffsetTable = new ZoneOffsetTable( control.getDay(), control.getTimeZone() );
+
         //---* Create the children and add them *------------------------------
-        final var min = convertZonedDateTimeToSeconds( control.minValueProperty() );
-        final var max = convertZonedDateTimeToSeconds( control.maxValueProperty() );
-        final var lowValue = convertZonedDateTimeToSeconds( composeZonedDateTime( control.getDay(), control.getLowValue(), control.getTimeZone() ) );
-        final var highValue = convertZonedDateTimeToSeconds( composeZonedDateTime( control.getDay(), control.getHighValue(), control.getTimeZone() ) );
-        m_Content = new RangeSlider( min, max, lowValue, highValue );
-        getChildren().add( m_Content );
-
-        //---* Bind the children *---------------------------------------------
-        final var maxValueBinding = createDoubleBinding( () -> convertZonedDateTimeToSeconds( getSkinnable().maxValueProperty() ), getSkinnable().maxValueProperty() );
-        m_Content.maxProperty().bind( maxValueBinding );
-
-        final var minValueBinding = createDoubleBinding( () -> convertZonedDateTimeToSeconds( getSkinnable().minValueProperty() ), getSkinnable().minValueProperty() );
-        m_Content.minProperty().bind( minValueBinding );
-
-        final var minorTickCountBinding = createIntegerBinding( () -> control.getGranularity().getMinorTickCount(), control.granularityProperty() );
-        m_Content.minorTickCountProperty().bind( minorTickCountBinding );
-
-        m_Content.snapToTicksProperty().bind( control.snapToTicksProperty() );
-
-        m_Content.lowValueProperty().addListener( ($,oldValue,newValue) ->
-        {
-           if( nonNull( newValue ) && !newValue.equals( oldValue ) )
-           {
-               getSkinnable().lowValueProperty().set( convertSecondsToOffsetTime( newValue.longValue() ) );
-           }
-        });
-        m_Content.highValueProperty().addListener( ($,oldValue,newValue) ->
-        {
-           if( nonNull( newValue ) && !newValue.equals( oldValue ) )
-           {
-               getSkinnable().highValueProperty().set( convertSecondsToOffsetTime( newValue.longValue() ) );
-           }
-        });
-
-        control.lowValueProperty().addListener( $ ->
-        {
-            final var timeSlider = getSkinnable();
-            final var day = timeSlider.getDay();
-            final var timeZone = timeSlider.getTimeZone();
-            final var time = timeSlider.getLowValue();
-            m_Content.setLowValue( (double) day.atTime( time ).atZoneSameInstant( timeZone ).toEpochSecond() );
-        });
-
-        control.highValueProperty().addListener( $ ->
-        {
-            final var timeSlider = getSkinnable();
-            final var day = timeSlider.getDay();
-            final var timeZone = timeSlider.getTimeZone();
-            final var time = timeSlider.getHighValue();
-            m_Content.setHighValue( (double) day.atTime( time ).atZoneSameInstant( timeZone ).toEpochSecond() );
-        });
-
-        //---* Configure the range slider *------------------------------------
-        final var timeConverter = new OffsetTimeConverter();
-        m_Content.setLabelFormatter( timeConverter );
-        //noinspection MagicNumber
-        m_Content.setMajorTickUnit( 3_600.0 ); // one hour
-        m_Content.setShowTickLabels( true );
-        m_Content.setShowTickMarks( true );
+        m_TickLine = new CanvasTickLine();
+        m_TickLine.setSide( Side.BOTTOM );
+        m_TickLine.setTickUnit( (double) MAJOR_TICK_UNIT );
+        m_TickLine.setMinorTickCount( minorTickCount( control.getStep() ) );
+        m_TickLine.setTickMarkVisible( true );
+        m_TickLine.setMinorTickVisible( true );
+        m_TickLine.setTickLabelsVisible( true );
+        m_TickLine.tickLabelFormatterProperty().set( new CachingLabelFormatter( new OffsetTimeConverter( m_OffsetTable ) ) );
+
+        m_BlockedLayer.getStyleClass().setAll( "blocked-region" );
+        m_BlockedLayer.setMouseTransparent( true );
+        m_BlockedLayer.setManaged( false );
+
+        getChildren().add( m_TickLine );
+        getChildren().addAll( m_RangeTrack.getNodes() );
+        getChildren().add( getChildren().indexOf( m_RangeTrack.getTrack() ) + 1, m_BlockedLayer );
+
+        m_NowMarker.getStyleClass().setAll( "now-marker" );
+        m_NowMarker.setMouseTransparent( true );
+        m_NowMarker.setManaged( false );
+        m_NowMarker.setVisible( false );
+        getChildren().add( m_NowMarker );
+
+        /*
+         * A change to the size of the track or the thumbs, for example by
+         * CSS, requires a new calculation of the geometry.
+         */
+        m_RangeTrack.getTrack().backgroundProperty().addListener( $ -> invalidateGeometry() );
+        //noinspection LambdaParameterNamingConvention
+        final ChangeListener<Boolean> needsLayoutListener = ($1,$2,needsLayout) ->
+        {
+            if( needsLayout ) m_GeometryDirty = true;
+        };
+        m_RangeTrack.getTrack().needsLayoutProperty().addListener( needsLayoutListener );
+        m_RangeTrack.getLowThumb().needsLayoutProperty().addListener( needsLayoutListener );
+
+        /*
+         * A change of a value only marks the thumbs as dirty; the bounds are
+         * bound lazily on the control, and they are read only on the next
+         * layout pass.
+         */
+        final InvalidationListener valueListener = $ -> invalidateThumbs();
+        control.lowValueProperty().addListener( valueListener );
+        control.highValueProperty().addListener( valueListener );
+        final InvalidationListener boundsListener = $ ->
+        {
+            m_TickLineDirty = true;
+            invalidateThumbs();
+        };
+        control.minValueProperty().addListener( boundsListener );
+        control.maxValueProperty().addListener( boundsListener );
+
+        /*
+         * Each change to the intervals is reported as one fine-grained
+         * change; just the bars are updated on the next layout pass.
+         */
+        control.getIntervals().addListener( (ListChangeListener<TimeSlider.Interval>) $ -> invalidateIntervals() );
+        control.getBlockedPeriods().addListener( (ListChangeListener<TimeSlider.Interval>) $ ->
+        {
+            m_BlockedDirty = true;
+            getSkinnable().requestLayout();
+        } );
+        registerChangeListener( control.multiIntervalProperty(), $ -> invalidateIntervals() );
+
+        /*
+         * The sparkline reduces the time series in the background; this is
+         * done again only for a new time series, new bounds or a new width.
+         */
+        updateSparkline();
+        registerChangeListener( control.timeSeriesProperty(), $ -> updateSparkline() );
+
+        registerChangeListener( control.stepProperty(), $ ->
+        {
+            m_TickLine.setMinorTickCount( minorTickCount( getSkinnable().getStep() ) );
+            m_TickLineDirty = true;
+            getSkinnable().requestLayout();
+        } );
+
+        /*
+         * The offsets depend on the day and on the time zone; they are
+         * determined only when one of these has changed.
+         */
+        registerChangeListener( control.dayProperty(), $ -> updateOffsetTable() );
+        registerChangeListener( control.timeZoneProperty(), $ -> updateOffsetTable() );
+
+        //---* The mouse handling *--------------------------------------------
+        initMouseHandling();
+
+        //---* The keyboard handling *-----------------------------------------
+        //noinspection LambdaParameterNamingConvention
+        control.focusedProperty().addListener( ($1,$2,hasFocus) ->
+        {
+            if( hasFocus )
+            {
+                if( !m_RangeTrack.getHighThumb().isFocused() ) m_RangeTrack.getLowThumb().setFocus( true );
+            }
+            else
+            {
+                m_RangeTrack.getLowThumb().setFocus( false );
+                m_RangeTrack.getHighThumb().setFocus( false );
+
+                //---* A key release will not reach us anymore *--------------
+                if( getSkinnable().isValueChanging() ) getSkinnable().setValueChanging( false );
+            }
+        } );
+        control.addEventHandler( KeyEvent.KEY_PRESSED, this::keyPressed );
+        control.addEventHandler( KeyEvent.KEY_RELEASED, this::keyReleased );
+
+        /*
+         * The marker for the current time is driven by the ticker only while
+         * the control is showing.
+         */
+        control.sceneProperty().addListener( m_SceneListener );
+        control.visibleProperty().addListener( m_ShowingListener );
+        control.parentProperty().addListener( m_AncestorListener );
+        hookAncestors();
+        hookScene( null, control.getScene() );
+        updateNowSubscription();
     }   //  TimeSliderSkin()
 
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
     /**
-     *  Composes an instance of
-     *  {@link ZonedDateTime}
-     *  from the given components.
+     *  Returns the index of the interval that is edited by the thumbs: in
+     *  multi-interval mode, this is the interval whose bounds are equal to
+     *  the low and the high value of the control.
      *
-     *  @param  day The day.
-     *  @param  time    The time.
-     *  @param  timeZone    The time zone.
-     *  @return The zoned date time instance.
+     *  @return The index of the interval, or -1 if there is none.
      */
-    private final ZonedDateTime composeZonedDateTime( final LocalDate day, final OffsetTime time, final ZoneId timeZone )
+    private final int activeInterval()
     {
-        final var retValue = day.atTime( time ).atZoneSameInstant( timeZone );
+        final var control = getSkinnable();
+        var retValue = -1;
+        if( control.isMultiInterval() )
+        {
+            final var low = lowSeconds();
+            final var index = control.intervalIndexAt( low );
+            if( index >= 0 )
+            {
+                final var interval = control.getIntervals().get( index );
+                if( (interval.getStartEpochSecond() == low) && (interval.getEndEpochSecond() == highSeconds()) ) retValue = index;
+            }
+        }
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  composeZonedDateTime()
+    }   //  activeInterval()
 
     /**
-     *  Converts the given
-     *  {@link ZonedDateTime}
-     *  to seconds since the start of the epoch.
+     *  Aligns the given value to the
+     *  {@linkplain TimeSlider#stepProperty() steps}
+     *  on the local wall clock, if the control snaps to ticks.
      *
-     *  @param  dateTime    The time and date.
-     *  @return The seconds since the epoch.
+     *  @param  value   The value in seconds since the start of the epoch.
+     *  @return The aligned value.
      */
-    private final double convertZonedDateTimeToSeconds( final ZonedDateTime dateTime )
+    private final long alignToTicks( final long value )
     {
-        final var retValue = (double) dateTime.toEpochSecond();
+        final var control = getSkinnable();
+        final var retValue = control.isSnapToTicks()
+            ? clamp( minSeconds(), m_OffsetTable.snapToStep( value, control.getStep().toSeconds() ), maxSeconds() )
+            : value;
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  convertZonedDateTimeToSeconds()
+    }   //  alignToTicks()
 
     /**
-     *  Converts the
-     *  {@link ZonedDateTime}
-     *  value of the given
-     *  {@link ObjectProperty}
-     *  to seconds since the start of the epoch.
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMaxHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = getSkinnable().prefHeight( width );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMaxHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMinHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = topInset + m_RangeTrack.getLowThumb().prefHeight( USE_COMPUTED_SIZE ) + bottomInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMinHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computeMinWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = leftInset + (3.0 * m_RangeTrack.getLowThumb().prefWidth( USE_COMPUTED_SIZE )) + rightInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeMinWidth()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected double computePrefHeight( final double width, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var trackAreaHeight = max( m_RangeTrack.getLowThumb().prefHeight( USE_COMPUTED_SIZE ), m_RangeTrack.getTrack().prefHeight( USE_COMPUTED_SIZE ) );
+        final var retValue = topInset + sparklineOverhang( m_RangeTrack.getTrack().prefHeight( USE_COMPUTED_SIZE ), trackAreaHeight ) + trackAreaHeight + TRACK_TO_TICK_GAP + m_TickLine.prefHeight( USE_COMPUTED_SIZE ) + bottomInset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefHeight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "MagicNumber" )
+    @Override
+    protected double computePrefWidth( final double height, final double topInset, final double rightInset, final double bottomInset, final double leftInset )
+    {
+        final var retValue = max( 140.0, m_TickLine.prefWidth( USE_COMPUTED_SIZE ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computePrefWidth()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public void dispose()
+    {
+        final var control = getSkinnable();
+        control.sceneProperty().removeListener( m_SceneListener );
+        control.visibleProperty().removeListener( m_ShowingListener );
+        control.parentProperty().removeListener( m_AncestorListener );
+        unhookAncestors();
+        hookScene( control.getScene(), null );
+        NowTicker.unsubscribe( m_NowSubscriber );
+        m_NowSubscribed = false;
+        super.dispose();
+    }   //  dispose()
+
+    /**
+     *  Finishes a gesture: the values are aligned to the tick marks, and the
+     *  control is notified that its values are no longer changing.
+     */
+    private final void finishGesture()
+    {
+        final var control = getSkinnable();
+        setLowValue( alignToTicks( lowSeconds() ) );
+        setHighValue( alignToTicks( highSeconds() ) );
+        control.setValueChanging( false );
+    }   //  finishGesture()
+
+    /**
+     *  Returns the high value of the control in seconds since the start of
+     *  the epoch.
      *
-     *  @param  dateTimeProperty    The property with the time and date.
-     *  @return The seconds since the epoch.
+     *  @return The high value.
      */
-    private final double convertZonedDateTimeToSeconds( final ReadOnlyObjectProperty<ZonedDateTime> dateTimeProperty )
+    private final long highSeconds()
     {
-        final var retValue = convertZonedDateTimeToSeconds( requireNonNullArgument( dateTimeProperty, "dateTimeProperty" ).get() );
+        final var control = getSkinnable();
+        final var retValue = control.getHighValue().toEpochSecond( control.getDay() );
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  convertZonedDateTimeToSeconds()
+    }   //  highSeconds()
 
     /**
-     *  Convert the given {@code long} value, representing the seconds since
-     *  the start of the epoch, to an instance of
-     *  {@link OffsetTime}.
+     *  Registers the listeners for the visibility and for the parent with
+     *  all current ancestors of the control; the listeners are removed from
+     *  the former ancestors first.
+     */
+    private final void hookAncestors()
+    {
+        unhookAncestors();
+        for( var node = getSkinnable().getParent(); nonNull( node ); node = node.getParent() )
+        {
+            node.visibleProperty().addListener( m_ShowingListener );
+            node.parentProperty().addListener( m_AncestorListener );
+            m_Ancestors.add( node );
+        }
+    }   //  hookAncestors()
+
+    /**
+     *  Moves the listener for the window from the old scene of the control
+     *  to the new one.
      *
-     *  @param  seconds The seconds.
-     *  @return The offset time.
+     *  @param  oldScene    The old scene; can be {@code null}.
+     *  @param  newScene    The new scene; can be {@code null}.
      */
-    private final OffsetTime convertSecondsToOffsetTime( final long seconds )
+    private final void hookScene( final Scene oldScene, final Scene newScene )
     {
-        final var retValue = Instant.ofEpochSecond( seconds )
-            .atZone( getSkinnable().getTimeZone() )
-            .toOffsetDateTime()
-            .toOffsetTime();
+        if( nonNull( oldScene ) )
+        {
+            oldScene.windowProperty().removeListener( m_WindowListener );
+            hookWindow( oldScene.getWindow(), null );
+        }
+        if( nonNull( newScene ) )
+        {
+            newScene.windowProperty().addListener( m_WindowListener );
+            hookWindow( null, newScene.getWindow() );
+        }
+    }   //  hookScene()
+
+    /**
+     *  Moves the listener for the visibility from the old window to the new
+     *  one.
+     *
+     *  @param  oldWindow   The old window; can be {@code null}.
+     *  @param  newWindow   The new window; can be {@code null}.
+     */
+    private final void hookWindow( final Window oldWindow, final Window newWindow )
+    {
+        if( nonNull( oldWindow ) ) oldWindow.showingProperty().removeListener( m_ShowingListener );
+        if( nonNull( newWindow ) ) newWindow.showingProperty().addListener( m_ShowingListener );
+    }   //  hookWindow()
+
+    /**
+     *  Installs the mouse handlers on the track, the thumbs and the range
+     *  bar.
+     */
+    @SuppressWarnings( "OverlyLongMethod" )
+    private final void initMouseHandling()
+    {
+        final var lowThumb = m_RangeTrack.getLowThumb();
+        final var highThumb = m_RangeTrack.getHighThumb();
+        final var rangeBar = m_RangeTrack.getRangeBar();
+        final var track = m_RangeTrack.getTrack();
+
+        track.setOnMousePressed( event ->
+        {
+            if( !lowThumb.isPressed() && !highThumb.isPressed() )
+            {
+                requestFocus();
+                final var point = track.localToParent( event.getX(), event.getY() );
+                final var position = valueAt( m_RangeTrack.ratioAt( point.getX(), point.getY() ) );
+                if( !getSkinnable().isMultiInterval() || !pressOnIntervals( position, event.isShortcutDown() ) )
+                {
+                    final var value = alignToTicks( position );
+                    if( value < lowSeconds() )
+                    {
+                        setLowValue( value );
+                    }
+                    else
+                    {
+                        setHighValue( value );
+                    }
+                }
+            }
+        } );
+
+        lowThumb.setOnMousePressed( event ->
+        {
+            requestFocus();
+            highThumb.setFocus( false );
+            lowThumb.setFocus( true );
+            getSkinnable().setValueChanging( true );
+            m_PreDragPoint = lowThumb.localToParent( event.getX(), event.getY() );
+            m_PreDragPos = ratio( lowSeconds() );
+        } );
+        lowThumb.setOnMouseDragged( event -> setLowValue( snapToIntervals( valueAt( m_PreDragPos + dragDistance( lowThumb.localToParent( event.getX(), event.getY() ) ) ) ) ) );
+        lowThumb.setOnMouseReleased( $ -> finishGesture() );
+
+        highThumb.setOnMousePressed( event ->
+        {
+            requestFocus();
+            lowThumb.setFocus( false );
+            highThumb.setFocus( true );
+            getSkinnable().setValueChanging( true );
+            m_PreDragPoint = highThumb.localToParent( event.getX(), event.getY() );
+            m_PreDragPos = ratio( highSeconds() );
+        } );
+        highThumb.setOnMouseDragged( event -> setHighValue( snapToIntervals( valueAt( m_PreDragPos + dragDistance( highThumb.localToParent( event.getX(), event.getY() ) ) ) ) ) );
+        highThumb.setOnMouseReleased( $ -> finishGesture() );
+
+        /*
+         * Dragging the range bar moves both values by the same amount; the
+         * movement stops at the bounds and at the blocked periods, so the
+         * duration is kept.
+         */
+        rangeBar.setOnMousePressed( event ->
+        {
+            requestFocus();
+            getSkinnable().setValueChanging( true );
+            m_PreDragPoint = rangeBar.localToParent( event.getX(), event.getY() );
+            m_DragLowValue = lowSeconds();
+            m_DragHighValue = highSeconds();
+        } );
+        rangeBar.setOnMouseDragged( event ->
+        {
+            final var range = (double) (maxSeconds() - minSeconds());
+            final var control = getSkinnable();
+            @SuppressWarnings( "NumericCastThatLosesPrecision" )
+            final var distance = clamp
+                (
+                    Long.min( 0L, control.freePeriodStart( m_DragLowValue ) - m_DragLowValue ),
+                    (long) Math.rint( dragDistance( rangeBar.localToParent( event.getX(), event.getY() ) ) * range ),
+                    Long.max( 0L, control.freePeriodEnd( m_DragHighValue ) - m_DragHighValue )
+                );
+            final var active = activeInterval();
+            control.setWindow( m_DragLowValue + distance, m_DragHighValue + distance );
+            updateInterval( active );
+        } );
+        rangeBar.setOnMouseReleased( $ -> finishGesture() );
+    }   //  initMouseHandling()
+
+    /**
+     *  Returns the distance of the given point from the point where the
+     *  current drag gesture started, relative to the length of the track.
+     *
+     *  @param  point   The current position of the mouse, in the coordinates
+     *      of the control.
+     *  @return The relative distance.
+     */
+    private final double dragDistance( final Point2D point )
+    {
+        if( isNull( m_PreDragPoint ) ) m_PreDragPoint = point;
+        final var trackLength = m_RangeTrack.getTrackLength();
+        final var retValue = trackLength > 0.0 ? (point.getX() - m_PreDragPoint.getX()) / trackLength : 0.0;
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  convertSecondsToOffsetTime()
+    }   //  dragDistance()
+
+    /**
+     *  Marks the complete geometry as dirty and requests a layout.
+     */
+    private final void invalidateGeometry()
+    {
+        m_GeometryDirty = true;
+        getSkinnable().requestLayout();
+    }   //  invalidateGeometry()
+
+    /**
+     *  Marks the bars for the intervals as dirty and requests a layout.
+     */
+    private final void invalidateIntervals()
+    {
+        m_IntervalsDirty = true;
+        getSkinnable().requestLayout();
+    }   //  invalidateIntervals()
+
+    /**
+     *  Marks the thumbs as dirty and requests a layout.
+     */
+    private final void invalidateThumbs()
+    {
+        m_ThumbsDirty = true;
+        getSkinnable().requestLayout();
+    }   //  invalidateThumbs()
+
+    /**
+     *  Checks whether the control is visible in a window that is showing;
+     *  this requires that the control itself and all its ancestors are
+     *  visible. So a control inside an invisible container or on a tab that
+     *  is not selected is not showing.
+     *
+     *  @return {@code true} if the control is showing, {@code false}
+     *      otherwise.
+     */
+    private final boolean isShowing()
+    {
+        final var control = getSkinnable();
+        final var scene = control.getScene();
+        final var window = isNull( scene ) ? null : scene.getWindow();
+        var retValue = nonNull( window ) && window.isShowing();
+        for( Node node = control; retValue && nonNull( node ); node = node.getParent() )
+        {
+            retValue = node.isVisible();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isShowing()
+
+    /**
+     *  Handles a key press: the arrow keys move the thumb that has the focus
+     *  by one step of the
+     *  {@linkplain TimeSlider#stepProperty() step},
+     *  and TAB moves the focus from the low to the high thumb, and then to
+     *  the next control. In multi-interval mode, DELETE and BACK_SPACE remove
+     *  the interval that is edited by the thumbs.
+     *
+     *  @param  event   The key event.
+     */
+    private final void keyPressed( final KeyEvent event )
+    {
+        final var lowThumb = m_RangeTrack.getLowThumb();
+        final var highThumb = m_RangeTrack.getHighThumb();
+        final var control = getSkinnable();
+        final var direction = control.getEffectiveNodeOrientation() == NodeOrientation.RIGHT_TO_LEFT ? -1L : 1L;
+        switch( event.getCode() )
+        {
+            case TAB ->
+            {
+                if( lowThumb.isFocused() )
+                {
+                    if( event.isShiftDown() )
+                    {
+                        focusPreviousSibling( control );
+                    }
+                    else
+                    {
+                        lowThumb.setFocus( false );
+                        highThumb.setFocus( true );
+                    }
+                }
+                else if( highThumb.isFocused() )
+                {
+                    if( event.isShiftDown() )
+                    {
+                        highThumb.setFocus( false );
+                        lowThumb.setFocus( true );
+                    }
+                    else
+                    {
+                        focusNextSibling( control );
+                    }
+                }
+            }
+            case LEFT, KP_LEFT, DOWN, KP_DOWN -> moveSelectedValue( -direction );
+            case RIGHT, KP_RIGHT, UP, KP_UP -> moveSelectedValue( direction );
+            case DELETE, BACK_SPACE ->
+            {
+                final var active = activeInterval();
+                if( active >= 0 ) control.getIntervals().remove( active );
+            }
+            default -> {}
+        }
+        event.consume();
+    }   //  keyPressed()
+
+    /**
+     *  Handles a key release: HOME and END move the thumb that has the focus
+     *  to the respective bound, and the release of an arrow key finishes the
+     *  gesture.
+     *
+     *  @param  event   The key event.
+     */
+    private final void keyReleased( final KeyEvent event )
+    {
+        final var highSelected = m_RangeTrack.getHighThumb().isFocused();
+        switch( event.getCode() )
+        {
+            case HOME ->
+            {
+                if( highSelected ) setHighValue( minSeconds() ); else setLowValue( minSeconds() );
+            }
+            case END ->
+            {
+                if( highSelected ) setHighValue( maxSeconds() ); else setLowValue( maxSeconds() );
+            }
+
+            /*
+             * Holding down an arrow key generates a series of KEY_PRESSED
+             * events, but only one KEY_RELEASED event at the end; that one
+             * finishes the gesture.
+             */
+            case LEFT, KP_LEFT, RIGHT, KP_RIGHT, DOWN, KP_DOWN, UP, KP_UP ->
+            {
+                if( getSkinnable().isValueChanging() ) finishGesture();
+            }
+            default -> {}
+        }
+        event.consume();
+    }   //  keyReleased()
+
+    /**
+     *  Creates the shape for the blocked periods: one rectangle per period,
+     *  all in the same
+     *  {@link Path}.
+     *  Periods outside of the range between the minimum and the maximum are
+     *  skipped.
+     */
+    private final void layoutBlockedPeriods()
+    {
+        final var blockedPeriods = getSkinnable().getBlockedPeriods();
+        final var track = m_RangeTrack.getTrack();
+        final var trackStart = m_RangeTrack.getTrackStart();
+        final var trackLength = m_RangeTrack.getTrackLength();
+        final var top = track.getLayoutY();
+        final var bottom = top + track.getHeight();
+        final var min = minSeconds();
+        final var max = maxSeconds();
+        final List<PathElement> elements = new ArrayList<>( blockedPeriods.size() * 5 );
+        for( final var period : blockedPeriods )
+        {
+            if( (period.getEndEpochSecond() > min) && (period.getStartEpochSecond() < max) )
+            {
+                final var startX = trackStart + (trackLength * ratio( period.getStartEpochSecond() ));
+                final var endX = trackStart + (trackLength * ratio( period.getEndEpochSecond() ));
+                elements.add( new MoveTo( startX, top ) );
+                elements.add( new HLineTo( endX ) );
+                elements.add( new VLineTo( bottom ) );
+                elements.add( new HLineTo( startX ) );
+                elements.add( new ClosePath() );
+            }
+        }
+        m_BlockedLayer.getElements().setAll( elements );
+    }   //  layoutBlockedPeriods()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "NumericCastThatLosesPrecision" )
+    @Override
+    protected void layoutChildren( final double contentX, final double contentY, final double contentWidth, final double contentHeight )
+    {
+        if( (m_ContentArea [0] != contentX) || (m_ContentArea [1] != contentY) || (m_ContentArea [2] != contentWidth) || (m_ContentArea [3] != contentHeight) )
+        {
+            m_ContentArea [0] = contentX;
+            m_ContentArea [1] = contentY;
+            m_ContentArea [2] = contentWidth;
+            m_ContentArea [3] = contentHeight;
+            m_GeometryDirty = true;
+        }
+
+        var nowDirty = false;
+        if( m_TickLineDirty )
+        {
+            nowDirty = true;
+            m_BlockedDirty = true;
+            m_IntervalsDirty = true;
+            m_TickLine.setLowerBound( (double) minSeconds() );
+            m_TickLine.setUpperBound( (double) maxSeconds() );
+            if( nonNull( m_Sparkline ) ) m_Sparkline.setBounds( minSeconds(), maxSeconds() );
+            m_TickLine.requestAxisLayout();
+            m_TickLineDirty = false;
+        }
+
+        if( m_GeometryDirty )
+        {
+            m_RangeTrack.resizeThumbs();
+            final var thumbWidth = m_RangeTrack.getThumbWidth();
+            final var thumbHeight = m_RangeTrack.getThumbHeight();
+            final var tickLineHeight = m_TickLine.prefHeight( USE_COMPUTED_SIZE );
+            final var trackHeight = m_RangeTrack.getTrack().prefHeight( USE_COMPUTED_SIZE );
+            final var trackAreaHeight = max( trackHeight, thumbHeight );
+
+            //---* Vertically center slider in available height *--------------
+            final var sparklineOverhang = sparklineOverhang( trackHeight, trackAreaHeight );
+            final var startY = contentY + ((contentHeight - (sparklineOverhang + trackAreaHeight + TRACK_TO_TICK_GAP + tickLineHeight)) / 2.0) + sparklineOverhang;
+            final var trackLength = contentWidth - thumbWidth;
+            final var trackStart = contentX + (thumbWidth / 2.0);
+            final var trackTop = (double) ((int) (startY + ((trackAreaHeight - trackHeight) / 2.0)));
+            final var thumbTop = (double) ((int) (startY + ((trackAreaHeight - thumbHeight) / 2.0)));
+
+            m_RangeTrack.layoutTrack( trackStart, trackLength, trackTop, trackHeight, thumbTop );
+            m_TickLine.resizeRelocate( trackStart, trackTop + trackHeight + TRACK_TO_TICK_GAP, trackLength, tickLineHeight );
+            m_TickLine.requestAxisLayout();
+
+            //---* The marker spans the thumbs and the track *-----------------
+            final var markerTop = Double.min( thumbTop, trackTop );
+            m_NowMarker.resize( m_NowMarker.prefWidth( USE_COMPUTED_SIZE ), max( thumbTop + thumbHeight, trackTop + trackHeight ) - markerTop );
+            m_NowMarker.setLayoutY( markerTop );
+            nowDirty = true;
+
+            //---* The sparkline ends at the bottom of the track *-------------
+            if( nonNull( m_Sparkline ) )
+            {
+                final var sparklineHeight = m_Sparkline.prefHeight( USE_COMPUTED_SIZE );
+                m_Sparkline.resizeRelocate( trackStart, trackTop + trackHeight - sparklineHeight, trackLength, sparklineHeight );
+            }
+
+            /*
+             * Resizing the track and the thumbs may have set the flag again.
+             */
+            m_GeometryDirty = false;
+            m_ThumbsDirty = true;
+            m_IntervalsDirty = true;
+            m_BlockedDirty = true;
+        }
+
+        if( nowDirty && m_NowSubscribed ) NowTicker.subscribe( m_NowSubscriber );
+
+        if( m_BlockedDirty )
+        {
+            layoutBlockedPeriods();
+            m_BlockedDirty = false;
+        }
+
+        if( m_IntervalsDirty )
+        {
+            layoutIntervals();
+            m_IntervalsDirty = false;
+        }
+
+        if( m_ThumbsDirty )
+        {
+            m_RangeTrack.positionThumbs( ratio( lowSeconds() ), ratio( highSeconds() ) );
+            m_ThumbsDirty = false;
+        }
+    }   //  layoutChildren()
+
+    /**
+     *  Positions the bars for the intervals on the track; only the bars for
+     *  the current intervals are visible. The bars are created on demand,
+     *  and they are kept for later use.
+     */
+    private final void layoutIntervals()
+    {
+        final var control = getSkinnable();
+        final var intervals = control.getIntervals();
+        final var count = control.isMultiInterval() ? intervals.size() : 0;
+        final var track = m_RangeTrack.getTrack();
+        while( m_IntervalBars.size() < count )
+        {
+            final var bar = new StackPane();
+            bar.getStyleClass().setAll( "interval-bar" );
+            bar.setMouseTransparent( true );
+            m_IntervalBars.add( bar );
+            getChildren().add( getChildren().indexOf( m_BlockedLayer ) + 1, bar );
+        }
+
+        final var trackStart = m_RangeTrack.getTrackStart();
+        final var trackLength = m_RangeTrack.getTrackLength();
+        for( var i = 0; i < m_IntervalBars.size(); ++i )
+        {
+            final var bar = m_IntervalBars.get( i );
+            if( i < count )
+            {
+                final var interval = intervals.get( i );
+                final var startX = trackStart + (trackLength * ratio( interval.getStartEpochSecond() ));
+                final var endX = trackStart + (trackLength * ratio( interval.getEndEpochSecond() ));
+                bar.resizeRelocate( startX, track.getLayoutY(), endX - startX, track.getHeight() );
+                bar.setVisible( true );
+            }
+            else
+            {
+                bar.setVisible( false );
+            }
+        }
+    }   //  layoutIntervals()
+
+    /**
+     *  Returns the low value of the control in seconds since the start of
+     *  the epoch.
+     *
+     *  @return The low value.
+     */
+    private final long lowSeconds()
+    {
+        final var control = getSkinnable();
+        final var retValue = control.getLowValue().toEpochSecond( control.getDay() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  lowSeconds()
+
+    /**
+     *  Returns the maximum of the control in seconds since the start of the
+     *  epoch.
+     *
+     *  @return The maximum.
+     */
+    private final long maxSeconds() { return getSkinnable().maxValueProperty().get().toEpochSecond(); }
+
+    /**
+     *  Returns the minimum of the control in seconds since the start of the
+     *  epoch.
+     *
+     *  @return The minimum.
+     */
+    private final long minSeconds() { return getSkinnable().minValueProperty().get().toEpochSecond(); }
+
+    /**
+     *  Returns the number of minor tick intervals per hour for the given
+     *  step. If the step does not divide an hour evenly, no minor ticks are
+     *  drawn; for steps of less than a minute, the minor ticks are drawn for
+     *  full minutes or for five minutes, as there would be too many of them
+     *  otherwise.
+     *
+     *  @param  step    The step.
+     *  @return The number of minor tick intervals for the tick line.
+     */
+    @SuppressWarnings( "MagicNumber" )
+    private static final int minorTickCount( final Duration step )
+    {
+        final var seconds = step.toSeconds();
+        var retValue = (MAJOR_TICK_UNIT % seconds) == 0 ? (int) (MAJOR_TICK_UNIT / seconds) : 1;
+        if( retValue > 60 ) retValue = (60L % seconds) == 0 ? 60 : 12;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minorTickCount()
+
+    /**
+     *  Moves the thumb that has the focus by the given number of steps of
+     *  the
+     *  {@linkplain TimeSlider#stepProperty() step}.
+     *
+     *  @param  steps   The number of steps; negative values move the thumb
+     *      to the minimum.
+     */
+    private final void moveSelectedValue( final long steps )
+    {
+        final var control = getSkinnable();
+        if( !control.isValueChanging() ) control.setValueChanging( true );
+        final var step = steps * control.getStep().toSeconds();
+        if( m_RangeTrack.getHighThumb().isFocused() )
+        {
+            setHighValue( alignToTicks( highSeconds() + step ) );
+        }
+        else
+        {
+            setLowValue( alignToTicks( lowSeconds() + step ) );
+        }
+    }   //  moveSelectedValue()
+
+    /**
+     *  Returns the interval for the updates of the marker for the current
+     *  time: the largest of the
+     *  {@linkplain #NOW_RESOLUTIONS resolutions}
+     *  that does not exceed the time for one pixel of the track.
+     *
+     *  @return The interval in seconds.
+     */
+    @SuppressWarnings( "MagicNumber" )
+    private final long nowResolution()
+    {
+        final var trackLength = m_RangeTrack.getTrackLength();
+        final var secondsPerPixel = trackLength > 0.0 ? (double) (maxSeconds() - minSeconds()) / trackLength : 60.0;
+        var retValue = NOW_RESOLUTIONS [0];
+        for( final var resolution : NOW_RESOLUTIONS )
+        {
+            if( (double) resolution <= secondsPerPixel ) retValue = resolution;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nowResolution()
+
+    /**
+     *  Handles a mouse press on the track in multi-interval mode: a press on
+     *  an interval selects it for editing, and a press with the shortcut key
+     *  on the free track adds a new interval of up to one
+     *  {@linkplain TimeSlider#stepProperty() step}
+     *  and selects that; the new interval does not reach into a blocked
+     *  period.
+     *
+     *  @param  value   The value at the position of the mouse, in seconds
+     *      since the start of the epoch.
+     *  @param  isShortcutDown  {@code true} if the shortcut key was down,
+     *      {@code false} otherwise.
+     *  @return {@code true} if the press was handled, {@code false} if the
+     *      press just moves the nearest thumb.
+     */
+    private final boolean pressOnIntervals( final long value, final boolean isShortcutDown )
+    {
+        final var control = getSkinnable();
+        var index = control.intervalIndexAt( value );
+        if( (index < 0) && isShortcutDown && !control.isBlocked( value ) )
+        {
+            final var step = control.getStep().toSeconds();
+            final var start = clamp( control.freePeriodStart( value ), alignToTicks( value ), value );
+            final var end = Long.min( start + step, control.freePeriodEnd( value ) );
+            if( start < end ) index = control.addInterval( start, end );
+        }
+        final var retValue = index >= 0;
+        if( retValue )
+        {
+            final var interval = control.getIntervals().get( index );
+            control.setLowValue( m_OffsetTable.toOffsetTime( interval.getStartEpochSecond() ) );
+            control.setHighValue( m_OffsetTable.toOffsetTime( interval.getEndEpochSecond() ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  pressOnIntervals()
+
+    /**
+     *  Returns the relative position of the given value between the minimum
+     *  and the maximum of the control.
+     *
+     *  @param  value   The value in seconds since the start of the epoch.
+     *  @return The relative position, between 0.0 and 1.0.
+     */
+    private final double ratio( final long value )
+    {
+        final var min = minSeconds();
+        final var range = maxSeconds() - min;
+        final var retValue = range > 0L ? clamp( 0.0, (double) (value - min) / (double) range, 1.0 ) : 0.0;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  ratio()
+
+    /**
+     *  Requests the focus for the control, if it does not have it already.
+     */
+    private final void requestFocus()
+    {
+        final var control = getSkinnable();
+        if( !control.isFocused() ) control.requestFocus();
+    }   //  requestFocus()
+
+    /**
+     *  Sets the high value of the control; it is kept between the low value
+     *  and the maximum, and it cannot pass the next blocked period.
+     *
+     *  @param  value   The new value in seconds since the start of the epoch.
+     */
+    private final void setHighValue( final long value )
+    {
+        final var control = getSkinnable();
+        final var active = activeInterval();
+        final var lower = Long.min( lowSeconds(), maxSeconds() );
+        final var upper = Long.max( lower, control.freePeriodEnd( lower ) );
+        control.setHighValue( m_OffsetTable.toOffsetTime( clamp( lower, value, upper ) ) );
+        updateInterval( active );
+    }   //  setHighValue()
+
+    /**
+     *  Sets the low value of the control; it is kept between the minimum and
+     *  the high value, and it cannot pass the previous blocked period.
+     *
+     *  @param  value   The new value in seconds since the start of the epoch.
+     */
+    private final void setLowValue( final long value )
+    {
+        final var control = getSkinnable();
+        final var active = activeInterval();
+        final var upper = Long.max( minSeconds(), highSeconds() );
+        final var lower = Long.min( upper, control.freePeriodStart( upper ) );
+        control.setLowValue( m_OffsetTable.toOffsetTime( clamp( lower, value, upper ) ) );
+        updateInterval( active );
+    }   //  setLowValue()
+
+    /**
+     *  In multi-interval mode, snaps the given value to the nearest start or
+     *  end of another interval, if that is not farther away than the width
+     *  of a thumb.
+     *
+     *  @param  value   The value in seconds since the start of the epoch.
+     *  @return The snapped value.
+     */
+    @SuppressWarnings( "NumericCastThatLosesPrecision" )
+    private final long snapToIntervals( final long value )
+    {
+        final var control = getSkinnable();
+        var retValue = value;
+        final var trackLength = m_RangeTrack.getTrackLength();
+        if( control.isMultiInterval() && (trackLength > 0.0) )
+        {
+            final var tolerance = (long) (m_RangeTrack.getThumbWidth() / trackLength * (double) (maxSeconds() - minSeconds()));
+            retValue = control.snapToIntervalBoundary( value, tolerance, activeInterval() );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapToIntervals()
+
+    /**
+     *  Calculates how far the sparkline extends above the track area; the
+     *  sparkline ends at the bottom of the track, and it may be higher than
+     *  the thumbs.
+     *
+     *  @param  trackHeight The height of the track.
+     *  @param  trackAreaHeight The height of the area for track and thumbs.
+     *  @return The overhang; 0.0 if there is no sparkline.
+     */
+    private final double sparklineOverhang( final double trackHeight, final double trackAreaHeight )
+    {
+        final var retValue = isNull( m_Sparkline )
+            ? 0.0
+            : max( 0.0, m_Sparkline.prefHeight( USE_COMPUTED_SIZE ) - ((trackAreaHeight - trackHeight) / 2.0) - trackHeight );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  sparklineOverhang()
+
+    /**
+     *  Moves the marker for the current time; it is visible only if the
+     *  current time is between the minimum and the maximum of the control.
+     *  This is called by the
+     *  {@link NowTicker}.
+     *
+     *  @param  now The current time, in seconds since the start of the
+     *      epoch.
+     *  @return The point in time when the marker has to be moved next: the
+     *      next boundary of the
+     *      {@linkplain #nowResolution() resolution}
+     *      while the marker is visible, the minimum if that is still ahead,
+     *      and
+     *      {@link Long#MAX_VALUE}
+     *      if the maximum has passed.
+     */
+    private final long tickNow( final long now )
+    {
+        final var min = minSeconds();
+        final var max = maxSeconds();
+        var retValue = Long.MAX_VALUE;
+        if( now < min )
+        {
+            retValue = min;
+            m_NowMarker.setVisible( false );
+        }
+        else if( now <= max )
+        {
+            final var resolution = nowResolution();
+            retValue = (floorDiv( now, resolution ) + 1L) * resolution;
+            m_NowMarker.setLayoutX( m_RangeTrack.getTrackStart() + (m_RangeTrack.getTrackLength() * ratio( now )) - (m_NowMarker.getWidth() / 2.0) );
+            m_NowMarker.setVisible( true );
+        }
+        else
+        {
+            m_NowMarker.setVisible( false );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tickNow()
+
+    /**
+     *  Removes the listeners for the visibility and for the parent from the
+     *  ancestors of the control that were registered last.
+     */
+    private final void unhookAncestors()
+    {
+        for( final var node : m_Ancestors )
+        {
+            node.visibleProperty().removeListener( m_ShowingListener );
+            node.parentProperty().removeListener( m_AncestorListener );
+        }
+        m_Ancestors.clear();
+    }   //  unhookAncestors()
+
+    /**
+     *  Writes the current low and high value of the control to the interval
+     *  with the given index; if that interval was merged with others, the
+     *  values are set to the bounds of the merged interval.
+     *
+     *  @param  index   The index of the interval that was edited before the
+     *      values were changed; nothing happens if it is -1.
+     */
+    private final void updateInterval( final int index )
+    {
+        final var low = lowSeconds();
+        final var high = highSeconds();
+        if( (index >= 0) && (low < high) )
+        {
+            final var control = getSkinnable();
+            final var interval = control.getIntervals().get( control.setInterval( index, low, high ) );
+            if( interval.getStartEpochSecond() != low ) control.setLowValue( m_OffsetTable.toOffsetTime( interval.getStartEpochSecond() ) );
+            if( interval.getEndEpochSecond() != high ) control.setHighValue( m_OffsetTable.toOffsetTime( interval.getEndEpochSecond() ) );
+        }
+    }   //  updateInterval()
+
+    /**
+     *  Subscribes the marker for the current time to the
+     *  {@link NowTicker}
+     *  while the control is showing, and unsubscribes it otherwise; so the
+     *  ticker stops when no showing control needs it.
+     */
+    private final void updateNowSubscription()
+    {
+        if( isShowing() )
+        {
+            m_NowSubscribed = true;
+            NowTicker.subscribe( m_NowSubscriber );
+        }
+        else if( m_NowSubscribed )
+        {
+            m_NowSubscribed = false;
+            NowTicker.unsubscribe( m_NowSubscriber );
+            m_NowMarker.setVisible( false );
+        }
+    }   //  updateNowSubscription()
+
+    /**
+     *  Determines the offsets for the current day and time zone again, if
+     *  one of these has changed. The labels depend on the offsets, too; a new
+     *  converter instance invalidates the labels that were cached for the old
+     *  one.
+     */
+    private final void updateOffsetTable()
+    {
+        final var timeSlider = getSkinnable();
+        if( !m_OffsetTable.isFor( timeSlider.getDay(), timeSlider.getTimeZone() ) )
+        {
+            m_OffsetTable = new ZoneOffsetTable( timeSlider.getDay(), timeSlider.getTimeZone() );
+            m_TickLine.tickLabelFormatterProperty().set( new CachingLabelFormatter( new OffsetTimeConverter( m_OffsetTable ) ) );
+            m_TickLineDirty = true;
+            timeSlider.requestLayout();
+        }
+    }   //  updateOffsetTable()
+
+    /**
+     *  Creates, updates or removes the sparkline according to the
+     *  {@linkplain TimeSlider#timeSeriesProperty() time series}
+     *  that is currently set for the slider. The sparkline is always the
+     *  first child, so that it is drawn behind the track and the range bar.
+     */
+    private final void updateSparkline()
+    {
+        final var timeSlider = getSkinnable();
+        final var timeSeries = timeSlider.getTimeSeries();
+        if( isNull( timeSeries ) )
+        {
+            if( nonNull( m_Sparkline ) )
+            {
+                getChildren().remove( m_Sparkline );
+                m_Sparkline = null;
+                invalidateGeometry();
+            }
+        }
+        else
+        {
+            if( isNull( m_Sparkline ) )
+            {
+                m_Sparkline = new SparklineLayer();
+                m_Sparkline.setBounds( minSeconds(), maxSeconds() );
+                getChildren().add( 0, m_Sparkline );
+                invalidateGeometry();
+            }
+            m_Sparkline.setData( timeSeries.getTimestamps(), timeSeries.getValues() );
+        }
+    }   //  updateSparkline()
+
+    /**
+     *  Returns the value for the given relative position between the minimum
+     *  and the maximum of the control.
+     *
+     *  @param  ratio   The relative position; it will be clamped to the
+     *      range from 0.0 to 1.0.
+     *  @return The value in seconds since the start of the epoch.
+     */
+    private final long valueAt( final double ratio )
+    {
+        final var min = minSeconds();
+        final var retValue = min + Math.round( clamp( 0.0, ratio, 1.0 ) * (double) (maxSeconds() - min) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  valueAt()
 }
 //  class TimeSliderSkin
 
 /*
  *  End of File
- */
\ No newline at end of file
+ */
@@ -19,8 +19,6 @@ package org.tquadrat.foundation.fx.css;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
-import static org.tquadrat.foundation.util.DateTimeUtils.getZoneIdAliasMap;
-import static org.tquadrat.foundation.util.DateTimeUtils.retrieveCachedZoneId;
 
 import java.time.ZoneId;
 
@@ -28,15 +26,22 @@ import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.UtilityClass;
 import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.fx.internal.ZoneCache;
 import javafx.css.ParsedValue;
 import javafx.css.StyleConverter;
 import javafx.scene.text.Font;
 
 /**
- *  An implementation of
+ *  <p>{@summary An implementation of
  *  {@link javafx.css.StyleConverter}
  *  for time zones (more precise, for
- *  {@link ZoneId}s).
+ *  {@link ZoneId}s).}</p>
+ *  <p>The CSS is applied again on each change of a pseudo class, of the
+ *  scene or of a stylesheet; therefore the time zones are taken from the
+ *  bounded
+ *  {@link ZoneCache},
+ *  so that applying the same time zone again is a map lookup, and it
+ *  returns the same instance as before.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: TimeZoneConverter.java 1116 2024-03-13 15:44:33Z tquadrat $
@@ -99,7 +104,7 @@ public final class TimeZoneConverter extends StyleConverter<String,ZoneId>
     @Override
     public final ZoneId convert( final ParsedValue<String,ZoneId> value, final Font font )
     {
-        final var retValue = retrieveCachedZoneId( (String) value.getValue(), getZoneIdAliasMap() );
+        final var retValue = ZoneCache.zoneId( (String) value.getValue() );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -17,13 +17,25 @@
 
 package org.tquadrat.foundation.fx.internal;
 
+import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.fx.FXUtils.clamp;
+import static org.tquadrat.foundation.fx.FXUtils.nearest;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.UtilityClass;
 import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import javafx.application.Platform;
 import javafx.scene.Node;
 
 /**
@@ -46,6 +58,119 @@ public final class ControlUtils
         /*---------------*\
     ====** Inner Classes **====================================================
         \*---------------*/
+    /**
+     *  <p>{@summary Runs computations on the common
+     *  {@link ForkJoinPool}
+     *  and delivers their results on the FX application thread.}</p>
+     *  <p>Each call to
+     *  {@link #start(Supplier)}
+     *  starts a new generation; the result of a computation is only
+     *  delivered if neither another computation was started nor
+     *  {@link #discard()}
+     *  was called in the meantime, so the results of outdated computations
+     *  are dropped. When the current computation fails, the failure handler
+     *  is called instead of the result handler. In any case, the failure is
+     *  passed to the
+     *  {@linkplain Thread.UncaughtExceptionHandler uncaught exception handler}
+     *  of the FX application thread, so that it is not lost silently.</p>
+     *  <p>The methods of this class must be called on the FX application
+     *  thread, and both handlers are called there, too.</p>
+     *
+     *  @param  <T> The type of the results.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final class BackgroundComputation<T>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The handler for a failed computation.
+         */
+        private final Consumer<? super Throwable> m_FailureHandler;
+
+        /**
+         *  The generation of the current computation.
+         */
+        private long m_Generation = 0L;
+
+        /**
+         *  The handler for the result of a computation.
+         */
+        private final Consumer<? super T> m_ResultHandler;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code BackgroundComputation}.
+         *
+         *  @param  resultHandler   The handler for the result of the
+         *      current computation.
+         *  @param  failureHandler  The handler for the failure of the
+         *      current computation.
+         */
+        public BackgroundComputation( final Consumer<? super T> resultHandler, final Consumer<? super Throwable> failureHandler )
+        {
+            m_ResultHandler = requireNonNullArgument( resultHandler, "resultHandler" );
+            m_FailureHandler = requireNonNullArgument( failureHandler, "failureHandler" );
+        }   //  BackgroundComputation()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Delivers the outcome of a computation.
+         *
+         *  @param  generation  The generation of the computation.
+         *  @param  result  The result; it is {@code null} if the computation
+         *      failed.
+         *  @param  failure The failure; it is {@code null} if the computation
+         *      was successful.
+         */
+        private final void deliver( final long generation, final T result, final Throwable failure )
+        {
+            if( isNull( failure ) )
+            {
+                if( generation == m_Generation ) m_ResultHandler.accept( result );
+            }
+            else
+            {
+                final var cause = failure instanceof CompletionException && nonNull( failure.getCause() ) ? failure.getCause() : failure;
+                if( generation == m_Generation ) m_FailureHandler.accept( cause );
+                final var thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException( thread, cause );
+            }
+        }   //  deliver()
+
+        /**
+         *  Discards the current computation, if any; its result will not be
+         *  delivered.
+         */
+        public final void discard() { ++m_Generation; }
+
+        /**
+         *  Starts the given computation; the current one, if any, is
+         *  discarded.
+         *
+         *  @param  computation The computation.
+         */
+        public final void start( final Supplier<? extends T> computation )
+        {
+            requireNonNullArgument( computation, "computation" );
+            final var generation = ++m_Generation;
+            CompletableFuture.<T>supplyAsync( computation::get, ForkJoinPool.commonPool() )
+                .whenComplete( (result,failure) -> Platform.runLater( () -> deliver( generation, result, failure ) ) );
+        }   //  start()
+    }
+    //  class BackgroundComputation
 
         /*-----------*\
     ====** Constants **========================================================
@@ -70,6 +195,102 @@ public final class ControlUtils
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Returns the index of the first element in the given sorted array that
+     *  is greater than or equal to the given value, using a binary search.
+     *
+     *  @param  values  The values, sorted in ascending order.
+     *  @param  from    The index to start the search at.
+     *  @param  value   The value.
+     *  @return The index; it is the length of the array if all elements are
+     *      less than the value.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final int ceilingIndex( final double [] values, final int from, final double value )
+    {
+        var low = from;
+        var high = values.length;
+        while( low < high )
+        {
+            final var middle = (low + high) >>> 1;
+            if( values [middle] < value ) low = middle + 1; else high = middle;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return low;
+    }   //  ceilingIndex()
+
+    /**
+     *  Returns the index of the first element in the given sorted array that
+     *  is greater than or equal to the given value, using a binary search.
+     *
+     *  @param  values  The values, sorted in ascending order.
+     *  @param  from    The index to start the search at.
+     *  @param  value   The value.
+     *  @return The index; it is the length of the array if all elements are
+     *      less than the value.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final int ceilingIndex( final long [] values, final int from, final long value )
+    {
+        var low = from;
+        var high = values.length;
+        while( low < high )
+        {
+            final var middle = (low + high) >>> 1;
+            if( values [middle] < value ) low = middle + 1; else high = middle;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return low;
+    }   //  ceilingIndex()
+
+    /**
+     *  <p>{@summary Converts the given {@code double} to an unsigned
+     *  {@code long} value, rounded to the nearest integer.}</p>
+     *  <p>Negative values and
+     *  {@link Double#NaN NaN}
+     *  result in 0, values of 2<sup>64</sup> and above in the largest
+     *  unsigned value, that is -1.</p>
+     *
+     *  @param  value   The value.
+     *  @return The unsigned value.
+     *
+     *  @see #unsignedToDouble(long)
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    @SuppressWarnings( "NumericCastThatLosesPrecision" )
+    public static final long doubleToUnsigned( final double value )
+    {
+        final long retValue;
+        if( !(value > 0.0) )
+        {
+            retValue = 0L;
+        }
+        else if( value >= 0x1p64 )
+        {
+            retValue = -1L;
+        }
+        else if( value >= 0x1p63 )
+        {
+            //---* Values that large have no fraction *------------------------
+            retValue = (long) (value - 0x1p63) ^ Long.MIN_VALUE;
+        }
+        else
+        {
+            retValue = Math.round( value );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  doubleToUnsigned()
+
     /**
      *  Moves the focus to the next node on the same hierarchy level.
      *
@@ -107,6 +328,277 @@ public final class ControlUtils
             node.getParent().requestFocus();
         }
     }   //  focusPreviousSibling()
+
+    /**
+     *  Returns the index of the first element in the given sorted array that
+     *  is greater than the given value, using a binary search.
+     *
+     *  @param  values  The values, sorted in ascending order.
+     *  @param  from    The index to start the search at.
+     *  @param  value   The value.
+     *  @return The index; it is the length of the array if all elements are
+     *      less than or equal to the value.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final int higherIndex( final double [] values, final int from, final double value )
+    {
+        var low = from;
+        var high = values.length;
+        while( low < high )
+        {
+            final var middle = (low + high) >>> 1;
+            if( values [middle] <= value ) low = middle + 1; else high = middle;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return low;
+    }   //  higherIndex()
+
+    /**
+     *  Returns the first stop that is greater than the given value and not
+     *  greater than {@code max}.
+     *
+     *  @param  value   The value.
+     *  @param  stops   The stops, sorted in ascending order.
+     *  @param  max The maximum value for the slider.
+     *  @return The next stop; the value itself if there is none.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final double nextStop( final double value, final double [] stops, final double max )
+    {
+        final var index = higherIndex( requireNonNullArgument( stops, "stops" ), 0, value );
+        final var retValue = (index < stops.length) && (stops [index] <= max) ? stops [index] : value;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nextStop()
+
+    /**
+     *  Returns the last stop that is less than the given value and not less
+     *  than {@code min}.
+     *
+     *  @param  value   The value.
+     *  @param  stops   The stops, sorted in ascending order.
+     *  @param  min The minimum value for the slider.
+     *  @return The previous stop; the value itself if there is none.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final double previousStop( final double value, final double [] stops, final double min )
+    {
+        final var index = ceilingIndex( requireNonNullArgument( stops, "stops" ), 0, value ) - 1;
+        final var retValue = (index >= 0) && (stops [index] >= min) ? stops [index] : value;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  previousStop()
+
+    /**
+     *  <p>{@summary Aligns the given value with the nearest of the given
+     *  stops, using a binary search.}</p>
+     *  <p>Only the stops between {@code min} and {@code max} are considered;
+     *  if the distance to the two neighbouring stops is the same, the lower
+     *  one wins. If there is no stop in that range, the value is just clamped
+     *  to it.</p>
+     *
+     *  @param  value   The value.
+     *  @param  stops   The stops, sorted in ascending order.
+     *  @param  min The minimum value for the slider.
+     *  @param  max The maximum value for the slider.
+     *  @return The adjusted value.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final double snapValueToStops( final double value, final double [] stops, final double min, final double max )
+    {
+        final var clamped = clamp( min, value, max );
+        final var index = ceilingIndex( requireNonNullArgument( stops, "stops" ), 0, clamped );
+        final var hasUpper = (index < stops.length) && (stops [index] <= max);
+        final var hasLower = (index > 0) && (stops [index - 1] >= min);
+        final double retValue;
+        if( hasLower && hasUpper )
+        {
+            final var lower = stops [index - 1];
+            final var upper = stops [index];
+            retValue = (clamped - lower) <= (upper - clamped) ? lower : upper;
+        }
+        else if( hasLower )
+        {
+            retValue = stops [index - 1];
+        }
+        else if( hasUpper )
+        {
+            retValue = stops [index];
+        }
+        else
+        {
+            retValue = clamped;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapValueToStops()
+
+    /**
+     *  <p>{@summary Aligns the given value with the nearest tick mark
+     *  value.}</p>
+     *  <p>The tick marks start at {@code min}; the distance between two tick
+     *  marks is the {@code majorTickUnit} divided by {@code minorTickCount}
+     *  plus one. The result is always clamped to the range given by
+     *  {@code min} and {@code max}.</p>
+     *
+     *  @param  value   The value.
+     *  @param  min The minimum value for the slider.
+     *  @param  max The maximum value for the slider.
+     *  @param  majorTickUnit   The unit distance between major tick marks.
+     *  @param  minorTickCount  The number of minor ticks between two major
+     *      tick marks; a negative value is treated like 0.
+     *  @return The adjusted value.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final double snapValueToTicks( final double value, final double min, final double max, final double majorTickUnit, final int minorTickCount )
+    {
+        final var tickDistance = minorTickCount != 0
+            ? majorTickUnit / (double) (Integer.max( minorTickCount, 0 ) + 1)
+            : majorTickUnit;
+        @SuppressWarnings( "NumericCastThatLosesPrecision" )
+        final var leftTicks = (int) ((value - min) / tickDistance);
+        final var lower = (double) leftTicks * tickDistance + min;
+        final var upper = (double) (leftTicks + 1) * tickDistance + min;
+        final var retValue = clamp( min, nearest( lower, value, upper ), max );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapValueToTicks()
+
+    /**
+     *  <p>{@summary Aligns the given {@code long} value with the nearest tick
+     *  mark value, using integer arithmetic only.}</p>
+     *  <p>The semantics are the same as for
+     *  {@link #snapValueToTicks(double, double, double, double, int)}:
+     *  the major tick marks start at {@code min}, and the distance between
+     *  them is {@code majorTickUnit}; between two major tick marks, there are
+     *  {@code minorTickCount} minor tick marks. If the major tick unit cannot
+     *  be divided evenly, the position of a minor tick mark is rounded down.
+     *  The result is always clamped to the range given by {@code min} and
+     *  {@code max}.</p>
+     *  <p>The difference between {@code max} and {@code min} is handled as
+     *  an unsigned value, so any bounds are allowed, including
+     *  {@link Long#MIN_VALUE}
+     *  and
+     *  {@link Long#MAX_VALUE}.</p>
+     *
+     *  @param  value   The value.
+     *  @param  min The minimum value for the slider.
+     *  @param  max The maximum value for the slider.
+     *  @param  majorTickUnit   The unit distance between major tick marks;
+     *      must be greater than 0.
+     *  @param  minorTickCount  The number of minor ticks between two major
+     *      tick marks; a negative value is treated like 0.
+     *  @return The adjusted value.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final long snapValueToTicks( final long value, final long min, final long max, final long majorTickUnit, final int minorTickCount )
+    {
+        final var clamped = clamp( min, value, max );
+        final var divisions = (long) Integer.max( minorTickCount, 0 ) + 1L;
+
+        /*
+         * The span and the offset are unsigned values; they exceed
+         * Long.MAX_VALUE when the slider covers more than half of the long
+         * range. The remainder is less than the tick unit, so it is never
+         * negative.
+         */
+        final var span = max - min;
+        final var offset = clamped - min;
+        final var remainder = Long.remainderUnsigned( offset, majorTickUnit );
+
+        /*
+         * The index of the minor tick left of the value; remainder * divisions
+         * may overflow for very large tick units, then we fall back to
+         * floating point arithmetic for the index only.
+         */
+        final var product = remainder * divisions;
+        var index = (Math.multiplyHigh( remainder, divisions ) == 0L) && (product >= 0L)
+            ? product / majorTickUnit
+            : (long) ((double) remainder * (double) divisions / (double) majorTickUnit);
+        index = Long.min( Long.max( index, 0L ), divisions - 1L );
+
+        /*
+         * Both distances are less than the tick unit, so they are exact even
+         * if upper wrapped around; upper lies beyond max when its distance
+         * exceeds the rest of the span.
+         */
+        final var base = offset - remainder;
+        final var lower = base + minorTickOffset( index, majorTickUnit, divisions );
+        final var upper = base + minorTickOffset( index + 1L, majorTickUnit, divisions );
+        final var distanceToLower = offset - lower;
+        final var distanceToUpper = upper - offset;
+        final long snapped;
+        if( distanceToLower <= distanceToUpper )
+        {
+            snapped = lower;
+        }
+        else
+        {
+            snapped = Long.compareUnsigned( distanceToUpper, span - offset ) > 0 ? span : upper;
+        }
+
+        final var retValue = min + snapped;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  snapValueToTicks()
+
+    /**
+     *  <p>{@summary Converts the given unsigned {@code long} value to a
+     *  {@code double}.}</p>
+     *  <p>This is the reverse operation to
+     *  {@link #doubleToUnsigned(double)}.</p>
+     *
+     *  @param  value   The unsigned value.
+     *  @return The value as a {@code double}.
+     *
+     *  @since 0.4.7
+     */
+    @API( status = INTERNAL, since = "0.4.7" )
+    public static final double unsignedToDouble( final long value )
+    {
+        final var retValue = value >= 0L
+            ? (double) value
+            : (double) (value >>> 1) * 2.0 + (double) (value & 1L);
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  unsignedToDouble()
+
+    /**
+     *  Calculates the offset of the minor tick mark with the given index from
+     *  the preceding major tick mark, without overflow.
+     *
+     *  @param  index   The index of the minor tick mark, from 0 to
+     *      {@code divisions}.
+     *  @param  majorTickUnit   The unit distance between major tick marks.
+     *  @param  divisions   The number of minor tick marks plus one.
+     *  @return The offset.
+     */
+    private static final long minorTickOffset( final long index, final long majorTickUnit, final long divisions )
+    {
+        final var retValue = (majorTickUnit / divisions) * index + ((majorTickUnit % divisions) * index) / divisions;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minorTickOffset()
 }
 //  class ControlUtils
 
@@ -0,0 +1,232 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.fx.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.util.DateTimeUtils.getZoneIdAliasMap;
+import static org.tquadrat.foundation.util.DateTimeUtils.retrieveCachedZoneId;
+
+import java.io.Serial;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+
+/**
+ *  <p>{@summary A bounded cache for time zones and their rules.}</p>
+ *  <p>The cache maps the names of time zones, as they are given in CSS, to
+ *  instances of
+ *  {@link ZoneId},
+ *  and these to their
+ *  {@link ZoneRules}.
+ *  The time zones are interned: equal time zones are always represented by
+ *  the same instance, so that setting a time zone that was resolved again
+ *  to a property does not invalidate it.</p>
+ *  <p>Both maps are bounded; when one is full, the least recently used
+ *  entry is dropped. The methods are thread-safe.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.4.7
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.4.7" )
+@UtilityClass
+public final class ZoneCache
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A bounded map that drops the least recently used entry when it is
+     *  full.
+     *
+     *  @param  <K> The type of the keys.
+     *  @param  <V> The type of the values.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private static final class BoundedMap<K,V> extends LinkedHashMap<K,V>
+    {
+            /*------------------------*\
+        ====** Static Initialisations **=======================================
+            \*------------------------*/
+        /**
+         *  The serial version UID for objects of this class: {@value}.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code BoundedMap}.
+         */
+        public BoundedMap() { super( 16, 0.75F, true ); }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final boolean removeEldestEntry( final Map.Entry<K,V> eldest ) { return size() > CAPACITY; }
+    }
+    //  class BoundedMap
+
+    /**
+     *  A time zone together with its rules.
+     *
+     *  @param  zoneId  The time zone.
+     *  @param  rules   The rules for the time zone.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.4.7
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.4.7" )
+    private static record Zone( ZoneId zoneId, ZoneRules rules ) {}
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The maximum number of entries per map: {@value}.
+     */
+    public static final int CAPACITY = 64;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The time zones by their names.
+     */
+    @SuppressWarnings( "StaticCollection" )
+    private static final Map<String,ZoneId> m_ZoneIds = new BoundedMap<>();
+
+    /**
+     *  The interned time zones with their rules.
+     */
+    @SuppressWarnings( "StaticCollection" )
+    private static final Map<ZoneId,Zone> m_Zones = new BoundedMap<>();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private ZoneCache() { throw new PrivateConstructorForStaticClassCalledError( ZoneCache.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the interned instance for the given time zone.
+     *
+     *  @param  zoneId  The time zone.
+     *  @return The interned time zone; it is equal to the argument.
+     */
+    public static final ZoneId intern( final ZoneId zoneId ) { return zone( zoneId ).zoneId(); }
+
+    /**
+     *  Returns the rules for the given time zone.
+     *
+     *  @param  zoneId  The time zone.
+     *  @return The rules.
+     */
+    public static final ZoneRules rules( final ZoneId zoneId ) { return zone( zoneId ).rules(); }
+
+    /**
+     *  Returns the cached entry for the given time zone; a new entry is
+     *  created if there is none.
+     *
+     *  @param  zoneId  The time zone.
+     *  @return The entry.
+     */
+    private static final Zone zone( final ZoneId zoneId )
+    {
+        requireNonNullArgument( zoneId, "zoneId" );
+        final Zone retValue;
+        synchronized( m_Zones )
+        {
+            retValue = m_Zones.computeIfAbsent( zoneId, $ -> new Zone( zoneId, zoneId.getRules() ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  zone()
+
+    /**
+     *  Returns the interned time zone for the given name; besides the ids
+     *  that are known to
+     *  {@link ZoneId#of(String)},
+     *  the
+     *  {@linkplain org.tquadrat.foundation.util.DateTimeUtils#getZoneIdAliasMap() aliases}
+     *  are accepted, too.
+     *
+     *  @param  name    The name of the time zone.
+     *  @return The time zone; {@code null} if the name is not known.
+     */
+    public static final ZoneId zoneId( final String name )
+    {
+        requireNonNullArgument( name, "name" );
+        ZoneId retValue;
+        synchronized( m_ZoneIds )
+        {
+            retValue = m_ZoneIds.get( name );
+        }
+        if( isNull( retValue ) )
+        {
+            final var zoneId = retrieveCachedZoneId( name, getZoneIdAliasMap() );
+            if( nonNull( zoneId ) )
+            {
+                retValue = intern( zoneId );
+                synchronized( m_ZoneIds )
+                {
+                    m_ZoneIds.put( name, retValue );
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  zoneId()
+}
+//  class ZoneCache
+
+/*
+ *  End of File
+ */